@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @Configuration
@@ -13,7 +16,15 @@ public class AppProperties {
 
     private Jwt jwt = new Jwt();
     private Encryption encryption = new Encryption();
+    private PasswordHashing passwordHashing = new PasswordHashing();
+    private QueryFanOut queryFanOut = new QueryFanOut();
+    private BreachedPasswords breachedPasswords = new BreachedPasswords();
+    private Sms sms = new Sms();
+    private Email email = new Email();
     private Ai ai = new Ai();
+    private OAuth2 oauth2 = new OAuth2();
+    private Cache cache = new Cache();
+    private RedisCodec redisCodec = new RedisCodec();
 
     @Getter
     @Setter
@@ -27,7 +38,135 @@ public class AppProperties {
     @Getter
     @Setter
     public static class Encryption {
+        /** 기존 단일 키 (키 ID 접두사 없는 암호문 복호화 및 검색용 HMAC 기본 키) */
         private String secretKey;
+        /** 버전별 데이터 키 (키 ID → 32자 이상 키 원문) */
+        private Map<String, String> keys = new LinkedHashMap<>();
+        /** 신규 암호화에 사용할 키 ID (미지정 시 secretKey로 접두사 없이 암호화) */
+        private String activeKeyId;
+        private Reencryption reencryption = new Reencryption();
+
+        @Getter
+        @Setter
+        public static class Reencryption {
+            /** 초당 처리 행 수 상한 */
+            private int rowsPerSecond = 200;
+            /** 청크(트랜잭션)당 행 수 */
+            private int chunkSize = 100;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class PasswordHashing {
+        /** 해싱 전용 스레드 수 (0이면 CPU 코어 수) */
+        private int threads = 0;
+        /** 대기열 크기 (초과 시 즉시 503) */
+        private int queueCapacity = 64;
+        /** 대기 + 해싱 최대 허용 시간 */
+        private long maxWaitMillis = 2000;
+        /** 거절 응답의 Retry-After */
+        private long retryAfterSeconds = 1;
+        /** 새 해시에 사용할 알고리즘 (bcrypt, argon2, pbkdf2) */
+        private String algorithm = "bcrypt";
+        /** 기동 시 해싱 비용 보정 여부 (false면 최소 비용 사용) */
+        private boolean calibrate = true;
+        /** 해시 1회 목표 지연 */
+        private long targetMillis = 250;
+        private int bcryptMinStrength = 10;
+        private int bcryptMaxStrength = 14;
+        private int argon2MemoryKb = 19456;
+        private int argon2MinIterations = 2;
+        private int argon2MaxIterations = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class QueryFanOut {
+        /** 동시 쿼리 스레드 수 (작업마다 커넥션을 쓰므로 커넥션 풀보다 작게 둔다) */
+        private int threads = 4;
+        /** 대기열 크기 (초과 시 호출 스레드에서 실행) */
+        private int queueCapacity = 64;
+        /** 한 묶음의 모든 쿼리가 끝나야 하는 시간 (트랜잭션 타임아웃에도 적용) */
+        private long deadlineMillis = 5000;
+        /** 마감 시간 초과 응답의 Retry-After */
+        private long retryAfterSeconds = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class BreachedPasswords {
+        /** BreachedPasswordIndexGenerator로 만든 인덱스 파일 경로 (비우면 내장 목록만 검사) */
+        private String indexPath;
+    }
+
+    @Getter
+    @Setter
+    public static class Sms {
+        private String provider = "log";
+        private Dispatch dispatch = new Dispatch();
+
+        @Getter
+        @Setter
+        public static class Dispatch {
+            /** 발송 대기열 크기 (초과 시 503) */
+            private int queueCapacity = 500;
+            /** 발송 워커 스레드 수 (동시 발송 수) */
+            private int workers = 2;
+            /** 같은 번호로 재발송을 막는 시간 */
+            private long dedupWindowSeconds = 30;
+            /** 최대 발송 시도 횟수 */
+            private int maxAttempts = 3;
+            /** 첫 재시도 대기 시간 (시도마다 2배) */
+            private long retryBackoffMillis = 1_000;
+            /** 제공자별 초당 발송 한도 (모든 인스턴스 합산, 미설정 제공자는 defaultRateLimit) */
+            private Map<String, RateLimit> rateLimits = new LinkedHashMap<>();
+            private RateLimit defaultRateLimit = new RateLimit();
+
+            public RateLimit rateLimitFor(String provider) {
+                return rateLimits.getOrDefault(provider, defaultRateLimit);
+            }
+        }
+
+        @Getter
+        @Setter
+        public static class RateLimit {
+            /** 초당 토큰 충전 수 */
+            private double permitsPerSecond = 10;
+            /** 버킷 크기 (순간 최대 발송 수) */
+            private int burst = 10;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Email {
+        private String provider = "log";
+        /** 유지할 SMTP 연결 수 (발송 동시성) */
+        private int smtpPoolSize = 4;
+        /** 이 시간 이상 쓰지 않은 SMTP 연결은 닫고 새로 연결 */
+        private long smtpMaxIdleMillis = 60_000;
+        private Outbox outbox = new Outbox();
+
+        @Getter
+        @Setter
+        public static class Outbox {
+            /** 발송 대기 행 조회 주기 */
+            private long pollIntervalMillis = 1_000;
+            /** 한 번에 가져올 발송 건수 */
+            private int batchSize = 50;
+            /** 최대 발송 시도 횟수 (초과 시 FAILED) */
+            private int maxAttempts = 6;
+            /** 첫 재시도 대기 시간 (시도마다 2배, 최대 maxBackoffMillis) */
+            private long initialBackoffMillis = 5_000;
+            private long maxBackoffMillis = 600_000;
+            /** 가져간 건을 다른 인스턴스가 다시 가져가지 못하게 하는 시간 */
+            private long leaseMillis = 60_000;
+            /** 배치 발송 대기 시간 (lease의 절반을 넘지 않음, 끝나지 않은 건은 재시도) */
+            private long sendTimeoutMillis = 30_000;
+            /** FAILED 건 보관 일수 */
+            private int retentionDays = 7;
+        }
     }
 
     @Getter
@@ -44,4 +183,64 @@ public class AppProperties {
             private int maxTokens = 1024;
         }
     }
+
+    @Getter
+    @Setter
+    public static class OAuth2 {
+        /** 제공자(registrationId)별 HTTP 타임아웃 (미설정 제공자는 defaultTimeouts) */
+        private Map<String, Timeouts> timeouts = new LinkedHashMap<>();
+        private Timeouts defaultTimeouts = new Timeouts();
+        /** JWK Set 백그라운드 갱신 주기 */
+        private long jwkSetRefreshIntervalMillis = 3_600_000;
+        /** 모르는 kid로 JWK Set을 다시 받아오는 최소 간격 (키 교체 대응, 위조 토큰으로 인한 반복 조회 방지) */
+        private long jwkSetMinRefetchIntervalMillis = 30_000;
+
+        public Timeouts timeoutsFor(String registrationId) {
+            return timeouts.getOrDefault(registrationId, defaultTimeouts);
+        }
+
+        @Getter
+        @Setter
+        public static class Timeouts {
+            private long connectTimeoutMillis = 3_000;
+            private long readTimeoutMillis = 5_000;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        /** 재계산 리스(Redis) 유지 시간, 다른 노드가 재계산 중일 때 결과를 기다리는 최대 시간 */
+        private long singleFlightLeaseMillis = 30_000;
+        /** 다른 노드의 재계산 결과를 확인하는 간격 */
+        private long singleFlightPollMillis = 50;
+        /** 만료 전 확률적 조기 갱신 강도 (0이면 조기 갱신 안 함, 클수록 일찍 갱신) */
+        private double earlyRefreshBeta = 1.0;
+        /** Redis 앞에 노드 로컬 캐시(1차)를 둘지 여부 */
+        private boolean nearEnabled = true;
+        /** 캐시 이름별 로컬 캐시 크기/TTL (미설정 캐시는 nearDefaults) */
+        private Map<String, Near> near = new LinkedHashMap<>();
+        private Near nearDefaults = new Near();
+
+        public Near nearFor(String cacheName) {
+            return near.getOrDefault(cacheName, nearDefaults);
+        }
+
+        @Getter
+        @Setter
+        public static class Near {
+            private long maximumSize = 1_000;
+            /** 다른 노드의 무효화 메시지를 놓쳤을 때 오래된 값이 남을 수 있는 최대 시간 */
+            private long ttlMillis = 30_000;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class RedisCodec {
+        /** 새로 쓰는 값의 형식 (json, compact). 읽기는 항상 두 형식 모두 지원 */
+        private String writeFormat = "json";
+        /** 이 크기(바이트)를 넘는 compact 값은 압축 (0 이하면 압축 안 함) */
+        private int compressThresholdBytes = 1024;
+    }
 }
@@ -4,6 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jay.auth.dto.response.LoginFailureHotspotResponse;
+import com.jay.auth.dto.response.LoginHeatmapResponse;
+import com.jay.auth.dto.response.LoginTimelineResponse;
+import com.jay.auth.dto.response.UserProfileResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -11,6 +16,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -24,18 +32,13 @@ import java.util.Map;
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.activateDefaultTyping(
-                BasicPolymorphicTypeValidator.builder()
-                        .allowIfBaseType(Object.class)
-                        .build(),
-                ObjectMapper.DefaultTyping.EVERYTHING
-        );
-
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     AppProperties appProperties,
+                                     MeterRegistry meterRegistry) {
+        // 기존 JSON 값도 계속 읽고, 쓰기 형식은 app.redis-codec.write-format으로 전환
+        CompactRedisSerializer serializer = new CompactRedisSerializer(
+                cacheTypes(), jsonCacheSerializer(), appProperties.getRedisCodec());
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
@@ -44,28 +47,88 @@ public class CacheConfig {
                 .disableCachingNullValues();
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        // 만료 시 재계산 비용이 큰 캐시: 동시 로드를 클러스터 전체에서 한 번으로 합치고 만료 전에 미리 갱신
+        Map<String, Duration> singleFlightTtls = new HashMap<>();
 
-        // 사용자 프로필: 5분 TTL
+        // 사용자 프로필: 5분 TTL (키에 사용자 캐시 세대 포함, UserScopedKeyGenerator)
         cacheConfigurations.put("userProfile", defaultConfig.entryTtl(Duration.ofMinutes(5)));
 
-        // 보안 대시보드: 3분 TTL
-        cacheConfigurations.put("securityDashboard", defaultConfig.entryTtl(Duration.ofMinutes(3)));
-
         // GeoIP: 24시간 TTL
         cacheConfigurations.put("geoip", defaultConfig.entryTtl(Duration.ofHours(24)));
 
         // 로그인 히트맵: 1시간 TTL
-        cacheConfigurations.put("loginHeatmap", defaultConfig.entryTtl(Duration.ofHours(1)));
+        singleFlightTtls.put("loginHeatmap", Duration.ofHours(1));
 
         // 실패 핫스팟: 1시간 TTL
-        cacheConfigurations.put("loginHotspot", defaultConfig.entryTtl(Duration.ofHours(1)));
+        singleFlightTtls.put("loginHotspot", Duration.ofHours(1));
 
         // 시간대별 타임라인: 1시간 TTL
-        cacheConfigurations.put("loginTimeline", defaultConfig.entryTtl(Duration.ofHours(1)));
+        singleFlightTtls.put("loginTimeline", Duration.ofHours(1));
+
+        singleFlightTtls.forEach((name, ttl) -> cacheConfigurations.put(name, defaultConfig.entryTtl(ttl)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // 감싼 매니저는 빈이 아니므로 초기 캐시 설정을 직접 적재
+        redisCacheManager.afterPropertiesSet();
+
+        AppProperties.Cache cacheSettings = appProperties.getCache();
+        CacheManager singleFlightCacheManager = new SingleFlightCacheManager(
+                redisCacheManager, stringRedisTemplate, singleFlightTtls, cacheSettings);
+        if (!cacheSettings.isNearEnabled()) {
+            return singleFlightCacheManager;
+        }
+        // 노드 로컬 1차 캐시 (무효화는 아래 리스너 컨테이너로 수신)
+        return new NearCacheManager(singleFlightCacheManager, stringRedisTemplate, cacheSettings, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager,
+                                                                            UserCacheGenerations userCacheGenerations) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userCacheGenerations, new ChannelTopic(UserCacheGenerations.INVALIDATION_CHANNEL));
+        if (cacheManager instanceof NearCacheManager nearCacheManager) {
+            container.addMessageListener(nearCacheManager, new ChannelTopic(NearCacheManager.INVALIDATION_CHANNEL));
+        }
+        return container;
+    }
+
+    /**
+     * compact 형식으로 기록하는 캐시 값 타입
+     * - 번호는 저장된 값에 기록되므로 바꾸거나 재사용하지 않는다
+     * - 캐시 값 클래스의 필드를 바꾸면 배포 직후 기존 항목은 미스로 처리된다
+     */
+    static CompactTypeRegistry cacheTypes() {
+        return CompactTypeRegistry.builder()
+                .register(1, SingleFlightCache.Entry.class)
+                .register(2, UserProfileResponse.class)
+                .register(3, UserProfileResponse.ChannelInfo.class)
+                .register(4, LoginHeatmapResponse.class)
+                .register(5, LoginHeatmapResponse.CountryStats.class)
+                .register(6, LoginFailureHotspotResponse.class)
+                .register(7, LoginFailureHotspotResponse.HotspotEntry.class)
+                .register(8, LoginTimelineResponse.class)
+                .register(9, LoginTimelineResponse.HourlySlot.class)
+                .build();
+    }
+
+    /**
+     * 캐시 값의 JSON 직렬화기 (write-format=json 쓰기, compact 전환 전에 기록된 값 읽기)
+     */
+    static GenericJackson2JsonRedisSerializer jsonCacheSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfBaseType(Object.class)
+                        .build(),
+                ObjectMapper.DefaultTyping.EVERYTHING
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
     }
 }
@@ -0,0 +1,432 @@
+package com.jay.auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * JSON 대신 스키마 기반 바이너리로 값을 저장하는 Redis 직렬화기
+ * - 객체는 {@link CompactTypeRegistry}의 타입 번호와 필드 값만 기록한다 (클래스 이름, 필드 이름 없음)
+ * - 정수는 zigzag varint, 날짜/시간은 epoch 밀리초(UTC)로 기록한다
+ * - 값이 임계치보다 크면 Deflate로 압축한다 (압축해도 줄지 않으면 원본 유지)
+ *
+ * 마이그레이션:
+ * - 첫 바이트가 0x80~0xBF면 compact, 아니면 기존 JSON 직렬화기로 읽는다 (JSON과 INCR 숫자는 이 범위로 시작할 수 없음)
+ * - 쓰기 형식은 {@link WriteFormat}으로 고른다. 모든 노드가 compact를 읽을 수 있게 배포된 뒤 COMPACT로 전환한다
+ * - 레지스트리에 없는 타입은 COMPACT에서도 JSON으로 기록한다
+ * - 레지스트리 지문이 다른 값(스키마가 바뀐 배포 전후)은 읽지 않고 null을 돌려준다 (캐시에서는 미스로 처리됨)
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    /** 태그 값: [0x80][지문 4바이트][값] */
+    static final int HEADER_TAGGED = 0x80;
+    /** 압축된 태그 값: [0x81][원본 길이 varint][Deflate([지문 4바이트][값])] */
+    static final int HEADER_DEFLATED = 0x81;
+    /** 최상위 문자열: [0x82][UTF-8] */
+    static final int HEADER_STRING = 0x82;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_TRUE = 1;
+    private static final int TAG_FALSE = 2;
+    private static final int TAG_INT = 3;
+    private static final int TAG_LONG = 4;
+    private static final int TAG_DOUBLE = 5;
+    private static final int TAG_STRING = 6;
+    private static final int TAG_LOCAL_DATE_TIME = 7;
+    private static final int TAG_LOCAL_DATE = 8;
+    private static final int TAG_LIST = 9;
+    private static final int TAG_MAP = 10;
+    private static final int TAG_OBJECT = 11;
+
+    /** 손상된 길이 값으로 큰 버퍼를 만들지 않도록 압축 해제 크기를 제한한다 */
+    private static final int MAX_INFLATED_BYTES = 16 * 1024 * 1024;
+
+    public enum WriteFormat {
+        JSON, COMPACT;
+
+        public static WriteFormat from(String value) {
+            return WriteFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final CompactTypeRegistry registry;
+    private final RedisSerializer<Object> legacy;
+    private final WriteFormat writeFormat;
+    private final int compressThresholdBytes;
+
+    public CompactRedisSerializer(CompactTypeRegistry registry, RedisSerializer<Object> legacy,
+                                  WriteFormat writeFormat, int compressThresholdBytes) {
+        this.registry = registry;
+        this.legacy = legacy;
+        this.writeFormat = writeFormat;
+        this.compressThresholdBytes = compressThresholdBytes;
+    }
+
+    public CompactRedisSerializer(CompactTypeRegistry registry, RedisSerializer<Object> legacy,
+                                  AppProperties.RedisCodec settings) {
+        this(registry, legacy, WriteFormat.from(settings.getWriteFormat()), settings.getCompressThresholdBytes());
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null || writeFormat == WriteFormat.JSON) {
+            return legacy.serialize(value);
+        }
+        if (value instanceof String string) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            byte[] bytes = new byte[utf8.length + 1];
+            bytes[0] = (byte) HEADER_STRING;
+            System.arraycopy(utf8, 0, bytes, 1, utf8.length);
+            return bytes;
+        }
+
+        Writer body = new Writer();
+        body.writeFixedInt(registry.fingerprint());
+        try {
+            body.writeValue(value);
+        } catch (UnsupportedTypeException e) {
+            log.debug("Falling back to JSON for unregistered type: {}", e.getMessage());
+            return legacy.serialize(value);
+        }
+        byte[] raw = body.toByteArray();
+
+        if (compressThresholdBytes > 0 && raw.length > compressThresholdBytes) {
+            byte[] deflated = deflate(raw);
+            Writer compressed = new Writer();
+            compressed.write(HEADER_DEFLATED);
+            compressed.writeVarint(raw.length);
+            compressed.write(deflated, 0, deflated.length);
+            if (compressed.size() < raw.length + 1) {
+                return compressed.toByteArray();
+            }
+        }
+        Writer tagged = new Writer();
+        tagged.write(HEADER_TAGGED);
+        tagged.write(raw, 0, raw.length);
+        return tagged.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int header = bytes[0] & 0xFF;
+        if (header < 0x80 || header > 0xBF) {
+            return legacy.deserialize(bytes);
+        }
+        try {
+            return switch (header) {
+                case HEADER_STRING -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+                case HEADER_TAGGED -> readBody(new Reader(bytes, 1));
+                case HEADER_DEFLATED -> readBody(new Reader(inflate(bytes), 0));
+                default -> {
+                    log.warn("Unknown compact header 0x{}, treating as missing", Integer.toHexString(header));
+                    yield null;
+                }
+            };
+        } catch (IncompatibleSchemaException e) {
+            log.debug("Ignoring compact value written with another schema: {}", e.getMessage());
+            return null;
+        } catch (SerializationException e) {
+            throw e;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new SerializationException("Could not read compact value", e);
+        }
+    }
+
+    private Object readBody(Reader reader) throws ReflectiveOperationException {
+        int fingerprint = reader.readFixedInt();
+        if (fingerprint != registry.fingerprint()) {
+            throw new IncompatibleSchemaException("fingerprint " + Integer.toHexString(fingerprint));
+        }
+        return reader.readValue();
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] bytes) {
+        Reader header = new Reader(bytes, 1);
+        int length = header.readVarint();
+        if (length < 0 || length > MAX_INFLATED_BYTES) {
+            throw new SerializationException("Invalid inflated length: " + length);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, header.position, bytes.length - header.position);
+            byte[] raw = new byte[length];
+            int n = 0;
+            while (n < length && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, n, length - n);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += inflated;
+            }
+            if (n != length) {
+                throw new SerializationException("Truncated compressed value");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupt compressed value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private final class Writer extends ByteArrayOutputStream {
+
+        void writeValue(Object value) {
+            if (value == null) {
+                write(TAG_NULL);
+            } else if (value instanceof Boolean bool) {
+                write(bool ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                write(TAG_INT);
+                writeVarLong(zigzag(((Number) value).longValue()));
+            } else if (value instanceof Long number) {
+                write(TAG_LONG);
+                writeVarLong(zigzag(number));
+            } else if (value instanceof Double number) {
+                write(TAG_DOUBLE);
+                writeFixedLong(Double.doubleToLongBits(number));
+            } else if (value instanceof String string) {
+                write(TAG_STRING);
+                writeString(string);
+            } else if (value instanceof LocalDateTime dateTime) {
+                Instant instant = dateTime.toInstant(ZoneOffset.UTC);
+                write(TAG_LOCAL_DATE_TIME);
+                writeVarLong(zigzag(instant.toEpochMilli()));
+                writeVarint(instant.getNano() % 1_000_000);
+            } else if (value instanceof LocalDate date) {
+                write(TAG_LOCAL_DATE);
+                writeVarLong(zigzag(date.toEpochDay()));
+            } else if (value instanceof List<?> list) {
+                write(TAG_LIST);
+                writeVarint(list.size());
+                list.forEach(this::writeValue);
+            } else if (value instanceof Map<?, ?> map) {
+                write(TAG_MAP);
+                writeVarint(map.size());
+                map.forEach((k, v) -> {
+                    writeValue(k);
+                    writeValue(v);
+                });
+            } else {
+                writeObject(value);
+            }
+        }
+
+        private void writeObject(Object value) {
+            CompactTypeRegistry.Schema schema = registry.schemaOf(value.getClass());
+            if (schema == null) {
+                throw new UnsupportedTypeException(value.getClass().getName());
+            }
+            write(TAG_OBJECT);
+            writeVarint(schema.id());
+            try {
+                for (var field : schema.fields()) {
+                    writeValue(field.get(value));
+                }
+            } catch (IllegalAccessException e) {
+                throw new SerializationException("Could not read field of " + value.getClass().getName(), e);
+            }
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            write(utf8, 0, utf8.length);
+        }
+
+        void writeVarint(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeFixedInt(int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                write(value >>> shift);
+            }
+        }
+
+        void writeFixedLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        Object readValue() throws ReflectiveOperationException {
+            int tag = readByte();
+            return switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_TRUE -> Boolean.TRUE;
+                case TAG_FALSE -> Boolean.FALSE;
+                case TAG_INT -> (int) unzigzag(readVarLong());
+                case TAG_LONG -> unzigzag(readVarLong());
+                case TAG_DOUBLE -> Double.longBitsToDouble(readFixedLong());
+                case TAG_STRING -> readString();
+                case TAG_LOCAL_DATE_TIME -> {
+                    long epochMilli = unzigzag(readVarLong());
+                    int nanoOfMilli = readVarint();
+                    yield LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli).plusNanos(nanoOfMilli), ZoneOffset.UTC);
+                }
+                case TAG_LOCAL_DATE -> LocalDate.ofEpochDay(unzigzag(readVarLong()));
+                case TAG_LIST -> {
+                    int size = readLength();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    yield list;
+                }
+                case TAG_MAP -> {
+                    int size = readLength();
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        map.put(readValue(), readValue());
+                    }
+                    yield map;
+                }
+                case TAG_OBJECT -> readObject();
+                default -> throw new SerializationException("Unknown compact tag: " + tag);
+            };
+        }
+
+        private Object readObject() throws ReflectiveOperationException {
+            int id = readVarint();
+            CompactTypeRegistry.Schema schema = registry.schemaOf(id);
+            if (schema == null) {
+                throw new IncompatibleSchemaException("type id " + id);
+            }
+            Object[] values = new Object[schema.fields().length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = readValue();
+            }
+            return schema.instantiate(values);
+        }
+
+        String readString() {
+            int length = readLength();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new SerializationException("Unexpected end of compact value");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        int readVarint() {
+            return (int) readVarLong();
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Malformed varint");
+        }
+
+        int readFixedInt() {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        long readFixedLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        private int readLength() {
+            int length = readVarint();
+            if (length < 0 || length > bytes.length - position) {
+                throw new SerializationException("Invalid length: " + length);
+            }
+            return length;
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    private static final class UnsupportedTypeException extends RuntimeException {
+        UnsupportedTypeException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private static final class IncompatibleSchemaException extends RuntimeException {
+        IncompatibleSchemaException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
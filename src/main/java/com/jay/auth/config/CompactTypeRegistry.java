@@ -0,0 +1,137 @@
+package com.jay.auth.config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * {@link CompactRedisSerializer}가 객체로 인코딩할 수 있는 타입 목록
+ * - 클래스 이름 대신 고정 번호로 타입을 기록한다 (번호는 한 번 정하면 바꾸거나 재사용하지 않는다)
+ * - 스키마는 선언 순서의 인스턴스 필드이며 필드 이름은 저장하지 않는다
+ * - 등록된 스키마 전체의 지문을 값마다 기록하므로, 필드가 바뀐 배포 전후의 값은 읽지 않고 없는 값으로 취급한다
+ */
+public final class CompactTypeRegistry {
+
+    private static final CompactTypeRegistry EMPTY = builder().build();
+
+    private final Map<Integer, Schema> byId;
+    private final Map<Class<?>, Schema> byType;
+    private final int fingerprint;
+
+    private CompactTypeRegistry(Map<Integer, Schema> byId) {
+        this.byId = Map.copyOf(byId);
+        Map<Class<?>, Schema> types = new LinkedHashMap<>();
+        CRC32 crc = new CRC32();
+        byId.values().forEach(schema -> {
+            types.put(schema.type(), schema);
+            crc.update(schema.describe().getBytes(StandardCharsets.UTF_8));
+        });
+        this.byType = Map.copyOf(types);
+        this.fingerprint = (int) crc.getValue();
+    }
+
+    /**
+     * 객체 타입 없이 문자열/숫자 등 기본 값만 다루는 레지스트리
+     */
+    public static CompactTypeRegistry empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    Schema schemaOf(Class<?> type) {
+        return byType.get(type);
+    }
+
+    Schema schemaOf(int id) {
+        return byId.get(id);
+    }
+
+    int fingerprint() {
+        return fingerprint;
+    }
+
+    public static final class Builder {
+
+        private final Map<Integer, Schema> byId = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder register(int id, Class<?> type) {
+            if (id <= 0) {
+                throw new IllegalArgumentException("Type id must be positive: " + id);
+            }
+            if (byId.containsKey(id)) {
+                throw new IllegalArgumentException("Duplicate type id " + id + ": " + type.getName());
+            }
+            byId.put(id, Schema.of(id, type));
+            return this;
+        }
+
+        public CompactTypeRegistry build() {
+            return new CompactTypeRegistry(byId);
+        }
+    }
+
+    /**
+     * 타입 하나의 필드 순서와 생성 방법
+     * - 필드 순서와 같은 인자의 생성자(레코드, Lombok @Builder/@AllArgsConstructor)가 있으면 그것으로 만들고,
+     *   없으면 기본 생성자로 만든 뒤 필드에 직접 넣는다
+     */
+    record Schema(int id, Class<?> type, Field[] fields, Constructor<?> allArgs, Constructor<?> noArgs) {
+
+        static Schema of(int id, Class<?> type) {
+            Field[] fields = Arrays.stream(type.getDeclaredFields())
+                    .filter(f -> !Modifier.isStatic(f.getModifiers()) && !f.isSynthetic())
+                    .toArray(Field[]::new);
+            for (Field field : fields) {
+                field.setAccessible(true);
+            }
+            Class<?>[] fieldTypes = Arrays.stream(fields).map(Field::getType).toArray(Class<?>[]::new);
+            Constructor<?> allArgs = findConstructor(type, fieldTypes);
+            Constructor<?> noArgs = allArgs == null ? findConstructor(type) : null;
+            if (allArgs == null && noArgs == null) {
+                throw new IllegalArgumentException(
+                        "Compact type needs an all-args or no-args constructor: " + type.getName());
+            }
+            return new Schema(id, type, fields, allArgs, noArgs);
+        }
+
+        Object instantiate(Object[] values) throws ReflectiveOperationException {
+            if (allArgs != null) {
+                return allArgs.newInstance(values);
+            }
+            Object instance = noArgs.newInstance();
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].set(instance, values[i]);
+            }
+            return instance;
+        }
+
+        String describe() {
+            StringBuilder description = new StringBuilder().append(id).append('=').append(type.getName()).append('(');
+            for (Field field : fields) {
+                description.append(field.getName()).append(':').append(field.getType().getName()).append(',');
+            }
+            return description.append(')').toString();
+        }
+
+        private static Constructor<?> findConstructor(Class<?> type, Class<?>... parameterTypes) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    }
+}
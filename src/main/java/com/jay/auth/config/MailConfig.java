@@ -0,0 +1,40 @@
+package com.jay.auth.config;
+
+import com.jay.auth.util.PooledJavaMailSender;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * SMTP 발송 설정 - spring.mail.* 값으로 연결을 재사용하는 JavaMailSender를 등록한다
+ * (이 빈이 있으면 Spring Boot 기본 JavaMailSender는 등록되지 않는다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.email.provider", havingValue = "smtp")
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    @Bean
+    public PooledJavaMailSender mailSender(MailProperties mailProperties, AppProperties appProperties) {
+        AppProperties.Email email = appProperties.getEmail();
+        PooledJavaMailSender sender = new PooledJavaMailSender(email.getSmtpPoolSize(), email.getSmtpMaxIdleMillis());
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
@@ -0,0 +1,184 @@
+package com.jay.auth.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 2단 캐시: 노드 로컬 Caffeine(1차) → Redis(2차)
+ * - 1차 히트는 Redis 왕복과 역직렬화 없이 반환한다 (캐시된 응답 객체는 불변으로 취급해야 한다)
+ * - 쓰기/삭제는 Redis에 반영한 뒤 다른 노드에 무효화를 알린다 ({@link NearCacheManager})
+ * - 로컬 키는 Redis 캐시 키와 같은 문자열 형태를 쓴다 (메시지로 받은 키와 바로 대조)
+ */
+public class NearCache implements Cache {
+
+    static final String METRIC_NAME = "cache_tier_gets_total";
+
+    private final Cache delegate;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Consumer<String> invalidationPublisher;
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    /**
+     * @param invalidationPublisher 다른 노드에 무효화를 알림 (null 키는 전체 삭제)
+     */
+    public NearCache(Cache delegate, com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                     Consumer<String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = counter(meterRegistry, "local", "hit");
+        this.localMisses = counter(meterRegistry, "local", "miss");
+        this.remoteHits = counter(meterRegistry, "redis", "hit");
+        this.remoteMisses = counter(meterRegistry, "redis", "miss");
+        Gauge.builder("cache_local_size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .description("Entries held in the node-local cache tier")
+                .tag("cache", getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+        localMisses.increment();
+
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        if (wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return (T) cached;
+        }
+        localMisses.increment();
+
+        // 이 스레드에서 로더가 돌았으면 Redis 미스 (다른 요청의 계산 결과를 받은 경우는 히트로 본다)
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = delegate.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        (loaded.get() ? remoteMisses : remoteHits).increment();
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        String localKey = localKey(key);
+        if (value != null) {
+            local.put(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidationPublisher.accept(localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        local.invalidateAll();
+        invalidationPublisher.accept(null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드에서 받은 무효화 반영 (Redis는 건드리지 않음)
+     * @param key null이면 전체 삭제
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("Cache lookups by tier and result")
+                .tag("cache", getName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,107 @@
+package com.jay.auth.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모든 캐시 앞에 노드 로컬 캐시를 두는 CacheManager ({@link NearCache})
+ * - 쓰기/삭제 시 Redis pub/sub 채널로 무효화를 알리고, 다른 노드는 로컬 캐시에서만 지운다
+ * - 메시지를 놓쳐도(구독 재연결 등) 로컬 값은 캐시별 TTL(app.cache.near)이 지나면 사라진다
+ */
+@Slf4j
+public class NearCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final CacheManager delegate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AppProperties.Cache settings;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, NearCache> caches = new ConcurrentHashMap<>();
+
+    public NearCacheManager(CacheManager delegate, StringRedisTemplate stringRedisTemplate,
+                            AppProperties.Cache settings, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache cache = delegate.getCache(n);
+            if (cache == null) {
+                return null;
+            }
+            AppProperties.Cache.Near near = settings.nearFor(n);
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                    .maximumSize(near.getMaximumSize())
+                    .expireAfterWrite(Duration.ofMillis(near.getTtlMillis()))
+                    .build();
+            return new NearCache(cache, local, key -> publish(n, key), meterRegistry);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Invalidation invalidation;
+        try {
+            invalidation = OBJECT_MAPPER.readValue(message.getBody(), Invalidation.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache invalidation message", e);
+            return;
+        }
+        if (instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        NearCache cache = caches.get(invalidation.cache());
+        if (cache != null) {
+            cache.invalidateLocal(invalidation.key());
+        }
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    OBJECT_MAPPER.writeValueAsString(new Invalidation(instanceId, cacheName, key)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cache invalidation", e);
+        } catch (Exception e) {
+            // 다른 노드의 로컬 값은 TTL로 정리된다
+            log.warn("Failed to publish cache invalidation: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * @param key null이면 캐시 전체 삭제
+     */
+    record Invalidation(String origin, String cache, String key) {
+    }
+}
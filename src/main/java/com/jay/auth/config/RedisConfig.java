@@ -11,7 +11,8 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class RedisConfig {
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       AppProperties appProperties) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -20,8 +21,11 @@ public class RedisConfig {
         template.setHashKeySerializer(new StringRedisSerializer());
 
         // Value serializer
+        // 일반 값은 ZSet 멤버에도 쓰이므로 JSON 유지 (형식이 바뀌면 이전 형식으로 넣은 멤버를 지울 수 없음)
         template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // 해시 값(세션, 신뢰 기기 등)은 compact 전환 대상, 기존 JSON 값도 계속 읽음
+        template.setHashValueSerializer(new CompactRedisSerializer(
+                CompactTypeRegistry.empty(), new GenericJackson2JsonRedisSerializer(), appProperties.getRedisCodec()));
 
         template.afterPropertiesSet();
         return template;
@@ -6,6 +6,10 @@ import com.jay.auth.security.oauth2.CustomOAuth2UserService;
 import com.jay.auth.security.oauth2.CustomOidcUserService;
 import com.jay.auth.security.oauth2.OAuth2AuthenticationFailureHandler;
 import com.jay.auth.security.oauth2.OAuth2AuthenticationSuccessHandler;
+import com.jay.auth.security.oauth2.OAuth2ProviderHttpClient;
+import com.jay.auth.security.oauth2.RedisOAuth2AuthorizationRequestRepository;
+import com.jay.auth.service.OAuth2LinkStateService;
+import com.jay.auth.util.PasswordEncoderCalibrator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,7 +17,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.web.SecurityFilterChain;
@@ -30,6 +33,9 @@ public class SecurityConfig {
     private final IpAccessFilter ipAccessFilter;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomOidcUserService customOidcUserService;
+    private final OAuth2ProviderHttpClient oAuth2ProviderHttpClient;
+    private final RedisOAuth2AuthorizationRequestRepository authorizationRequestRepository;
+    private final OAuth2LinkStateService oAuth2LinkStateService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final CorsConfigurationSource corsConfigurationSource;
@@ -62,10 +68,14 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .oauth2Login(oauth2 -> oauth2
                         .authorizationEndpoint(auth -> auth
+                                .authorizationRequestRepository(authorizationRequestRepository)
                                 .authorizationRequestResolver(
                                         new CustomOAuth2AuthorizationRequestResolver(
                                                 clientRegistrationRepository,
-                                                "/oauth2/authorization")))
+                                                "/oauth2/authorization",
+                                                oAuth2LinkStateService)))
+                        .tokenEndpoint(token -> token
+                                .accessTokenResponseClient(oAuth2ProviderHttpClient.authorizationCodeTokenResponseClient()))
                         .userInfoEndpoint(userInfo -> userInfo
                                 .userService(customOAuth2UserService)
                                 .oidcUserService(customOidcUserService))
@@ -78,7 +88,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AppProperties appProperties) {
+        return PasswordEncoderCalibrator.create(appProperties.getPasswordHashing());
     }
 }
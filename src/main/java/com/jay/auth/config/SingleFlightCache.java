@@ -0,0 +1,269 @@
+package com.jay.auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 재계산 비용이 큰 캐시의 스탬피드 방지 데코레이터 ({@code @Cacheable(sync = true)} 경로)
+ * - 같은 키의 동시 로드는 노드 안에서 하나로 합치고(single-flight), 노드 간에는 Redis 리스를 잡은 한 노드만 계산한다
+ * - 리스를 못 잡은 노드는 계산 중인 결과가 캐시에 들어올 때까지 기다렸다가 그 값을 쓴다 (리스 만료 시 직접 계산)
+ * - 값과 함께 계산 시각/소요 시간을 저장해 TTL 전에 확률적으로 미리 갱신한다 (XFetch), 갱신 중에는 기존 값을 내준다
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private static final String LEASE_PREFIX = "cache:lease:";
+
+    /**
+     * KEYS[1]=리스 키, ARGV[1]=소유 토큰 (내가 잡은 리스만 해제)
+     */
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final Cache delegate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlMillis;
+    private final AppProperties.Cache settings;
+    private final LongSupplier clock;
+    private final DoubleSupplier random;
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightCache(Cache delegate, StringRedisTemplate stringRedisTemplate, Duration ttl,
+                             AppProperties.Cache settings) {
+        this(delegate, stringRedisTemplate, ttl, settings, System::currentTimeMillis,
+                () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    SingleFlightCache(Cache delegate, StringRedisTemplate stringRedisTemplate, Duration ttl,
+                      AppProperties.Cache settings, LongSupplier clock, DoubleSupplier random) {
+        this.delegate = delegate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlMillis = ttl.toMillis();
+        this.settings = settings;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = lookup(key);
+        return entry != null ? new SimpleValueWrapper(entry.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Entry entry = lookup(key);
+        if (entry == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(entry.value())) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + entry.value());
+        }
+        return (T) entry.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entry cached = lookup(key);
+        if (cached != null && !shouldRefreshEarly(cached)) {
+            return (T) cached.value();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            // 조기 갱신 중이면 기존 값을, 만료됐으면 진행 중인 계산 결과를 받는다
+            return cached != null ? (T) cached.value() : (T) await(key, valueLoader, running);
+        }
+        try {
+            Object value = loadAsLeader(key, valueLoader, cached);
+            mine.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, new Entry(value, clock.getAsLong(), 0));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * 노드 안의 리더: 클러스터 리스를 잡으면 계산하고, 다른 노드가 계산 중이면 그 결과를 기다린다
+     */
+    private Object loadAsLeader(Object key, Callable<?> valueLoader, Entry cached) {
+        String leaseKey = LEASE_PREFIX + getName() + "::" + key;
+        String token = UUID.randomUUID().toString();
+        if (!tryAcquireLease(leaseKey, token)) {
+            if (cached != null) {
+                return cached.value();
+            }
+            Entry computedElsewhere = awaitRemote(key, leaseKey);
+            if (computedElsewhere != null) {
+                return computedElsewhere.value();
+            }
+            log.warn("Cache lease wait timed out, computing locally: cache={}, key={}", getName(), key);
+            return compute(key, valueLoader);
+        }
+        try {
+            return compute(key, valueLoader);
+        } finally {
+            releaseLease(leaseKey, token);
+        }
+    }
+
+    private Object compute(Object key, Callable<?> valueLoader) {
+        long startedAt = clock.getAsLong();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            long finishedAt = clock.getAsLong();
+            delegate.put(key, new Entry(value, finishedAt, finishedAt - startedAt));
+        }
+        return value;
+    }
+
+    /**
+     * 다른 노드가 계산한 값이 캐시에 들어오거나 리스가 풀릴 때까지 대기
+     * @return 리스가 풀리거나 대기 시간을 넘겼는데 값이 없으면 null
+     */
+    private Entry awaitRemote(Object key, String leaseKey) {
+        long deadline = clock.getAsLong() + settings.getSingleFlightLeaseMillis();
+        while (clock.getAsLong() < deadline) {
+            try {
+                Thread.sleep(settings.getSingleFlightPollMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Entry entry = lookup(key);
+            if (entry != null) {
+                return entry;
+            }
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(leaseKey))) {
+                // 리스가 풀렸는데 값이 없음 (계산 실패 또는 null 결과)
+                return lookup(key);
+            }
+        }
+        return null;
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> running) {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    /**
+     * XFetch: 만료가 가까울수록, 계산이 오래 걸렸을수록 높은 확률로 미리 갱신
+     */
+    private boolean shouldRefreshEarly(Entry entry) {
+        double beta = settings.getEarlyRefreshBeta();
+        if (beta <= 0 || entry.computeMillis() <= 0) {
+            return false;
+        }
+        double headStart = entry.computeMillis() * beta * -Math.log(random.getAsDouble());
+        return clock.getAsLong() + headStart >= entry.computedAt() + ttlMillis;
+    }
+
+    private boolean tryAcquireLease(String leaseKey, String token) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, token, Duration.ofMillis(settings.getSingleFlightLeaseMillis())));
+        } catch (Exception e) {
+            // 리스 없이 계산 (노드 안의 single-flight는 유지)
+            log.warn("Failed to acquire cache lease: key={}", leaseKey, e);
+            return true;
+        }
+    }
+
+    private void releaseLease(String leaseKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            log.warn("Failed to release cache lease: key={}", leaseKey, e);
+        }
+    }
+
+    private Entry lookup(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object stored = wrapper.get();
+        // 계산 정보 없이 저장된 값은 조기 갱신 없이 그대로 사용
+        return stored instanceof Entry entry ? entry : new Entry(stored, 0, 0);
+    }
+
+    /**
+     * 캐시에 저장되는 값 (계산 시각과 소요 시간은 조기 갱신 판단에 사용)
+     */
+    record Entry(Object value, long computedAt, long computeMillis) {
+    }
+}
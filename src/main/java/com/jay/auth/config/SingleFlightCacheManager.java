@@ -0,0 +1,47 @@
+package com.jay.auth.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지정한 캐시만 {@link SingleFlightCache}로 감싸는 CacheManager (나머지는 그대로 위임)
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, Duration> singleFlightTtls;
+    private final AppProperties.Cache settings;
+    private final Map<String, Cache> decorated = new ConcurrentHashMap<>();
+
+    public SingleFlightCacheManager(CacheManager delegate, StringRedisTemplate stringRedisTemplate,
+                                    Map<String, Duration> singleFlightTtls, AppProperties.Cache settings) {
+        this.delegate = delegate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.singleFlightTtls = Map.copyOf(singleFlightTtls);
+        this.settings = settings;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Duration ttl = singleFlightTtls.get(name);
+        if (ttl == null) {
+            return delegate.getCache(name);
+        }
+        return decorated.computeIfAbsent(name, n -> {
+            Cache cache = delegate.getCache(n);
+            return cache != null ? new SingleFlightCache(cache, stringRedisTemplate, ttl, settings) : null;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,121 @@
+package com.jay.auth.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자별 캐시 세대 번호 (Redis: cache:generation:user:{userId})
+ * - 사용자 단위 캐시는 {@link UserScopedKeyGenerator}로 키에 세대를 붙이므로,
+ *   세대를 한 번 올리면 그 사용자의 모든 캐시 항목이 더 이상 조회되지 않는다 (이전 항목은 캐시 TTL로 정리)
+ * - 세대는 노드 로컬에도 두고(near TTL) 변경 시 pub/sub으로 다른 노드의 로컬 값을 지운다
+ * - 세대 키 TTL은 사용자 단위 캐시 TTL보다 길어야 한다 (만료 후 0부터 다시 시작해도 이전 항목은 이미 사라짐)
+ */
+@Slf4j
+@Component
+public class UserCacheGenerations implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:user-generation";
+
+    private static final String KEY_PREFIX = "cache:generation:user:";
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    /**
+     * 세대 증가와 TTL 갱신을 한 번에 처리한다. ARGV[1]=TTL(ms)
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local generation = redis.call('INCR', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return generation",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final com.github.benmanes.caffeine.cache.Cache<Long, Long> local;
+
+    public UserCacheGenerations(StringRedisTemplate stringRedisTemplate, AppProperties appProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        AppProperties.Cache settings = appProperties.getCache();
+        // 로컬 캐시를 쓰지 않으면 세대도 매번 Redis에서 읽어 로컬 값 때문에 오래된 항목이 보이지 않게 한다
+        this.local = Caffeine.newBuilder()
+                .maximumSize(settings.getNearDefaults().getMaximumSize())
+                .expireAfterWrite(settings.isNearEnabled()
+                        ? Duration.ofMillis(settings.getNearDefaults().getTtlMillis())
+                        : Duration.ZERO)
+                .build();
+    }
+
+    /**
+     * 사용자의 현재 캐시 세대 (한 번도 올리지 않았으면 0)
+     */
+    public long current(Long userId) {
+        return local.get(userId, this::load);
+    }
+
+    /**
+     * 사용자의 모든 캐시 항목 무효화
+     * - 트랜잭션 안이면 커밋 후에 올린다 (커밋 전에 올리면 다른 요청이 변경 전 값을 새 세대로 다시 캐싱할 수 있음)
+     */
+    public void bump(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(userId);
+                }
+            });
+        } else {
+            increment(userId);
+        }
+    }
+
+    /**
+     * 다른 노드가 올린 세대 알림 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            local.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user cache generation message: {}", body);
+        }
+    }
+
+    private long load(Long userId) {
+        String generation = stringRedisTemplate.opsForValue().get(key(userId));
+        return generation != null ? Long.parseLong(generation) : 0L;
+    }
+
+    private void increment(Long userId) {
+        try {
+            Long generation = stringRedisTemplate.execute(BUMP_SCRIPT, List.of(key(userId)),
+                    String.valueOf(GENERATION_TTL.toMillis()));
+            if (generation != null) {
+                local.put(userId, generation);
+            }
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            // 이전 세대 항목은 캐시 TTL이 지나면 사라진다
+            local.invalidate(userId);
+            log.warn("Failed to bump user cache generation: userId={}", userId, e);
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
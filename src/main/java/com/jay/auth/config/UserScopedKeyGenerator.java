@@ -0,0 +1,34 @@
+package com.jay.auth.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * 사용자 단위 캐시 키 생성기: "{userId}:{세대}"
+ * - 첫 번째 인자를 userId로 사용한다
+ * - 무효화는 개별 evict 대신 {@link UserCacheGenerations#bump(Long)}로 한 번에 처리한다
+ *
+ * <pre>
+ * &#64;Cacheable(value = "userProfile", keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
+ * </pre>
+ */
+@Component(UserScopedKeyGenerator.BEAN_NAME)
+@RequiredArgsConstructor
+public class UserScopedKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "userScopedKeyGenerator";
+
+    private final UserCacheGenerations userCacheGenerations;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length == 0 || !(params[0] instanceof Long userId)) {
+            throw new IllegalArgumentException(
+                    "User-scoped cache requires a Long userId as the first argument: " + method);
+        }
+        return userId + ":" + userCacheGenerations.current(userId);
+    }
+}
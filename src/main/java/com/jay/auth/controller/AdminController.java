@@ -7,6 +7,7 @@ import com.jay.auth.security.UserPrincipal;
 import com.jay.auth.service.AccountLockService;
 import com.jay.auth.service.AdminService;
 import com.jay.auth.service.AuditLogService;
+import com.jay.auth.service.EncryptionKeyRotationService;
 import com.jay.auth.service.LoginAnalyticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,6 +16,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @Tag(name = "Admin", description = "관리자 API")
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -25,6 +28,7 @@ public class AdminController {
     private final AuditLogService auditLogService;
     private final LoginAnalyticsService loginAnalyticsService;
     private final AccountLockService accountLockService;
+    private final EncryptionKeyRotationService encryptionKeyRotationService;
 
     @Operation(summary = "관리자 대시보드 조회", description = "사용자 통계 및 최근 가입 사용자 목록을 조회합니다")
     @GetMapping("/dashboard")
@@ -49,6 +53,37 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "사용자 커서 검색", description = "키워드와 상태로 사용자를 커서 기반으로 검색합니다")
+    @GetMapping("/users/cursor")
+    public ResponseEntity<CursorPageResponse<AdminDashboardResponse.AdminUserInfo>> searchUsersByCursor(
+            @AuthenticationPrincipal UserPrincipal adminPrincipal,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        auditLogService.log(adminPrincipal.getUserId(), "ADMIN_USER_SEARCH", "ADMIN",
+                "keyword=" + (keyword != null ? "set" : "none") + ", status=" + status, true);
+        CursorPageResponse<AdminDashboardResponse.AdminUserInfo> response = adminService.searchUsersByCursor(
+                keyword, status, cursor, Math.max(1, Math.min(size, 100)), includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "사용자 감사 로그 조회", description = "특정 사용자의 감사 로그를 커서 기반으로 조회합니다")
+    @GetMapping("/users/{userId}/audit-logs")
+    public ResponseEntity<CursorPageResponse<AdminSecurityEventsResponse.AuditEventInfo>> getUserAuditLogs(
+            @AuthenticationPrincipal UserPrincipal adminPrincipal,
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        auditLogService.log(adminPrincipal.getUserId(), "ADMIN_USER_AUDIT_VIEW", "ADMIN",
+                "targetUserId=" + userId, true);
+        CursorPageResponse<AdminSecurityEventsResponse.AuditEventInfo> response = adminService.getUserAuditLogs(
+                userId, cursor, Math.max(1, Math.min(size, 100)), includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "로그인 통계 조회", description = "로그인 및 가입 통계를 조회합니다")
     @GetMapping("/stats/logins")
     public ResponseEntity<AdminLoginStatsResponse> getLoginStats(
@@ -58,6 +93,42 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "활성 사용자 스케치 재구성", description = "로그인 이력으로 일별 활성 사용자 스케치(HyperLogLog)를 재구성합니다")
+    @PostMapping("/stats/active-users/backfill")
+    public ResponseEntity<Map<String, Long>> backfillActiveUserSketches(
+            @AuthenticationPrincipal UserPrincipal adminPrincipal,
+            @RequestParam(defaultValue = "30") int days) {
+        long entries = adminService.backfillActiveUserSketches(adminPrincipal.getUserId(), days);
+        return ResponseEntity.ok(Map.of("entries", entries));
+    }
+
+    @Operation(summary = "암호화 키 교체 재암호화 시작", description = "활성 키가 아닌 암호문을 백그라운드에서 새 키로 다시 암호화합니다 (체크포인트부터 재개)")
+    @PostMapping("/encryption/reencrypt")
+    public ResponseEntity<EncryptionRotationStatusResponse> startReencryption(
+            @AuthenticationPrincipal UserPrincipal adminPrincipal) {
+        auditLogService.log(adminPrincipal.getUserId(), "ENCRYPTION_REENCRYPT_START", "ADMIN",
+                "activeKeyId=" + encryptionKeyRotationService.getStatus().getActiveKeyId(), true);
+        if (!encryptionKeyRotationService.isRunning()) {
+            encryptionKeyRotationService.runAsync();
+        }
+        return ResponseEntity.accepted().body(encryptionKeyRotationService.getStatus());
+    }
+
+    @Operation(summary = "암호화 키 교체 재암호화 중단", description = "현재 청크 처리 후 재암호화를 중단합니다 (체크포인트 유지)")
+    @PostMapping("/encryption/reencrypt/stop")
+    public ResponseEntity<EncryptionRotationStatusResponse> stopReencryption(
+            @AuthenticationPrincipal UserPrincipal adminPrincipal) {
+        auditLogService.log(adminPrincipal.getUserId(), "ENCRYPTION_REENCRYPT_STOP", "ADMIN");
+        encryptionKeyRotationService.stop();
+        return ResponseEntity.ok(encryptionKeyRotationService.getStatus());
+    }
+
+    @Operation(summary = "암호화 키 교체 재암호화 진행 상황", description = "테이블별 체크포인트와 처리 행 수를 조회합니다")
+    @GetMapping("/encryption/reencrypt")
+    public ResponseEntity<EncryptionRotationStatusResponse> getReencryptionStatus() {
+        return ResponseEntity.ok(encryptionKeyRotationService.getStatus());
+    }
+
     @Operation(summary = "보안 이벤트 조회", description = "최근 보안 이벤트를 조회합니다")
     @GetMapping("/security/events")
     public ResponseEntity<AdminSecurityEventsResponse> getSecurityEvents(
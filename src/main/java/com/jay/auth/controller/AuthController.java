@@ -9,6 +9,7 @@ import com.jay.auth.dto.response.RecoveryAccountsResponse;
 import com.jay.auth.dto.response.SignUpResponse;
 import com.jay.auth.dto.response.TokenResponse;
 import com.jay.auth.exception.RateLimitException;
+import com.jay.auth.exception.ServiceOverloadedException;
 import com.jay.auth.security.UserPrincipal;
 import com.jay.auth.service.AuthService;
 import com.jay.auth.service.LoginHistoryService;
@@ -26,6 +27,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -33,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @Tag(name = "Auth", description = "인증 API")
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -71,6 +74,7 @@ public class AuthController {
 
         // Rate limit check
         if (!loginRateLimitService.isLoginAllowed(email, ipAddress)) {
+            loginRateLimitService.recordRejectedAttempt(email, ipAddress);
             long retryAfter = loginRateLimitService.getRetryAfterSeconds(email);
             throw new RateLimitException(retryAfter);
         }
@@ -88,8 +92,12 @@ public class AuthController {
             // Record login history (async)
             loginHistoryService.recordLoginSuccess(response.getUserId(), ChannelCode.EMAIL, httpRequest);
 
-            // Send new device login notification (async)
-            securityNotificationService.notifyNewDeviceLogin(response.getUserId(), sessionInfo);
+            // Queue new device login notification (outbox); a failure here must not turn a successful login into a failed attempt
+            try {
+                securityNotificationService.notifyNewDeviceLogin(response.getUserId(), sessionInfo);
+            } catch (Exception e) {
+                log.warn("Failed to queue new device login notification: userId={}", response.getUserId(), e);
+            }
 
             // Check if post-login verification is required (new device + no 2FA)
             String deviceId = trustedDeviceService.generateDeviceId(sessionInfo);
@@ -112,6 +120,9 @@ public class AuthController {
             }
 
             return ResponseEntity.ok(response);
+        } catch (ServiceOverloadedException e) {
+            // Hashing capacity rejection is not a credential failure
+            throw e;
         } catch (Exception e) {
             // Record failed attempt
             loginRateLimitService.recordFailedAttempt(email, ipAddress);
@@ -6,6 +6,7 @@ import com.jay.auth.dto.request.CreateSupportCommentRequest;
 import com.jay.auth.dto.request.CreateSupportPostRequest;
 import com.jay.auth.dto.request.UpdatePostStatusRequest;
 import com.jay.auth.dto.request.UpdateSupportPostRequest;
+import com.jay.auth.dto.response.CursorPageResponse;
 import com.jay.auth.dto.response.SupportPostDetailResponse;
 import com.jay.auth.dto.response.SupportPostListResponse;
 import com.jay.auth.security.UserPrincipal;
@@ -46,6 +47,24 @@ public class SupportController {
         return ResponseEntity.ok(posts);
     }
 
+    @Operation(summary = "게시글 커서 조회", description = "고객센터 게시글 목록을 커서 기반으로 조회합니다")
+    @GetMapping("/posts/cursor")
+    public ResponseEntity<CursorPageResponse<SupportPostListResponse>> getPostsByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) PostCategory category,
+            @RequestParam(required = false) PostStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        boolean isAdmin = "ADMIN".equals(userPrincipal.getRole());
+        CursorPageResponse<SupportPostListResponse> posts = supportPostService.getPostsByCursor(
+                userPrincipal.getUserId(), isAdmin, category, status, cursor,
+                Math.max(1, Math.min(size, 50)), includeTotal);
+
+        return ResponseEntity.ok(posts);
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "게시글 상세 정보와 댓글을 조회합니다")
     @GetMapping("/posts/{postId}")
     public ResponseEntity<SupportPostDetailResponse> getPost(
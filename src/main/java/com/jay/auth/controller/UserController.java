@@ -6,6 +6,7 @@ import com.jay.auth.dto.request.UpdateProfileRequest;
 import com.jay.auth.dto.request.UpdateRecoveryEmailRequest;
 import com.jay.auth.dto.response.ActiveSessionResponse;
 import com.jay.auth.dto.response.ChannelStatusResponse;
+import com.jay.auth.dto.response.CursorPageResponse;
 import com.jay.auth.dto.response.LoginHistoryResponse;
 import com.jay.auth.dto.response.SecurityDashboardResponse;
 import com.jay.auth.dto.response.SecuritySettingsResponse;
@@ -151,6 +152,20 @@ public class UserController {
         return ResponseEntity.ok(histories);
     }
 
+    @Operation(summary = "로그인 기록 커서 조회", description = "커서 기반으로 로그인 기록을 페이지 단위 조회합니다")
+    @GetMapping("/login-history/cursor")
+    public ResponseEntity<CursorPageResponse<LoginHistoryResponse>> getLoginHistoryPage(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPageResponse<LoginHistoryResponse> page = loginHistoryService.getLoginHistoryPage(
+                userPrincipal.getUserId(), cursor, Math.max(1, Math.min(size, 50)), includeTotal);
+
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(summary = "활성 세션 조회", description = "현재 로그인 중인 세션 목록을 조회합니다")
     @GetMapping("/sessions")
     public ResponseEntity<List<ActiveSessionResponse>> getActiveSessions(
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tb_audit_log", indexes = {
-        @Index(name = "idx_audit_user", columnList = "user_id"),
+        @Index(name = "idx_audit_user", columnList = "user_id, created_at, audit_id"),
         @Index(name = "idx_audit_action", columnList = "action"),
         @Index(name = "idx_audit_created", columnList = "created_at")
 })
@@ -0,0 +1,107 @@
+package com.jay.auth.domain.entity;
+
+import com.jay.auth.domain.enums.EmailMessageType;
+import com.jay.auth.domain.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 아웃박스
+ * - 업무 트랜잭션 안에서 행만 기록하고, EmailOutboxDispatcher가 트랜잭션 밖에서 모아 발송한다
+ * - 발송에 성공한 행은 삭제하고, 최대 시도 횟수를 넘긴 행은 FAILED로 남긴다
+ * - 수신자는 사용자 ID(발송 시점에 이메일 복호화) 또는 암호화된 주소로 저장한다
+ */
+@Entity
+@Table(name = "tb_email_outbox",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_email_outbox_dedup_key", columnNames = "dedup_key")
+        },
+        indexes = {
+                @Index(name = "idx_email_outbox_dispatch", columnList = "status, next_attempt_at, priority")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "message_type", nullable = false, length = 40)
+    private EmailMessageType messageType;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "recipient_enc", length = 512)
+    private String recipientEnc;
+
+    /**
+     * 템플릿 변수 (암호화된 JSON)
+     */
+    @Column(name = "payload_enc", nullable = false, length = 4000)
+    private String payloadEnc;
+
+    @Column(name = "dedup_key", length = 200)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public EmailOutbox(EmailMessageType messageType, Long userId, String recipientEnc,
+                       String payloadEnc, String dedupKey, LocalDateTime nextAttemptAt) {
+        this.messageType = messageType;
+        this.priority = messageType.getPriority();
+        this.userId = userId;
+        this.recipientEnc = recipientEnc;
+        this.payloadEnc = payloadEnc;
+        this.dedupKey = dedupKey;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 디스패처가 가져갈 때 시도 횟수를 올리고 lease 동안 다른 인스턴스가 가져가지 못하게 한다
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markFailed(String error) {
+        this.status = EmailOutboxStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 500) {
+            return error;
+        }
+        return error.substring(0, 500);
+    }
+}
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tb_login_history", indexes = {
-        @Index(name = "idx_login_history_user", columnList = "user_id"),
+        @Index(name = "idx_login_history_user", columnList = "user_id, created_at, history_id"),
         @Index(name = "idx_login_history_created", columnList = "created_at")
 })
 @Getter
@@ -12,8 +12,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "tb_support_post", indexes = {
         @Index(name = "idx_support_post_user_id", columnList = "user_id"),
-        @Index(name = "idx_support_post_status", columnList = "status"),
-        @Index(name = "idx_support_post_created_at", columnList = "created_at")
+        @Index(name = "idx_support_post_status", columnList = "status, created_at, id"),
+        @Index(name = "idx_support_post_created_at", columnList = "created_at, id")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SupportPost extends BaseEntity {
@@ -11,12 +11,16 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 @Entity
 @Table(name = "tb_user", indexes = {
         @Index(name = "idx_email_lower", columnList = "email_lower_enc"),
-        @Index(name = "idx_nickname_lower", columnList = "nickname_lower_enc", unique = true)
+        @Index(name = "idx_nickname_lower", columnList = "nickname_lower_enc", unique = true),
+        @Index(name = "idx_user_created", columnList = "created_at, user_id"),
+        @Index(name = "idx_user_status_created", columnList = "status, created_at, user_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -155,4 +159,22 @@ public class User extends BaseEntity {
     public void removeChannel(UserChannel channel) {
         this.channels.remove(channel);
     }
+
+    /**
+     * 암호화 키 교체 시 무작위 암호문 컬럼을 새 키로 다시 암호화한다 (검색용 *_lower_enc 컬럼은 유지)
+     * @return 변경된 컬럼이 있으면 true
+     */
+    public boolean reencrypt(UnaryOperator<String> reencryptor) {
+        String email = reencryptor.apply(this.emailEnc);
+        String recoveryEmail = reencryptor.apply(this.recoveryEmailEnc);
+        String phone = reencryptor.apply(this.phoneEnc);
+        String nickname = reencryptor.apply(this.nicknameEnc);
+        boolean changed = !Objects.equals(email, this.emailEnc) || !Objects.equals(recoveryEmail, this.recoveryEmailEnc)
+                || !Objects.equals(phone, this.phoneEnc) || !Objects.equals(nickname, this.nicknameEnc);
+        this.emailEnc = email;
+        this.recoveryEmailEnc = recoveryEmail;
+        this.phoneEnc = phone;
+        this.nicknameEnc = nickname;
+        return changed;
+    }
 }
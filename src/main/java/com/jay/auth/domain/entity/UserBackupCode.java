@@ -0,0 +1,46 @@
+package com.jay.auth.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 2FA 백업 코드 (코드별 HMAC 해시 저장)
+ * - (user_id, code_hash) 유니크 인덱스로 검증/소비가 단건 인덱스 조회로 끝난다
+ */
+@Entity
+@Table(name = "tb_user_backup_code", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_backup_code_user_hash", columnNames = {"user_id", "code_hash"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserBackupCode extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "backup_code_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "code_hash", nullable = false, length = 64)
+    private String codeHash;
+
+    @Column(name = "is_used", nullable = false)
+    private boolean used = false;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Builder
+    public UserBackupCode(User user, String codeHash) {
+        this.user = user;
+        this.codeHash = codeHash;
+    }
+}
@@ -7,6 +7,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
 @Entity
 @Table(name = "tb_user_channel", indexes = {
         @Index(name = "idx_channel_unique", columnList = "channel_code, channel_key", unique = true),
@@ -53,4 +56,15 @@ public class UserChannel extends BaseEntity {
         this.channelEmailEnc = channelEmailEnc;
         this.channelEmailLowerEnc = channelEmailLowerEnc;
     }
+
+    /**
+     * 암호화 키 교체 시 채널 이메일 암호문을 새 키로 다시 암호화한다 (검색용 컬럼은 유지)
+     * @return 변경 여부
+     */
+    public boolean reencrypt(UnaryOperator<String> reencryptor) {
+        String reencrypted = reencryptor.apply(this.channelEmailEnc);
+        boolean changed = !Objects.equals(reencrypted, this.channelEmailEnc);
+        this.channelEmailEnc = reencrypted;
+        return changed;
+    }
 }
@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 @Entity
 @Table(name = "tb_user_sign_in_info", indexes = {
@@ -46,6 +48,12 @@ public class UserSignInInfo extends BaseEntity {
     @Column(name = "locked_until")
     private LocalDateTime lockedUntil;
 
+    /**
+     * 실패 횟수/잠금이 마지막으로 바뀐 시각 (write-behind 반영이 더 오래된 상태로 덮어쓰지 않도록 비교)
+     */
+    @Column(name = "failure_state_at")
+    private LocalDateTime failureStateAt;
+
     @Builder
     public UserSignInInfo(User user, String loginEmailEnc, String loginEmailLowerEnc,
                           String passwordHash) {
@@ -62,25 +70,41 @@ public class UserSignInInfo extends BaseEntity {
         this.passwordUpdatedAt = LocalDateTime.now();
     }
 
-    public void recordLoginSuccess() {
-        this.lastLoginAt = LocalDateTime.now();
-        this.loginFailCount = 0;
-        this.lockedUntil = null;
+    /**
+     * 같은 비밀번호를 현재 해싱 설정으로 다시 저장한다 (비밀번호 변경일은 유지)
+     */
+    public void rehashPassword(String passwordHash) {
+        this.passwordHash = passwordHash;
     }
 
-    public void recordLoginFailure() {
-        this.loginFailCount++;
-        if (this.loginFailCount >= 5) {
-            this.lockedUntil = LocalDateTime.now().plusMinutes(30);
-        }
+    /**
+     * DB에 반영된 실패 횟수/잠금이 남아 있는지 (로그인 상태는 {@code LoginAttemptStore}가 Redis에서 관리하고 주기적으로 반영)
+     */
+    public boolean hasPersistedFailures() {
+        return this.loginFailCount > 0 || this.lockedUntil != null;
     }
 
     public boolean isLocked() {
         return this.lockedUntil != null && LocalDateTime.now().isBefore(this.lockedUntil);
     }
 
+    /**
+     * 잠금 해제 — 해제 시각을 남겨 이전에 발생한 실패 상태가 뒤늦게 반영되어도 다시 잠기지 않게 한다
+     */
     public void unlock() {
         this.loginFailCount = 0;
         this.lockedUntil = null;
+        this.failureStateAt = LocalDateTime.now();
+    }
+
+    /**
+     * 암호화 키 교체 시 로그인 이메일 암호문을 새 키로 다시 암호화한다 (검색용 컬럼은 유지)
+     * @return 변경 여부
+     */
+    public boolean reencrypt(UnaryOperator<String> reencryptor) {
+        String reencrypted = reencryptor.apply(this.loginEmailEnc);
+        boolean changed = !Objects.equals(reencrypted, this.loginEmailEnc);
+        this.loginEmailEnc = reencrypted;
+        return changed;
     }
 }
@@ -6,6 +6,8 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 @Entity
 @Table(name = "tb_user_two_factor")
@@ -37,11 +39,18 @@ public class UserTwoFactor {
     private boolean enabled = false;
 
     /**
-     * 백업 코드 (암호화 저장, JSON 배열)
+     * 백업 코드 (암호화 저장, JSON 배열) - 이전 저장 방식, tb_user_backup_code로 이전되면 비워진다
      */
     @Column(name = "backup_codes_enc", length = 1024)
     private String backupCodesEnc;
 
+    /**
+     * 남은 백업 코드 수 (상태 조회 시 복호화 없이 사용)
+     */
+    @Column(name = "backup_codes_remaining", nullable = false)
+    @Builder.Default
+    private int backupCodesRemaining = 0;
+
     /**
      * 마지막 사용 시간
      */
@@ -64,17 +73,43 @@ public class UserTwoFactor {
         this.enabled = false;
         this.secretEnc = null;
         this.backupCodesEnc = null;
+        this.backupCodesRemaining = 0;
     }
 
     public void updateSecret(String secretEnc) {
         this.secretEnc = secretEnc;
     }
 
-    public void updateBackupCodes(String backupCodesEnc) {
-        this.backupCodesEnc = backupCodesEnc;
+    /**
+     * 백업 코드를 새로 발급했을 때 남은 수를 갱신하고 이전 방식 데이터를 비운다
+     */
+    public void resetBackupCodes(int count) {
+        this.backupCodesEnc = null;
+        this.backupCodesRemaining = count;
+    }
+
+    /**
+     * DB에서 원자적으로 줄인 남은 백업 코드 수를 반영한다
+     * (엔티티 전체 UPDATE 시 메모리의 이전 값으로 덮어쓰지 않도록)
+     */
+    public void syncBackupCodesRemaining(int remaining) {
+        this.backupCodesRemaining = remaining;
     }
 
     public void recordUsage() {
         this.lastUsedAt = LocalDateTime.now();
     }
+
+    /**
+     * 암호화 키 교체 시 TOTP 비밀키와 백업 코드 암호문을 새 키로 다시 암호화한다
+     * @return 변경 여부
+     */
+    public boolean reencrypt(UnaryOperator<String> reencryptor) {
+        String secret = reencryptor.apply(this.secretEnc);
+        String backupCodes = reencryptor.apply(this.backupCodesEnc);
+        boolean changed = !Objects.equals(secret, this.secretEnc) || !Objects.equals(backupCodes, this.backupCodesEnc);
+        this.secretEnc = secret;
+        this.backupCodesEnc = backupCodes;
+        return changed;
+    }
 }
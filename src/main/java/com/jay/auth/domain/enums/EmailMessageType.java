@@ -0,0 +1,27 @@
+package com.jay.auth.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 이메일 종류 (priority가 작을수록 먼저 발송)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmailMessageType {
+
+    VERIFICATION_CODE("이메일인증코드", 0),
+    POST_LOGIN_VERIFICATION_CODE("로그인재인증코드", 0),
+    ACCOUNT_LOCKED("계정잠금알림", 1),
+    NEW_DEVICE_LOGIN("새기기로그인알림", 1),
+    PASSWORD_CHANGED("비밀번호변경알림", 1),
+    ACCOUNT_LINKED("계정연동알림", 1),
+    ACCOUNT_UNLINKED("계정연동해제알림", 1),
+    PASSKEY_REGISTERED("패스키등록알림", 1),
+    PASSKEY_REMOVED("패스키삭제알림", 1),
+    PASSWORD_EXPIRING_SOON("비밀번호만료임박알림", 2),
+    PASSWORD_EXPIRED("비밀번호만료알림", 2);
+
+    private final String description;
+    private final int priority;
+}
@@ -0,0 +1,14 @@
+package com.jay.auth.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EmailOutboxStatus {
+
+    PENDING("발송대기"),
+    FAILED("발송실패");
+
+    private final String description;
+}
@@ -17,6 +17,9 @@ public class AdminLoginStatsResponse {
     private long todayLogins;
     private long todaySignups;
     private long activeUsersLast7Days;
+    private long dailyActiveUsers;
+    private long weeklyActiveUsers;
+    private long monthlyActiveUsers;
     private List<Map<String, Object>> dailyLogins;
     private List<Map<String, Object>> dailySignups;
 }
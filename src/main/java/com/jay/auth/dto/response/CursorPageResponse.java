@@ -0,0 +1,56 @@
+package com.jay.auth.dto.response;
+
+import com.jay.auth.util.PageCursor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 응답
+ * - nextCursor: 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+ * - totalElements: includeTotal 요청 시에만 채워진다 (COUNT 쿼리 생략 가능)
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+
+    /**
+     * size + 1건으로 조회한 결과에서 다음 페이지 존재 여부를 판단해 응답을 만든다.
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  Function<E, T> mapper,
+                                                  Function<E, PageCursor> cursorExtractor,
+                                                  Long totalElements) {
+        return ofBatch(rows, size, pageRows -> pageRows.stream().map(mapper).toList(),
+                cursorExtractor, totalElements);
+    }
+
+    /**
+     * 페이지 행 전체를 한 번에 변환하는 mapper를 사용한다 (일괄 복호화 등).
+     */
+    public static <E, T> CursorPageResponse<T> ofBatch(List<E> rows, int size,
+                                                       Function<List<E>, List<T>> batchMapper,
+                                                       Function<E, PageCursor> cursorExtractor,
+                                                       Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext && !pageRows.isEmpty()
+                ? cursorExtractor.apply(pageRows.get(pageRows.size() - 1)).encode()
+                : null;
+
+        return CursorPageResponse.<T>builder()
+                .items(batchMapper.apply(pageRows))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.jay.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EncryptionRotationStatusResponse {
+
+    private String activeKeyId;
+    private boolean running;
+    private List<TableProgress> tables;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TableProgress {
+        private String table;
+        private Long checkpointId;
+        private long scannedRows;
+        private long rewrittenRows;
+    }
+}
@@ -52,6 +52,15 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("RATE_LIMITED", e.getMessage()));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceOverloadedException(ServiceOverloadedException e) {
+        log.warn("Service overloaded: {} (retry after: {}s)", e.getMessage(), e.getRetryAfterSeconds());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error("SERVICE_OVERLOADED", e.getMessage()));
+    }
+
     @ExceptionHandler(PasswordPolicyException.class)
     public ResponseEntity<ApiResponse<Void>> handlePasswordPolicyException(PasswordPolicyException e) {
         log.warn("Password policy exception: {} - {}", e.getErrorCode(), e.getMessage());
@@ -20,6 +20,10 @@ public class InvalidVerificationException extends BusinessException {
         return new InvalidVerificationException("인증 코드가 일치하지 않습니다");
     }
 
+    public static InvalidVerificationException tooManyAttempts() {
+        return new InvalidVerificationException("인증 시도 횟수를 초과했습니다. 인증 코드를 다시 요청해주세요");
+    }
+
     public static InvalidVerificationException notVerified() {
         return new InvalidVerificationException("이메일 인증이 완료되지 않았습니다");
     }
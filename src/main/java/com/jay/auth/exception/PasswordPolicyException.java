@@ -23,4 +23,8 @@ public class PasswordPolicyException extends RuntimeException {
     public static PasswordPolicyException sameAsCurrent() {
         return new PasswordPolicyException("현재 비밀번호와 동일한 비밀번호는 사용할 수 없습니다.", "PASSWORD_SAME_AS_CURRENT");
     }
+
+    public static PasswordPolicyException breached() {
+        return new PasswordPolicyException("유출된 비밀번호 목록에 포함된 비밀번호는 사용할 수 없습니다.", "PASSWORD_BREACHED");
+    }
 }
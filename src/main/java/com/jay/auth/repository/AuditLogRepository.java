@@ -3,7 +3,6 @@ package com.jay.auth.repository;
 import com.jay.auth.domain.entity.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +17,18 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
     List<AuditLog> findByActionOrderByCreatedAtDesc(String action, Pageable pageable);
 
+    // 키셋 페이지네이션: cursor가 null이면 첫 페이지 (idx_audit_user 사용)
+    @Query("SELECT a FROM AuditLog a WHERE a.userId = :userId " +
+            "AND (:cursorCreatedAt IS NULL OR a.createdAt < :cursorCreatedAt " +
+            "OR (a.createdAt = :cursorCreatedAt AND a.id < :cursorId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLog> findPageByUserId(@Param("userId") Long userId,
+                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
+
+    long countByUserId(Long userId);
+
     @Query("SELECT a FROM AuditLog a WHERE a.userId = :userId AND a.createdAt >= :since AND a.createdAt < :until ORDER BY a.createdAt DESC")
     List<AuditLog> findByUserIdAndPeriod(@Param("userId") Long userId,
                                          @Param("since") LocalDateTime since,
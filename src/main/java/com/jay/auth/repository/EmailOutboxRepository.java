@@ -0,0 +1,53 @@
+package com.jay.auth.repository;
+
+import com.jay.auth.domain.entity.EmailOutbox;
+import com.jay.auth.domain.enums.EmailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * dedupKey가 같은 행이 있으면 건너뛰는 INSERT (호출한 트랜잭션 안에서 실행)
+     * - 다른 트랜잭션이 같은 키를 아직 커밋하지 않았으면 그 결과를 기다렸다가 건너뛰거나 기록하므로,
+     *   동시 중복이 커밋 시점 unique 위반으로 업무 트랜잭션을 롤백시키지 않는다
+     * @return 기록된 행 수 (중복이면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tb_email_outbox (message_type, priority, user_id, recipient_enc, payload_enc, " +
+            "dedup_key, status, attempts, next_attempt_at, created_at, updated_at) " +
+            "VALUES (:messageType, :priority, :userId, :recipientEnc, :payloadEnc, :dedupKey, :status, 0, " +
+            ":nextAttemptAt, :now, :now)", nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("messageType") String messageType, @Param("priority") int priority,
+                                @Param("userId") Long userId, @Param("recipientEnc") String recipientEnc,
+                                @Param("payloadEnc") String payloadEnc, @Param("dedupKey") String dedupKey,
+                                @Param("status") String status, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * 발송할 차례인 행을 우선순위 순으로 가져온다
+     * (다른 인스턴스가 잠근 행은 건너뛴다 - lock timeout -2 = SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM EmailOutbox o WHERE o.status = com.jay.auth.domain.enums.EmailOutboxStatus.PENDING " +
+            "AND o.nextAttemptAt <= :now ORDER BY o.priority ASC, o.id ASC")
+    List<EmailOutbox> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox o WHERE o.status = :status AND o.createdAt < :before")
+    int deleteByStatusAndCreatedAtBefore(@Param("status") EmailOutboxStatus status,
+                                         @Param("before") LocalDateTime before);
+
+    long countByStatus(EmailOutboxStatus status);
+}
@@ -20,6 +20,18 @@ public interface LoginHistoryRepository extends JpaRepository<LoginHistory, Long
     @Query("SELECT h FROM LoginHistory h WHERE h.userId = :userId ORDER BY h.createdAt DESC")
     List<LoginHistory> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // 키셋 페이지네이션: cursor가 null이면 첫 페이지 (idx_login_history_user 사용)
+    @Query("SELECT h FROM LoginHistory h WHERE h.userId = :userId " +
+            "AND (:cursorCreatedAt IS NULL OR h.createdAt < :cursorCreatedAt " +
+            "OR (h.createdAt = :cursorCreatedAt AND h.id < :cursorId)) " +
+            "ORDER BY h.createdAt DESC, h.id DESC")
+    List<LoginHistory> findPageByUserId(@Param("userId") Long userId,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    long countByUserId(Long userId);
+
     @Query("SELECT COUNT(h) FROM LoginHistory h WHERE h.userId = :userId AND h.isSuccess = false " +
             "AND h.createdAt > :since")
     long countFailedLoginsSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
@@ -50,6 +62,10 @@ public interface LoginHistoryRepository extends JpaRepository<LoginHistory, Long
     @Query("SELECT COUNT(DISTINCT h.userId) FROM LoginHistory h WHERE h.isSuccess = true AND h.createdAt >= :since")
     long countDistinctActiveUsersSince(@Param("since") LocalDateTime since);
 
+    @Query("SELECT DISTINCT h.userId FROM LoginHistory h WHERE h.isSuccess = true " +
+            "AND h.createdAt >= :since AND h.createdAt < :until")
+    List<Long> findDistinctActiveUserIds(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
     // 국가/도시별 로그인 집계 (heatmap)
     @Query("SELECT h.location, COUNT(h), SUM(CASE WHEN h.isSuccess = false THEN 1 ELSE 0 END) " +
             "FROM LoginHistory h WHERE h.createdAt >= :since AND h.location IS NOT NULL " +
@@ -9,6 +9,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface SupportPostRepository extends JpaRepository<SupportPost, Long> {
 
     long countByStatus(PostStatus status);
@@ -34,4 +37,47 @@ public interface SupportPostRepository extends JpaRepository<SupportPost, Long>
             @Param("category") PostCategory category,
             @Param("status") PostStatus status,
             Pageable pageable);
+
+    // 키셋 페이지네이션: cursor가 null이면 첫 페이지
+    @Query("SELECT p FROM SupportPost p WHERE " +
+            "(p.isPrivate = false OR p.userId = :userId) " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt " +
+            "OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<SupportPost> findPageForUser(
+            @Param("userId") Long userId,
+            @Param("category") PostCategory category,
+            @Param("status") PostStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("SELECT p FROM SupportPost p WHERE " +
+            "(:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt " +
+            "OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<SupportPost> findPageForAdmin(
+            @Param("category") PostCategory category,
+            @Param("status") PostStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM SupportPost p WHERE " +
+            "(p.isPrivate = false OR p.userId = :userId) " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.status = :status)")
+    long countForUser(@Param("userId") Long userId,
+                      @Param("category") PostCategory category,
+                      @Param("status") PostStatus status);
+
+    @Query("SELECT COUNT(p) FROM SupportPost p WHERE " +
+            "(:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.status = :status)")
+    long countForAdmin(@Param("category") PostCategory category,
+                       @Param("status") PostStatus status);
 }
@@ -0,0 +1,31 @@
+package com.jay.auth.repository;
+
+import com.jay.auth.domain.entity.UserBackupCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface UserBackupCodeRepository extends JpaRepository<UserBackupCode, Long> {
+
+    /**
+     * 미사용 백업 코드를 사용 처리 (조건부 단건 UPDATE로 동시 사용 시에도 한 번만 성공)
+     * @return 사용 처리된 행 수 (0 또는 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserBackupCode c SET c.used = true, c.usedAt = :usedAt " +
+            "WHERE c.user.id = :userId AND c.codeHash = :codeHash AND c.used = false")
+    int consume(@Param("userId") Long userId, @Param("codeHash") String codeHash,
+                @Param("usedAt") LocalDateTime usedAt);
+
+    long countByUserIdAndUsedFalse(Long userId);
+
+    /**
+     * 사용자의 모든 백업 코드 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserBackupCode c WHERE c.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
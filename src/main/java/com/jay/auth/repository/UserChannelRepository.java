@@ -2,7 +2,10 @@ package com.jay.auth.repository;
 
 import com.jay.auth.domain.entity.UserChannel;
 import com.jay.auth.domain.enums.ChannelCode;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -34,4 +37,19 @@ public interface UserChannelRepository extends JpaRepository<UserChannel, Long>
     long countByUserIdAndChannelCodeNot(Long userId, ChannelCode channelCode);
 
     boolean existsByChannelEmailLowerEncAndChannelCodeNot(String channelEmailLowerEnc, ChannelCode channelCode);
+
+    /**
+     * 키 교체 재암호화용 PK 순 청크 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM UserChannel c WHERE c.id > :afterId ORDER BY c.id ASC")
+    List<UserChannel> findChunkAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 활성 키가 아닌 암호문이 남은 행 수 (키 교체 재암호화 완료 확인용)
+     * @param keyPrefix 활성 키 암호문 접두사 ("{keyId}:", 기존 단일 키면 "")
+     */
+    @Query("SELECT COUNT(c) FROM UserChannel c WHERE " +
+           "(c.channelEmailEnc <> '' AND SUBSTRING(c.channelEmailEnc, 1, LOCATE(':', c.channelEmailEnc)) <> :keyPrefix)")
+    long countEncryptedWithOtherKey(@Param("keyPrefix") String keyPrefix);
 }
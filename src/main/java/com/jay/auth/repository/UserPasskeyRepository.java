@@ -2,9 +2,12 @@ package com.jay.auth.repository;
 
 import com.jay.auth.domain.entity.UserPasskey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,5 +26,15 @@ public interface UserPasskeyRepository extends JpaRepository<UserPasskey, Long>
 
     boolean existsByUserId(Long userId);
 
-    void deleteByUserId(Long userId);
+    /**
+     * 서명 카운터와 마지막 사용 시각을 더 큰 값일 때만 갱신 (write-behind 일괄 반영용)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserPasskey p SET " +
+            "p.signCount = CASE WHEN p.signCount < :signCount THEN :signCount ELSE p.signCount END, " +
+            "p.lastUsedAt = CASE WHEN p.lastUsedAt IS NULL OR p.lastUsedAt < :lastUsedAt THEN :lastUsedAt ELSE p.lastUsedAt END " +
+            "WHERE p.id = :id")
+    int updateUsage(@Param("id") Long id, @Param("signCount") long signCount,
+                    @Param("lastUsedAt") LocalDateTime lastUsedAt);
 }
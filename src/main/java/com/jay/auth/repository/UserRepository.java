@@ -2,7 +2,9 @@ package com.jay.auth.repository;
 
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.UserStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -64,8 +66,45 @@ public interface UserRepository extends JpaRepository<User, Long> {
             @Param("status") UserStatus status,
             org.springframework.data.domain.Pageable pageable);
 
+    // 키셋 페이지네이션: channels는 batch fetch로 로딩 (컬렉션 fetch join 시 메모리 페이징 방지)
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.signInInfo " +
+            "WHERE (:keyword IS NULL OR u.emailLowerEnc = :keyword OR u.nicknameEnc LIKE %:keyword% OR u.userUuid = :keyword) " +
+            "AND (:status IS NULL OR u.status = :status) " +
+            "AND (:cursorCreatedAt IS NULL OR u.createdAt < :cursorCreatedAt " +
+            "OR (u.createdAt = :cursorCreatedAt AND u.id < :cursorId)) " +
+            "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> searchUsersPage(
+            @Param("keyword") String keyword,
+            @Param("status") UserStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            org.springframework.data.domain.Pageable pageable);
+
+    @Query("SELECT COUNT(u) FROM User u " +
+            "WHERE (:keyword IS NULL OR u.emailLowerEnc = :keyword OR u.nicknameEnc LIKE %:keyword% OR u.userUuid = :keyword) " +
+            "AND (:status IS NULL OR u.status = :status)")
+    long countSearchUsers(@Param("keyword") String keyword, @Param("status") UserStatus status);
+
     @Query("SELECT FUNCTION('DATE', u.createdAt) AS signupDate, COUNT(u) " +
             "FROM User u WHERE u.createdAt >= :since " +
             "GROUP BY FUNCTION('DATE', u.createdAt) ORDER BY signupDate DESC")
     List<Object[]> countDailySignups(@Param("since") LocalDateTime since);
+
+    /**
+     * 키 교체 재암호화용 PK 순 청크 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id > :afterId ORDER BY u.id ASC")
+    List<User> findChunkAfter(@Param("afterId") Long afterId, org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * 활성 키가 아닌 암호문이 남은 행 수 (키 교체 재암호화 완료 확인용)
+     * @param keyPrefix 활성 키 암호문 접두사 ("{keyId}:", 기존 단일 키면 "")
+     */
+    @Query("SELECT COUNT(u) FROM User u WHERE " +
+           "(u.emailEnc <> '' AND SUBSTRING(u.emailEnc, 1, LOCATE(':', u.emailEnc)) <> :keyPrefix) OR " +
+           "(u.recoveryEmailEnc <> '' AND SUBSTRING(u.recoveryEmailEnc, 1, LOCATE(':', u.recoveryEmailEnc)) <> :keyPrefix) OR " +
+           "(u.phoneEnc <> '' AND SUBSTRING(u.phoneEnc, 1, LOCATE(':', u.phoneEnc)) <> :keyPrefix) OR " +
+           "(u.nicknameEnc <> '' AND SUBSTRING(u.nicknameEnc, 1, LOCATE(':', u.nicknameEnc)) <> :keyPrefix)")
+    long countEncryptedWithOtherKey(@Param("keyPrefix") String keyPrefix);
 }
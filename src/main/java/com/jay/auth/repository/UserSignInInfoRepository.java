@@ -1,7 +1,11 @@
 package com.jay.auth.repository;
 
 import com.jay.auth.domain.entity.UserSignInInfo;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -43,4 +47,44 @@ public interface UserSignInInfoRepository extends JpaRepository<UserSignInInfo,
 
     @Query("SELECT COUNT(s) FROM UserSignInInfo s WHERE s.lockedUntil IS NOT NULL AND s.lockedUntil > :now")
     long countLockedAccounts(@Param("now") LocalDateTime now);
+
+    /**
+     * 현재 잠금 중인 계정의 [userId, lockedUntil] 목록 (잠금 게이지 재구성용)
+     */
+    @Query("SELECT s.user.id, s.lockedUntil FROM UserSignInInfo s WHERE s.lockedUntil IS NOT NULL AND s.lockedUntil > :now")
+    List<Object[]> findLockedAccounts(@Param("now") LocalDateTime now);
+
+    /**
+     * 마지막 로그인 시각을 더 최근 값일 때만 갱신 (write-behind 일괄 반영용)
+     */
+    @Modifying
+    @Query("UPDATE UserSignInInfo s SET s.lastLoginAt = :lastLoginAt " +
+           "WHERE s.user.id = :userId AND (s.lastLoginAt IS NULL OR s.lastLoginAt < :lastLoginAt)")
+    int updateLastLoginAt(@Param("userId") Long userId, @Param("lastLoginAt") LocalDateTime lastLoginAt);
+
+    /**
+     * 로그인 실패 횟수/잠금 시각을 더 최근 상태일 때만 반영 (write-behind 일괄 반영용)
+     * 다른 인스턴스가 먼저 반영한 성공이나 잠금 해제를 오래된 실패 상태가 덮어써 다시 잠그지 않도록 한다
+     */
+    @Modifying
+    @Query("UPDATE UserSignInInfo s SET s.loginFailCount = :failCount, s.lockedUntil = :lockedUntil, " +
+           "s.failureStateAt = :stateAt " +
+           "WHERE s.user.id = :userId AND (s.failureStateAt IS NULL OR s.failureStateAt < :stateAt)")
+    int updateFailureState(@Param("userId") Long userId, @Param("failCount") int failCount,
+                           @Param("lockedUntil") LocalDateTime lockedUntil, @Param("stateAt") LocalDateTime stateAt);
+
+    /**
+     * 키 교체 재암호화용 PK 순 청크 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserSignInInfo s WHERE s.id > :afterId ORDER BY s.id ASC")
+    List<UserSignInInfo> findChunkAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 활성 키가 아닌 암호문이 남은 행 수 (키 교체 재암호화 완료 확인용)
+     * @param keyPrefix 활성 키 암호문 접두사 ("{keyId}:", 기존 단일 키면 "")
+     */
+    @Query("SELECT COUNT(s) FROM UserSignInInfo s WHERE " +
+           "(s.loginEmailEnc <> '' AND SUBSTRING(s.loginEmailEnc, 1, LOCATE(':', s.loginEmailEnc)) <> :keyPrefix)")
+    long countEncryptedWithOtherKey(@Param("keyPrefix") String keyPrefix);
 }
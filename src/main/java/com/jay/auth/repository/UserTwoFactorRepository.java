@@ -1,10 +1,17 @@
 package com.jay.auth.repository;
 
 import com.jay.auth.domain.entity.UserTwoFactor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserTwoFactorRepository extends JpaRepository<UserTwoFactor, Long> {
@@ -19,4 +26,43 @@ public interface UserTwoFactorRepository extends JpaRepository<UserTwoFactor, Lo
     void deleteByUserId(Long userId);
 
     long countByEnabled(boolean enabled);
+
+    /**
+     * 엔티티 조회 없이 마지막 사용 시각만 갱신
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserTwoFactor t SET t.lastUsedAt = :usedAt WHERE t.user.id = :userId")
+    int updateLastUsedAt(@Param("userId") Long userId, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * 남은 백업 코드 수를 DB에서 1 줄인다 (행 잠금 상태에서 감소하므로 동시 소비에도 누락 없음)
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserTwoFactor t SET t.backupCodesRemaining = t.backupCodesRemaining - 1 " +
+            "WHERE t.user.id = :userId AND t.backupCodesRemaining > 0")
+    int decrementBackupCodesRemaining(@Param("userId") Long userId);
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 남은 백업 코드 수를 읽는다
+     */
+    @Query("SELECT t.backupCodesRemaining FROM UserTwoFactor t WHERE t.user.id = :userId")
+    int findBackupCodesRemaining(@Param("userId") Long userId);
+
+    /**
+     * 키 교체 재암호화용 PK 순 청크 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM UserTwoFactor t WHERE t.id > :afterId ORDER BY t.id ASC")
+    List<UserTwoFactor> findChunkAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 활성 키가 아닌 암호문이 남은 행 수 (키 교체 재암호화 완료 확인용)
+     * @param keyPrefix 활성 키 암호문 접두사 ("{keyId}:", 기존 단일 키면 "")
+     */
+    @Query("SELECT COUNT(t) FROM UserTwoFactor t WHERE " +
+           "(t.secretEnc <> '' AND SUBSTRING(t.secretEnc, 1, LOCATE(':', t.secretEnc)) <> :keyPrefix) OR " +
+           "(t.backupCodesEnc <> '' AND SUBSTRING(t.backupCodesEnc, 1, LOCATE(':', t.backupCodesEnc)) <> :keyPrefix)")
+    long countEncryptedWithOtherKey(@Param("keyPrefix") String keyPrefix);
 }
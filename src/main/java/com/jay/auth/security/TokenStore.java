@@ -2,10 +2,19 @@ package com.jay.auth.security;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -14,6 +23,7 @@ import java.util.concurrent.TimeUnit;
  * Redis 기반 토큰 저장소
  * - Refresh Token 저장/조회/삭제
  * - Access Token 블랙리스트 관리
+ * - 활성 세션 인덱스 (score = 만료 시각) 유지: 세션 수를 키 스캔 없이 ZCOUNT로 집계한다
  */
 @Slf4j
 @Component
@@ -25,7 +35,11 @@ public class TokenStore {
     private static final String REFRESH_TOKEN_PREFIX = "refresh:";
     private static final String SESSION_PREFIX = "session:";
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    static final String SESSION_INDEX_KEY = "session-index";
+    private static final String SESSION_INDEX_REBUILD_KEY = "session-index:rebuild";
+    private static final int REBUILD_BATCH_SIZE = 500;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final String LAST_ACTIVITY_FIELD = "lastActivity";
 
     /**
      * Refresh Token 저장
@@ -34,6 +48,7 @@ public class TokenStore {
     public void saveRefreshToken(Long userId, String tokenId, String refreshToken, long expirationMs) {
         String key = buildRefreshTokenKey(userId, tokenId);
         redisTemplate.opsForValue().set(key, refreshToken, expirationMs, TimeUnit.MILLISECONDS);
+        indexSession(userId, tokenId, expirationMs);
         log.debug("Saved refresh token for user: {}, tokenId: {}", userId, tokenId);
     }
 
@@ -45,6 +60,7 @@ public class TokenStore {
         // Save refresh token
         String tokenKey = buildRefreshTokenKey(userId, tokenId);
         redisTemplate.opsForValue().set(tokenKey, refreshToken, expirationMs, TimeUnit.MILLISECONDS);
+        indexSession(userId, tokenId, expirationMs);
 
         // Save session info as Hash
         String sessionKey = buildSessionKey(userId, tokenId);
@@ -54,7 +70,7 @@ public class TokenStore {
         sessionData.put("os", sessionInfo.os() != null ? sessionInfo.os() : "UNKNOWN");
         sessionData.put("ipAddress", sessionInfo.ipAddress() != null ? sessionInfo.ipAddress() : "");
         sessionData.put("location", sessionInfo.location() != null ? sessionInfo.location() : "");
-        sessionData.put("lastActivity", LocalDateTime.now().format(DATE_FORMATTER));
+        sessionData.put(LAST_ACTIVITY_FIELD, String.valueOf(System.currentTimeMillis()));
 
         redisTemplate.opsForHash().putAll(sessionKey, sessionData);
         redisTemplate.expire(sessionKey, expirationMs, TimeUnit.MILLISECONDS);
@@ -84,6 +100,7 @@ public class TokenStore {
                     String tokenId = key.substring(key.lastIndexOf(":") + 1);
                     sessionData.put("sessionId", tokenId);
                     rawData.forEach((k, v) -> sessionData.put(k.toString(), v.toString()));
+                    sessionData.computeIfPresent(LAST_ACTIVITY_FIELD, (k, v) -> readLastActivity(v));
                     sessions.add(sessionData);
                 }
             }
@@ -91,8 +108,8 @@ public class TokenStore {
 
         // Sort by lastActivity descending
         sessions.sort((a, b) -> {
-            String timeA = a.get("lastActivity");
-            String timeB = b.get("lastActivity");
+            String timeA = a.get(LAST_ACTIVITY_FIELD);
+            String timeB = b.get(LAST_ACTIVITY_FIELD);
             if (timeA == null) return 1;
             if (timeB == null) return -1;
             return timeB.compareTo(timeA);
@@ -101,13 +118,26 @@ public class TokenStore {
         return sessions;
     }
 
+    /**
+     * 마지막 활동 시간 읽기
+     * - 저장은 epoch millis 문자열(13바이트)로 하고, 이전 형식(ISO 문자열)으로 남은 세션도 함께 읽는다
+     * - 반환 값은 형식과 무관하게 ISO 문자열로 맞춰 정렬과 응답 변환이 기존과 같게 동작한다
+     */
+    static String readLastActivity(String stored) {
+        if (stored.isEmpty() || !stored.chars().allMatch(Character::isDigit)) {
+            return stored;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(stored)), ZoneId.systemDefault())
+                .format(DATE_FORMATTER);
+    }
+
     /**
      * 세션 마지막 활동 시간 갱신
      */
     public void updateSessionActivity(Long userId, String tokenId) {
         String sessionKey = buildSessionKey(userId, tokenId);
         if (Boolean.TRUE.equals(redisTemplate.hasKey(sessionKey))) {
-            redisTemplate.opsForHash().put(sessionKey, "lastActivity", LocalDateTime.now().format(DATE_FORMATTER));
+            redisTemplate.opsForHash().put(sessionKey, LAST_ACTIVITY_FIELD, String.valueOf(System.currentTimeMillis()));
         }
     }
 
@@ -144,6 +174,7 @@ public class TokenStore {
     public void deleteRefreshToken(Long userId, String tokenId) {
         String key = buildRefreshTokenKey(userId, tokenId);
         redisTemplate.delete(key);
+        redisTemplate.opsForZSet().remove(SESSION_INDEX_KEY, buildSessionMember(userId, tokenId));
         log.debug("Deleted refresh token for user: {}, tokenId: {}", userId, tokenId);
     }
 
@@ -156,6 +187,10 @@ public class TokenStore {
         Set<String> tokenKeys = redisTemplate.keys(tokenPattern);
         if (tokenKeys != null && !tokenKeys.isEmpty()) {
             redisTemplate.delete(tokenKeys);
+            Object[] members = tokenKeys.stream()
+                    .map(key -> key.substring(REFRESH_TOKEN_PREFIX.length()))
+                    .toArray();
+            redisTemplate.opsForZSet().remove(SESSION_INDEX_KEY, members);
             log.debug("Deleted all refresh tokens for user: {}, count: {}", userId, tokenKeys.size());
         }
 
@@ -189,6 +224,89 @@ public class TokenStore {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
+    /**
+     * 만료되지 않은 활성 세션 수
+     * - 만료된 멤버는 score로 걸러지므로 TTL 만료 이벤트 없이도 정확하다
+     */
+    public long countActiveSessions() {
+        Long count = redisTemplate.opsForZSet()
+                .count(SESSION_INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * refresh:* 키를 SCAN해 세션 인덱스를 다시 만든다 (드리프트 보정용, 저빈도 리더 작업에서만 호출)
+     * - 임시 키에 채운 뒤 RENAME으로 교체하므로 재구성 중에도 기존 인덱스로 집계된다
+     * - 만료된 멤버도 이 과정에서 함께 정리된다
+     * @return 재구성된 활성 세션 수
+     */
+    public long rebuildSessionIndex() {
+        redisTemplate.delete(SESSION_INDEX_REBUILD_KEY);
+        long now = System.currentTimeMillis();
+        long total = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(REFRESH_TOKEN_PREFIX + "*")
+                .count(REBUILD_BATCH_SIZE)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == REBUILD_BATCH_SIZE) {
+                    total += indexBatch(batch, now);
+                    batch.clear();
+                }
+            }
+            total += indexBatch(batch, now);
+        }
+
+        if (total > 0) {
+            redisTemplate.rename(SESSION_INDEX_REBUILD_KEY, SESSION_INDEX_KEY);
+        } else {
+            redisTemplate.delete(SESSION_INDEX_KEY);
+        }
+        return total;
+    }
+
+    private long indexBatch(List<String> keys, long now) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                pttl(connection, key);
+            }
+            return null;
+        });
+
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+                String member = keys.get(i).substring(REFRESH_TOKEN_PREFIX.length());
+                tuples.add(new DefaultTypedTuple<Object>(member, (double) (now + ttl)));
+            }
+        }
+        if (tuples.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.opsForZSet().add(SESSION_INDEX_REBUILD_KEY, tuples);
+        return tuples.size();
+    }
+
+    private void pttl(RedisConnection connection, String key) {
+        connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void indexSession(Long userId, String tokenId, long expirationMs) {
+        redisTemplate.opsForZSet().add(SESSION_INDEX_KEY, buildSessionMember(userId, tokenId),
+                System.currentTimeMillis() + expirationMs);
+    }
+
+    private String buildSessionMember(Long userId, String tokenId) {
+        return userId + ":" + tokenId;
+    }
+
     private String buildRefreshTokenKey(Long userId, String tokenId) {
         return REFRESH_TOKEN_PREFIX + userId + ":" + tokenId;
     }
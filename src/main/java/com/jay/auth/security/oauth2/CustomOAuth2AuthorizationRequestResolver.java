@@ -1,5 +1,8 @@
 package com.jay.auth.security.oauth2;
 
+import com.jay.auth.controller.OAuth2LinkController;
+import com.jay.auth.service.OAuth2LinkStateService;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -7,19 +10,24 @@ import org.springframework.security.oauth2.client.web.DefaultOAuth2Authorization
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestResolver;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 
+import java.util.Arrays;
+
 /**
- * Custom OAuth2 authorization request resolver that preserves link_state parameter
- * for account linking functionality.
+ * Custom OAuth2 authorization request resolver that carries the account linking target
+ * inside the authorization request, so the callback can be handled on any node.
  */
 @Slf4j
 public class CustomOAuth2AuthorizationRequestResolver implements OAuth2AuthorizationRequestResolver {
 
     private final DefaultOAuth2AuthorizationRequestResolver defaultResolver;
+    private final OAuth2LinkStateService oAuth2LinkStateService;
 
     public CustomOAuth2AuthorizationRequestResolver(ClientRegistrationRepository clientRegistrationRepository,
-                                                     String authorizationRequestBaseUri) {
+                                                     String authorizationRequestBaseUri,
+                                                     OAuth2LinkStateService oAuth2LinkStateService) {
         this.defaultResolver = new DefaultOAuth2AuthorizationRequestResolver(
                 clientRegistrationRepository, authorizationRequestBaseUri);
+        this.oAuth2LinkStateService = oAuth2LinkStateService;
     }
 
     @Override
@@ -41,17 +49,38 @@ public class CustomOAuth2AuthorizationRequestResolver implements OAuth2Authoriza
         }
 
         String linkState = request.getParameter("link_state");
+        if (linkState == null || linkState.isEmpty()) {
+            return authorizationRequest;
+        }
 
-        if (linkState != null && !linkState.isEmpty()) {
-            // If link_state is provided, use it as the OAuth2 state parameter
-            // This allows us to track link mode through the OAuth2 flow
-            log.debug("Customizing OAuth2 request with link_state: {}", linkState);
+        // link_state must come from the same browser that called prepareLink (cookie set there)
+        if (!linkState.equals(getLinkStateFromCookie(request))) {
+            log.warn("Ignoring link_state without matching cookie");
+            return authorizationRequest;
+        }
 
-            return OAuth2AuthorizationRequest.from(authorizationRequest)
-                    .state(linkState)
-                    .build();
+        Long linkUserId = oAuth2LinkStateService.consumeLinkUserId(linkState);
+        if (linkUserId == null) {
+            log.warn("Ignoring expired or already used link_state");
+            return authorizationRequest;
         }
 
-        return authorizationRequest;
+        log.debug("Customizing OAuth2 request for account linking: userId={}", linkUserId);
+        return OAuth2AuthorizationRequest.from(authorizationRequest)
+                .attributes(attributes -> attributes.put(
+                        RedisOAuth2AuthorizationRequestRepository.LINK_USER_ID_ATTRIBUTE, linkUserId.toString()))
+                .build();
+    }
+
+    private String getLinkStateFromCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        return Arrays.stream(cookies)
+                .filter(c -> OAuth2LinkController.LINK_STATE_COOKIE_NAME.equals(c.getName()))
+                .map(Cookie::getValue)
+                .findFirst()
+                .orElse(null);
     }
 }
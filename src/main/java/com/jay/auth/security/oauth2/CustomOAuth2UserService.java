@@ -1,14 +1,11 @@
 package com.jay.auth.security.oauth2;
 
-import com.jay.auth.controller.OAuth2LinkController;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.ChannelCode;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.exception.AccountLinkingException;
-import com.jay.auth.service.OAuth2LinkStateService;
 import com.jay.auth.service.OAuth2UserService;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -20,15 +17,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Arrays;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final OAuth2UserService oAuth2UserService;
-    private final OAuth2LinkStateService oAuth2LinkStateService;
+    private final RedisOAuth2AuthorizationRequestRepository authorizationRequestRepository;
+    private final OAuth2ProviderHttpClient providerHttpClient;
+
+    /**
+     * UserInfo 조회를 제공자별 커넥션 풀/타임아웃/지연 시간 메트릭이 적용된 클라이언트로 보낸다
+     */
+    @PostConstruct
+    void configureRestOperations() {
+        setRestOperations(providerHttpClient.userInfoRestOperations());
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -45,13 +49,12 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         ChannelCode channelCode = OAuth2UserInfoFactory.getChannelCode(registrationId);
 
-        // Check if this is a link mode request by reading the cookie
-        String linkState = getLinkStateFromCookie();
-        Long linkUserId = linkState != null ? oAuth2LinkStateService.getLinkUserId(linkState) : null;
+        // Link mode target travels inside the authorization request removed for this callback
+        Long linkUserId = getLinkUserId();
         boolean isLinkMode = linkUserId != null;
 
-        log.info("OAuth2 loadUser: linkState={}, linkUserId={}, isLinkMode={}, channelCode={}",
-                linkState, linkUserId, isLinkMode, channelCode);
+        log.info("OAuth2 loadUser: linkUserId={}, isLinkMode={}, channelCode={}",
+                linkUserId, isLinkMode, channelCode);
 
         User user;
         try {
@@ -92,25 +95,11 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         );
     }
 
-    private String getLinkStateFromCookie() {
-        try {
-            ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attrs == null) {
-                return null;
-            }
-            HttpServletRequest request = attrs.getRequest();
-            Cookie[] cookies = request.getCookies();
-            if (cookies == null) {
-                return null;
-            }
-            return Arrays.stream(cookies)
-                    .filter(c -> OAuth2LinkController.LINK_STATE_COOKIE_NAME.equals(c.getName()))
-                    .map(Cookie::getValue)
-                    .findFirst()
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("Failed to get link state from cookie", e);
+    private Long getLinkUserId() {
+        ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attrs == null) {
             return null;
         }
+        return authorizationRequestRepository.getLinkUserId(attrs.getRequest());
     }
 }
@@ -1,18 +1,16 @@
 package com.jay.auth.security.oauth2;
 
-import com.jay.auth.controller.OAuth2LinkController;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.ChannelCode;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.exception.AccountLinkingException;
-import com.jay.auth.service.OAuth2LinkStateService;
 import com.jay.auth.service.OAuth2UserService;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
@@ -20,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,7 +27,18 @@ import java.util.Map;
 public class CustomOidcUserService extends OidcUserService {
 
     private final OAuth2UserService oAuth2UserService;
-    private final OAuth2LinkStateService oAuth2LinkStateService;
+    private final RedisOAuth2AuthorizationRequestRepository authorizationRequestRepository;
+    private final OAuth2ProviderHttpClient providerHttpClient;
+
+    /**
+     * UserInfo 조회를 제공자별 커넥션 풀/타임아웃/지연 시간 메트릭이 적용된 클라이언트로 보낸다
+     */
+    @PostConstruct
+    void configureRestOperations() {
+        DefaultOAuth2UserService userInfoService = new DefaultOAuth2UserService();
+        userInfoService.setRestOperations(providerHttpClient.userInfoRestOperations());
+        setOauth2UserService(userInfoService);
+    }
 
     @Override
     public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
@@ -51,13 +59,12 @@ public class CustomOidcUserService extends OidcUserService {
         OAuth2UserInfo oAuth2UserInfo = OAuth2UserInfoFactory.getOAuth2UserInfo(registrationId, attributes);
         ChannelCode channelCode = OAuth2UserInfoFactory.getChannelCode(registrationId);
 
-        // Check if this is a link mode request by reading the cookie
-        String linkState = getLinkStateFromCookie();
-        Long linkUserId = linkState != null ? oAuth2LinkStateService.getLinkUserId(linkState) : null;
+        // Link mode target travels inside the authorization request removed for this callback
+        Long linkUserId = getLinkUserId();
         boolean isLinkMode = linkUserId != null;
 
-        log.info("OIDC loadUser: linkState={}, linkUserId={}, isLinkMode={}, channelCode={}",
-                linkState, linkUserId, isLinkMode, channelCode);
+        log.info("OIDC loadUser: linkUserId={}, isLinkMode={}, channelCode={}",
+                linkUserId, isLinkMode, channelCode);
 
         User user;
         try {
@@ -100,30 +107,11 @@ public class CustomOidcUserService extends OidcUserService {
         );
     }
 
-    private String getLinkStateFromCookie() {
-        try {
-            ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attrs == null) {
-                log.warn("OIDC getLinkStateFromCookie: RequestAttributes is null");
-                return null;
-            }
-            HttpServletRequest request = attrs.getRequest();
-            Cookie[] cookies = request.getCookies();
-            if (cookies == null) {
-                log.info("OIDC getLinkStateFromCookie: No cookies in request");
-                return null;
-            }
-            log.info("OIDC getLinkStateFromCookie: Found {} cookies: {}",
-                    cookies.length,
-                    Arrays.stream(cookies).map(Cookie::getName).toList());
-            return Arrays.stream(cookies)
-                    .filter(c -> OAuth2LinkController.LINK_STATE_COOKIE_NAME.equals(c.getName()))
-                    .map(Cookie::getValue)
-                    .findFirst()
-                    .orElse(null);
-        } catch (Exception e) {
-            log.warn("Failed to get link state from cookie", e);
+    private Long getLinkUserId() {
+        ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attrs == null) {
             return null;
         }
+        return authorizationRequestRepository.getLinkUserId(attrs.getRequest());
     }
 }
@@ -4,7 +4,6 @@ import com.jay.auth.controller.OAuth2LinkController;
 import com.jay.auth.domain.enums.ChannelCode;
 import com.jay.auth.dto.response.TokenResponse;
 import com.jay.auth.service.LoginHistoryService;
-import com.jay.auth.service.OAuth2LinkStateService;
 import com.jay.auth.service.SecurityNotificationService;
 import com.jay.auth.service.TokenService;
 import com.jay.auth.service.metrics.AuthMetrics;
@@ -29,7 +28,6 @@ import java.nio.charset.StandardCharsets;
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final TokenService tokenService;
-    private final OAuth2LinkStateService oAuth2LinkStateService;
     private final LoginHistoryService loginHistoryService;
     private final SecurityNotificationService securityNotificationService;
     private final AuthMetrics authMetrics;
@@ -86,10 +84,6 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
             resolvedChannel = channelCode;
 
-            // Clean up link state if exists
-            String state = request.getParameter("state");
-            oAuth2LinkStateService.removeLinkState(state);
-
             // Clear link state cookie
             clearLinkStateCookie(response);
 
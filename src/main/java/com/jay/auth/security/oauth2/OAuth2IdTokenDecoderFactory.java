@@ -0,0 +1,168 @@
+package com.jay.auth.security.oauth2;
+
+import com.jay.auth.config.AppProperties;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenDecoderFactory;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenValidator;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.converter.ClaimTypeConverter;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoderFactory;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+
+import java.net.URI;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * OIDC id_token 검증용 JwtDecoder 팩토리 (기본 OidcIdTokenDecoderFactory 대체)
+ * - 제공자 JWK Set을 메모리에 두고 주기적으로 백그라운드 갱신해 로그인 요청이 JWKS 조회를 기다리지 않게 한다
+ * - 모르는 kid가 오면(키 교체) 최소 간격을 지켜 한 번 더 받아오고, 갱신 실패 시에는 기존 키로 계속 검증한다
+ * - 검증 규칙(RS256 서명, 만료 시각, OidcIdTokenValidator, 클레임 타입 변환)은 기본 팩토리와 같다
+ */
+@Slf4j
+@Component
+public class OAuth2IdTokenDecoderFactory implements JwtDecoderFactory<ClientRegistration> {
+
+    private final RestOperations restOperations;
+    private final long minRefetchIntervalMillis;
+    private final LongSupplier clock;
+    private final Map<String, CachedJwkSet> jwkSets = new ConcurrentHashMap<>();
+    private final Map<String, JwtDecoder> decoders = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OAuth2IdTokenDecoderFactory(OAuth2ProviderHttpClient providerHttpClient, AppProperties appProperties) {
+        this(providerHttpClient.jwkSetRestOperations(),
+                appProperties.getOauth2().getJwkSetMinRefetchIntervalMillis(),
+                System::currentTimeMillis);
+    }
+
+    OAuth2IdTokenDecoderFactory(RestOperations restOperations, long minRefetchIntervalMillis, LongSupplier clock) {
+        this.restOperations = restOperations;
+        this.minRefetchIntervalMillis = minRefetchIntervalMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public JwtDecoder createDecoder(ClientRegistration clientRegistration) {
+        return decoders.computeIfAbsent(clientRegistration.getRegistrationId(), id -> buildDecoder(clientRegistration));
+    }
+
+    /**
+     * 디코더가 만들어진 제공자의 JWK Set을 모두 다시 받아온다 (실패한 제공자는 기존 키 유지)
+     */
+    @Scheduled(initialDelayString = "${app.oauth2.jwk-set-refresh-interval-millis:3600000}",
+            fixedDelayString = "${app.oauth2.jwk-set-refresh-interval-millis:3600000}")
+    public void refreshAll() {
+        jwkSets.values().forEach(jwkSet -> {
+            try {
+                jwkSet.refresh();
+            } catch (KeySourceException e) {
+                log.warn("Failed to refresh JWK set, keeping cached keys: uri={}", jwkSet.jwkSetUri, e);
+            }
+        });
+    }
+
+    private JwtDecoder buildDecoder(ClientRegistration clientRegistration) {
+        String jwkSetUri = clientRegistration.getProviderDetails().getJwkSetUri();
+        if (!StringUtils.hasText(jwkSetUri)) {
+            OAuth2Error error = new OAuth2Error("missing_signature_verifier",
+                    "Failed to find a Signature Verifier for Client Registration: '"
+                            + clientRegistration.getRegistrationId()
+                            + "'. Check to ensure you have configured the JwkSet URI.",
+                    null);
+            throw new OAuth2AuthenticationException(error, error.toString());
+        }
+
+        // 같은 JWKS를 쓰는 등록끼리는 캐시를 공유
+        CachedJwkSet jwkSet = jwkSets.computeIfAbsent(jwkSetUri, CachedJwkSet::new);
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSet));
+        // 클레임 검증은 아래 Spring 검증기에서 수행
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                new JwtTimestampValidator(), new OidcIdTokenValidator(clientRegistration)));
+        decoder.setClaimSetConverter(new ClaimTypeConverter(OidcIdTokenDecoderFactory.createDefaultClaimTypeConverters()));
+        return decoder;
+    }
+
+    /**
+     * 제공자 하나의 JWK Set 캐시
+     */
+    private final class CachedJwkSet implements JWKSource<SecurityContext> {
+
+        private final String jwkSetUri;
+        private volatile JWKSet jwkSet;
+        // 실패한 조회도 포함 (갱신 실패 중에 kid 미일치가 반복돼도 최소 간격을 지킴)
+        private volatile long lastFetchAttemptAt;
+
+        private CachedJwkSet(String jwkSetUri) {
+            this.jwkSetUri = jwkSetUri;
+        }
+
+        @Override
+        public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+            JWKSet current = jwkSet;
+            if (current == null) {
+                return jwkSelector.select(refreshIfUnchanged(null));
+            }
+            List<JWK> keys = jwkSelector.select(current);
+            if (keys.isEmpty() && clock.getAsLong() - lastFetchAttemptAt >= minRefetchIntervalMillis) {
+                log.info("No matching JWK in cached set, refetching: uri={}", jwkSetUri);
+                keys = jwkSelector.select(refreshIfUnchanged(current));
+            }
+            return keys;
+        }
+
+        /**
+         * 동시에 여러 요청이 키를 못 찾아도 한 번만 조회한다
+         */
+        private synchronized JWKSet refreshIfUnchanged(JWKSet seen) throws KeySourceException {
+            if (jwkSet != seen) {
+                return jwkSet;
+            }
+            return refresh();
+        }
+
+        private synchronized JWKSet refresh() throws KeySourceException {
+            lastFetchAttemptAt = clock.getAsLong();
+            try {
+                String body = restOperations.getForObject(URI.create(jwkSetUri), String.class);
+                if (body == null) {
+                    throw new KeySourceException("Empty JWK set response: " + jwkSetUri);
+                }
+                JWKSet fetched = JWKSet.parse(body);
+                jwkSet = fetched;
+                log.debug("JWK set fetched: uri={}, keys={}", jwkSetUri, fetched.getKeys().size());
+                return fetched;
+            } catch (RestClientException | ParseException e) {
+                throw new KeySourceException("Failed to fetch JWK set: " + jwkSetUri, e);
+            }
+        }
+    }
+}
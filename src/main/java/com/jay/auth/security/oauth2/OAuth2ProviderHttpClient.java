@@ -0,0 +1,179 @@
+package com.jay.auth.security.oauth2;
+
+import com.jay.auth.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth2/OIDC 제공자 호출용 HTTP 클라이언트 (토큰 교환, UserInfo, JWK Set)
+ * - 제공자마다 JDK HttpClient를 하나씩 두고 계속 재사용해 keep-alive 연결을 유지한다 (HTTPS는 HTTP/2 다중화)
+ * - 요청 호스트로 제공자를 찾아 제공자별 연결/읽기 타임아웃을 적용한다 (등록되지 않은 호스트는 기본값)
+ * - 모든 호출 지연 시간을 oauth2_provider_request_seconds 히스토그램으로 기록한다 (응답 헤더 수신까지)
+ */
+@Slf4j
+@Component
+public class OAuth2ProviderHttpClient {
+
+    static final String METRIC_NAME = "oauth2_provider_request_seconds";
+    static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry registry;
+    private final Map<String, String> providerByHost = new HashMap<>();
+    private final Map<String, String> endpointByUri = new HashMap<>();
+    private final Map<String, ClientHttpRequestFactory> requestFactories = new HashMap<>();
+    private final ClientHttpRequestFactory defaultRequestFactory;
+
+    @Autowired
+    public OAuth2ProviderHttpClient(ClientRegistrationRepository clientRegistrationRepository,
+                                    AppProperties appProperties,
+                                    MeterRegistry registry) {
+        this(registrations(clientRegistrationRepository), appProperties.getOauth2(), registry);
+    }
+
+    OAuth2ProviderHttpClient(List<ClientRegistration> registrations,
+                             AppProperties.OAuth2 settings,
+                             MeterRegistry registry) {
+        this.registry = registry;
+        for (ClientRegistration registration : registrations) {
+            String registrationId = registration.getRegistrationId();
+            ClientRegistration.ProviderDetails details = registration.getProviderDetails();
+            registerEndpoint(registrationId, details.getTokenUri(), "token");
+            registerEndpoint(registrationId, details.getUserInfoEndpoint().getUri(), "userinfo");
+            registerEndpoint(registrationId, details.getJwkSetUri(), "jwks");
+            requestFactories.put(registrationId, createRequestFactory(settings.timeoutsFor(registrationId)));
+        }
+        this.defaultRequestFactory = createRequestFactory(settings.getDefaultTimeouts());
+        log.info("OAuth2 provider HTTP clients initialized: providers={}", requestFactories.keySet());
+    }
+
+    /**
+     * 인가 코드 → 토큰 교환 클라이언트 (Spring Security 기본 클라이언트와 같은 변환기/에러 처리)
+     */
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> authorizationCodeTokenResponseClient() {
+        RestClient restClient = RestClient.builder()
+                .requestFactory(this::createRequest)
+                .requestInterceptor(this::intercept)
+                .messageConverters(converters -> {
+                    converters.clear();
+                    converters.add(new FormHttpMessageConverter());
+                    converters.add(new OAuth2AccessTokenResponseHttpMessageConverter());
+                })
+                .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+        RestClientAuthorizationCodeTokenResponseClient client = new RestClientAuthorizationCodeTokenResponseClient();
+        client.setRestClient(restClient);
+        return client;
+    }
+
+    /**
+     * UserInfo 조회용 RestTemplate (DefaultOAuth2UserService 기본값과 같은 에러 처리)
+     */
+    public RestTemplate userInfoRestOperations() {
+        RestTemplate restTemplate = jwkSetRestOperations();
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        return restTemplate;
+    }
+
+    /**
+     * JWK Set 조회용 RestTemplate
+     */
+    public RestTemplate jwkSetRestOperations() {
+        RestTemplate restTemplate = new RestTemplate(this::createRequest);
+        restTemplate.getInterceptors().add(this::intercept);
+        return restTemplate;
+    }
+
+    private ClientHttpRequest createRequest(URI uri, HttpMethod method) throws IOException {
+        String provider = providerByHost.get(hostKey(uri));
+        ClientHttpRequestFactory factory = provider != null ? requestFactories.get(provider) : defaultRequestFactory;
+        return factory.createRequest(uri, method);
+    }
+
+    private ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                         ClientHttpRequestExecution execution) throws IOException {
+        URI uri = request.getURI();
+        long startedAt = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .description("OAuth2/OIDC 제공자 호출 소요 시간")
+                    .tag("provider", providerByHost.getOrDefault(hostKey(uri), UNKNOWN))
+                    .tag("endpoint", endpointByUri.getOrDefault(endpointKey(uri), UNKNOWN))
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void registerEndpoint(String registrationId, String uri, String endpoint) {
+        if (!StringUtils.hasText(uri)) {
+            return;
+        }
+        URI parsed = URI.create(uri);
+        // 같은 호스트를 쓰는 등록이 여러 개면 먼저 등록된 제공자의 타임아웃을 따른다
+        providerByHost.putIfAbsent(hostKey(parsed), registrationId);
+        endpointByUri.putIfAbsent(endpointKey(parsed), endpoint);
+    }
+
+    private static ClientHttpRequestFactory createRequestFactory(AppProperties.OAuth2.Timeouts timeouts) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeouts.getConnectTimeoutMillis()))
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(timeouts.getReadTimeoutMillis()));
+        return factory;
+    }
+
+    private static String hostKey(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    private static String endpointKey(URI uri) {
+        return hostKey(uri) + uri.getRawPath();
+    }
+
+    private static List<ClientRegistration> registrations(ClientRegistrationRepository repository) {
+        List<ClientRegistration> registrations = new ArrayList<>();
+        // 기본 구현(InMemoryClientRegistrationRepository)만 전체 목록을 제공한다
+        if (repository instanceof Iterable<?> iterable) {
+            iterable.forEach(registration -> registrations.add((ClientRegistration) registration));
+        }
+        return registrations;
+    }
+}
@@ -0,0 +1,174 @@
+package com.jay.auth.security.oauth2;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
+import org.springframework.security.oauth2.client.jackson2.OAuth2ClientJackson2Module;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * OAuth2 인가 요청 저장소 (Redis, HTTP 세션 미사용)
+ * - 인가 요청을 state 키로 Redis에 짧게 보관해 콜백이 어느 인스턴스로 들어와도 처리된다 (sticky session 불필요)
+ * - 인가를 시작한 브라우저에 state 쿠키를 심고 콜백의 state와 대조한다 (세션 저장소의 브라우저 바인딩 대체)
+ * - 콜백에서 꺼낼 때 삭제해 같은 state로 두 번 로그인할 수 없다
+ * - 계정 연동 요청이면 연동 대상 사용자 ID가 인가 요청 속성으로 함께 저장된다 ({@link #getLinkUserId})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisOAuth2AuthorizationRequestRepository
+        implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    public static final String STATE_COOKIE_NAME = "oauth2_auth_state";
+    public static final String LINK_USER_ID_ATTRIBUTE = "link_user_id";
+
+    private static final String KEY_PREFIX = "oauth2:authz:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String COOKIE_PATH = "/login/oauth2";
+    private static final String REMOVED_REQUEST_ATTRIBUTE =
+            RedisOAuth2AuthorizationRequestRepository.class.getName() + ".REMOVED_AUTHORIZATION_REQUEST";
+
+    private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.cookie.secure:false}")
+    private boolean secureCookie;
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = boundState(request);
+        if (state == null) {
+            return null;
+        }
+        return deserialize(stringRedisTemplate.opsForValue().get(KEY_PREFIX + state));
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            removeAuthorizationRequest(request, response);
+            return;
+        }
+        String state = authorizationRequest.getState();
+        Assert.hasText(state, "authorizationRequest.state cannot be empty");
+
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + state, serialize(authorizationRequest), TTL);
+        addStateCookie(response, state, (int) TTL.toSeconds());
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        String state = boundState(request);
+        if (state == null) {
+            return null;
+        }
+        OAuth2AuthorizationRequest authorizationRequest =
+                deserialize(stringRedisTemplate.opsForValue().getAndDelete(KEY_PREFIX + state));
+        addStateCookie(response, "", 0);
+        if (authorizationRequest != null) {
+            // 같은 요청 안에서 사용자 조회(CustomOAuth2UserService 등)가 연동 정보를 읽을 수 있도록 보관
+            request.setAttribute(REMOVED_REQUEST_ATTRIBUTE, authorizationRequest);
+        }
+        return authorizationRequest;
+    }
+
+    /**
+     * 현재 콜백 요청이 계정 연동으로 시작됐으면 연동 대상 사용자 ID
+     * @return 일반 로그인이거나 인가 요청을 꺼내기 전이면 null
+     */
+    public Long getLinkUserId(HttpServletRequest request) {
+        if (!(request.getAttribute(REMOVED_REQUEST_ATTRIBUTE) instanceof OAuth2AuthorizationRequest authorizationRequest)) {
+            return null;
+        }
+        Object linkUserId = authorizationRequest.getAttributes().get(LINK_USER_ID_ATTRIBUTE);
+        return linkUserId != null ? Long.valueOf(linkUserId.toString()) : null;
+    }
+
+    /**
+     * 콜백의 state가 이 브라우저가 시작한 인가 요청의 state인지 확인
+     */
+    private String boundState(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (state == null) {
+            return null;
+        }
+        String cookieState = getCookieValue(request);
+        if (cookieState == null || !MessageDigest.isEqual(
+                cookieState.getBytes(StandardCharsets.UTF_8), state.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("OAuth2 callback state does not match the state cookie");
+            return null;
+        }
+        return state;
+    }
+
+    private String getCookieValue(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        return Arrays.stream(cookies)
+                .filter(c -> STATE_COOKIE_NAME.equals(c.getName()))
+                .map(Cookie::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void addStateCookie(HttpServletResponse response, String value, int maxAge) {
+        Cookie cookie = new Cookie(STATE_COOKIE_NAME, value);
+        cookie.setPath(COOKIE_PATH);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(secureCookie);
+        cookie.setMaxAge(maxAge);
+        // 제공자에서 돌아오는 최상위 GET 리다이렉트에는 전송되어야 함
+        cookie.setAttribute("SameSite", "Lax");
+        response.addCookie(cookie);
+    }
+
+    private static String serialize(OAuth2AuthorizationRequest authorizationRequest) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(authorizationRequest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize OAuth2 authorization request", e);
+        }
+    }
+
+    private static OAuth2AuthorizationRequest deserialize(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, OAuth2AuthorizationRequest.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to deserialize OAuth2 authorization request", e);
+            return null;
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        // Spring Security 허용 목록 기반 타입 정보 (임의 클래스 역직렬화 차단)
+        objectMapper.registerModules(SecurityJackson2Modules.getModules(
+                RedisOAuth2AuthorizationRequestRepository.class.getClassLoader()));
+        objectMapper.registerModule(new OAuth2ClientJackson2Module());
+        return objectMapper;
+    }
+}
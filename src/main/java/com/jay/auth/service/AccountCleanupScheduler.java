@@ -1,9 +1,12 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserSignInInfo;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.repository.*;
+import com.jay.auth.service.posture.SecurityPostureStore;
+import com.jay.auth.service.risk.LoginRiskStateStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,10 +31,14 @@ public class AccountCleanupScheduler {
 
     private final UserRepository userRepository;
     private final UserTwoFactorRepository userTwoFactorRepository;
+    private final UserBackupCodeRepository userBackupCodeRepository;
     private final PasswordHistoryRepository passwordHistoryRepository;
     private final LoginHistoryRepository loginHistoryRepository;
     private final UserSignInInfoRepository userSignInInfoRepository;
     private final SecurityNotificationService securityNotificationService;
+    private final LoginRiskStateStore loginRiskStateStore;
+    private final SecurityPostureStore securityPostureStore;
+    private final UserCacheGenerations userCacheGenerations;
 
     @Value("${app.security.password.expiration-days:90}")
     private int passwordExpirationDays;
@@ -77,8 +84,11 @@ public class AccountCleanupScheduler {
 
         // 연관 데이터 삭제 (cascade로 처리되지 않는 항목들)
         userTwoFactorRepository.deleteByUserId(userId);
+        userBackupCodeRepository.deleteByUserId(userId);
         passwordHistoryRepository.deleteByUserId(userId);
         loginHistoryRepository.deleteByUserId(userId);
+        loginRiskStateStore.delete(userId);
+        securityPostureStore.delete(userId);
 
         // User 삭제 (channels, signInInfo는 cascade로 자동 삭제)
         user.updateStatus(UserStatus.DELETED);
@@ -92,6 +102,7 @@ public class AccountCleanupScheduler {
         user.updateRecoveryEmail(null, null);
         user.updatePhone(null);
         user.updateNickname(null, null);
+        userCacheGenerations.bump(userId);
     }
 
     private int processDormantAccounts() {
@@ -101,6 +112,7 @@ public class AccountCleanupScheduler {
         for (User user : dormantCandidates) {
             try {
                 user.updateStatus(UserStatus.DORMANT);
+                userCacheGenerations.bump(user.getId());
                 log.info("Converted to dormant: {}", user.getUserUuid());
             } catch (Exception e) {
                 log.error("Failed to convert user {} to dormant: {}", user.getUserUuid(), e.getMessage());
@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserChannel;
 import com.jay.auth.domain.entity.UserSignInInfo;
@@ -10,14 +11,12 @@ import com.jay.auth.exception.UserNotFoundException;
 import com.jay.auth.repository.UserChannelRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import com.jay.auth.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
@@ -37,7 +36,8 @@ public class AccountLinkingService {
     private final EncryptionService encryptionService;
     private final PasswordUtil passwordUtil;
     private final SecurityNotificationService securityNotificationService;
-    private final CacheManager cacheManager;
+    private final UserCacheGenerations userCacheGenerations;
+    private final SecurityPostureStore securityPostureStore;
 
     /**
      * Get all channels status for a user
@@ -117,21 +117,15 @@ public class AccountLinkingService {
                 .build();
 
         userChannelRepository.save(newChannel);
+        if (channelCode != ChannelCode.EMAIL) {
+            securityPostureStore.adjustSocialLinkCount(userId, 1);
+        }
 
         // 연동 알림 발송
         securityNotificationService.notifyAccountLinked(userId, channelCode);
 
-        // 트랜잭션 커밋 후 캐시 제거 (커밋 전 evict 시 구버전 데이터로 재캐싱되는 문제 방지)
-        if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    evictCaches(userId);
-                }
-            });
-        } else {
-            evictCaches(userId);
-        }
+        // 프로필 캐시 무효화 (커밋 후 세대 증가)
+        userCacheGenerations.bump(userId);
 
         log.info("Social account linked: userId={}, channelCode={}, channelKey={}", userId, channelCode, channelKey);
     }
@@ -167,21 +161,13 @@ public class AccountLinkingService {
 
         // Remove from user's channel list (orphanRemoval will delete from DB)
         user.removeChannel(channelToRemove.get());
+        securityPostureStore.adjustSocialLinkCount(userId, -1);
 
         // 연동 해제 알림 발송
         securityNotificationService.notifyAccountUnlinked(userId, channelCode);
 
-        // 트랜잭션 커밋 후 캐시 제거 (커밋 전 evict 시 구버전 데이터로 재캐싱되는 문제 방지)
-        if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    evictCaches(userId);
-                }
-            });
-        } else {
-            evictCaches(userId);
-        }
+        // 프로필 캐시 무효화 (커밋 후 세대 증가)
+        userCacheGenerations.bump(userId);
 
         log.info("Channel unlinked: userId={}, channelCode={}", userId, channelCode);
     }
@@ -201,18 +187,4 @@ public class AccountLinkingService {
         // Available only if it's already linked to the current user
         return existingChannel.get().getUser().getId().equals(currentUserId);
     }
-
-    private void evictCaches(Long userId) {
-        for (String cacheName : new String[]{"userProfile", "securityDashboard"}) {
-            try {
-                var cache = cacheManager.getCache(cacheName);
-                if (cache != null) {
-                    cache.evict(userId);
-                    log.debug("Evicted {} cache for userId={}", cacheName, userId);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to evict {} cache: {}", cacheName, e.getMessage());
-            }
-        }
-    }
 }
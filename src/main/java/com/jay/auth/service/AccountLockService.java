@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.exception.UserNotFoundException;
@@ -9,7 +10,6 @@ import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,9 +26,9 @@ public class AccountLockService {
 
     private final UserRepository userRepository;
     private final RedisTemplate<String, Object> redisTemplate;
-    private final EmailSender emailSender;
-    private final EncryptionService encryptionService;
+    private final SecurityNotificationService securityNotificationService;
     private final MeterRegistry meterRegistry;
+    private final UserCacheGenerations userCacheGenerations;
 
     private static final String LOCK_ATTEMPTS_PREFIX  = "lock:attempts:";
     private static final String LOCK_REASON_PREFIX    = "lock:reason:";
@@ -64,7 +64,7 @@ public class AccountLockService {
     /**
      * 계정을 잠금한다.
      *
-     * @param notify true이면 비동기로 사용자에게 잠금 알림 이메일을 발송한다.
+     * @param notify true이면 사용자에게 잠금 알림 이메일을 보낸다 (아웃박스에 기록 후 비동기 발송).
      */
     @Transactional
     public void lockAccount(Long userId, String reason, boolean notify) {
@@ -79,6 +79,7 @@ public class AccountLockService {
         }
 
         user.updateStatus(UserStatus.LOCKED);
+        userCacheGenerations.bump(userId);
         redisTemplate.opsForValue().set(LOCK_REASON_PREFIX + userId, reason);
         redisTemplate.delete(LOCK_ATTEMPTS_PREFIX + userId);
 
@@ -89,8 +90,8 @@ public class AccountLockService {
 
         log.warn("Account locked: userId={}, reason={}", userId, reason);
 
-        if (notify) {
-            sendLockNotificationAsync(user, reason);
+        if (notify && user.getEmailEnc() != null) {
+            securityNotificationService.notifyAccountLocked(userId, reason);
         }
     }
 
@@ -107,6 +108,7 @@ public class AccountLockService {
         }
 
         user.updateStatus(UserStatus.ACTIVE);
+        userCacheGenerations.bump(userId);
         redisTemplate.delete(LOCK_REASON_PREFIX + userId);
         redisTemplate.delete(LOCK_ATTEMPTS_PREFIX + userId);
 
@@ -138,16 +140,4 @@ public class AccountLockService {
         Object val = redisTemplate.opsForValue().get(LOCK_REASON_PREFIX + userId);
         return val != null ? val.toString() : null;
     }
-
-    @Async
-    public void sendLockNotificationAsync(User user, String reason) {
-        try {
-            if (user.getEmailEnc() == null) return;
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            emailSender.sendAccountLockedAlert(email, reason);
-            log.info("Account lock notification sent: userId={}", user.getId());
-        } catch (Exception e) {
-            log.error("Failed to send account lock notification: userId={}", user.getId(), e);
-        }
-    }
 }
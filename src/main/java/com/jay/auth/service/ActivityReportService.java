@@ -6,9 +6,9 @@ import com.jay.auth.dto.response.WeeklyActivityResponse;
 import com.jay.auth.dto.response.WeeklyActivityResponse.*;
 import com.jay.auth.repository.AuditLogRepository;
 import com.jay.auth.repository.LoginHistoryRepository;
+import com.jay.auth.util.ParallelQueryExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -17,6 +17,7 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,8 +26,8 @@ public class ActivityReportService {
 
     private final LoginHistoryRepository loginHistoryRepository;
     private final AuditLogRepository auditLogRepository;
+    private final ParallelQueryExecutor parallelQueryExecutor;
 
-    @Transactional(readOnly = true)
     public WeeklyActivityResponse getWeeklyReport(Long userId) {
         LocalDate today = LocalDate.now();
         LocalDate weekStart = today.with(DayOfWeek.MONDAY);
@@ -36,7 +37,6 @@ public class ActivityReportService {
         return buildReport(userId, since, until);
     }
 
-    @Transactional(readOnly = true)
     public WeeklyActivityResponse getWeeklyReport(Long userId, LocalDate targetWeekStart) {
         LocalDate weekStart = targetWeekStart.with(DayOfWeek.MONDAY);
         LocalDateTime since = weekStart.atStartOfDay();
@@ -45,9 +45,21 @@ public class ActivityReportService {
         return buildReport(userId, since, until);
     }
 
+    /**
+     * 로그인 이력과 감사 로그를 동시에 조회한다 (트랜잭션은 조회마다 따로 연다)
+     */
     private WeeklyActivityResponse buildReport(Long userId, LocalDateTime since, LocalDateTime until) {
-        List<LoginHistory> loginHistories = loginHistoryRepository.findByUserIdAndPeriod(userId, since, until);
-        List<AuditLog> auditLogs = auditLogRepository.findByUserIdAndPeriod(userId, since, until);
+        List<LoginHistory> loginHistories;
+        List<AuditLog> auditLogs;
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open("weekly_report")) {
+            Supplier<List<LoginHistory>> loginQuery = scope.fork(
+                    () -> loginHistoryRepository.findByUserIdAndPeriod(userId, since, until));
+            Supplier<List<AuditLog>> auditQuery = scope.fork(
+                    () -> auditLogRepository.findByUserIdAndPeriod(userId, since, until));
+            scope.join();
+            loginHistories = loginQuery.get();
+            auditLogs = auditQuery.get();
+        }
 
         LoginStats loginStats = buildLoginStats(loginHistories);
         List<DeviceBreakdown> deviceBreakdown = buildDeviceBreakdown(loginHistories);
@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.AuditLog;
 import com.jay.auth.domain.entity.LoginHistory;
 import com.jay.auth.domain.entity.User;
@@ -22,13 +23,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jay.auth.util.DateTimeUtil;
+import com.jay.auth.util.PageCursor;
+import com.jay.auth.util.ParallelQueryExecutor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -41,38 +47,43 @@ public class AdminService {
     private final SupportPostRepository supportPostRepository;
     private final EncryptionService encryptionService;
     private final AuditLogService auditLogService;
+    private final ActiveUserSketchService activeUserSketchService;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final UserCacheGenerations userCacheGenerations;
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeUtil.DEFAULT_FORMATTER;
 
-    @Transactional(readOnly = true)
+    /**
+     * 관리자 대시보드 (집계 쿼리를 동시에 실행하므로 트랜잭션은 작업마다 따로 연다)
+     */
     public AdminDashboardResponse getDashboard() {
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.countByStatus(UserStatus.ACTIVE);
-        long dormantUsers = userRepository.countByStatus(UserStatus.DORMANT);
-        long pendingDeleteUsers = userRepository.countByStatus(UserStatus.PENDING_DELETE);
-
         LocalDateTime todayStart = LocalDate.now().atStartOfDay();
-        long todaySignups = userRepository.countByCreatedAtAfter(todayStart);
-
-        AdminDashboardResponse.UserStats stats = AdminDashboardResponse.UserStats.builder()
-                .totalUsers(totalUsers)
-                .activeUsers(activeUsers)
-                .dormantUsers(dormantUsers)
-                .pendingDeleteUsers(pendingDeleteUsers)
-                .todaySignups(todaySignups)
-                .build();
 
-        List<User> recentUsers = userRepository.findRecentUsersWithChannels(
-                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
-
-        List<AdminDashboardResponse.AdminUserInfo> userInfos = recentUsers.stream()
-                .map(this::toAdminUserInfo)
-                .toList();
-
-        return AdminDashboardResponse.builder()
-                .userStats(stats)
-                .recentUsers(userInfos)
-                .build();
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open("admin_dashboard")) {
+            Supplier<Long> totalUsers = scope.fork(userRepository::count);
+            Supplier<Long> activeUsers = scope.fork(() -> userRepository.countByStatus(UserStatus.ACTIVE));
+            Supplier<Long> dormantUsers = scope.fork(() -> userRepository.countByStatus(UserStatus.DORMANT));
+            Supplier<Long> pendingDeleteUsers = scope.fork(() -> userRepository.countByStatus(UserStatus.PENDING_DELETE));
+            Supplier<Long> todaySignups = scope.fork(() -> userRepository.countByCreatedAtAfter(todayStart));
+            // 채널 등 연관 엔티티를 읽어야 하므로 변환까지 같은 트랜잭션 안에서 끝낸다
+            Supplier<List<AdminDashboardResponse.AdminUserInfo>> recentUsers = scope.fork(() -> toAdminUserInfos(
+                    userRepository.findRecentUsersWithChannels(
+                            PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")))));
+            scope.join();
+
+            AdminDashboardResponse.UserStats stats = AdminDashboardResponse.UserStats.builder()
+                    .totalUsers(totalUsers.get())
+                    .activeUsers(activeUsers.get())
+                    .dormantUsers(dormantUsers.get())
+                    .pendingDeleteUsers(pendingDeleteUsers.get())
+                    .todaySignups(todaySignups.get())
+                    .build();
+
+            return AdminDashboardResponse.builder()
+                    .userStats(stats)
+                    .recentUsers(recentUsers.get())
+                    .build();
+        }
     }
 
     @Transactional
@@ -81,6 +92,7 @@ public class AdminService {
                 .orElseThrow(UserNotFoundException::new);
 
         target.updateRole(role);
+        userCacheGenerations.bump(targetUserId);
         auditLogService.log(adminUserId, "USER_ROLE_CHANGE", "ADMIN",
                 "targetUserId=" + targetUserId + ", newRole=" + role.name(), true);
 
@@ -93,6 +105,7 @@ public class AdminService {
                 .orElseThrow(UserNotFoundException::new);
 
         target.updateStatus(status);
+        userCacheGenerations.bump(targetUserId);
         auditLogService.log(adminUserId, "USER_STATUS_CHANGE", "ADMIN",
                 "targetUserId=" + targetUserId + ", newStatus=" + status.name(), true);
 
@@ -111,9 +124,7 @@ public class AdminService {
                 encryptedKeyword, status,
                 PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt")));
 
-        List<AdminDashboardResponse.AdminUserInfo> users = userPage.getContent().stream()
-                .map(this::toAdminUserInfo)
-                .toList();
+        List<AdminDashboardResponse.AdminUserInfo> users = toAdminUserInfos(userPage.getContent());
 
         return AdminUserSearchResponse.builder()
                 .users(users)
@@ -123,6 +134,42 @@ public class AdminService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AdminDashboardResponse.AdminUserInfo> searchUsersByCursor(
+            String keyword, UserStatus status, String cursor, int size, boolean includeTotal) {
+        String encryptedKeyword = null;
+        if (keyword != null && !keyword.isBlank()) {
+            EncryptionService.EncryptedEmail enc = encryptionService.encryptEmail(keyword.toLowerCase());
+            encryptedKeyword = enc.encryptedLower();
+        }
+
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<User> users = userRepository.searchUsersPage(
+                encryptedKeyword, status,
+                pageCursor != null ? pageCursor.createdAt() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                PageRequest.of(0, size + 1));
+
+        Long total = includeTotal ? userRepository.countSearchUsers(encryptedKeyword, status) : null;
+        return CursorPageResponse.ofBatch(users, size, this::toAdminUserInfos,
+                u -> new PageCursor(u.getCreatedAt(), u.getId()), total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AdminSecurityEventsResponse.AuditEventInfo> getUserAuditLogs(
+            Long targetUserId, String cursor, int size, boolean includeTotal) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<AuditLog> logs = auditLogRepository.findPageByUserId(
+                targetUserId,
+                pageCursor != null ? pageCursor.createdAt() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                PageRequest.of(0, size + 1));
+
+        Long total = includeTotal ? auditLogRepository.countByUserId(targetUserId) : null;
+        return CursorPageResponse.of(logs, size, this::toAuditEventInfo,
+                a -> new PageCursor(a.getCreatedAt(), a.getId()), total);
+    }
+
     @Transactional(readOnly = true)
     public AdminLoginStatsResponse getLoginStats() {
         LocalDateTime todayStart = LocalDate.now().atStartOfDay();
@@ -130,7 +177,8 @@ public class AdminService {
 
         long todayLogins = loginHistoryRepository.countByCreatedAtAfter(todayStart);
         long todaySignups = userRepository.countByCreatedAtAfter(todayStart);
-        long activeUsersLast7Days = loginHistoryRepository.countDistinctActiveUsersSince(sevenDaysAgo);
+        long activeUsersLast7Days = activeUserSketchService.countActiveUsers(
+                sevenDaysAgo.toLocalDate(), todayStart.toLocalDate());
 
         List<Object[]> dailyLoginData = loginHistoryRepository.countDailyLogins(sevenDaysAgo);
         List<Map<String, Object>> dailyLogins = dailyLoginData.stream()
@@ -146,55 +194,65 @@ public class AdminService {
                 .todayLogins(todayLogins)
                 .todaySignups(todaySignups)
                 .activeUsersLast7Days(activeUsersLast7Days)
+                .dailyActiveUsers(activeUserSketchService.countDailyActiveUsers())
+                .weeklyActiveUsers(activeUserSketchService.countWeeklyActiveUsers())
+                .monthlyActiveUsers(activeUserSketchService.countMonthlyActiveUsers())
                 .dailyLogins(dailyLogins)
                 .dailySignups(dailySignups)
                 .build();
     }
 
-    @Transactional(readOnly = true)
+    public long backfillActiveUserSketches(Long adminUserId, int days) {
+        long entries = activeUserSketchService.backfill(days);
+        auditLogService.log(adminUserId, "ACTIVE_USER_SKETCH_BACKFILL", "ADMIN",
+                "days=" + days + ", entries=" + entries, true);
+        return entries;
+    }
+
+    /**
+     * 최근 보안 이벤트 (집계 쿼리를 동시에 실행하므로 트랜잭션은 작업마다 따로 연다)
+     */
     public AdminSecurityEventsResponse getSecurityEvents() {
         LocalDateTime todayStart = LocalDate.now().atStartOfDay();
         LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
 
-        long failedLoginsToday = auditLogRepository.countByActionSince("LOGIN_FAILED", todayStart);
-        long passwordChangesToday = auditLogRepository.countByActionSince("PASSWORD_CHANGE", todayStart);
-        long accountLocksToday = auditLogRepository.countByActionSince("ACCOUNT_LOCKED", todayStart);
-
-        List<LoginHistory> failedLogins = loginHistoryRepository.findRecentFailedLogins(
-                last24Hours, PageRequest.of(0, 20));
-        List<AdminSecurityEventsResponse.FailedLoginInfo> failedLoginInfos = failedLogins.stream()
-                .map(h -> AdminSecurityEventsResponse.FailedLoginInfo.builder()
-                        .userId(h.getUserId())
-                        .ipAddress(h.getIpAddress())
-                        .browser(h.getBrowser())
-                        .os(h.getOs())
-                        .location(h.getLocation())
-                        .failureReason(h.getFailureReason())
-                        .createdAt(h.getCreatedAt() != null ? h.getCreatedAt().format(DATE_FORMAT) : null)
-                        .build())
-                .toList();
-
-        List<AuditLog> auditLogs = auditLogRepository.findRecentLogs(
-                last24Hours, PageRequest.of(0, 30));
-        List<AdminSecurityEventsResponse.AuditEventInfo> auditEventInfos = auditLogs.stream()
-                .map(a -> AdminSecurityEventsResponse.AuditEventInfo.builder()
-                        .userId(a.getUserId())
-                        .action(a.getAction())
-                        .target(a.getTarget())
-                        .detail(a.getDetail())
-                        .ipAddress(a.getIpAddress())
-                        .success(a.getIsSuccess())
-                        .createdAt(a.getCreatedAt() != null ? a.getCreatedAt().format(DATE_FORMAT) : null)
-                        .build())
-                .toList();
-
-        return AdminSecurityEventsResponse.builder()
-                .failedLoginsToday(failedLoginsToday)
-                .passwordChangesToday(passwordChangesToday)
-                .accountLocksToday(accountLocksToday)
-                .recentFailedLogins(failedLoginInfos)
-                .recentAuditEvents(auditEventInfos)
-                .build();
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open("admin_security_events")) {
+            Supplier<Long> failedLoginsToday = scope.fork(
+                    () -> auditLogRepository.countByActionSince("LOGIN_FAILED", todayStart));
+            Supplier<Long> passwordChangesToday = scope.fork(
+                    () -> auditLogRepository.countByActionSince("PASSWORD_CHANGE", todayStart));
+            Supplier<Long> accountLocksToday = scope.fork(
+                    () -> auditLogRepository.countByActionSince("ACCOUNT_LOCKED", todayStart));
+            Supplier<List<LoginHistory>> failedLogins = scope.fork(
+                    () -> loginHistoryRepository.findRecentFailedLogins(last24Hours, PageRequest.of(0, 20)));
+            Supplier<List<AuditLog>> auditLogs = scope.fork(
+                    () -> auditLogRepository.findRecentLogs(last24Hours, PageRequest.of(0, 30)));
+            scope.join();
+
+            List<AdminSecurityEventsResponse.FailedLoginInfo> failedLoginInfos = failedLogins.get().stream()
+                    .map(h -> AdminSecurityEventsResponse.FailedLoginInfo.builder()
+                            .userId(h.getUserId())
+                            .ipAddress(h.getIpAddress())
+                            .browser(h.getBrowser())
+                            .os(h.getOs())
+                            .location(h.getLocation())
+                            .failureReason(h.getFailureReason())
+                            .createdAt(h.getCreatedAt() != null ? h.getCreatedAt().format(DATE_FORMAT) : null)
+                            .build())
+                    .toList();
+
+            List<AdminSecurityEventsResponse.AuditEventInfo> auditEventInfos = auditLogs.get().stream()
+                    .map(this::toAuditEventInfo)
+                    .toList();
+
+            return AdminSecurityEventsResponse.builder()
+                    .failedLoginsToday(failedLoginsToday.get())
+                    .passwordChangesToday(passwordChangesToday.get())
+                    .accountLocksToday(accountLocksToday.get())
+                    .recentFailedLogins(failedLoginInfos)
+                    .recentAuditEvents(auditEventInfos)
+                    .build();
+        }
     }
 
     @Transactional(readOnly = true)
@@ -218,11 +276,33 @@ public class AdminService {
                 .build();
     }
 
-    private AdminDashboardResponse.AdminUserInfo toAdminUserInfo(User user) {
-        String email = user.getEmailEnc() != null
-                ? encryptionService.decryptEmail(user.getEmailEnc()) : null;
-        String nickname = user.getNicknameEnc() != null
-                ? encryptionService.decryptNickname(user.getNicknameEnc()) : null;
+    /**
+     * 목록의 이메일/닉네임 암호문을 한 번에 복호화한 뒤 응답으로 변환한다.
+     */
+    private List<AdminDashboardResponse.AdminUserInfo> toAdminUserInfos(List<User> users) {
+        List<String> encryptedValues = new ArrayList<>(users.size() * 2);
+        for (User user : users) {
+            if (user.getEmailEnc() != null) {
+                encryptedValues.add(user.getEmailEnc());
+            }
+            if (user.getNicknameEnc() != null) {
+                encryptedValues.add(user.getNicknameEnc());
+            }
+        }
+        List<String> decryptedValues = encryptedValues.isEmpty()
+                ? List.of() : encryptionService.decryptAll(encryptedValues);
+
+        Iterator<String> decrypted = decryptedValues.iterator();
+        List<AdminDashboardResponse.AdminUserInfo> result = new ArrayList<>(users.size());
+        for (User user : users) {
+            String email = user.getEmailEnc() != null ? decrypted.next() : null;
+            String nickname = user.getNicknameEnc() != null ? decrypted.next() : null;
+            result.add(toAdminUserInfo(user, email, nickname));
+        }
+        return result;
+    }
+
+    private AdminDashboardResponse.AdminUserInfo toAdminUserInfo(User user, String email, String nickname) {
 
         List<String> channels = user.getChannels().stream()
                 .map(ch -> ch.getChannelCode().name())
@@ -246,6 +326,18 @@ public class AdminService {
                 .build();
     }
 
+    private AdminSecurityEventsResponse.AuditEventInfo toAuditEventInfo(AuditLog a) {
+        return AdminSecurityEventsResponse.AuditEventInfo.builder()
+                .userId(a.getUserId())
+                .action(a.getAction())
+                .target(a.getTarget())
+                .detail(a.getDetail())
+                .ipAddress(a.getIpAddress())
+                .success(a.getIsSuccess())
+                .createdAt(a.getCreatedAt() != null ? a.getCreatedAt().format(DATE_FORMAT) : null)
+                .build();
+    }
+
     private Map<String, Object> toDateCountMap(Object[] row) {
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("date", row[0].toString());
@@ -16,9 +16,12 @@ import com.jay.auth.exception.AuthenticationException;
 import com.jay.auth.exception.DuplicateEmailException;
 import com.jay.auth.exception.InvalidPasswordException;
 import com.jay.auth.exception.InvalidVerificationException;
+import com.jay.auth.exception.PasswordPolicyException;
+import com.jay.auth.exception.ServiceOverloadedException;
 import com.jay.auth.repository.UserChannelRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.service.metrics.AuthGaugeMetrics;
 import com.jay.auth.service.metrics.AuthMetrics;
 import com.jay.auth.service.metrics.AuthTimed;
 import com.jay.auth.util.NicknameGenerator;
@@ -44,6 +47,8 @@ public class AuthService {
     private final TotpService totpService;
     private final NicknameGenerator nicknameGenerator;
     private final AuthMetrics authMetrics;
+    private final AuthGaugeMetrics authGaugeMetrics;
+    private final LoginAttemptStore loginAttemptStore;
 
     /**
      * 이메일 회원가입
@@ -62,6 +67,9 @@ public class AuthService {
         if (!passwordUtil.isValidPassword(password)) {
             throw new InvalidPasswordException();
         }
+        if (passwordUtil.isBreached(password)) {
+            throw PasswordPolicyException.breached();
+        }
 
         // 2. tokenId + 이메일로 인증 완료 여부 확인
         if (!emailVerificationService.isVerifiedByTokenId(tokenId, email, VerificationType.SIGNUP)) {
@@ -213,21 +221,25 @@ public class AuthService {
             throw AuthenticationException.accountNotActive();
         }
 
-        // 3. 계정 잠금 확인
-        if (signInInfo.isLocked()) {
+        // 3. 계정 잠금 확인 (DB에 반영된 잠금 + Redis 실패 상태)
+        if (signInInfo.isLocked() || loginAttemptStore.isLocked(user.getId())) {
             throw AuthenticationException.accountLocked();
         }
 
-        // 4. 비밀번호 검증
+        // 4. 비밀번호 검증 (실패 횟수는 Redis에 기록하므로 sign-in 행을 갱신하지 않음)
         if (!passwordUtil.matches(password, signInInfo.getPasswordHash())) {
-            signInInfo.recordLoginFailure();
+            LoginAttemptStore.FailureResult failure = loginAttemptStore.recordFailure(user.getId());
+            if (failure.isLocked()) {
+                authGaugeMetrics.recordAccountLocked(user.getId(), failure.lockedUntil());
+            }
             authMetrics.recordLoginFailure("EMAIL");
             throw AuthenticationException.invalidCredentials();
         }
 
-        // 5. 로그인 성공 처리
-        signInInfo.recordLoginSuccess();
+        // 5. 로그인 성공 처리 (lastLoginAt은 write-behind로 반영)
+        loginAttemptStore.recordSuccess(user.getId(), signInInfo.hasPersistedFailures());
         authMetrics.recordLoginSuccess("EMAIL");
+        rehashIfOutdated(signInInfo, password);
 
         // 6. 닉네임 복호화
         String nickname = encryptionService.decryptNickname(user.getNicknameEnc());
@@ -246,6 +258,22 @@ public class AuthService {
         );
     }
 
+    /**
+     * 저장된 해시의 알고리즘/비용이 현재 설정보다 낮으면 평문을 알고 있는 로그인 시점에 다시 해싱한다
+     * - 해싱 실행기가 포화 상태면 이번 로그인에서는 건너뛰고 다음 로그인에 다시 시도한다
+     */
+    private void rehashIfOutdated(UserSignInInfo signInInfo, String password) {
+        if (!passwordUtil.needsRehash(signInInfo.getPasswordHash())) {
+            return;
+        }
+        try {
+            signInInfo.rehashPassword(passwordUtil.encode(password));
+            log.info("Password rehashed with current parameters: userId={}", signInInfo.getUser().getId());
+        } catch (ServiceOverloadedException e) {
+            log.debug("Skipped password rehash due to hashing overload: userId={}", signInInfo.getUser().getId());
+        }
+    }
+
     /**
      * 이메일로 사용자 ID 조회 (로그인 실패 이력 기록용)
      */
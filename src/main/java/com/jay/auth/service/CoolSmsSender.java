@@ -3,6 +3,7 @@ package com.jay.auth.service;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -12,6 +13,7 @@ import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -39,7 +41,16 @@ public class CoolSmsSender implements SmsSender {
     @Value("${app.sms.coolsms.sender}")
     private String senderPhone;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 발송 워커가 응답 없는 API에 묶이지 않도록 타임아웃을 둔다 (실패는 SmsDispatchQueue가 재시도)
+    private final RestTemplate restTemplate = new RestTemplateBuilder()
+            .connectTimeout(Duration.ofSeconds(3))
+            .readTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Override
+    public String providerName() {
+        return "coolsms";
+    }
 
     @Override
     public void sendVerificationCode(String phone, String code) {
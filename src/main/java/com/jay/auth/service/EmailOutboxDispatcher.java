@@ -0,0 +1,310 @@
+package com.jay.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.domain.entity.EmailOutbox;
+import com.jay.auth.domain.entity.User;
+import com.jay.auth.domain.enums.EmailMessageType;
+import com.jay.auth.domain.enums.EmailOutboxStatus;
+import com.jay.auth.repository.EmailOutboxRepository;
+import com.jay.auth.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 이메일 아웃박스 디스패처
+ * - 발송할 차례인 행을 우선순위 순으로 묶어 가져와(lease) 트랜잭션 밖에서 SMTP 연결 수만큼 병렬 발송한다
+ * - 성공한 행은 삭제하고, 실패한 행은 지수 백오프(+지터)로 재시도하며 최대 시도 횟수를 넘기면 FAILED로 남긴다
+ * - 가져간 뒤 인스턴스가 죽으면 lease가 끝난 후 다른 인스턴스가 다시 가져간다 (at-least-once)
+ * - 메트릭: email_outbox_sent_total, email_outbox_retry_total, email_outbox_failed_total, email_outbox_delivery_lag_seconds
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher implements DisposableBean {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final UserRepository userRepository;
+    private final EmailSender emailSender;
+    private final EncryptionService encryptionService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AppProperties.Email.Outbox settings;
+    private final ExecutorService senders;
+    private final Timer deliveryLagTimer;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 UserRepository userRepository,
+                                 EmailSender emailSender,
+                                 EncryptionService encryptionService,
+                                 ObjectMapper objectMapper,
+                                 TransactionTemplate transactionTemplate,
+                                 AppProperties appProperties,
+                                 MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.userRepository = userRepository;
+        this.emailSender = emailSender;
+        this.encryptionService = encryptionService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.settings = appProperties.getEmail().getOutbox();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, appProperties.getEmail().getSmtpPoolSize()), runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deliveryLagTimer = Timer.builder("email_outbox_delivery_lag_seconds")
+                .description("아웃박스 등록부터 발송 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송할 차례인 행이 남지 않을 때까지 배치 단위로 발송한다
+     */
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-millis:1000}")
+    public void dispatch() {
+        List<Claimed> batch;
+        do {
+            batch = claimBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            deliver(batch);
+        } while (batch.size() >= settings.getBatchSize());
+    }
+
+    /**
+     * 보관 기간이 지난 FAILED 행 삭제
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeFailed() {
+        LocalDateTime before = LocalDateTime.now().minusDays(settings.getRetentionDays());
+        Integer deleted = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteByStatusAndCreatedAtBefore(EmailOutboxStatus.FAILED, before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged failed email outbox rows: {}", deleted);
+        }
+    }
+
+    private List<Claimed> claimBatch() {
+        List<Claimed> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseUntil = now.plus(Duration.ofMillis(settings.getLeaseMillis()));
+            List<EmailOutbox> rows = emailOutboxRepository.findDispatchable(now, PageRequest.of(0, settings.getBatchSize()));
+            List<Claimed> result = new ArrayList<>(rows.size());
+            for (EmailOutbox row : rows) {
+                row.claim(leaseUntil);
+                result.add(new Claimed(row.getId(), row.getMessageType(), row.getUserId(),
+                        row.getRecipientEnc(), row.getPayloadEnc(), row.getCreatedAt()));
+            }
+            return result;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void deliver(List<Claimed> batch) {
+        Set<Long> completed = ConcurrentHashMap.newKeySet();
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+
+        // 수신자 조회/복호화 실패도 건별 실패로 기록한다 (예외가 complete()를 건너뛰면 배치가 FAILED 없이 계속 다시 lease됨)
+        Map<Long, User> users = null;
+        String userLookupError = null;
+        try {
+            users = findUsers(batch);
+        } catch (RuntimeException e) {
+            userLookupError = describe(e);
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(batch.size());
+        for (Claimed item : batch) {
+            if (item.userId() != null && users == null) {
+                failures.put(item.id(), userLookupError);
+                continue;
+            }
+            String to;
+            try {
+                to = item.userId() != null ? decryptUserEmail(users.get(item.userId())) : decryptRecipient(item);
+            } catch (RuntimeException e) {
+                failures.put(item.id(), describe(e));
+                continue;
+            }
+            if (to == null) {
+                // 탈퇴 등으로 수신자가 없으면 버린다
+                log.info("Email outbox recipient not found, dropped: id={}, type={}", item.id(), item.type());
+                completed.add(item.id());
+                continue;
+            }
+            tasks.add(() -> {
+                try {
+                    send(item.type(), to, readPayload(item.payloadEnc()));
+                    completed.add(item.id());
+                    Counter.builder("email_outbox_sent_total")
+                            .tag("type", item.type().name())
+                            .register(meterRegistry)
+                            .increment();
+                    if (item.createdAt() != null) {
+                        deliveryLagTimer.record(Duration.between(item.createdAt(), LocalDateTime.now()));
+                    }
+                } catch (RuntimeException e) {
+                    failures.put(item.id(), describe(e));
+                }
+                return null;
+            });
+        }
+
+        // 결과를 반영하기 전에 lease가 끝나 다른 인스턴스가 같은 건을 다시 보내지 않도록 lease보다 충분히 짧게 기다린다
+        long sendTimeoutMillis = Math.min(settings.getSendTimeoutMillis(), settings.getLeaseMillis() / 2);
+        try {
+            senders.invokeAll(tasks, sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // 끝나지 않은 건은 아래에서 재시도로 돌린다
+            Thread.currentThread().interrupt();
+        }
+        for (Claimed item : batch) {
+            if (!completed.contains(item.id())) {
+                failures.putIfAbsent(item.id(), "timeout");
+            }
+        }
+
+        complete(completed, failures);
+    }
+
+    private void complete(Set<Long> completed, Map<Long, String> failures) {
+        transactionTemplate.execute(status -> {
+            if (!completed.isEmpty()) {
+                emailOutboxRepository.deleteAllByIdInBatch(completed);
+            }
+            if (failures.isEmpty()) {
+                return null;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            for (EmailOutbox row : emailOutboxRepository.findAllById(failures.keySet())) {
+                String error = failures.get(row.getId());
+                if (row.getAttempts() >= settings.getMaxAttempts()) {
+                    row.markFailed(error);
+                    log.error("Email delivery failed permanently: id={}, type={}, attempts={}, error={}",
+                            row.getId(), row.getMessageType(), row.getAttempts(), error);
+                    Counter.builder("email_outbox_failed_total")
+                            .tag("type", row.getMessageType().name())
+                            .register(meterRegistry)
+                            .increment();
+                } else {
+                    row.scheduleRetry(now.plus(Duration.ofMillis(backoffMillis(row.getAttempts()))), error);
+                    log.warn("Email delivery failed, will retry: id={}, type={}, attempts={}, error={}",
+                            row.getId(), row.getMessageType(), row.getAttempts(), error);
+                    Counter.builder("email_outbox_retry_total")
+                            .tag("type", row.getMessageType().name())
+                            .register(meterRegistry)
+                            .increment();
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 사용자 수신자를 한 번의 조회로 가져온다 (복호화는 건별로 한다)
+     */
+    private Map<Long, User> findUsers(List<Claimed> batch) {
+        Set<Long> userIds = batch.stream()
+                .map(Claimed::userId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+
+    private String decryptUserEmail(User user) {
+        return user != null && user.getEmailEnc() != null ? encryptionService.decryptEmail(user.getEmailEnc()) : null;
+    }
+
+    private String decryptRecipient(Claimed item) {
+        return item.recipientEnc() != null ? encryptionService.decrypt(item.recipientEnc()) : null;
+    }
+
+    private Map<String, String> readPayload(String payloadEnc) {
+        try {
+            return objectMapper.readValue(encryptionService.decrypt(payloadEnc), PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid email payload", e);
+        }
+    }
+
+    private void send(EmailMessageType type, String to, Map<String, String> params) {
+        switch (type) {
+            case VERIFICATION_CODE -> emailSender.sendVerificationCode(to, params.get("code"));
+            case POST_LOGIN_VERIFICATION_CODE -> emailSender.sendPostLoginVerificationCode(to, params.get("code"));
+            case ACCOUNT_LOCKED -> emailSender.sendAccountLockedAlert(to, params.get("reason"));
+            case NEW_DEVICE_LOGIN -> emailSender.sendNewDeviceLoginAlert(to, params.get("deviceInfo"),
+                    params.get("ipAddress"), params.get("location"), params.get("time"));
+            case PASSWORD_CHANGED -> emailSender.sendPasswordChangedAlert(to, params.get("time"));
+            case ACCOUNT_LINKED -> emailSender.sendAccountLinkedAlert(to, params.get("channelName"), params.get("time"));
+            case ACCOUNT_UNLINKED -> emailSender.sendAccountUnlinkedAlert(to, params.get("channelName"), params.get("time"));
+            case PASSKEY_REGISTERED -> emailSender.sendPasskeyRegisteredAlert(to, params.get("deviceName"), params.get("time"));
+            case PASSKEY_REMOVED -> emailSender.sendPasskeyRemovedAlert(to, params.get("deviceName"), params.get("time"));
+            case PASSWORD_EXPIRING_SOON -> emailSender.sendPasswordExpiringSoonAlert(to,
+                    Integer.parseInt(params.get("daysLeft")), params.get("expireDate"));
+            case PASSWORD_EXPIRED -> emailSender.sendPasswordExpiredAlert(to, params.get("expireDate"));
+        }
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간 (2배씩 증가, 상한 적용, 최대 20% 지터)
+     */
+    long backoffMillis(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(settings.getMaxBackoffMillis(), settings.getInitialBackoffMillis() << exponent);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private static String describe(RuntimeException e) {
+        return e.getMessage() != null ? e.getClass().getSimpleName() + ": " + e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdown();
+    }
+
+    private record Claimed(Long id, EmailMessageType type, Long userId, String recipientEnc,
+                           String payloadEnc, LocalDateTime createdAt) {
+    }
+}
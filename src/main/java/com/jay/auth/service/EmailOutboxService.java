@@ -0,0 +1,83 @@
+package com.jay.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jay.auth.domain.entity.EmailOutbox;
+import com.jay.auth.domain.enums.EmailMessageType;
+import com.jay.auth.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 이메일 아웃박스 등록
+ * - 호출한 업무 트랜잭션에 참여해 행만 기록한다 (커밋되지 않으면 발송되지 않음)
+ * - 실제 SMTP 발송은 {@link EmailOutboxDispatcher}가 담당하므로 요청 지연에 SMTP 왕복이 포함되지 않는다
+ * - 같은 dedupKey가 이미 있으면 등록하지 않는다 (INSERT IGNORE로 처리해 동시 중복도 호출자를 실패시키지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EncryptionService encryptionService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자에게 보낼 메일 등록 (수신 주소는 발송 시점에 복호화)
+     * @return 등록 여부 (중복이면 false)
+     */
+    @Transactional
+    public boolean enqueueForUser(EmailMessageType type, Long userId, Map<String, String> params, String dedupKey) {
+        return enqueue(type, userId, null, params, dedupKey);
+    }
+
+    /**
+     * 가입 전 등 사용자 ID가 없는 주소로 보낼 메일 등록
+     * @return 등록 여부 (중복이면 false)
+     */
+    @Transactional
+    public boolean enqueueForAddress(EmailMessageType type, String email, Map<String, String> params, String dedupKey) {
+        return enqueue(type, null, encryptionService.encrypt(email), params, dedupKey);
+    }
+
+    private boolean enqueue(EmailMessageType type, Long userId, String recipientEnc,
+                            Map<String, String> params, String dedupKey) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox outbox = EmailOutbox.builder()
+                .messageType(type)
+                .userId(userId)
+                .recipientEnc(recipientEnc)
+                .payloadEnc(encryptionService.encrypt(toJson(params)))
+                .dedupKey(dedupKey)
+                .nextAttemptAt(now)
+                .build();
+        if (dedupKey == null) {
+            emailOutboxRepository.save(outbox);
+            return true;
+        }
+
+        // 확인 후 저장하면 동시 중복이 커밋 시 unique 위반으로 업무 트랜잭션까지 롤백시키므로 DB에서 건너뛴다
+        int inserted = emailOutboxRepository.insertIgnoringDuplicate(outbox.getMessageType().name(),
+                outbox.getPriority(), outbox.getUserId(), outbox.getRecipientEnc(), outbox.getPayloadEnc(),
+                outbox.getDedupKey(), outbox.getStatus().name(), outbox.getNextAttemptAt(), now);
+        if (inserted == 0) {
+            log.debug("Duplicate email skipped: type={}, dedupKey={}", type, dedupKey);
+            return false;
+        }
+        return true;
+    }
+
+    private String toJson(Map<String, String> params) {
+        try {
+            return objectMapper.writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize email payload", e);
+        }
+    }
+}
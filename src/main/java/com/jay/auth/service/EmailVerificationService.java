@@ -1,25 +1,28 @@
 package com.jay.auth.service;
 
-import com.jay.auth.domain.entity.EmailVerification;
+import com.jay.auth.domain.enums.EmailMessageType;
 import com.jay.auth.domain.enums.VerificationType;
 import com.jay.auth.exception.InvalidVerificationException;
-import com.jay.auth.repository.EmailVerificationRepository;
 import com.jay.auth.service.metrics.AuthMetrics;
+import com.jay.auth.service.verification.VerificationStore;
+import com.jay.auth.service.verification.VerificationTarget;
+import com.jay.auth.service.verification.VerificationToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailVerificationService {
 
-    private final EmailVerificationRepository emailVerificationRepository;
-    private final EmailSender emailSender;
+    private final VerificationStore verificationStore;
+    private final EmailOutboxService emailOutboxService;
     private final EncryptionService encryptionService;
     private final AuthMetrics authMetrics;
 
@@ -31,111 +34,88 @@ public class EmailVerificationService {
      */
     @Transactional
     public String sendVerificationCode(String email, VerificationType type) {
-        String emailLowerEnc = encryptionService.encryptForSearch(email);
+        VerificationTarget target = VerificationTarget.email(type, encryptionService.encryptForSearch(email));
 
-        // 기존 미인증 요청 삭제
-        emailVerificationRepository.deleteByEmailAndType(emailLowerEnc, type);
-
-        // 인증 코드 생성
+        // 인증 코드 생성 및 저장 (기존 미인증 요청은 대체됨)
         String code = generateCode();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(EXPIRATION_MINUTES);
-
-        // 저장
-        EmailVerification verification = EmailVerification.builder()
-                .emailLowerEnc(emailLowerEnc)
-                .verificationCode(code)
-                .verificationType(type)
-                .expiresAt(expiresAt)
-                .build();
-
-        emailVerificationRepository.save(verification);
+        String tokenId = verificationStore.issue(target, code, Duration.ofMinutes(EXPIRATION_MINUTES));
 
-        // 이메일 발송
-        emailSender.sendVerificationCode(email, code);
+        // 이메일 발송 (아웃박스 - 커밋 후 디스패처가 발송)
+        emailOutboxService.enqueueForAddress(EmailMessageType.VERIFICATION_CODE, email,
+                Map.of("code", code), "verification-code:" + tokenId);
 
         authMetrics.recordEmailVerificationSent(type.name());
-        log.info("Verification code sent to: {}, type: {}", email, type);
+        log.info("Verification code queued for: {}, type: {}", email, type);
 
-        return verification.getTokenId();
+        return tokenId;
     }
 
     /**
      * 인증 코드 확인
      * @return tokenId 인증 완료된 토큰 ID
      */
-    @Transactional
     public String verifyCode(String email, String code, VerificationType type) {
-        String emailLowerEnc = encryptionService.encryptForSearch(email);
-
-        EmailVerification verification = emailVerificationRepository
-                .findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse(emailLowerEnc, type)
-                .orElseThrow(() -> {
-                    authMetrics.recordEmailVerificationFailure(type.name(), "not_found");
-                    return InvalidVerificationException.codeNotFound();
-                });
-
-        if (verification.isExpired()) {
-            authMetrics.recordEmailVerificationFailure(type.name(), "expired");
-            throw InvalidVerificationException.codeExpired();
-        }
-
-        if (!verification.verify(code)) {
-            authMetrics.recordEmailVerificationFailure(type.name(), "mismatch");
-            throw InvalidVerificationException.codeMismatch();
+        VerificationTarget target = VerificationTarget.email(type, encryptionService.encryptForSearch(email));
+
+        VerificationStore.VerifyResult result = verificationStore.verify(target, code);
+        switch (result.status()) {
+            case NOT_FOUND -> {
+                authMetrics.recordEmailVerificationFailure(type.name(), "not_found");
+                throw InvalidVerificationException.codeNotFound();
+            }
+            case EXPIRED -> {
+                authMetrics.recordEmailVerificationFailure(type.name(), "expired");
+                throw InvalidVerificationException.codeExpired();
+            }
+            case MISMATCH -> {
+                authMetrics.recordEmailVerificationFailure(type.name(), "mismatch");
+                throw InvalidVerificationException.codeMismatch();
+            }
+            case TOO_MANY_ATTEMPTS -> {
+                authMetrics.recordEmailVerificationFailure(type.name(), "too_many_attempts");
+                throw InvalidVerificationException.tooManyAttempts();
+            }
+            case VERIFIED -> {
+            }
         }
 
-        emailVerificationRepository.save(verification);
-
         authMetrics.recordEmailVerificationSuccess(type.name());
         log.info("Email verified: {}, type: {}", email, type);
 
-        return verification.getTokenId();
+        return result.tokenId();
     }
 
     /**
      * 이메일 인증 완료 여부 확인
      */
-    @Transactional(readOnly = true)
     public boolean isVerified(String email, VerificationType type) {
-        String emailLowerEnc = encryptionService.encryptForSearch(email);
-        LocalDateTime now = LocalDateTime.now();
-
-        return emailVerificationRepository
-                .findVerifiedAndNotExpired(emailLowerEnc, type, now)
-                .isPresent();
+        return verificationStore.isVerified(VerificationTarget.email(type, encryptionService.encryptForSearch(email)));
     }
 
     /**
      * tokenId와 이메일로 인증 완료 여부 확인
      */
-    @Transactional(readOnly = true)
     public boolean isVerifiedByTokenId(String tokenId, String email, VerificationType type) {
-        String emailLowerEnc = encryptionService.encryptForSearch(email);
+        VerificationTarget target = VerificationTarget.email(type, encryptionService.encryptForSearch(email));
 
-        return emailVerificationRepository.findByTokenId(tokenId)
-                .filter(v -> v.getEmailLowerEnc().equals(emailLowerEnc))
-                .filter(v -> v.getVerificationType() == type)
-                .filter(v -> v.getIsVerified())
-                .filter(v -> !v.isExpired())
+        return verificationStore.findByTokenId(tokenId)
+                .filter(target::matches)
+                .filter(VerificationToken::isUsable)
                 .isPresent();
     }
 
     /**
      * 인증 완료된 레코드 삭제 (회원가입 완료 후)
      */
-    @Transactional
     public void deleteVerification(String email, VerificationType type) {
-        String emailLowerEnc = encryptionService.encryptForSearch(email);
-        emailVerificationRepository.deleteByEmailAndType(emailLowerEnc, type);
+        verificationStore.delete(VerificationTarget.email(type, encryptionService.encryptForSearch(email)));
     }
 
     /**
      * tokenId로 인증 레코드 삭제
      */
-    @Transactional
     public void deleteVerificationByTokenId(String tokenId) {
-        emailVerificationRepository.findByTokenId(tokenId)
-                .ifPresent(emailVerificationRepository::delete);
+        verificationStore.deleteByTokenId(tokenId);
     }
 
     private String generateCode() {
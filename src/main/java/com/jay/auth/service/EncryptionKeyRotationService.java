@@ -0,0 +1,311 @@
+package com.jay.auth.service;
+
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.domain.entity.User;
+import com.jay.auth.domain.entity.UserChannel;
+import com.jay.auth.domain.entity.UserSignInInfo;
+import com.jay.auth.domain.entity.UserTwoFactor;
+import com.jay.auth.dto.response.EncryptionRotationStatusResponse;
+import com.jay.auth.repository.UserChannelRepository;
+import com.jay.auth.repository.UserRepository;
+import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.repository.UserTwoFactorRepository;
+import com.jay.auth.util.EncryptionUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 암호화 키 교체 후 백그라운드 재암호화
+ * - tb_user, tb_user_sign_in_info, tb_user_channel, tb_user_two_factor를 PK 순 청크로 순회하며
+ *   활성 키가 아닌 암호문만 새 키로 다시 암호화한다 (청크마다 별도 트랜잭션)
+ * - 청크마다 마지막 PK를 Redis 체크포인트에 저장하여 중단/재시작 후 이어서 처리한다
+ * - rows-per-second 상한에 맞춰 청크 사이에 대기한다
+ * - 청크는 PESSIMISTIC_WRITE로 읽는다. 읽은 뒤 커밋 전에 커밋된 온라인 변경(예: 이메일 변경)을
+ *   재암호화한 옛 값으로 덮어쓰지 않기 위해서다
+ * - 반대로 청크 이전에 엔티티를 읽어 둔 온라인 요청이 나중에 전체 엔티티를 저장하면 이전 키 암호문이 다시 기록될 수 있다.
+ *   그래서 한 바퀴를 돈 뒤 이전 키 암호문이 남은 행 수를 세고, 0이 될 때까지 처음부터 다시 순회한 뒤에만 완료로 본다
+ * - 진행 상황은 encryption_reencrypt_rows_scanned / encryption_reencrypt_rows_rewritten 게이지로 노출한다
+ */
+@Slf4j
+@Service
+public class EncryptionKeyRotationService {
+
+    private static final String CHECKPOINT_KEY_PREFIX = "crypto:reencrypt:checkpoint:";
+    private static final String LEGACY_KEY_ID = "legacy";
+    /** 이전 키 암호문이 계속 다시 기록되는 경우 무한 반복하지 않도록 하는 최대 순회 횟수 */
+    private static final int MAX_PASSES = 5;
+
+    private final EncryptionUtil encryptionUtil;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final List<TableJob<?>> tables;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean stopRequested = new AtomicBoolean(false);
+    private final Map<String, AtomicLong> scannedRows = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> rewrittenRows = new ConcurrentHashMap<>();
+
+    public EncryptionKeyRotationService(EncryptionUtil encryptionUtil,
+                                        UserRepository userRepository,
+                                        UserSignInInfoRepository userSignInInfoRepository,
+                                        UserChannelRepository userChannelRepository,
+                                        UserTwoFactorRepository userTwoFactorRepository,
+                                        RedisTemplate<String, String> redisTemplate,
+                                        AppProperties appProperties,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry registry) {
+        this.encryptionUtil = encryptionUtil;
+        this.redisTemplate = redisTemplate;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.tables = List.of(
+                new TableJob<User>("tb_user", userRepository::findChunkAfter,
+                        User::getId, user -> user.reencrypt(encryptionUtil::reencrypt),
+                        userRepository::countEncryptedWithOtherKey),
+                new TableJob<UserSignInInfo>("tb_user_sign_in_info", userSignInInfoRepository::findChunkAfter,
+                        UserSignInInfo::getId, signInInfo -> signInInfo.reencrypt(encryptionUtil::reencrypt),
+                        userSignInInfoRepository::countEncryptedWithOtherKey),
+                new TableJob<UserChannel>("tb_user_channel", userChannelRepository::findChunkAfter,
+                        UserChannel::getId, channel -> channel.reencrypt(encryptionUtil::reencrypt),
+                        userChannelRepository::countEncryptedWithOtherKey),
+                new TableJob<UserTwoFactor>("tb_user_two_factor", userTwoFactorRepository::findChunkAfter,
+                        UserTwoFactor::getId, twoFactor -> twoFactor.reencrypt(encryptionUtil::reencrypt),
+                        userTwoFactorRepository::countEncryptedWithOtherKey)
+        );
+
+        for (TableJob<?> table : tables) {
+            AtomicLong scanned = scannedRows.computeIfAbsent(table.name(), k -> new AtomicLong());
+            AtomicLong rewritten = rewrittenRows.computeIfAbsent(table.name(), k -> new AtomicLong());
+            Gauge.builder("encryption_reencrypt_rows_scanned", scanned, AtomicLong::doubleValue)
+                    .description("키 교체 재암호화 대상으로 읽은 행 수")
+                    .tag("table", table.name())
+                    .register(registry);
+            Gauge.builder("encryption_reencrypt_rows_rewritten", rewritten, AtomicLong::doubleValue)
+                    .description("새 키로 다시 암호화한 행 수")
+                    .tag("table", table.name())
+                    .register(registry);
+        }
+        Gauge.builder("encryption_reencrypt_running", running, flag -> flag.get() ? 1 : 0)
+                .description("재암호화 작업 실행 여부")
+                .register(registry);
+    }
+
+    /**
+     * 재암호화를 백그라운드로 실행한다.
+     */
+    @Async
+    public void runAsync() {
+        run();
+    }
+
+    /**
+     * 모든 대상 테이블을 체크포인트부터 이어서 재암호화하고, 이전 키 암호문이 남지 않을 때까지 다시 순회한다.
+     * @return 전체 완료 시 true, 이미 실행 중이거나 중단 요청으로 멈췄거나 최대 순회 후에도 남은 경우 false
+     */
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Re-encryption already running");
+            return false;
+        }
+        stopRequested.set(false);
+        try {
+            for (int pass = 1; ; pass++) {
+                for (TableJob<?> table : tables) {
+                    if (!processTable(table)) {
+                        log.info("Re-encryption stopped: table={}", table.name());
+                        return false;
+                    }
+                }
+                clearCheckpoints();
+
+                long remaining = countRowsOnOtherKeys();
+                if (remaining == 0) {
+                    break;
+                }
+                if (pass >= MAX_PASSES) {
+                    log.warn("Re-encryption left rows on previous keys: activeKeyId={}, passes={}, rows={}",
+                            currentKeyId(), pass, remaining);
+                    return false;
+                }
+                log.info("Rows written back with previous keys, rescanning: pass={}, rows={}", pass, remaining);
+            }
+            log.info("Re-encryption completed: activeKeyId={}", currentKeyId());
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 진행 중인 재암호화를 현재 청크 이후에 멈춘다 (체크포인트는 유지).
+     */
+    public void stop() {
+        stopRequested.set(true);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public EncryptionRotationStatusResponse getStatus() {
+        List<EncryptionRotationStatusResponse.TableProgress> progress = tables.stream()
+                .map(table -> EncryptionRotationStatusResponse.TableProgress.builder()
+                        .table(table.name())
+                        .checkpointId(readCheckpoint(table.name()))
+                        .scannedRows(scannedRows.get(table.name()).get())
+                        .rewrittenRows(rewrittenRows.get(table.name()).get())
+                        .build())
+                .toList();
+
+        return EncryptionRotationStatusResponse.builder()
+                .activeKeyId(encryptionUtil.getActiveKeyId())
+                .running(running.get())
+                .tables(progress)
+                .build();
+    }
+
+    private <E> boolean processTable(TableJob<E> table) {
+        AppProperties.Encryption.Reencryption settings = appProperties.getEncryption().getReencryption();
+        int chunkSize = Math.max(1, settings.getChunkSize());
+        int rowsPerSecond = Math.max(1, settings.getRowsPerSecond());
+
+        long lastId = loadCheckpoint(table.name());
+        long startedAt = System.nanoTime();
+        long processed = 0;
+
+        while (!stopRequested.get()) {
+            long afterId = lastId;
+            ChunkResult result = transactionTemplate.execute(status -> {
+                List<E> rows = table.loader().apply(afterId, PageRequest.of(0, chunkSize));
+                int rewritten = 0;
+                for (E row : rows) {
+                    if (table.rewriter().test(row)) {
+                        rewritten++;
+                    }
+                }
+                long maxId = rows.isEmpty() ? afterId : table.idExtractor().apply(rows.get(rows.size() - 1));
+                return new ChunkResult(rows.size(), rewritten, maxId);
+            });
+
+            if (result == null || result.rows() == 0) {
+                return true;
+            }
+
+            lastId = result.lastId();
+            saveCheckpoint(table.name(), lastId);
+            scannedRows.get(table.name()).addAndGet(result.rows());
+            rewrittenRows.get(table.name()).addAndGet(result.rewritten());
+            processed += result.rows();
+
+            if (result.rows() < chunkSize) {
+                return true;
+            }
+            throttle(startedAt, processed, rowsPerSecond);
+        }
+        return false;
+    }
+
+    private long countRowsOnOtherKeys() {
+        String activeKeyId = encryptionUtil.getActiveKeyId();
+        String keyPrefix = activeKeyId != null ? activeKeyId + ":" : "";
+        long remaining = 0;
+        for (TableJob<?> table : tables) {
+            long count = table.staleCounter().applyAsLong(keyPrefix);
+            if (count > 0) {
+                log.info("Rows still on previous keys: table={}, rows={}", table.name(), count);
+            }
+            remaining += count;
+        }
+        return remaining;
+    }
+
+    private void clearCheckpoints() {
+        tables.forEach(table -> redisTemplate.delete(CHECKPOINT_KEY_PREFIX + table.name()));
+    }
+
+    private void throttle(long startedAtNanos, long processed, int rowsPerSecond) {
+        long expectedMillis = processed * 1000 / rowsPerSecond;
+        long elapsedMillis = (System.nanoTime() - startedAtNanos) / 1_000_000;
+        long sleepMillis = expectedMillis - elapsedMillis;
+        if (sleepMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopRequested.set(true);
+        }
+    }
+
+    /**
+     * 체크포인트 형식: "{activeKeyId}|{lastId}"
+     * 체크포인트 이후 활성 키가 바뀌었다면 처음부터 다시 처리한다.
+     */
+    private long loadCheckpoint(String table) {
+        String value = redisTemplate.opsForValue().get(CHECKPOINT_KEY_PREFIX + table);
+        if (value == null) {
+            return 0L;
+        }
+        int separator = value.lastIndexOf('|');
+        if (separator < 0 || !value.substring(0, separator).equals(currentKeyId())) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private Long readCheckpoint(String table) {
+        String value = redisTemplate.opsForValue().get(CHECKPOINT_KEY_PREFIX + table);
+        if (value == null || value.lastIndexOf('|') < 0) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.substring(value.lastIndexOf('|') + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void saveCheckpoint(String table, long lastId) {
+        redisTemplate.opsForValue().set(CHECKPOINT_KEY_PREFIX + table, currentKeyId() + "|" + lastId);
+    }
+
+    private String currentKeyId() {
+        String activeKeyId = encryptionUtil.getActiveKeyId();
+        return activeKeyId != null ? activeKeyId : LEGACY_KEY_ID;
+    }
+
+    private record TableJob<E>(String name,
+                               BiFunction<Long, Pageable, List<E>> loader,
+                               Function<E, Long> idExtractor,
+                               Predicate<E> rewriter,
+                               ToLongFunction<String> staleCounter) {
+    }
+
+    private record ChunkResult(int rows, int rewritten, long lastId) {
+    }
+}
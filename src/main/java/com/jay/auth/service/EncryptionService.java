@@ -4,6 +4,8 @@ import com.jay.auth.util.EncryptionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 사용자 정보 암호화/복호화 서비스
  * 이메일, 핸드폰 번호, 닉네임 등 개인정보 암호화 처리
@@ -97,6 +99,26 @@ public class EncryptionService {
         return encryptionUtil.encryptLower(text);
     }
 
+    /**
+     * 백업 코드 해시 (사용자별 도메인 분리 HMAC, 검색 키로 사용)
+     * @param userId 사용자 ID
+     * @param code 백업 코드 (숫자)
+     * @return HMAC-SHA256 해시값 (Base64)
+     */
+    public String hashBackupCode(Long userId, String code) {
+        return encryptionUtil.encryptLower("backup-code:" + userId + ":" + code);
+    }
+
+    /**
+     * 인증 코드 해시 (대상별 도메인 분리 HMAC, Redis 인증 저장소용)
+     * @param scope 인증 대상 키
+     * @param code 인증 코드
+     * @return HMAC-SHA256 해시값 (Base64)
+     */
+    public String hashVerificationCode(String scope, String code) {
+        return encryptionUtil.encryptLower("verification-code:" + scope + ":" + code);
+    }
+
     /**
      * 범용 암호화
      * @param plainText 평문
@@ -114,4 +136,13 @@ public class EncryptionService {
     public String decrypt(String encryptedText) {
         return encryptionUtil.decrypt(encryptedText);
     }
+
+    /**
+     * 일괄 복호화 (목록 조회용)
+     * @param encryptedTexts 암호문 목록
+     * @return 입력 순서와 동일한 평문 목록
+     */
+    public List<String> decryptAll(List<String> encryptedTexts) {
+        return encryptionUtil.decryptAll(encryptedTexts);
+    }
 }
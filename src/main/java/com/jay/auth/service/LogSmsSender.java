@@ -14,6 +14,11 @@ import org.springframework.stereotype.Service;
 @ConditionalOnProperty(name = "app.sms.provider", havingValue = "log", matchIfMissing = true)
 public class LogSmsSender implements SmsSender {
 
+    @Override
+    public String providerName() {
+        return "log";
+    }
+
     @Override
     public void sendVerificationCode(String phone, String code) {
         log.info("========================================");
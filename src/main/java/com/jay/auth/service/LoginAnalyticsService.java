@@ -33,7 +33,7 @@ public class LoginAnalyticsService {
     /**
      * 국가/도시별 로그인 집계 히트맵 (관리자용)
      */
-    @Cacheable(value = "loginHeatmap", key = "#days")
+    @Cacheable(value = "loginHeatmap", key = "#days", sync = true)
     @Transactional(readOnly = true)
     public LoginHeatmapResponse getHeatmap(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
@@ -79,7 +79,7 @@ public class LoginAnalyticsService {
     /**
      * 실패 시도 집중 IP 핫스팟 (관리자용)
      */
-    @Cacheable(value = "loginHotspot", key = "#days")
+    @Cacheable(value = "loginHotspot", key = "#days", sync = true)
     @Transactional(readOnly = true)
     public LoginFailureHotspotResponse getFailureHotspot(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
@@ -114,7 +114,7 @@ public class LoginAnalyticsService {
     /**
      * 시간대별 로그인 패턴 타임라인 (관리자용)
      */
-    @Cacheable(value = "loginTimeline", key = "#days")
+    @Cacheable(value = "loginTimeline", key = "#days", sync = true)
     @Transactional(readOnly = true)
     public LoginTimelineResponse getTimeline(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
@@ -0,0 +1,255 @@
+package com.jay.auth.service;
+
+import com.jay.auth.repository.UserSignInInfoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 이메일 로그인 시도 상태 저장소 (Redis) + 로그인 정보 write-behind
+ * - 실패 횟수/잠금은 Redis에서 원자적으로 관리해 로그인 트랜잭션이 sign-in 행을 갱신하거나 잠그지 않는다
+ * - lastLoginAt과 실패 상태는 사용자별로 마지막 값만 남겨 두었다가 주기적으로 한 트랜잭션에서 일괄 반영한다
+ * - DB 컬럼은 관리자 화면/휴면 전환/게이지 보정이 읽는 사본이며, 로그인 판단은 Redis 상태와 DB 잠금을 함께 본다
+ */
+@Slf4j
+@Component
+public class LoginAttemptStore implements DisposableBean {
+
+    static final int MAX_FAILURES = 5;
+    static final long LOCK_MILLIS = 30 * 60 * 1000L;
+    // 실패 기록은 마지막 실패 후 하루가 지나면 초기화 (잠금 시간보다 길어야 함)
+    private static final long FAILURE_STATE_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private static final String FAILURE_KEY_PREFIX = "login:failures:";
+    static final String PENDING_LAST_LOGIN_KEY = "login:pending:last-login";
+    static final String PENDING_FAILURES_KEY = "login:pending:failures";
+
+    /**
+     * 실패 횟수 증가 + 임계치 도달 시 잠금 + 반영 대기열 기록
+     * KEYS[1]=실패 상태 해시, KEYS[2]=실패 상태 대기열
+     * ARGV[1]=userId, ARGV[2]=now(ms), ARGV[3]=최대 실패 횟수, ARGV[4]=잠금 시간(ms), ARGV[5]=상태 TTL(ms)
+     * 반환: "{failCount}:{lockedUntil(ms), 잠금 아니면 0}" (대기열에는 뒤에 ":{now(ms)}"를 붙여 기록)
+     */
+    private static final RedisScript<String> RECORD_FAILURE_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('HINCRBY', KEYS[1], 'count', 1) " +
+            "local lockedUntil = 0 " +
+            "if count >= tonumber(ARGV[3]) then " +
+            "  lockedUntil = tonumber(ARGV[2]) + tonumber(ARGV[4]) " +
+            "  redis.call('HSET', KEYS[1], 'lockedUntil', lockedUntil) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "local state = count .. ':' .. lockedUntil " +
+            "redis.call('HSET', KEYS[2], ARGV[1], state .. ':' .. ARGV[2]) " +
+            "return state",
+            String.class);
+
+    /**
+     * 성공 처리: 실패 상태 삭제 + lastLoginAt 대기열 기록 (+ 필요 시 DB 실패 상태 초기화 예약)
+     * KEYS[1]=실패 상태 해시, KEYS[2]=lastLoginAt 대기열, KEYS[3]=실패 상태 대기열
+     * ARGV[1]=userId, ARGV[2]=now(ms), ARGV[3]=DB에 실패 상태가 남아 있으면 '1'
+     */
+    private static final RedisScript<Long> RECORD_SUCCESS_SCRIPT = new DefaultRedisScript<>(
+            "local hadFailures = redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) " +
+            "if hadFailures == 1 or ARGV[3] == '1' then " +
+            "  redis.call('HSET', KEYS[3], ARGV[1], '0:0:' .. ARGV[2]) " +
+            "end " +
+            "return hadFailures",
+            Long.class);
+
+    /**
+     * 대기열을 읽고 비운다 (여러 인스턴스가 동시에 flush해도 한 곳만 가져감)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "if #entries > 0 then redis.call('DEL', KEYS[1]) end " +
+            "return entries",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserSignInInfoRepository userSignInInfoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LoginAttemptStore(StringRedisTemplate stringRedisTemplate,
+                             UserSignInInfoRepository userSignInInfoRepository,
+                             TransactionTemplate transactionTemplate) {
+        this(stringRedisTemplate, userSignInInfoRepository, transactionTemplate, System::currentTimeMillis);
+    }
+
+    LoginAttemptStore(StringRedisTemplate stringRedisTemplate,
+                      UserSignInInfoRepository userSignInInfoRepository,
+                      TransactionTemplate transactionTemplate,
+                      LongSupplier clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.userSignInInfoRepository = userSignInInfoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Redis 실패 상태 기준 잠금 여부 (Redis 장애 시에는 DB 잠금만으로 판단하도록 false)
+     */
+    public boolean isLocked(Long userId) {
+        try {
+            Object lockedUntil = stringRedisTemplate.opsForHash().get(failureKey(userId), "lockedUntil");
+            return lockedUntil != null && Long.parseLong(lockedUntil.toString()) > clock.getAsLong();
+        } catch (RuntimeException e) {
+            log.warn("Failed to read login failure state: userId={}", userId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 비밀번호 불일치 기록
+     * @return 누적 실패 횟수와 잠금 시각 (Redis 장애 시 기록되지 않은 결과)
+     */
+    public FailureResult recordFailure(Long userId) {
+        long now = clock.getAsLong();
+        try {
+            String state = stringRedisTemplate.execute(RECORD_FAILURE_SCRIPT,
+                    List.of(failureKey(userId), PENDING_FAILURES_KEY),
+                    userId.toString(), String.valueOf(now), String.valueOf(MAX_FAILURES),
+                    String.valueOf(LOCK_MILLIS), String.valueOf(FAILURE_STATE_TTL_MILLIS));
+            return FailureResult.parse(state);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record login failure: userId={}", userId, e);
+            return FailureResult.NOT_RECORDED;
+        }
+    }
+
+    /**
+     * 로그인 성공 기록
+     * @param persistedFailures DB에 실패 횟수/잠금이 남아 있는지 (있으면 다음 반영 때 초기화)
+     */
+    public void recordSuccess(Long userId, boolean persistedFailures) {
+        try {
+            stringRedisTemplate.execute(RECORD_SUCCESS_SCRIPT,
+                    List.of(failureKey(userId), PENDING_LAST_LOGIN_KEY, PENDING_FAILURES_KEY),
+                    userId.toString(), String.valueOf(clock.getAsLong()), persistedFailures ? "1" : "0");
+        } catch (RuntimeException e) {
+            log.warn("Failed to record login success: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 잠금 해제 (비밀번호 재설정 등) — DB 컬럼은 호출 측 트랜잭션에서 직접 초기화한다
+     * @return Redis에 실패 상태가 있었는지
+     */
+    public boolean reset(Long userId) {
+        // 반영 대기 중인 실패 상태가 해제 이후에 DB를 다시 잠그지 않도록 함께 버린다
+        stringRedisTemplate.opsForHash().delete(PENDING_FAILURES_KEY, userId.toString());
+        return Boolean.TRUE.equals(stringRedisTemplate.delete(failureKey(userId)));
+    }
+
+    @Scheduled(fixedDelay = 5_000)
+    public void flush() {
+        Map<String, String> lastLogins;
+        Map<String, String> failures;
+        try {
+            lastLogins = drain(PENDING_LAST_LOGIN_KEY);
+            failures = drain(PENDING_FAILURES_KEY);
+        } catch (RuntimeException e) {
+            log.warn("Failed to drain pending login state", e);
+            return;
+        }
+        if (lastLogins.isEmpty() && failures.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                lastLogins.forEach((userId, millis) ->
+                        userSignInInfoRepository.updateLastLoginAt(Long.valueOf(userId), toDateTime(Long.parseLong(millis))));
+                failures.forEach((userId, state) -> {
+                    // 상태 시각을 함께 넘겨 이미 반영된 더 최근 상태(다른 인스턴스의 성공, 잠금 해제)는 덮어쓰지 않는다
+                    int separator = state.lastIndexOf(':');
+                    boolean stamped = state.indexOf(':') != separator;
+                    FailureResult failure = FailureResult.parse(stamped ? state.substring(0, separator) : state);
+                    // 시각 없이 기록된 이전 형식은 가장 오래된 상태로 취급한다
+                    long stateAt = stamped ? Long.parseLong(state.substring(separator + 1)) : 0;
+                    userSignInInfoRepository.updateFailureState(Long.valueOf(userId), failure.failCount(),
+                            failure.lockedUntil(), toDateTime(stateAt));
+                });
+            });
+            log.debug("Flushed login state: lastLogins={}, failures={}", lastLogins.size(), failures.size());
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도하도록 되돌린다 (그 사이 들어온 더 새로운 값은 덮어쓰지 않음)
+            requeue(PENDING_LAST_LOGIN_KEY, lastLogins);
+            requeue(PENDING_FAILURES_KEY, failures);
+            log.warn("Failed to flush login state: lastLogins={}, failures={}", lastLogins.size(), failures.size(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private Map<String, String> drain(String key) {
+        List<?> entries = stringRedisTemplate.execute(DRAIN_SCRIPT, List.of(key));
+        Map<String, String> drained = new LinkedHashMap<>();
+        if (entries != null) {
+            for (int i = 0; i + 1 < entries.size(); i += 2) {
+                drained.put(entries.get(i).toString(), entries.get(i + 1).toString());
+            }
+        }
+        return drained;
+    }
+
+    private void requeue(String key, Map<String, String> entries) {
+        try {
+            entries.forEach((field, value) -> stringRedisTemplate.opsForHash().putIfAbsent(key, field, value));
+        } catch (RuntimeException e) {
+            log.warn("Failed to requeue pending login state: key={}, count={}", key, entries.size(), e);
+        }
+    }
+
+    private String failureKey(Long userId) {
+        return FAILURE_KEY_PREFIX + userId;
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 실패 기록 결과
+     * @param failCount 누적 실패 횟수
+     * @param lockedUntil 잠금 만료 시각 (잠기지 않았으면 null)
+     */
+    public record FailureResult(int failCount, LocalDateTime lockedUntil) {
+
+        static final FailureResult NOT_RECORDED = new FailureResult(0, null);
+
+        public boolean isLocked() {
+            return lockedUntil != null;
+        }
+
+        static FailureResult parse(String state) {
+            if (state == null) {
+                return NOT_RECORDED;
+            }
+            int separator = state.indexOf(':');
+            int failCount = Integer.parseInt(state.substring(0, separator));
+            long lockedUntilMillis = Long.parseLong(state.substring(separator + 1));
+            return new FailureResult(failCount, lockedUntilMillis > 0 ? toDateTime(lockedUntilMillis) : null);
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.jay.auth.service;
 
 import com.jay.auth.domain.entity.LoginHistory;
 import com.jay.auth.domain.enums.ChannelCode;
+import com.jay.auth.dto.response.CursorPageResponse;
 import com.jay.auth.dto.response.LoginHistoryResponse;
 import com.jay.auth.repository.LoginHistoryRepository;
 import com.jay.auth.security.TokenStore;
+import com.jay.auth.service.posture.SecurityPostureStore;
+import com.jay.auth.util.PageCursor;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +27,9 @@ public class LoginHistoryService {
 
     private final LoginHistoryRepository loginHistoryRepository;
     private final GeoIpService geoIpService;
+    private final ActiveUserSketchService activeUserSketchService;
+    private final SuspiciousActivityService suspiciousActivityService;
+    private final SecurityPostureStore securityPostureStore;
 
     /**
      * Record successful login
@@ -66,6 +72,11 @@ public class LoginHistoryService {
                 .build();
 
         loginHistoryRepository.save(history);
+        if (isSuccess) {
+            activeUserSketchService.recordActiveUser(userId);
+        }
+        suspiciousActivityService.recordLoginEvent(history);
+        securityPostureStore.recordLogin(history);
         log.debug("Login history recorded: userId={}, channelCode={}, success={}", userId, channelCode, isSuccess);
     }
 
@@ -82,6 +93,24 @@ public class LoginHistoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get login history page using keyset (createdAt, id) cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LoginHistoryResponse> getLoginHistoryPage(Long userId, String cursor,
+                                                                        int size, boolean includeTotal) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<LoginHistory> histories = loginHistoryRepository.findPageByUserId(
+                userId,
+                pageCursor != null ? pageCursor.createdAt() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                PageRequest.of(0, size + 1));
+
+        Long total = includeTotal ? loginHistoryRepository.countByUserId(userId) : null;
+        return CursorPageResponse.of(histories, size, LoginHistoryResponse::from,
+                h -> new PageCursor(h.getCreatedAt(), h.getId()), total);
+    }
+
     /**
      * Get count of failed login attempts since a time
      */
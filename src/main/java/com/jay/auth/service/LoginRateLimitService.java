@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.service.risk.CredentialStuffingDetector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -17,12 +18,14 @@ import java.time.Duration;
 public class LoginRateLimitService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final CredentialStuffingDetector credentialStuffingDetector;
 
     private static final String EMAIL_ATTEMPTS_PREFIX = "login:email:";
     private static final String IP_ATTEMPTS_PREFIX = "login:ip:";
     private static final Duration WINDOW_DURATION = Duration.ofMinutes(15);
     private static final int MAX_ATTEMPTS_PER_EMAIL = 5;
     private static final int MAX_ATTEMPTS_PER_IP = 20;
+    private static final int MAX_ATTEMPTS_PER_IP_UNDER_ATTACK = 10;
 
     /**
      * Record a failed login attempt for an email
@@ -30,15 +33,26 @@ public class LoginRateLimitService {
     public void recordFailedAttempt(String email, String ipAddress) {
         incrementAttempt(EMAIL_ATTEMPTS_PREFIX + email.toLowerCase());
         incrementAttempt(IP_ATTEMPTS_PREFIX + ipAddress);
+        credentialStuffingDetector.recordAttempt(email, ipAddress, false);
         log.debug("Recorded failed login attempt: email={}, ip={}", email, ipAddress);
     }
 
+    /**
+     * Feed an attempt rejected by the rate limit to the credential stuffing detector.
+     * The per-IP limit stops counting at MAX_ATTEMPTS_PER_IP, so without this the detector
+     * would never see enough failures from one IP to auto-block it.
+     */
+    public void recordRejectedAttempt(String email, String ipAddress) {
+        credentialStuffingDetector.recordAttempt(email, ipAddress, false);
+    }
+
     /**
      * Clear failed attempts after successful login
      */
     public void clearFailedAttempts(String email, String ipAddress) {
         redisTemplate.delete(EMAIL_ATTEMPTS_PREFIX + email.toLowerCase());
         // Note: We don't clear IP attempts on success to prevent circumvention
+        credentialStuffingDetector.recordAttempt(email, ipAddress, true);
         log.debug("Cleared failed login attempts for email: {}", email);
     }
 
@@ -54,7 +68,10 @@ public class LoginRateLimitService {
             return false;
         }
 
-        if (ipAttempts >= MAX_ATTEMPTS_PER_IP) {
+        // Tighten the per-IP limit while a population-level stuffing attack is in progress
+        int maxIpAttempts = credentialStuffingDetector.isUnderAttack()
+                ? MAX_ATTEMPTS_PER_IP_UNDER_ATTACK : MAX_ATTEMPTS_PER_IP;
+        if (ipAttempts >= maxIpAttempts) {
             log.warn("Login rate limited for IP: {} (attempts: {})", ipAddress, ipAttempts);
             return false;
         }
@@ -9,7 +9,8 @@ import java.time.Duration;
 
 /**
  * Service to manage OAuth2 account linking state.
- * Stores link mode information in Redis during the OAuth2 flow.
+ * Hands the link target user over from the prepare API call to the authorization redirect;
+ * after that it is carried by the stored authorization request.
  */
 @Slf4j
 @Service
@@ -33,32 +34,21 @@ public class OAuth2LinkStateService {
     }
 
     /**
-     * Get the user ID for link mode from the OAuth2 state
-     * @param state The OAuth2 state parameter
+     * Consume the link state when the OAuth2 authorization request starts.
+     * The user ID then travels inside the stored authorization request, so the state is single-use.
+     * @param state The link state issued by prepareLink
      * @return The user ID if in link mode, null otherwise
      */
-    public Long getLinkUserId(String state) {
+    public Long consumeLinkUserId(String state) {
         if (state == null) {
             return null;
         }
         String key = LINK_STATE_PREFIX + state;
-        String userId = redisTemplate.opsForValue().get(key);
+        String userId = redisTemplate.opsForValue().getAndDelete(key);
         if (userId != null) {
-            log.debug("Found link state: state={}, userId={}", state, userId);
+            log.debug("Consumed link state: state={}, userId={}", state, userId);
             return Long.parseLong(userId);
         }
         return null;
     }
-
-    /**
-     * Remove link state after OAuth2 flow completes
-     * @param state The OAuth2 state parameter
-     */
-    public void removeLinkState(String state) {
-        if (state != null) {
-            String key = LINK_STATE_PREFIX + state;
-            redisTemplate.delete(key);
-            log.debug("Removed link state: state={}", state);
-        }
-    }
 }
@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserChannel;
 import com.jay.auth.domain.enums.ChannelCode;
@@ -10,15 +11,13 @@ import com.jay.auth.repository.UserChannelRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.security.oauth2.OAuth2UserInfo;
 import com.jay.auth.service.metrics.AuthTimed;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import com.jay.auth.util.NicknameGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,7 +31,8 @@ public class OAuth2UserService {
     private final UserChannelRepository userChannelRepository;
     private final EncryptionService encryptionService;
     private final NicknameGenerator nicknameGenerator;
-    private final CacheManager cacheManager;
+    private final UserCacheGenerations userCacheGenerations;
+    private final SecurityPostureStore securityPostureStore;
 
     @AuthTimed(operation = "oauth2_login", channelParam = "channelCode")
     @Transactional
@@ -117,15 +117,10 @@ public class OAuth2UserService {
         userChannelRepository.save(newChannel);
         user.addChannel(newChannel);
         userRepository.flush();
+        securityPostureStore.adjustSocialLinkCount(userId, 1);
 
-        // 트랜잭션 커밋 후 캐시 제거 (AOP 순서 문제 방지)
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                evictUserProfileCache(userId);
-                evictSecurityDashboardCache(userId);
-            }
-        });
+        // 프로필 캐시 무효화 (커밋 후 세대 증가)
+        userCacheGenerations.bump(userId);
 
         log.info("Social account linked to user: userId={}, channelCode={}, channelKey={}", userId, channelCode, channelKey);
 
@@ -172,35 +167,19 @@ public class OAuth2UserService {
         return user;
     }
 
+    /**
+     * 채널 이메일 갱신
+     * - 암호문은 IV가 매번 달라 항상 변경으로 감지되므로, 결정적인 검색용 값(blind index)으로 비교해 바뀐 경우에만 갱신한다
+     */
     private void updateChannelEmail(UserChannel channel, String email) {
         if (email == null) {
             return;
         }
-        EncryptionService.EncryptedEmail encryptedEmail = encryptionService.encryptEmail(email);
-        channel.updateChannelEmail(encryptedEmail.encrypted(), encryptedEmail.encryptedLower());
-    }
-
-    private void evictUserProfileCache(Long userId) {
-        try {
-            var cache = cacheManager.getCache("userProfile");
-            if (cache != null) {
-                cache.evict(userId);
-                log.debug("Evicted userProfile cache for userId={}", userId);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to evict userProfile cache: {}", e.getMessage());
-        }
-    }
-
-    private void evictSecurityDashboardCache(Long userId) {
-        try {
-            var cache = cacheManager.getCache("securityDashboard");
-            if (cache != null) {
-                cache.evict(userId);
-                log.debug("Evicted securityDashboard cache for userId={}", userId);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to evict securityDashboard cache: {}", e.getMessage());
+        String emailLowerEnc = encryptionService.encryptForSearch(email);
+        if (emailLowerEnc.equals(channel.getChannelEmailLowerEnc())) {
+            return;
         }
+        channel.updateChannelEmail(encryptionService.encrypt(email), emailLowerEnc);
+        userCacheGenerations.bump(channel.getUser().getId());
     }
 }
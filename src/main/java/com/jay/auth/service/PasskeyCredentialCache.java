@@ -0,0 +1,182 @@
+package com.jay.auth.service;
+
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * 파싱된 패스키 credential 캐시
+ * - 인증마다 반복되던 credential 조회(JOIN FETCH)와 COSE 공개키 역직렬화를 생략한다
+ * - 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 삭제/이름 변경 시 무효화한다
+ * - 로컬 캐시의 서명 카운터는 참고값이며, clone 판정은 Redis에 둔 단조 증가 카운터로 원자적으로 한다
+ */
+@Component
+public class PasskeyCredentialCache {
+
+    public enum SignCountResult {
+        /** 카운터가 증가했거나 카운터를 지원하지 않는 인증기 (둘 다 0) */
+        ACCEPTED,
+        /** 저장된 카운터 이하 - 복제된 인증기 의심 */
+        CLONE_SUSPECTED,
+        /** 다른 인스턴스에서 삭제된 credential */
+        REVOKED
+    }
+
+    /**
+     * 파싱된 credential과 인증에 필요한 메타데이터
+     */
+    public record CachedCredential(Long passkeyId, Long userId, AttestedCredentialData credentialData,
+                                   long signCount, String deviceName) {
+
+        CachedCredential withSignCount(long signCount) {
+            return new CachedCredential(passkeyId, userId, credentialData, signCount, deviceName);
+        }
+    }
+
+    private static final String SIGN_COUNT_PREFIX = "passkey:sign-count:";
+    private static final String REVOKED_PREFIX = "passkey:revoked:";
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final long DEFAULT_TTL_MILLIS = 600_000;
+    private static final Duration SIGN_COUNT_TTL = Duration.ofDays(30);
+    /** 다른 인스턴스의 로컬 캐시가 모두 만료될 때까지 삭제 표시를 유지한다 */
+    private static final Duration REVOKED_TTL = Duration.ofMillis(DEFAULT_TTL_MILLIS * 2);
+
+    /**
+     * 삭제 표시가 있으면 -1, 저장된 카운터(없으면 DB 기준값) 이하이면 0, 증가했으면 저장 후 1
+     */
+    private static final RedisScript<Long> ACCEPT_SIGN_COUNT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return -1 end " +
+                    "local stored = tonumber(redis.call('GET', KEYS[1]) or ARGV[1]) " +
+                    "local received = tonumber(ARGV[2]) " +
+                    "if (received ~= 0 or stored ~= 0) and received <= stored then return 0 end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LongSupplier clock;
+    private final long ttlMillis;
+    private final Map<String, CacheEntry> entries;
+
+    @Autowired
+    public PasskeyCredentialCache(StringRedisTemplate stringRedisTemplate) {
+        this(stringRedisTemplate, System::currentTimeMillis, DEFAULT_MAX_ENTRIES, DEFAULT_TTL_MILLIS);
+    }
+
+    PasskeyCredentialCache(StringRedisTemplate stringRedisTemplate, LongSupplier clock, int maxEntries, long ttlMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Optional<CachedCredential> get(String credentialId) {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(credentialId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt <= now) {
+                entries.remove(credentialId);
+                return Optional.empty();
+            }
+            return Optional.of(entry.credential);
+        }
+    }
+
+    public void put(String credentialId, CachedCredential credential) {
+        long expiresAt = clock.getAsLong() + ttlMillis;
+        synchronized (entries) {
+            entries.put(credentialId, new CacheEntry(credential, expiresAt));
+        }
+    }
+
+    /**
+     * 인증 성공 후 로컬 카운터 기준값을 올린다 (감소하지 않음)
+     */
+    public void advanceSignCount(String credentialId, long signCount) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(credentialId);
+            if (entry != null && entry.credential.signCount() < signCount) {
+                entries.put(credentialId, new CacheEntry(entry.credential.withSignCount(signCount), entry.expiresAt));
+            }
+        }
+    }
+
+    /**
+     * 공유 카운터와 비교해 새 서명 카운터를 원자적으로 수락한다
+     * @param baseline 공유 카운터가 없을 때 사용할 DB 기준값
+     */
+    public SignCountResult acceptSignCount(String credentialId, long baseline, long received) {
+        Long result = stringRedisTemplate.execute(ACCEPT_SIGN_COUNT_SCRIPT,
+                List.of(SIGN_COUNT_PREFIX + credentialId, REVOKED_PREFIX + credentialId),
+                String.valueOf(baseline), String.valueOf(received), String.valueOf(SIGN_COUNT_TTL.toSeconds()));
+        if (result == null || result == 0L) {
+            return SignCountResult.CLONE_SUSPECTED;
+        }
+        if (result < 0) {
+            invalidate(credentialId);
+            return SignCountResult.REVOKED;
+        }
+        return SignCountResult.ACCEPTED;
+    }
+
+    /**
+     * 이름 변경 등 메타데이터 변경 시 로컬 캐시만 지운다
+     */
+    public void invalidate(String credentialId) {
+        synchronized (entries) {
+            entries.remove(credentialId);
+        }
+    }
+
+    /**
+     * credential 삭제 시 로컬 캐시와 공유 카운터를 지우고, 다른 인스턴스가 캐시로 인증하지 못하게 삭제 표시를 남긴다
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다 (롤백된 삭제가 credential을 무효화하지 않도록)
+     */
+    public void revoke(String credentialId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeNow(credentialId);
+                }
+            });
+            return;
+        }
+        revokeNow(credentialId);
+    }
+
+    private void revokeNow(String credentialId) {
+        invalidate(credentialId);
+        stringRedisTemplate.opsForValue().set(REVOKED_PREFIX + credentialId, "1", REVOKED_TTL);
+        stringRedisTemplate.delete(SIGN_COUNT_PREFIX + credentialId);
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record CacheEntry(CachedCredential credential, long expiresAt) {
+    }
+}
@@ -25,15 +25,16 @@ import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.verifier.exception.VerificationException;
 import com.jay.auth.service.metrics.AuthGaugeMetrics;
 import com.jay.auth.service.metrics.AuthTimed;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -50,9 +51,14 @@ public class PasskeyService {
     private final AuditLogService auditLogService;
     private final SecurityNotificationService securityNotificationService;
     private final AuthGaugeMetrics authGaugeMetrics;
+    private final PasskeyCredentialCache passkeyCredentialCache;
+    private final PasskeyUsageWriteBehind passkeyUsageWriteBehind;
+    private final SecurityPostureStore securityPostureStore;
 
     private final WebAuthnManager webAuthnManager = WebAuthnManager.createNonStrictWebAuthnManager();
     private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AttestedCredentialDataConverter attestedCredentialDataConverter =
+            new AttestedCredentialDataConverter(objectConverter);
 
     @Value("${app.webauthn.rp-id:localhost}")
     private String rpId;
@@ -136,7 +142,6 @@ public class PasskeyService {
      * 패스키 등록 검증 & credential 저장 (Authenticated)
      */
     @AuthTimed(operation = "passkey_register")
-    @CacheEvict(value = "securityDashboard", key = "#userId")
     @Transactional
     public void verifyRegistration(Long userId, PasskeyRegisterRequest request) {
         User user = userRepository.findById(userId)
@@ -173,8 +178,7 @@ public class PasskeyService {
             AttestedCredentialData credentialData = attestationObj.getAuthenticatorData().getAttestedCredentialData();
 
             // Serialize public key
-            AttestedCredentialDataConverter converter = new AttestedCredentialDataConverter(objectConverter);
-            byte[] publicKeyBytes = converter.convert(credentialData);
+            byte[] publicKeyBytes = attestedCredentialDataConverter.convert(credentialData);
 
             // Check for duplicate credential
             String credentialId = request.getCredentialId();
@@ -196,6 +200,7 @@ public class PasskeyService {
 
             log.info("Passkey registered for user: {}, credentialId: {}", userId, credentialId);
             authGaugeMetrics.incrementRegisteredPasskeys();
+            securityPostureStore.adjustPasskeyCount(userId, 1);
 
             String savedDeviceName = passkey.getDeviceName();
             auditLogService.log(userId, "PASSKEY_REGISTERED", credentialId,
@@ -238,13 +243,28 @@ public class PasskeyService {
      * 패스키 인증 검증 & JWT 발급 (Public)
      */
     @AuthTimed(operation = "passkey_authenticate")
-    @Transactional
+    @Transactional(readOnly = true)
     public LoginResponse verifyAuthentication(PasskeyAuthenticateRequest request) {
-        // Find passkey by credential ID
-        UserPasskey passkey = userPasskeyRepository.findByCredentialIdWithUser(request.getCredentialId())
-                .orElseThrow(PasskeyException::notFound);
-
-        User user = passkey.getUser();
+        // Find parsed credential (cache first) and its owner
+        PasskeyCredentialCache.CachedCredential credential;
+        User user;
+        Optional<PasskeyCredentialCache.CachedCredential> cached = passkeyCredentialCache.get(request.getCredentialId());
+        if (cached.isPresent()) {
+            credential = cached.get();
+            user = userRepository.findById(credential.userId())
+                    .orElseThrow(PasskeyException::notFound);
+        } else {
+            UserPasskey passkey = userPasskeyRepository.findByCredentialIdWithUser(request.getCredentialId())
+                    .orElseThrow(PasskeyException::notFound);
+            user = passkey.getUser();
+            credential = new PasskeyCredentialCache.CachedCredential(
+                    passkey.getId(),
+                    user.getId(),
+                    attestedCredentialDataConverter.convert(passkey.getPublicKey()),
+                    passkey.getSignCount(),
+                    passkey.getDeviceName());
+            passkeyCredentialCache.put(request.getCredentialId(), credential);
+        }
 
         // Find and consume challenge from Redis - try all login challenges
         String challenge = findAndConsumeLoginChallenge(request.getClientDataJSON());
@@ -262,12 +282,8 @@ public class PasskeyService {
             Origin originObj = new Origin(origin);
             ServerProperty serverProperty = new ServerProperty(originObj, rpId, challengeObj, null);
 
-            // Reconstruct attested credential data
-            AttestedCredentialDataConverter converter = new AttestedCredentialDataConverter(objectConverter);
-            AttestedCredentialData credentialData = converter.convert(passkey.getPublicKey());
-
             AuthenticatorImpl authenticator = new AuthenticatorImpl(
-                    credentialData, null, passkey.getSignCount());
+                    credential.credentialData(), null, credential.signCount());
 
             AuthenticationRequest authenticationRequest = new AuthenticationRequest(
                     credentialId, null, authenticatorData, clientDataJSON, null, signature);
@@ -277,9 +293,20 @@ public class PasskeyService {
             AuthenticationData authenticationData = webAuthnManager.parse(authenticationRequest);
             webAuthnManager.validate(authenticationData, authenticationParameters);
 
-            // Update sign count
-            passkey.updateSignCount(authenticationData.getAuthenticatorData().getSignCount());
-            passkey.recordUsage();
+            // Clone detection against the shared counter, then buffer the usage write
+            long signCount = authenticationData.getAuthenticatorData().getSignCount();
+            PasskeyCredentialCache.SignCountResult signCountResult = passkeyCredentialCache.acceptSignCount(
+                    request.getCredentialId(), credential.signCount(), signCount);
+            if (signCountResult == PasskeyCredentialCache.SignCountResult.REVOKED) {
+                throw PasskeyException.notFound();
+            }
+            if (signCountResult == PasskeyCredentialCache.SignCountResult.CLONE_SUSPECTED) {
+                log.warn("Passkey sign count did not increase, possible cloned authenticator: credentialId={}, signCount={}",
+                        request.getCredentialId(), signCount);
+                throw PasskeyException.verificationFailed();
+            }
+            passkeyCredentialCache.advanceSignCount(request.getCredentialId(), signCount);
+            passkeyUsageWriteBehind.record(credential.passkeyId(), signCount, LocalDateTime.now());
 
             // Issue tokens
             TokenResponse tokenResponse = tokenService.issueTokens(
@@ -328,7 +355,6 @@ public class PasskeyService {
     /**
      * 패스키 삭제
      */
-    @CacheEvict(value = "securityDashboard", key = "#userId")
     @Transactional
     public void deletePasskey(Long userId, Long passkeyId) {
         UserPasskey passkey = userPasskeyRepository.findByIdAndUserId(passkeyId, userId)
@@ -336,8 +362,11 @@ public class PasskeyService {
 
         String deviceName = passkey.getDeviceName();
         userPasskeyRepository.delete(passkey);
+        passkeyUsageWriteBehind.discard(passkeyId);
+        passkeyCredentialCache.revoke(passkey.getCredentialId());
         log.info("Passkey deleted for user: {}, passkeyId: {}", userId, passkeyId);
         authGaugeMetrics.decrementRegisteredPasskeys();
+        securityPostureStore.adjustPasskeyCount(userId, -1);
 
         auditLogService.log(userId, "PASSKEY_REMOVED", String.valueOf(passkeyId),
                 "패스키 삭제: " + deviceName, true);
@@ -353,6 +382,7 @@ public class PasskeyService {
                 .orElseThrow(PasskeyException::notFound);
 
         passkey.updateDeviceName(deviceName);
+        passkeyCredentialCache.invalidate(passkey.getCredentialId());
         log.info("Passkey renamed for user: {}, passkeyId: {}", userId, passkeyId);
     }
 
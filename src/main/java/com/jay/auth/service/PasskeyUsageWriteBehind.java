@@ -0,0 +1,75 @@
+package com.jay.auth.service;
+
+import com.jay.auth.repository.UserPasskeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 패스키 서명 카운터/마지막 사용 시각 write-behind 버퍼
+ * - 인증 요청은 버퍼에만 기록하고, 주기적으로 패스키당 한 번의 UPDATE로 모아서 반영한다
+ * - 같은 패스키의 기록은 큰 값으로 병합하고 DB 갱신도 더 큰 값일 때만 덮어써 카운터가 되돌아가지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasskeyUsageWriteBehind implements DisposableBean {
+
+    private final UserPasskeyRepository userPasskeyRepository;
+
+    private final Map<Long, PendingUsage> pending = new ConcurrentHashMap<>();
+
+    public void record(Long passkeyId, long signCount, LocalDateTime usedAt) {
+        pending.merge(passkeyId, new PendingUsage(signCount, usedAt), PendingUsage::merge);
+    }
+
+    /**
+     * 삭제된 패스키의 대기 중인 기록을 버린다
+     */
+    public void discard(Long passkeyId) {
+        pending.remove(passkeyId);
+    }
+
+    @Scheduled(fixedDelay = 5_000)
+    public void flush() {
+        for (Long passkeyId : List.copyOf(pending.keySet())) {
+            PendingUsage usage = pending.remove(passkeyId);
+            if (usage == null) {
+                continue;
+            }
+            try {
+                userPasskeyRepository.updateUsage(passkeyId, usage.signCount(), usage.lastUsedAt());
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도하도록 되돌리고 이번 주기는 중단한다
+                pending.merge(passkeyId, usage, PendingUsage::merge);
+                log.warn("Failed to flush passkey usage: passkeyId={}", passkeyId, e);
+                return;
+            }
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    record PendingUsage(long signCount, LocalDateTime lastUsedAt) {
+
+        PendingUsage merge(PendingUsage other) {
+            return new PendingUsage(
+                    Math.max(signCount, other.signCount),
+                    lastUsedAt.isAfter(other.lastUsedAt) ? lastUsedAt : other.lastUsedAt);
+        }
+    }
+}
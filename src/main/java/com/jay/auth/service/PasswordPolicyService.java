@@ -38,12 +38,18 @@ public class PasswordPolicyService {
      * 비밀번호 만료 여부 확인
      */
     public boolean isPasswordExpired(UserSignInInfo signInInfo) {
-        if (signInInfo == null || signInInfo.getPasswordUpdatedAt() == null) {
+        return isPasswordExpiredSince(signInInfo != null ? signInInfo.getPasswordUpdatedAt() : null);
+    }
+
+    /**
+     * 비밀번호 변경 시각 기준 만료 여부 확인 (보안 상태 스냅샷처럼 엔티티 없이 판단할 때)
+     */
+    public boolean isPasswordExpiredSince(LocalDateTime passwordUpdatedAt) {
+        if (passwordUpdatedAt == null) {
             return false; // 첫 로그인이거나 업데이트 기록이 없으면 만료 아님
         }
 
-        LocalDateTime expirationDate = signInInfo.getPasswordUpdatedAt()
-                .plusDays(passwordExpirationDays);
+        LocalDateTime expirationDate = passwordUpdatedAt.plusDays(passwordExpirationDays);
         return LocalDateTime.now().isAfter(expirationDate);
     }
 
@@ -51,12 +57,18 @@ public class PasswordPolicyService {
      * 비밀번호 만료까지 남은 일수
      */
     public int getDaysUntilExpiration(UserSignInInfo signInInfo) {
-        if (signInInfo == null || signInInfo.getPasswordUpdatedAt() == null) {
+        return getDaysUntilExpirationSince(signInInfo != null ? signInInfo.getPasswordUpdatedAt() : null);
+    }
+
+    /**
+     * 비밀번호 변경 시각 기준 만료까지 남은 일수
+     */
+    public int getDaysUntilExpirationSince(LocalDateTime passwordUpdatedAt) {
+        if (passwordUpdatedAt == null) {
             return passwordExpirationDays;
         }
 
-        LocalDateTime expirationDate = signInInfo.getPasswordUpdatedAt()
-                .plusDays(passwordExpirationDays);
+        LocalDateTime expirationDate = passwordUpdatedAt.plusDays(passwordExpirationDays);
         long daysRemaining = java.time.temporal.ChronoUnit.DAYS.between(
                 LocalDateTime.now(), expirationDate);
         return Math.max(0, (int) daysRemaining);
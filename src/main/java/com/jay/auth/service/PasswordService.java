@@ -11,12 +11,12 @@ import com.jay.auth.exception.InvalidVerificationException;
 import com.jay.auth.exception.PasswordPolicyException;
 import com.jay.auth.exception.UserNotFoundException;
 import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.service.metrics.AuthGaugeMetrics;
 import com.jay.auth.service.metrics.AuthTimed;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import com.jay.auth.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,10 +34,11 @@ public class PasswordService {
     private final PasswordUtil passwordUtil;
     private final SecurityNotificationService securityNotificationService;
     private final PasswordPolicyService passwordPolicyService;
-    private final CacheManager cacheManager;
+    private final AuthGaugeMetrics authGaugeMetrics;
+    private final LoginAttemptStore loginAttemptStore;
+    private final SecurityPostureStore securityPostureStore;
 
     @AuthTimed(operation = "password_change")
-    @CacheEvict(value = "securityDashboard", key = "#userId")
     @Transactional
     public void changePassword(Long userId, ChangePasswordRequest request) {
         UserSignInInfo signInInfo = userSignInInfoRepository.findByUserId(userId)
@@ -53,6 +54,11 @@ public class PasswordService {
             throw new InvalidPasswordException();
         }
 
+        // 유출 비밀번호 확인
+        if (passwordUtil.isBreached(request.getNewPassword())) {
+            throw PasswordPolicyException.breached();
+        }
+
         // 현재 비밀번호와 동일한지 확인
         if (passwordPolicyService.isSameAsCurrentPassword(request.getNewPassword(), signInInfo.getPasswordHash())) {
             throw PasswordPolicyException.sameAsCurrent();
@@ -67,6 +73,7 @@ public class PasswordService {
         passwordPolicyService.savePasswordHistory(signInInfo.getUser(), signInInfo.getPasswordHash());
 
         signInInfo.updatePassword(passwordUtil.encode(request.getNewPassword()));
+        securityPostureStore.recordPasswordChanged(userId, signInInfo.getPasswordUpdatedAt());
 
         // 모든 세션 무효화 (비밀번호 변경 후 전체 로그아웃)
         tokenService.logoutAll(userId, null);
@@ -132,6 +139,11 @@ public class PasswordService {
             throw new InvalidPasswordException();
         }
 
+        // 유출 비밀번호 확인
+        if (passwordUtil.isBreached(request.getNewPassword())) {
+            throw PasswordPolicyException.breached();
+        }
+
         // 로그인 이메일로 로그인 정보 조회
         String loginEmailLowerEnc = encryptionService.encryptForSearch(request.getLoginEmail());
         UserSignInInfo signInInfo = userSignInInfoRepository.findByLoginEmailLowerEncWithUser(loginEmailLowerEnc)
@@ -160,10 +172,14 @@ public class PasswordService {
 
         // 비밀번호 변경
         signInInfo.updatePassword(passwordUtil.encode(request.getNewPassword()));
-
-        // 잠금 해제
-        if (signInInfo.isLocked()) {
-            signInInfo.unlock();
+        securityPostureStore.recordPasswordChanged(userId, signInInfo.getPasswordUpdatedAt());
+
+        // 잠금 해제 (DB에 반영된 상태 + Redis 실패 상태)
+        // 반영 중인 이전 실패 상태가 다시 잠그지 않도록 실패 상태가 없어도 해제 시각을 남긴다
+        boolean locked = signInInfo.isLocked();
+        signInInfo.unlock();
+        if (loginAttemptStore.reset(userId) || locked) {
+            authGaugeMetrics.recordAccountUnlocked(userId);
         }
 
         // 인증 기록 삭제
@@ -175,12 +191,6 @@ public class PasswordService {
         // 비밀번호 변경 알림
         securityNotificationService.notifyPasswordChanged(userId);
 
-        // 비밀번호 변경으로 보안 점수(PASSWORD_HEALTH) 갱신을 위해 캐시 무효화
-        var cache = cacheManager.getCache("securityDashboard");
-        if (cache != null) {
-            cache.evict(userId);
-        }
-
         log.info("User {} reset password via recovery email", userId);
     }
 }
@@ -1,103 +1,96 @@
 package com.jay.auth.service;
 
-import com.jay.auth.domain.entity.PhoneVerification;
 import com.jay.auth.exception.InvalidVerificationException;
-import com.jay.auth.repository.PhoneVerificationRepository;
+import com.jay.auth.exception.RateLimitException;
+import com.jay.auth.service.verification.VerificationStore;
+import com.jay.auth.service.verification.VerificationTarget;
+import com.jay.auth.service.verification.VerificationToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
-import java.time.LocalDateTime;
+import java.time.Duration;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PhoneVerificationService {
 
-    private final PhoneVerificationRepository phoneVerificationRepository;
+    private final VerificationStore verificationStore;
     private final EncryptionService encryptionService;
-    private final SmsSender smsSender;
+    private final SmsDispatchQueue smsDispatchQueue;
 
     private static final int CODE_LENGTH = 6;
     private static final int EXPIRATION_MINUTES = 3;
 
     /**
      * 인증 코드 생성 및 발송
+     * - 같은 번호로 짧은 시간 안에 다시 요청하면 새 코드를 만들지 않고 거절한다 (이미 보낸 코드 사용)
      */
-    @Transactional
     public String sendVerificationCode(String phone) {
-        String phoneEnc = encryptionService.encryptPhone(phone);
         String phoneLowerEnc = encryptionService.encryptForSearch(phone);
+        if (!smsDispatchQueue.tryReserve(phoneLowerEnc)) {
+            throw new RateLimitException("인증 코드가 이미 발송되었습니다. 잠시 후 다시 요청해주세요.",
+                    smsDispatchQueue.getDedupWindowSeconds());
+        }
 
-        // 기존 미인증 요청 삭제
-        phoneVerificationRepository.deleteByPhoneLowerEnc(phoneLowerEnc);
-
-        // 인증 코드 생성
-        String code = generateCode();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(EXPIRATION_MINUTES);
-
-        // 저장
-        PhoneVerification verification = PhoneVerification.builder()
-                .phoneEnc(phoneEnc)
-                .phoneLowerEnc(phoneLowerEnc)
-                .verificationCode(code)
-                .expiresAt(expiresAt)
-                .build();
+        try {
+            VerificationTarget target = VerificationTarget.phone(phoneLowerEnc, encryptionService.encryptPhone(phone));
 
-        phoneVerificationRepository.save(verification);
+            // 인증 코드 생성 및 저장 (기존 미인증 요청은 대체됨)
+            String code = generateCode();
+            Duration validFor = Duration.ofMinutes(EXPIRATION_MINUTES);
+            String tokenId = verificationStore.issue(target, code, validFor);
 
-        // SMS 발송
-        smsSender.sendVerificationCode(phone, code);
-        log.info("Verification code sent to phone: {}", phone);
+            // SMS 발송 (비동기 대기열)
+            smsDispatchQueue.enqueue(phone, code, phoneLowerEnc, validFor);
+            log.info("Verification code queued for phone: {}", phone);
 
-        return verification.getTokenId();
+            return tokenId;
+        } catch (RuntimeException e) {
+            smsDispatchQueue.release(phoneLowerEnc);
+            throw e;
+        }
     }
 
     /**
      * 인증 코드 확인
      * @return tokenId (인증 성공 시)
      */
-    @Transactional
     public String verifyCode(String phone, String code) {
-        String phoneLowerEnc = encryptionService.encryptForSearch(phone);
-
-        PhoneVerification verification = phoneVerificationRepository
-                .findByPhoneLowerEncAndIsVerifiedFalse(phoneLowerEnc)
-                .orElseThrow(InvalidVerificationException::codeNotFound);
-
-        if (verification.isExpired()) {
-            throw InvalidVerificationException.codeExpired();
+        VerificationTarget target = VerificationTarget.phone(encryptionService.encryptForSearch(phone), null);
+
+        VerificationStore.VerifyResult result = verificationStore.verify(target, code);
+        switch (result.status()) {
+            case NOT_FOUND -> throw InvalidVerificationException.codeNotFound();
+            case EXPIRED -> throw InvalidVerificationException.codeExpired();
+            case MISMATCH -> throw InvalidVerificationException.codeMismatch();
+            case TOO_MANY_ATTEMPTS -> throw InvalidVerificationException.tooManyAttempts();
+            case VERIFIED -> {
+            }
         }
 
-        if (!verification.verify(code)) {
-            throw InvalidVerificationException.codeMismatch();
-        }
-
-        phoneVerificationRepository.save(verification);
-
         log.info("Phone verified: {}", phone);
 
-        return verification.getTokenId();
+        return result.tokenId();
     }
 
     /**
      * tokenId 유효성 검증
      */
-    @Transactional(readOnly = true)
     public boolean isValidTokenId(String tokenId) {
-        LocalDateTime now = LocalDateTime.now();
-        return phoneVerificationRepository.findByTokenIdAndVerifiedTrue(tokenId, now).isPresent();
+        return verificationStore.findByTokenId(tokenId)
+                .filter(token -> token.channel() == VerificationTarget.Channel.PHONE)
+                .filter(VerificationToken::isUsable)
+                .isPresent();
     }
 
     /**
      * tokenId로 인증 레코드 삭제
      */
-    @Transactional
     public void deleteVerificationByTokenId(String tokenId) {
-        phoneVerificationRepository.findByTokenId(tokenId)
-                .ifPresent(phoneVerificationRepository::delete);
+        verificationStore.deleteByTokenId(tokenId);
     }
 
     private String generateCode() {
@@ -1,10 +1,12 @@
 package com.jay.auth.service;
 
-import com.jay.auth.domain.entity.EmailVerification;
+import com.jay.auth.domain.enums.EmailMessageType;
 import com.jay.auth.domain.enums.VerificationType;
 import com.jay.auth.exception.InvalidVerificationException;
-import com.jay.auth.repository.EmailVerificationRepository;
 import com.jay.auth.service.metrics.AuthMetrics;
+import com.jay.auth.service.verification.VerificationStore;
+import com.jay.auth.service.verification.VerificationTarget;
+import com.jay.auth.service.verification.VerificationToken;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.Map;
 
 /**
  * 고위험 로그인 감지 시 이메일 재인증을 처리하는 서비스.
@@ -33,8 +36,8 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class PostLoginVerificationService {
 
-    private final EmailVerificationRepository emailVerificationRepository;
-    private final EmailSender emailSender;
+    private final VerificationStore verificationStore;
+    private final EmailOutboxService emailOutboxService;
     private final EncryptionService encryptionService;
     private final TrustedDeviceService trustedDeviceService;
     private final TotpService totpService;
@@ -74,93 +77,82 @@ public class PostLoginVerificationService {
      */
     @Transactional
     public String sendVerificationCode(String email) {
-        String emailLowerEnc = encryptionService.encryptForSearch(email);
-
-        // 기존 POST_LOGIN_VERIFICATION 미인증 요청 삭제
-        emailVerificationRepository.deleteByEmailAndType(emailLowerEnc, VerificationType.POST_LOGIN_VERIFICATION);
+        VerificationTarget target = target(email);
 
+        // 기존 POST_LOGIN_VERIFICATION 미인증 요청은 대체됨
         String code = generateCode();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(EXPIRATION_MINUTES);
-
-        EmailVerification verification = EmailVerification.builder()
-                .emailLowerEnc(emailLowerEnc)
-                .verificationCode(code)
-                .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                .expiresAt(expiresAt)
-                .build();
+        String tokenId = verificationStore.issue(target, code, Duration.ofMinutes(EXPIRATION_MINUTES));
 
-        EmailVerification saved = emailVerificationRepository.save(verification);
-        emailSender.sendPostLoginVerificationCode(email, code);
+        emailOutboxService.enqueueForAddress(EmailMessageType.POST_LOGIN_VERIFICATION_CODE, email,
+                Map.of("code", code), "post-login-code:" + tokenId);
 
         Counter.builder("post_login_verification_sent_total")
                 .register(meterRegistry)
                 .increment();
 
         log.info("Post-login verification code sent: email={}", email);
-        return saved.getTokenId();
+        return tokenId;
     }
 
     /**
      * 재인증 코드를 검증하고 성공 시 tokenId를 반환한다.
      */
-    @Transactional
     public String verifyCode(String email, String code) {
-        String emailLowerEnc = encryptionService.encryptForSearch(email);
-
-        EmailVerification verification = emailVerificationRepository
-                .findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse(
-                        emailLowerEnc, VerificationType.POST_LOGIN_VERIFICATION)
-                .orElseThrow(() -> {
-                    authMetrics.recordEmailVerificationFailure(
-                            VerificationType.POST_LOGIN_VERIFICATION.name(), "not_found");
-                    return InvalidVerificationException.codeNotFound();
-                });
-
-        if (verification.isExpired()) {
-            authMetrics.recordEmailVerificationFailure(
-                    VerificationType.POST_LOGIN_VERIFICATION.name(), "expired");
-            throw InvalidVerificationException.codeExpired();
-        }
-
-        if (!verification.verify(code)) {
-            authMetrics.recordEmailVerificationFailure(
-                    VerificationType.POST_LOGIN_VERIFICATION.name(), "mismatch");
-            throw InvalidVerificationException.codeMismatch();
+        String type = VerificationType.POST_LOGIN_VERIFICATION.name();
+
+        VerificationStore.VerifyResult result = verificationStore.verify(target(email), code);
+        switch (result.status()) {
+            case NOT_FOUND -> {
+                authMetrics.recordEmailVerificationFailure(type, "not_found");
+                throw InvalidVerificationException.codeNotFound();
+            }
+            case EXPIRED -> {
+                authMetrics.recordEmailVerificationFailure(type, "expired");
+                throw InvalidVerificationException.codeExpired();
+            }
+            case MISMATCH -> {
+                authMetrics.recordEmailVerificationFailure(type, "mismatch");
+                throw InvalidVerificationException.codeMismatch();
+            }
+            case TOO_MANY_ATTEMPTS -> {
+                authMetrics.recordEmailVerificationFailure(type, "too_many_attempts");
+                throw InvalidVerificationException.tooManyAttempts();
+            }
+            case VERIFIED -> {
+            }
         }
 
-        emailVerificationRepository.save(verification);
-
         Counter.builder("post_login_verification_success_total")
                 .register(meterRegistry)
                 .increment();
 
-        authMetrics.recordEmailVerificationSuccess(VerificationType.POST_LOGIN_VERIFICATION.name());
+        authMetrics.recordEmailVerificationSuccess(type);
         log.info("Post-login verification successful: email={}", email);
 
-        return verification.getTokenId();
+        return result.tokenId();
     }
 
     /**
      * tokenId로 재인증 완료 여부를 확인한다.
      */
-    @Transactional(readOnly = true)
     public boolean isVerifiedByTokenId(String tokenId, String email) {
-        String emailLowerEnc = encryptionService.encryptForSearch(email);
-        return emailVerificationRepository.findByTokenId(tokenId)
-                .filter(v -> v.getEmailLowerEnc().equals(emailLowerEnc))
-                .filter(v -> v.getVerificationType() == VerificationType.POST_LOGIN_VERIFICATION)
-                .filter(v -> v.getIsVerified())
-                .filter(v -> !v.isExpired())
+        VerificationTarget target = target(email);
+        return verificationStore.findByTokenId(tokenId)
+                .filter(target::matches)
+                .filter(VerificationToken::isUsable)
                 .isPresent();
     }
 
     /**
      * 재인증 완료 후 레코드를 삭제한다.
      */
-    @Transactional
     public void deleteVerificationByTokenId(String tokenId) {
-        emailVerificationRepository.findByTokenId(tokenId)
-                .ifPresent(emailVerificationRepository::delete);
+        verificationStore.deleteByTokenId(tokenId);
+    }
+
+    private VerificationTarget target(String email) {
+        return VerificationTarget.email(VerificationType.POST_LOGIN_VERIFICATION,
+                encryptionService.encryptForSearch(email));
     }
 
     private String generateCode() {
@@ -1,6 +1,5 @@
 package com.jay.auth.service;
 
-import com.jay.auth.domain.entity.LoginHistory;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserSignInInfo;
 import com.jay.auth.domain.enums.ChannelCode;
@@ -14,15 +13,17 @@ import com.jay.auth.repository.UserChannelRepository;
 import com.jay.auth.repository.UserPasskeyRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.service.posture.SecurityPosture;
+import com.jay.auth.service.posture.SecurityPostureStore;
+import com.jay.auth.util.ParallelQueryExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -37,26 +38,29 @@ public class SecurityDashboardService {
     private final TotpService totpService;
     private final PasswordPolicyService passwordPolicyService;
     private final EncryptionService encryptionService;
+    private final SecurityPostureStore securityPostureStore;
+    private final ParallelQueryExecutor parallelQueryExecutor;
 
     private static final int MAX_SCORE = 100;
+    private static final int LOW_BACKUP_CODES = 2;
 
     /**
      * 보안 대시보드 정보 조회
+     * - 보안 상태 스냅샷 한 번 읽고 점수는 계산만 한다 (스냅샷은 각 변경 서비스가 이벤트로 갱신)
+     * - 스냅샷이 없을 때만 DB에서 재구성한다
      */
-    @Cacheable(value = "securityDashboard", key = "#userId")
-    @Transactional(readOnly = true)
     public SecurityDashboardResponse getSecurityDashboard(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
+        SecurityPosture posture = securityPostureStore.find(userId)
+                .orElseGet(() -> rebuildPosture(userId));
 
-        List<SecurityFactor> factors = calculateSecurityFactors(userId, user);
+        List<SecurityFactor> factors = calculateSecurityFactors(posture);
         int rawScore = factors.stream().mapToInt(SecurityFactor::getScore).sum();
         int maxPossible = factors.stream().mapToInt(SecurityFactor::getMaxScore).sum();
         int totalScore = maxPossible > 0 ? (int) Math.round((double) rawScore / maxPossible * 100) : 0;
         String level = getSecurityLevel(totalScore);
 
-        List<SecurityActivity> recentActivities = getRecentActivities(userId);
-        List<String> recommendations = generateRecommendations(factors);
+        List<SecurityActivity> recentActivities = getRecentActivities(posture);
+        List<String> recommendations = generateRecommendations(factors, posture);
 
         return SecurityDashboardResponse.builder()
                 .securityScore(totalScore)
@@ -67,43 +71,79 @@ public class SecurityDashboardService {
                 .build();
     }
 
-    private List<SecurityFactor> calculateSecurityFactors(Long userId, User user) {
+    private SecurityPosture rebuildPosture(Long userId) {
+        SecurityPosture posture = loadPosture(userId);
+        securityPostureStore.save(userId, posture);
+        return posture;
+    }
+
+    /**
+     * 스냅샷 재구성에 필요한 조회는 서로 독립적이므로 동시에 실행한다
+     */
+    private SecurityPosture loadPosture(Long userId) {
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open("security_posture")) {
+            Supplier<User> user = scope.fork(() -> userRepository.findById(userId)
+                    .orElseThrow(UserNotFoundException::new));
+            Supplier<TwoFactorStatusResponse> twoFactorStatus = scope.fork(() -> totpService.getTwoFactorStatus(userId));
+            Supplier<UserSignInInfo> signInInfo = scope.fork(
+                    () -> userSignInInfoRepository.findByUserId(userId).orElse(null));
+            Supplier<Long> socialLinkCount = scope.fork(
+                    () -> userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL));
+            Supplier<Long> passkeyCount = scope.fork(() -> userPasskeyRepository.countByUserId(userId));
+            Supplier<List<SecurityPosture.RecentLogin>> recentLogins = scope.fork(() -> loginHistoryRepository
+                    .findRecentByUserId(userId, PageRequest.of(0, SecurityPosture.RECENT_LOGIN_LIMIT))
+                    .stream()
+                    .map(SecurityPosture.RecentLogin::from)
+                    .toList());
+            scope.join();
+
+            return new SecurityPosture(
+                    twoFactorStatus.get().isEnabled(),
+                    twoFactorStatus.get().getRemainingBackupCodes(),
+                    signInInfo.get() != null,
+                    signInInfo.get() != null ? signInInfo.get().getPasswordUpdatedAt() : null,
+                    user.get().getRecoveryEmailEnc() != null,
+                    socialLinkCount.get().intValue(),
+                    passkeyCount.get().intValue(),
+                    recentLogins.get());
+        }
+    }
+
+    private List<SecurityFactor> calculateSecurityFactors(SecurityPosture posture) {
         List<SecurityFactor> factors = new ArrayList<>();
 
-        factors.add(calculateTwoFactorScore(userId));
+        factors.add(calculateTwoFactorScore(posture));
 
-        UserSignInInfo signInInfo = userSignInInfoRepository.findByUserId(userId).orElse(null);
-        SecurityFactor passwordFactor = calculatePasswordHealthScore(signInInfo);
+        SecurityFactor passwordFactor = calculatePasswordHealthScore(posture);
         if (passwordFactor != null) {
             factors.add(passwordFactor);
         }
 
-        factors.add(calculateRecoveryEmailScore(user));
-        factors.add(calculateSocialLinkedScore(userId));
-        factors.add(calculatePasskeyScore(userId));
-        factors.add(calculateLoginMonitoringScore(userId));
+        factors.add(calculateRecoveryEmailScore(posture));
+        factors.add(calculateSocialLinkedScore(posture));
+        factors.add(calculatePasskeyScore(posture));
+        factors.add(calculateLoginMonitoringScore(posture));
 
         return factors;
     }
 
     // 1. 2FA 설정 (30점)
-    private SecurityFactor calculateTwoFactorScore(Long userId) {
-        TwoFactorStatusResponse twoFactorStatus = totpService.getTwoFactorStatus(userId);
+    private SecurityFactor calculateTwoFactorScore(SecurityPosture posture) {
         return SecurityFactor.builder()
                 .name("2FA_ENABLED")
                 .description("2단계 인증")
-                .score(twoFactorStatus.isEnabled() ? 30 : 0)
+                .score(posture.twoFactorEnabled() ? 30 : 0)
                 .maxScore(30)
-                .enabled(twoFactorStatus.isEnabled())
+                .enabled(posture.twoFactorEnabled())
                 .build();
     }
 
     // 2. 비밀번호 강도/최신성 (25점) - 이메일 로그인 사용자만 해당, 소셜 전용 사용자는 null 반환
-    private SecurityFactor calculatePasswordHealthScore(UserSignInInfo signInInfo) {
-        if (signInInfo == null) {
+    private SecurityFactor calculatePasswordHealthScore(SecurityPosture posture) {
+        if (!posture.hasPassword()) {
             return null;
         }
-        int passwordScore = calculatePasswordScore(signInInfo);
+        int passwordScore = calculatePasswordScore(posture);
         return SecurityFactor.builder()
                 .name("PASSWORD_HEALTH")
                 .description("비밀번호 건강도")
@@ -114,8 +154,8 @@ public class SecurityDashboardService {
     }
 
     // 3. 복구 이메일 설정 (15점)
-    private SecurityFactor calculateRecoveryEmailScore(User user) {
-        boolean hasRecoveryEmail = user.getRecoveryEmailEnc() != null;
+    private SecurityFactor calculateRecoveryEmailScore(SecurityPosture posture) {
+        boolean hasRecoveryEmail = posture.recoveryEmailSet();
         return SecurityFactor.builder()
                 .name("RECOVERY_EMAIL")
                 .description("복구 이메일 설정")
@@ -126,8 +166,8 @@ public class SecurityDashboardService {
     }
 
     // 4. 소셜 계정 연결 (15점) - EMAIL 채널 제외, 순수 소셜 채널만 카운팅
-    private SecurityFactor calculateSocialLinkedScore(Long userId) {
-        long linkedSocialChannels = userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL);
+    private SecurityFactor calculateSocialLinkedScore(SecurityPosture posture) {
+        int linkedSocialChannels = posture.socialLinkCount();
         int socialScore = linkedSocialChannels >= 2 ? 15 : (linkedSocialChannels == 1 ? 10 : 0);
         return SecurityFactor.builder()
                 .name("SOCIAL_LINKED")
@@ -139,8 +179,8 @@ public class SecurityDashboardService {
     }
 
     // 5. 패스키 등록 (15점)
-    private SecurityFactor calculatePasskeyScore(Long userId) {
-        boolean hasPasskeys = userPasskeyRepository.existsByUserId(userId);
+    private SecurityFactor calculatePasskeyScore(SecurityPosture posture) {
+        boolean hasPasskeys = posture.passkeyCount() > 0;
         return SecurityFactor.builder()
                 .name("PASSKEY_REGISTERED")
                 .description("패스키 등록")
@@ -150,9 +190,9 @@ public class SecurityDashboardService {
                 .build();
     }
 
-    // 6. 로그인 활동 모니터링 (15점)
-    private SecurityFactor calculateLoginMonitoringScore(Long userId) {
-        boolean recentLoginChecked = checkRecentLoginPattern(userId);
+    // 6. 로그인 활동 모니터링 (15점) - 최근 로그인이 있고 의심스러운(실패) 로그인이 없는 경우
+    private SecurityFactor calculateLoginMonitoringScore(SecurityPosture posture) {
+        boolean recentLoginChecked = posture.hasCleanLoginHistory();
         return SecurityFactor.builder()
                 .name("LOGIN_MONITORING")
                 .description("로그인 활동 모니터링")
@@ -162,18 +202,14 @@ public class SecurityDashboardService {
                 .build();
     }
 
-    private int calculatePasswordScore(UserSignInInfo signInInfo) {
-        if (signInInfo == null) {
-            return 0; // 소셜 로그인만 사용하는 경우
-        }
-
-        int score = 15; // 기본 점수
+    private int calculatePasswordScore(SecurityPosture posture) {
+        int score;
 
         // 비밀번호 만료 여부 확인
-        if (passwordPolicyService.isPasswordExpired(signInInfo)) {
+        if (passwordPolicyService.isPasswordExpiredSince(posture.passwordUpdatedAt())) {
             score = 5;
         } else {
-            int daysRemaining = passwordPolicyService.getDaysUntilExpiration(signInInfo);
+            int daysRemaining = passwordPolicyService.getDaysUntilExpirationSince(posture.passwordUpdatedAt());
             if (daysRemaining < 30) {
                 score = 10;
             } else if (daysRemaining >= 60) {
@@ -186,13 +222,6 @@ public class SecurityDashboardService {
         return score;
     }
 
-    private boolean checkRecentLoginPattern(Long userId) {
-        List<LoginHistory> recentLogins = loginHistoryRepository.findRecentByUserId(userId, PageRequest.of(0, 10));
-        // 최근 로그인 기록이 있고, 의심스러운 로그인이 없는 경우 true
-        return !recentLogins.isEmpty() &&
-                recentLogins.stream().allMatch(h -> Boolean.TRUE.equals(h.getIsSuccess()));
-    }
-
     private String getSecurityLevel(int score) {
         if (score >= 90) return "EXCELLENT";
         if (score >= 70) return "GOOD";
@@ -201,31 +230,29 @@ public class SecurityDashboardService {
         return "CRITICAL";
     }
 
-    private List<SecurityActivity> getRecentActivities(Long userId) {
-        List<LoginHistory> histories = loginHistoryRepository.findRecentByUserId(userId, PageRequest.of(0, 10));
+    private List<SecurityActivity> getRecentActivities(SecurityPosture posture) {
         List<SecurityActivity> activities = new ArrayList<>();
 
-        for (LoginHistory history : histories) {
-            boolean isSuccess = Boolean.TRUE.equals(history.getIsSuccess());
-            String type = isSuccess ? "LOGIN_SUCCESS" : "LOGIN_FAILURE";
-            String description = isSuccess
-                    ? history.getChannelCode().name() + " 로그인 성공"
-                    : history.getChannelCode().name() + " 로그인 실패: " + history.getFailureReason();
+        for (SecurityPosture.RecentLogin login : posture.recentLogins()) {
+            String type = login.success() ? "LOGIN_SUCCESS" : "LOGIN_FAILURE";
+            String description = login.success()
+                    ? login.channelCode().name() + " 로그인 성공"
+                    : login.channelCode().name() + " 로그인 실패: " + login.failureReason();
 
             activities.add(SecurityActivity.builder()
                     .type(type)
                     .description(description)
-                    .ipAddress(history.getIpAddress())
-                    .location(history.getLocation())
-                    .deviceInfo(history.getBrowser() + " / " + history.getOs())
-                    .occurredAt(history.getCreatedAt())
+                    .ipAddress(login.ipAddress())
+                    .location(login.location())
+                    .deviceInfo(login.browser() + " / " + login.os())
+                    .occurredAt(login.occurredAt())
                     .build());
         }
 
         return activities;
     }
 
-    private List<String> generateRecommendations(List<SecurityFactor> factors) {
+    private List<String> generateRecommendations(List<SecurityFactor> factors, SecurityPosture posture) {
         List<String> recommendations = new ArrayList<>();
 
         for (SecurityFactor factor : factors) {
@@ -254,6 +281,10 @@ public class SecurityDashboardService {
             }
         }
 
+        if (posture.twoFactorEnabled() && posture.backupCodesRemaining() <= LOW_BACKUP_CODES) {
+            recommendations.add("남은 백업 코드가 " + posture.backupCodesRemaining() + "개입니다. 백업 코드를 재생성하세요.");
+        }
+
         if (recommendations.isEmpty()) {
             recommendations.add("계정 보안이 잘 설정되어 있습니다!");
         }
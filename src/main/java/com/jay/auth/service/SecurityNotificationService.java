@@ -1,233 +1,176 @@
 package com.jay.auth.service;
 
-import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.ChannelCode;
-import com.jay.auth.repository.UserRepository;
+import com.jay.auth.domain.enums.EmailMessageType;
 import com.jay.auth.security.TokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jay.auth.util.DateTimeUtil;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
 
 /**
  * 보안 관련 이메일 알림 서비스
+ * - 호출한 트랜잭션 안에서 아웃박스에 기록만 하고, 발송은 EmailOutboxDispatcher가 한다
+ * - 같은 사건이 중복 기록되지 않도록 사건별 dedupKey를 붙인다
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SecurityNotificationService {
 
-    private final EmailSender emailSender;
-    private final EncryptionService encryptionService;
-    private final UserRepository userRepository;
+    private final EmailOutboxService emailOutboxService;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeUtil.DEFAULT_FORMATTER;
 
     /**
      * 새 기기 로그인 알림
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Transactional
     public void notifyNewDeviceLogin(Long userId, TokenStore.SessionInfo sessionInfo) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null || user.getEmailEnc() == null) {
-                return;
-            }
-
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            String deviceInfo = String.format("%s / %s (%s)",
-                    sessionInfo.browser(), sessionInfo.os(), sessionInfo.deviceType());
-            String loginTime = LocalDateTime.now().format(DATE_FORMATTER);
-
-            emailSender.sendNewDeviceLoginAlert(
-                    email,
-                    deviceInfo,
-                    sessionInfo.ipAddress(),
-                    sessionInfo.location(),
-                    loginTime
-            );
-
-            log.info("New device login notification sent to user: {}", userId);
-        } catch (Exception e) {
-            log.error("Failed to send new device login notification", e);
-        }
+        LocalDateTime now = LocalDateTime.now();
+        String deviceInfo = String.format("%s / %s (%s)",
+                sessionInfo.browser(), sessionInfo.os(), sessionInfo.deviceType());
+
+        Map<String, String> params = new HashMap<>();
+        params.put("deviceInfo", deviceInfo);
+        params.put("ipAddress", sessionInfo.ipAddress());
+        params.put("location", sessionInfo.location());
+        params.put("time", now.format(DATE_FORMATTER));
+
+        enqueue(EmailMessageType.NEW_DEVICE_LOGIN, userId, params,
+                dedupKey(EmailMessageType.NEW_DEVICE_LOGIN, userId, sessionInfo.ipAddress(), deviceInfo, minuteOf(now)));
     }
 
     /**
      * 비밀번호 변경 알림
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Transactional
     public void notifyPasswordChanged(Long userId) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null || user.getEmailEnc() == null) {
-                return;
-            }
-
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            String changeTime = LocalDateTime.now().format(DATE_FORMATTER);
-
-            emailSender.sendPasswordChangedAlert(email, changeTime);
-
-            log.info("Password changed notification sent to user: {}", userId);
-        } catch (Exception e) {
-            log.error("Failed to send password changed notification", e);
-        }
+        LocalDateTime now = LocalDateTime.now();
+        enqueue(EmailMessageType.PASSWORD_CHANGED, userId,
+                Map.of("time", now.format(DATE_FORMATTER)),
+                dedupKey(EmailMessageType.PASSWORD_CHANGED, userId, minuteOf(now)));
     }
 
     /**
      * 계정 연동 알림
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Transactional
     public void notifyAccountLinked(Long userId, ChannelCode channelCode) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null || user.getEmailEnc() == null) {
-                return;
-            }
-
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            String channelName = getChannelDisplayName(channelCode);
-            String linkedTime = LocalDateTime.now().format(DATE_FORMATTER);
-
-            emailSender.sendAccountLinkedAlert(email, channelName, linkedTime);
-
-            log.info("Account linked notification sent to user: {}, channel: {}", userId, channelCode);
-        } catch (Exception e) {
-            log.error("Failed to send account linked notification", e);
-        }
+        LocalDateTime now = LocalDateTime.now();
+        enqueue(EmailMessageType.ACCOUNT_LINKED, userId,
+                Map.of("channelName", getChannelDisplayName(channelCode), "time", now.format(DATE_FORMATTER)),
+                dedupKey(EmailMessageType.ACCOUNT_LINKED, userId, channelCode.name(), minuteOf(now)));
     }
 
     /**
      * 계정 연동 해제 알림
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Transactional
     public void notifyAccountUnlinked(Long userId, ChannelCode channelCode) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null || user.getEmailEnc() == null) {
-                return;
-            }
-
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            String channelName = getChannelDisplayName(channelCode);
-            String unlinkedTime = LocalDateTime.now().format(DATE_FORMATTER);
-
-            emailSender.sendAccountUnlinkedAlert(email, channelName, unlinkedTime);
-
-            log.info("Account unlinked notification sent to user: {}, channel: {}", userId, channelCode);
-        } catch (Exception e) {
-            log.error("Failed to send account unlinked notification", e);
-        }
+        LocalDateTime now = LocalDateTime.now();
+        enqueue(EmailMessageType.ACCOUNT_UNLINKED, userId,
+                Map.of("channelName", getChannelDisplayName(channelCode), "time", now.format(DATE_FORMATTER)),
+                dedupKey(EmailMessageType.ACCOUNT_UNLINKED, userId, channelCode.name(), minuteOf(now)));
     }
 
     /**
-     * 비밀번호 만료 임박 알림
+     * 비밀번호 만료 임박 알림 (만료일·남은 일수별 1회)
      * @param userId 사용자 ID
      * @param daysLeft 만료까지 남은 일수
      * @param expireDate 만료 예정일
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Transactional
     public void notifyPasswordExpiringSoon(Long userId, int daysLeft, LocalDateTime expireDate) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null || user.getEmailEnc() == null) {
-                return;
-            }
-
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            String expireDateStr = expireDate.format(DATE_FORMATTER);
-
-            emailSender.sendPasswordExpiringSoonAlert(email, daysLeft, expireDateStr);
-
-            log.info("비밀번호 만료 임박 알림 발송 완료 - userId: {}, daysLeft: {}", userId, daysLeft);
-        } catch (Exception e) {
-            log.error("비밀번호 만료 임박 알림 발송 실패 - userId: {}", userId, e);
-        }
+        String expireDateStr = expireDate.format(DATE_FORMATTER);
+        enqueue(EmailMessageType.PASSWORD_EXPIRING_SOON, userId,
+                Map.of("daysLeft", String.valueOf(daysLeft), "expireDate", expireDateStr),
+                dedupKey(EmailMessageType.PASSWORD_EXPIRING_SOON, userId, expireDate.toLocalDate(), daysLeft));
     }
 
     /**
-     * 비밀번호 만료 알림
+     * 비밀번호 만료 알림 (만료일별 1회)
      * @param userId 사용자 ID
      * @param expireDate 만료일
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Transactional
     public void notifyPasswordExpired(Long userId, LocalDateTime expireDate) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null || user.getEmailEnc() == null) {
-                return;
-            }
-
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            String expireDateStr = expireDate.format(DATE_FORMATTER);
-
-            emailSender.sendPasswordExpiredAlert(email, expireDateStr);
-
-            log.info("비밀번호 만료 알림 발송 완료 - userId: {}", userId);
-        } catch (Exception e) {
-            log.error("비밀번호 만료 알림 발송 실패 - userId: {}", userId, e);
-        }
+        enqueue(EmailMessageType.PASSWORD_EXPIRED, userId,
+                Map.of("expireDate", expireDate.format(DATE_FORMATTER)),
+                dedupKey(EmailMessageType.PASSWORD_EXPIRED, userId, expireDate.toLocalDate()));
     }
 
     /**
      * 패스키 등록 알림
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Transactional
     public void notifyPasskeyRegistered(Long userId, String deviceName) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null || user.getEmailEnc() == null) {
-                return;
-            }
-
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            String registeredTime = LocalDateTime.now().format(DATE_FORMATTER);
-
-            emailSender.sendPasskeyRegisteredAlert(email, deviceName, registeredTime);
-
-            log.info("패스키 등록 알림 발송 완료 - userId: {}, deviceName: {}", userId, deviceName);
-        } catch (Exception e) {
-            log.error("패스키 등록 알림 발송 실패 - userId: {}", userId, e);
-        }
+        LocalDateTime now = LocalDateTime.now();
+        enqueue(EmailMessageType.PASSKEY_REGISTERED, userId,
+                Map.of("deviceName", deviceName, "time", now.format(DATE_FORMATTER)),
+                dedupKey(EmailMessageType.PASSKEY_REGISTERED, userId, deviceName, minuteOf(now)));
     }
 
     /**
      * 패스키 삭제 알림
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Transactional
     public void notifyPasskeyRemoved(Long userId, String deviceName) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null || user.getEmailEnc() == null) {
-                return;
-            }
+        LocalDateTime now = LocalDateTime.now();
+        enqueue(EmailMessageType.PASSKEY_REMOVED, userId,
+                Map.of("deviceName", deviceName, "time", now.format(DATE_FORMATTER)),
+                dedupKey(EmailMessageType.PASSKEY_REMOVED, userId, deviceName, minuteOf(now)));
+    }
 
-            String email = encryptionService.decryptEmail(user.getEmailEnc());
-            String removedTime = LocalDateTime.now().format(DATE_FORMATTER);
+    /**
+     * 계정 잠금 알림
+     */
+    @Transactional
+    public void notifyAccountLocked(Long userId, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        enqueue(EmailMessageType.ACCOUNT_LOCKED, userId,
+                Map.of("reason", reason),
+                dedupKey(EmailMessageType.ACCOUNT_LOCKED, userId, minuteOf(now)));
+    }
 
-            emailSender.sendPasskeyRemovedAlert(email, deviceName, removedTime);
+    private void enqueue(EmailMessageType type, Long userId, Map<String, String> params, String dedupKey) {
+        if (emailOutboxService.enqueueForUser(type, userId, params, dedupKey)) {
+            log.info("Security notification queued: userId={}, type={}", userId, type);
+        }
+    }
 
-            log.info("패스키 삭제 알림 발송 완료 - userId: {}, deviceName: {}", userId, deviceName);
-        } catch (Exception e) {
-            log.error("패스키 삭제 알림 발송 실패 - userId: {}", userId, e);
+    /**
+     * 같은 사건(종류 + 사용자 + 식별값)의 중복 알림을 막는 키 (길이 제한 때문에 식별값은 해시)
+     */
+    private static String dedupKey(EmailMessageType type, Long userId, Object... discriminators) {
+        StringBuilder source = new StringBuilder();
+        for (Object discriminator : discriminators) {
+            source.append(discriminator).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return type.name() + ":" + userId + ":" + HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
+    private static LocalDateTime minuteOf(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.MINUTES);
+    }
+
     private String getChannelDisplayName(ChannelCode channelCode) {
         return switch (channelCode) {
             case EMAIL -> "이메일";
@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.dto.response.SecuritySettingsResponse;
@@ -19,6 +20,7 @@ public class SecuritySettingsService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final UserRepository userRepository;
+    private final UserCacheGenerations userCacheGenerations;
 
     private static final String PREF_PREFIX = "pref:security:";
     private static final String LOCK_REASON_PREFIX = "lock:reason:";
@@ -73,6 +75,7 @@ public class SecuritySettingsService {
         }
 
         user.updateStatus(UserStatus.LOCKED);
+        userCacheGenerations.bump(userId);
         redisTemplate.opsForValue().set(LOCK_REASON_PREFIX + userId, reason);
         redisTemplate.delete(LOCK_ATTEMPTS_PREFIX + userId);
 
@@ -89,6 +92,7 @@ public class SecuritySettingsService {
         }
 
         user.updateStatus(UserStatus.ACTIVE);
+        userCacheGenerations.bump(userId);
         redisTemplate.delete(LOCK_REASON_PREFIX + userId);
         redisTemplate.delete(LOCK_ATTEMPTS_PREFIX + userId);
 
@@ -0,0 +1,315 @@
+package com.jay.auth.service;
+
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.exception.ServiceOverloadedException;
+import com.jay.auth.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * SMS 비동기 발송 대기열
+ * - 요청 스레드는 대기열에 넣고 바로 반환하므로 SMS 제공자 지연이 API 응답 시간에 포함되지 않는다
+ * - 제공자별 토큰 버킷(Redis, 인스턴스 간 공유)으로 전체 초당 발송량을 제한하고, 실패 시 지수 백오프로 재시도한다
+ *   (Redis 장애 시에는 인스턴스 로컬 버킷으로 대신 제한한다)
+ * - 같은 대상(dedupKey)으로 dedupWindow 안에 다시 요청하면 발송하지 않는다 (Redis SET NX, 인스턴스 간 공유)
+ * - 인증 코드 유효 시간이 지난 건은 발송하지 않고 버린다
+ * - 메트릭: sms_dispatch_total, sms_delivery_latency_seconds, sms_send_duration_seconds, sms_dispatch_queue_size
+ */
+@Slf4j
+@Component
+public class SmsDispatchQueue implements DisposableBean {
+
+    private static final String DEDUP_KEY_PREFIX = "sms:dedup:";
+    private static final String RATE_KEY_PREFIX = "sms:rate:";
+
+    /**
+     * 제공자별 토큰 버킷 (Redis 서버 시각 기준으로 충전해 인스턴스 간 시계 차이의 영향을 받지 않는다)
+     * ARGV[1]=밀리초당 충전 수, ARGV[2]=버킷 크기
+     * @return 0이면 토큰 획득, 아니면 다음 토큰까지 남은 시간(ms)
+     */
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local rate = tonumber(ARGV[1]) " +
+            "local capacity = tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(state[1]) or capacity " +
+            "local ts = tonumber(state[2]) or now " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 else wait = math.ceil((1 - tokens) / rate) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000) " +
+            "return wait",
+            Long.class);
+    private static final long POLL_MILLIS = 1_000;
+
+    private final SmsSender smsSender;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AppProperties.Sms.Dispatch settings;
+    private final String rateKey;
+    private final String permitsPerMilli;
+    private final String burst;
+    /** Redis 장애 시 대신 쓰는 인스턴스 로컬 버킷 */
+    private final TokenBucket localTokenBucket;
+    private final LongSupplier clock;
+    private final DelayQueue<SmsTask> queue = new DelayQueue<>();
+    private final ExecutorService workers;
+    private final Timer sendDuration;
+    private volatile boolean running = true;
+
+    @Autowired
+    public SmsDispatchQueue(SmsSender smsSender, RedisTemplate<String, String> redisTemplate,
+                            AppProperties appProperties, MeterRegistry meterRegistry) {
+        this(smsSender, redisTemplate, appProperties, meterRegistry, System::currentTimeMillis);
+        start();
+    }
+
+    SmsDispatchQueue(SmsSender smsSender, RedisTemplate<String, String> redisTemplate,
+                     AppProperties appProperties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.smsSender = smsSender;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.settings = appProperties.getSms().getDispatch();
+        this.clock = clock;
+
+        AppProperties.Sms.RateLimit rateLimit = settings.rateLimitFor(smsSender.providerName());
+        this.rateKey = RATE_KEY_PREFIX + smsSender.providerName();
+        this.permitsPerMilli = String.valueOf(rateLimit.getPermitsPerSecond() / 1_000);
+        this.burst = String.valueOf(rateLimit.getBurst());
+        this.localTokenBucket = new TokenBucket(rateLimit.getPermitsPerSecond(), rateLimit.getBurst());
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, settings.getWorkers()), runnable -> {
+            Thread thread = new Thread(runnable, "sms-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.sendDuration = Timer.builder("sms_send_duration_seconds")
+                .description("SMS 제공자 API 호출 시간")
+                .tag("provider", smsSender.providerName())
+                .register(meterRegistry);
+        Gauge.builder("sms_dispatch_queue_size", queue, DelayQueue::size)
+                .description("SMS 발송 대기 건수 (재시도 대기 포함)")
+                .register(meterRegistry);
+    }
+
+    private void start() {
+        for (int i = 0; i < Math.max(1, settings.getWorkers()); i++) {
+            workers.execute(this::runWorker);
+        }
+    }
+
+    /**
+     * 같은 대상으로 최근에 발송 요청한 적이 없으면 발송 권한을 예약한다.
+     * @return false면 dedupWindow 안의 중복 요청
+     */
+    public boolean tryReserve(String dedupKey) {
+        try {
+            Boolean reserved = redisTemplate.opsForValue().setIfAbsent(
+                    DEDUP_KEY_PREFIX + dedupKey, "1", Duration.ofSeconds(settings.getDedupWindowSeconds()));
+            if (Boolean.FALSE.equals(reserved)) {
+                count("suppressed");
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // Redis 장애 시 중복 억제보다 발송을 우선한다
+            log.warn("SMS dedup check failed, sending anyway: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 예약 해제 (발송하지 못했을 때 바로 다시 요청할 수 있도록)
+     */
+    public void release(String dedupKey) {
+        if (dedupKey == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(DEDUP_KEY_PREFIX + dedupKey);
+        } catch (RuntimeException e) {
+            log.warn("SMS dedup release failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인증 코드 SMS를 발송 대기열에 넣는다.
+     * @param validFor 이 시간이 지나면 발송하지 않는다 (인증 코드 유효 시간)
+     * @throws ServiceOverloadedException 대기열이 가득 찬 경우
+     */
+    public void enqueue(String phone, String code, String dedupKey, Duration validFor) {
+        if (!running || queue.size() >= settings.getQueueCapacity()) {
+            count("rejected");
+            throw new ServiceOverloadedException(1);
+        }
+        long now = clock.getAsLong();
+        queue.offer(new SmsTask(phone, code, dedupKey, now, now + validFor.toMillis()));
+    }
+
+    public long getDedupWindowSeconds() {
+        return settings.getDedupWindowSeconds();
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    /**
+     * 발송 가능한 건을 하나 꺼내 처리한다.
+     * @param waitMillis 0이면 기다리지 않음
+     * @return 처리한 건이 있으면 true
+     */
+    boolean dispatchOnce(long waitMillis) throws InterruptedException {
+        SmsTask task = waitMillis > 0 ? queue.poll(waitMillis, TimeUnit.MILLISECONDS) : queue.poll();
+        if (task == null) {
+            return false;
+        }
+        deliver(task);
+        return true;
+    }
+
+    private void deliver(SmsTask task) throws InterruptedException {
+        if (clock.getAsLong() >= task.deadline) {
+            log.warn("SMS dropped, verification code already expired: attempts={}", task.attempts);
+            complete(task, "expired");
+            release(task.dedupKey);
+            return;
+        }
+
+        acquirePermit();
+        task.attempts++;
+        try {
+            sendDuration.recordCallable(() -> {
+                smsSender.sendVerificationCode(task.phone, task.code);
+                return null;
+            });
+            complete(task, "sent");
+        } catch (Exception e) {
+            if (task.attempts >= settings.getMaxAttempts() || !running) {
+                log.error("SMS send failed after {} attempts: {}", task.attempts, e.getMessage());
+                complete(task, "failed");
+                release(task.dedupKey);
+                return;
+            }
+            long backoff = settings.getRetryBackoffMillis() << (task.attempts - 1);
+            log.warn("SMS send failed (attempt {}), retrying in {}ms: {}", task.attempts, backoff, e.getMessage());
+            task.notBefore = clock.getAsLong() + backoff;
+            queue.offer(task);
+            count("retried");
+        }
+    }
+
+    /**
+     * 제공자 한도 안에서 발송 토큰을 얻을 때까지 대기한다 (모든 인스턴스가 같은 Redis 버킷을 나눠 쓴다)
+     */
+    private void acquirePermit() throws InterruptedException {
+        while (true) {
+            Long waitMillis;
+            try {
+                waitMillis = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(rateKey), permitsPerMilli, burst);
+            } catch (RuntimeException e) {
+                // Redis 장애 시 발송을 멈추지 않고 인스턴스 로컬 한도로 대신 제한한다
+                log.warn("SMS rate limit check failed, using local token bucket: {}", e.getMessage());
+                localTokenBucket.acquire();
+                return;
+            }
+            if (waitMillis == null || waitMillis <= 0) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(waitMillis);
+        }
+    }
+
+    private void complete(SmsTask task, String result) {
+        count(result);
+        Timer.builder("sms_delivery_latency_seconds")
+                .description("SMS 발송 요청부터 완료까지 걸린 시간")
+                .tag("provider", smsSender.providerName())
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(Math.max(0, clock.getAsLong() - task.enqueuedAt), TimeUnit.MILLISECONDS);
+    }
+
+    private void count(String result) {
+        Counter.builder("sms_dispatch_total")
+                .tag("provider", smsSender.providerName())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void runWorker() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                dispatchOnce(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("SMS dispatch worker error", e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+        if (!queue.isEmpty()) {
+            log.warn("SMS dispatch queue stopped with {} pending messages", queue.size());
+        }
+    }
+
+    private final class SmsTask implements Delayed {
+        private final String phone;
+        private final String code;
+        private final String dedupKey;
+        private final long enqueuedAt;
+        private final long deadline;
+        private int attempts;
+        private long notBefore;
+
+        private SmsTask(String phone, String code, String dedupKey, long enqueuedAt, long deadline) {
+            this.phone = phone;
+            this.code = code;
+            this.dedupKey = dedupKey;
+            this.enqueuedAt = enqueuedAt;
+            this.deadline = deadline;
+            this.notBefore = enqueuedAt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(notBefore - clock.getAsLong(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(notBefore, ((SmsTask) other).notBefore);
+        }
+    }
+}
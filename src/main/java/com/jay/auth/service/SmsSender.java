@@ -6,6 +6,11 @@ package com.jay.auth.service;
  */
 public interface SmsSender {
 
+    /**
+     * 제공자 이름 (발송 한도·메트릭 구분용)
+     */
+    String providerName();
+
     /**
      * 인증 코드 SMS 발송
      * @param phone 수신 핸드폰 번호
@@ -5,6 +5,7 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -204,7 +205,8 @@ public class SmtpEmailSender implements EmailSender {
             mailSender.send(message);
             log.info("Email sent to: {}, subject: {}", to, subject);
         } catch (MessagingException e) {
-            log.error("Failed to send email to: {}, subject: {}", to, subject, e);
+            // 아웃박스 디스패처가 재시도할 수 있도록 전파한다
+            throw new MailPreparationException("Failed to build email: " + subject, e);
         }
     }
 }
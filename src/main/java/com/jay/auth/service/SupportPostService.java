@@ -6,6 +6,7 @@ import com.jay.auth.domain.enums.PostCategory;
 import com.jay.auth.domain.enums.PostStatus;
 import com.jay.auth.dto.request.CreateSupportPostRequest;
 import com.jay.auth.dto.request.UpdateSupportPostRequest;
+import com.jay.auth.dto.response.CursorPageResponse;
 import com.jay.auth.dto.response.SupportPostDetailResponse;
 import com.jay.auth.dto.response.SupportPostListResponse;
 import com.jay.auth.exception.SupportPostAccessDeniedException;
@@ -13,13 +14,16 @@ import com.jay.auth.exception.SupportPostNotModifiableException;
 import com.jay.auth.exception.SupportPostNotFoundException;
 import com.jay.auth.repository.SupportCommentRepository;
 import com.jay.auth.repository.SupportPostRepository;
+import com.jay.auth.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -45,6 +49,32 @@ public class SupportPostService {
         return posts.map(SupportPostListResponse::from);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SupportPostListResponse> getPostsByCursor(Long userId, boolean isAdmin,
+                                                                        PostCategory category, PostStatus status,
+                                                                        String cursor, int size, boolean includeTotal) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        LocalDateTime cursorCreatedAt = pageCursor != null ? pageCursor.createdAt() : null;
+        Long cursorId = pageCursor != null ? pageCursor.id() : null;
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<SupportPost> posts;
+        Long total = null;
+        if (isAdmin) {
+            posts = supportPostRepository.findPageForAdmin(category, status, cursorCreatedAt, cursorId, limit);
+            if (includeTotal) {
+                total = supportPostRepository.countForAdmin(category, status);
+            }
+        } else {
+            posts = supportPostRepository.findPageForUser(userId, category, status, cursorCreatedAt, cursorId, limit);
+            if (includeTotal) {
+                total = supportPostRepository.countForUser(userId, category, status);
+            }
+        }
+        return CursorPageResponse.of(posts, size, SupportPostListResponse::from,
+                p -> new PageCursor(p.getCreatedAt(), p.getId()), total);
+    }
+
     @Transactional
     public SupportPostDetailResponse getPost(Long postId, Long userId, boolean isAdmin) {
         SupportPost post = supportPostRepository.findById(postId)
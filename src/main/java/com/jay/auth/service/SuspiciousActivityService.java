@@ -4,17 +4,21 @@ import com.jay.auth.domain.entity.LoginHistory;
 import com.jay.auth.dto.response.SuspiciousActivityResponse;
 import com.jay.auth.dto.response.SuspiciousActivityResponse.SuspiciousEvent;
 import com.jay.auth.repository.LoginHistoryRepository;
+import com.jay.auth.service.risk.LoginRiskState;
+import com.jay.auth.service.risk.LoginRiskStateStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * 로그인 이상 징후 분석
+ * - 로그인 이벤트마다 사용자별 위험 상태(LoginRiskState)를 증분 갱신하고, 분석 시에는 상태만 조회한다
+ * - 상태가 없거나 손상된 경우 최근 ANALYSIS_DAYS일 로그인 이력으로 재구성한다
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,26 +26,33 @@ public class SuspiciousActivityService {
 
     private final LoginHistoryRepository loginHistoryRepository;
     private final TrustedDeviceService trustedDeviceService;
-
-    private static final int ANALYSIS_DAYS = 7;
-    private static final int FAILED_LOGIN_THRESHOLD = 5;
-    private static final int MULTIPLE_LOCATION_THRESHOLD = 3;
-    private static final int RAPID_LOGIN_THRESHOLD = 5;
-    private static final int RAPID_LOGIN_MINUTES = 10;
+    private final LoginRiskStateStore loginRiskStateStore;
+
+    /**
+     * 저장된 로그인 이력 1건을 위험 상태에 반영한다.
+     * 상태 갱신 실패가 로그인 처리에 영향을 주지 않도록 예외는 로그로만 남긴다.
+     */
+    public void recordLoginEvent(LoginHistory history) {
+        if (history == null || history.getUserId() == null) {
+            return;
+        }
+        try {
+            loginRiskStateStore.update(history.getUserId(), state -> state.record(history), this::rebuildState);
+        } catch (Exception e) {
+            log.warn("로그인 위험 상태 갱신 실패: userId={}", history.getUserId(), e);
+        }
+    }
 
     @Transactional(readOnly = true)
     public SuspiciousActivityResponse analyzeRecentActivity(Long userId) {
-        LocalDateTime since = LocalDateTime.now().minusDays(ANALYSIS_DAYS);
-        LocalDateTime until = LocalDateTime.now().plusMinutes(1);
-
-        List<LoginHistory> histories = loginHistoryRepository.findByUserIdAndPeriod(userId, since, until);
-        List<SuspiciousEvent> events = new ArrayList<>();
+        LoginRiskState state = loginRiskStateStore.find(userId)
+                .orElseGet(() -> {
+                    LoginRiskState rebuilt = rebuildState(userId);
+                    loginRiskStateStore.save(userId, rebuilt);
+                    return rebuilt;
+                });
 
-        detectBruteForceAttempts(histories, events);
-        detectMultipleLocations(histories, events);
-        detectRapidLogins(histories, events);
-        detectUnusualHours(histories, events);
-        detectNewDeviceLogin(histories, events);
+        List<SuspiciousEvent> events = state.detectEvents(LocalDateTime.now());
 
         int riskScore = calculateRiskScore(events);
         String riskLevel = getRiskLevel(riskScore);
@@ -61,139 +72,11 @@ public class SuspiciousActivityService {
                 .build();
     }
 
-    private void detectBruteForceAttempts(List<LoginHistory> histories, List<SuspiciousEvent> events) {
-        List<LoginHistory> failed = histories.stream()
-                .filter(h -> !h.getIsSuccess())
-                .collect(Collectors.toList());
-
-        if (failed.size() >= FAILED_LOGIN_THRESHOLD) {
-            Map<String, Long> failedByIp = failed.stream()
-                    .collect(Collectors.groupingBy(
-                            h -> h.getIpAddress() != null ? h.getIpAddress() : "unknown",
-                            Collectors.counting()));
-
-            for (Map.Entry<String, Long> entry : failedByIp.entrySet()) {
-                if (entry.getValue() >= FAILED_LOGIN_THRESHOLD) {
-                    LoginHistory lastFailed = failed.stream()
-                            .filter(h -> entry.getKey().equals(h.getIpAddress()))
-                            .findFirst().orElse(failed.get(0));
-
-                    events.add(SuspiciousEvent.builder()
-                            .type("BRUTE_FORCE")
-                            .severity("HIGH")
-                            .description("IP " + entry.getKey() + "에서 " + entry.getValue() + "회 로그인 실패가 감지되었습니다.")
-                            .ipAddress(entry.getKey())
-                            .location(lastFailed.getLocation())
-                            .detectedAt(lastFailed.getCreatedAt())
-                            .build());
-                }
-            }
-        }
-    }
-
-    private void detectMultipleLocations(List<LoginHistory> histories, List<SuspiciousEvent> events) {
-        List<LoginHistory> successful = histories.stream()
-                .filter(LoginHistory::getIsSuccess)
-                .filter(h -> h.getLocation() != null && !h.getLocation().isEmpty())
-                .collect(Collectors.toList());
-
-        Set<String> uniqueLocations = successful.stream()
-                .map(LoginHistory::getLocation)
-                .collect(Collectors.toSet());
-
-        if (uniqueLocations.size() >= MULTIPLE_LOCATION_THRESHOLD) {
-            LoginHistory latest = successful.stream().findFirst().orElse(null);
-            events.add(SuspiciousEvent.builder()
-                    .type("MULTIPLE_LOCATIONS")
-                    .severity("MEDIUM")
-                    .description(uniqueLocations.size() + "개의 서로 다른 지역에서 로그인이 감지되었습니다: " +
-                            String.join(", ", uniqueLocations))
-                    .ipAddress(latest != null ? latest.getIpAddress() : null)
-                    .location(latest != null ? latest.getLocation() : null)
-                    .detectedAt(latest != null ? latest.getCreatedAt() : LocalDateTime.now())
-                    .build());
-        }
-    }
-
-    private void detectRapidLogins(List<LoginHistory> histories, List<SuspiciousEvent> events) {
-        List<LoginHistory> successful = histories.stream()
-                .filter(LoginHistory::getIsSuccess)
-                .sorted(Comparator.comparing(LoginHistory::getCreatedAt).reversed())
-                .collect(Collectors.toList());
-
-        for (int i = 0; i < successful.size(); i++) {
-            LocalDateTime windowEnd = successful.get(i).getCreatedAt();
-            LocalDateTime windowStart = windowEnd.minusMinutes(RAPID_LOGIN_MINUTES);
-
-            long countInWindow = successful.stream()
-                    .filter(h -> !h.getCreatedAt().isBefore(windowStart) && !h.getCreatedAt().isAfter(windowEnd))
-                    .count();
-
-            if (countInWindow >= RAPID_LOGIN_THRESHOLD) {
-                events.add(SuspiciousEvent.builder()
-                        .type("RAPID_LOGIN")
-                        .severity("MEDIUM")
-                        .description(RAPID_LOGIN_MINUTES + "분 이내에 " + countInWindow + "회 로그인이 감지되었습니다.")
-                        .ipAddress(successful.get(i).getIpAddress())
-                        .location(successful.get(i).getLocation())
-                        .detectedAt(successful.get(i).getCreatedAt())
-                        .build());
-                break;
-            }
-        }
-    }
-
-    private void detectUnusualHours(List<LoginHistory> histories, List<SuspiciousEvent> events) {
-        List<LoginHistory> lateNightLogins = histories.stream()
-                .filter(LoginHistory::getIsSuccess)
-                .filter(h -> {
-                    int hour = h.getCreatedAt().getHour();
-                    return hour >= 1 && hour <= 5;
-                })
-                .collect(Collectors.toList());
-
-        if (!lateNightLogins.isEmpty()) {
-            LoginHistory latest = lateNightLogins.get(0);
-            events.add(SuspiciousEvent.builder()
-                    .type("UNUSUAL_HOURS")
-                    .severity("LOW")
-                    .description("새벽 시간대(01:00~05:00)에 " + lateNightLogins.size() + "회 로그인이 감지되었습니다.")
-                    .ipAddress(latest.getIpAddress())
-                    .location(latest.getLocation())
-                    .detectedAt(latest.getCreatedAt())
-                    .build());
-        }
-    }
-
-    private void detectNewDeviceLogin(List<LoginHistory> histories, List<SuspiciousEvent> events) {
-        Map<String, LoginHistory> deviceFirstSeen = new LinkedHashMap<>();
-
-        List<LoginHistory> sorted = histories.stream()
-                .filter(LoginHistory::getIsSuccess)
-                .sorted(Comparator.comparing(LoginHistory::getCreatedAt))
-                .collect(Collectors.toList());
-
-        for (LoginHistory h : sorted) {
-            String deviceKey = (h.getBrowser() != null ? h.getBrowser() : "") + "|"
-                    + (h.getOs() != null ? h.getOs() : "") + "|"
-                    + (h.getDeviceType() != null ? h.getDeviceType() : "");
-            deviceFirstSeen.putIfAbsent(deviceKey, h);
-        }
-
-        LocalDateTime recentThreshold = LocalDateTime.now().minusDays(1);
-        for (Map.Entry<String, LoginHistory> entry : deviceFirstSeen.entrySet()) {
-            LoginHistory h = entry.getValue();
-            if (h.getCreatedAt().isAfter(recentThreshold)) {
-                events.add(SuspiciousEvent.builder()
-                        .type("NEW_DEVICE")
-                        .severity("LOW")
-                        .description("새로운 기기에서 로그인: " + h.getBrowser() + " / " + h.getOs())
-                        .ipAddress(h.getIpAddress())
-                        .location(h.getLocation())
-                        .detectedAt(h.getCreatedAt())
-                        .build());
-            }
-        }
+    private LoginRiskState rebuildState(Long userId) {
+        LocalDateTime since = LocalDateTime.now().minusDays(LoginRiskState.ANALYSIS_DAYS);
+        LocalDateTime until = LocalDateTime.now().plusMinutes(1);
+        List<LoginHistory> histories = loginHistoryRepository.findByUserIdAndPeriod(userId, since, until);
+        return LoginRiskState.replay(histories);
     }
 
     private int calculateRiskScore(List<SuspiciousEvent> events) {
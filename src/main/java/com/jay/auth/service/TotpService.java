@@ -3,11 +3,13 @@ package com.jay.auth.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jay.auth.domain.entity.User;
+import com.jay.auth.domain.entity.UserBackupCode;
 import com.jay.auth.domain.entity.UserTwoFactor;
 import com.jay.auth.dto.response.TwoFactorSetupResponse;
 import com.jay.auth.dto.response.TwoFactorStatusResponse;
 import com.jay.auth.exception.TwoFactorException;
 import com.jay.auth.exception.UserNotFoundException;
+import com.jay.auth.repository.UserBackupCodeRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.repository.UserTwoFactorRepository;
 import dev.samstevens.totp.code.CodeGenerator;
@@ -23,17 +25,22 @@ import dev.samstevens.totp.qr.QrGenerator;
 import dev.samstevens.totp.qr.ZxingPngQrGenerator;
 import dev.samstevens.totp.secret.DefaultSecretGenerator;
 import dev.samstevens.totp.secret.SecretGenerator;
+import com.jay.auth.service.metrics.AuthGaugeMetrics;
 import com.jay.auth.service.metrics.AuthTimed;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -42,12 +49,18 @@ public class TotpService {
 
     private final UserRepository userRepository;
     private final UserTwoFactorRepository userTwoFactorRepository;
+    private final UserBackupCodeRepository userBackupCodeRepository;
     private final EncryptionService encryptionService;
     private final ObjectMapper objectMapper;
+    private final TotpVerifier totpVerifier;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthGaugeMetrics authGaugeMetrics;
+    private final SecurityPostureStore securityPostureStore;
 
     private static final String ISSUER = "AuthService";
     private static final int BACKUP_CODE_COUNT = 8;
     private static final int BACKUP_CODE_LENGTH = 8;
+    private static final Pattern BACKUP_CODE_PATTERN = Pattern.compile("\\d{" + BACKUP_CODE_LENGTH + "}");
 
     private final SecretGenerator secretGenerator = new DefaultSecretGenerator();
     private final CodeVerifier codeVerifier = new DefaultCodeVerifier(
@@ -74,6 +87,7 @@ public class TotpService {
         String encryptedSecret = encryptionService.encrypt(secret);
         twoFactor.updateSecret(encryptedSecret);
         userTwoFactorRepository.save(twoFactor);
+        totpVerifier.invalidate(userId);
 
         // Get user email for QR code
         String email = user.getEmailEnc() != null
@@ -94,7 +108,6 @@ public class TotpService {
     /**
      * 2FA 활성화 (코드 확인 후)
      */
-    @CacheEvict(value = "securityDashboard", key = "#userId")
     @Transactional
     public List<String> enableTwoFactor(Long userId, String code) {
         UserTwoFactor twoFactor = userTwoFactorRepository.findByUserId(userId)
@@ -116,13 +129,13 @@ public class TotpService {
 
         // Generate backup codes
         List<String> backupCodes = generateBackupCodes();
-        String backupCodesJson = serializeBackupCodes(backupCodes);
-        String encryptedBackupCodes = encryptionService.encrypt(backupCodesJson);
+        storeBackupCodes(twoFactor, backupCodes);
 
         // Enable 2FA
         twoFactor.enable();
-        twoFactor.updateBackupCodes(encryptedBackupCodes);
         twoFactor.recordUsage();
+        authGaugeMetrics.incrementTwoFactorEnabledUsers();
+        securityPostureStore.recordTwoFactor(userId, true, backupCodes.size());
 
         log.info("2FA enabled for user: {}", userId);
 
@@ -132,7 +145,6 @@ public class TotpService {
     /**
      * 2FA 비활성화
      */
-    @CacheEvict(value = "securityDashboard", key = "#userId")
     @Transactional
     public void disableTwoFactor(Long userId, String code) {
         UserTwoFactor twoFactor = userTwoFactorRepository.findByUserId(userId)
@@ -150,33 +162,58 @@ public class TotpService {
 
         // Disable 2FA
         twoFactor.disable();
+        userBackupCodeRepository.deleteByUserId(userId);
+        authGaugeMetrics.decrementTwoFactorEnabledUsers();
+        securityPostureStore.recordTwoFactor(userId, false, 0);
+        totpVerifier.invalidate(userId);
 
         log.info("2FA disabled for user: {}", userId);
     }
 
     /**
      * TOTP 코드 검증
+     * - 캐시된 비밀키가 있으면 DB 조회/복호화 없이 검증하고, 수락한 time-step은 Redis에 기록해 재사용을 막는다
+     * - 캐시 미스 또는 TOTP 불일치(백업 코드 가능성)일 때만 트랜잭션에서 DB를 조회한다
      */
     @AuthTimed(operation = "totp_verify")
-    @Transactional
     public boolean verifyCode(Long userId, String code) {
+        TotpVerifier.Result cached = totpVerifier.verifyCached(userId, code);
+        if (cached == TotpVerifier.Result.ACCEPTED) {
+            recordUsageIfDue(userId);
+            return true;
+        }
+        if (cached == TotpVerifier.Result.REPLAYED) {
+            return false;
+        }
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> verifyWithStoredSecret(userId, code, cached)));
+    }
+
+    private boolean verifyWithStoredSecret(Long userId, String code, TotpVerifier.Result cached) {
         UserTwoFactor twoFactor = userTwoFactorRepository.findByUserId(userId)
                 .orElse(null);
 
         if (twoFactor == null || !twoFactor.isEnabled()) {
+            totpVerifier.invalidate(userId);
             return true; // 2FA not enabled, allow
         }
 
-        String secret = encryptionService.decrypt(twoFactor.getSecretEnc());
-
-        // Try TOTP code first
-        if (codeVerifier.isValidCode(secret, code)) {
-            twoFactor.recordUsage();
-            return true;
+        // Try TOTP code first (캐시에 없던 경우에만, 복호화한 비밀키는 캐시에 적재)
+        if (cached == TotpVerifier.Result.NOT_CACHED) {
+            totpVerifier.cache(userId, encryptionService.decrypt(twoFactor.getSecretEnc()), toEpochMillis(twoFactor.getLastUsedAt()));
+            TotpVerifier.Result result = totpVerifier.verifyCached(userId, code);
+            if (result == TotpVerifier.Result.ACCEPTED) {
+                if (totpVerifier.claimUsageWrite(userId)) {
+                    twoFactor.recordUsage();
+                }
+                return true;
+            }
+            if (result == TotpVerifier.Result.REPLAYED) {
+                return false;
+            }
         }
 
         // Try backup code
-        if (verifyAndConsumeBackupCode(twoFactor, code)) {
+        if (verifyAndConsumeBackupCode(userId, twoFactor, code)) {
             twoFactor.recordUsage();
             return true;
         }
@@ -184,6 +221,19 @@ public class TotpService {
         return false;
     }
 
+    /**
+     * 마지막 사용 시각은 사용자당 주기(1시간)마다 한 번만 기록한다
+     */
+    private void recordUsageIfDue(Long userId) {
+        if (totpVerifier.claimUsageWrite(userId)) {
+            userTwoFactorRepository.updateLastUsedAt(userId, LocalDateTime.now());
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
     /**
      * 2FA 상태 조회
      */
@@ -195,10 +245,11 @@ public class TotpService {
         boolean enabled = twoFactor != null && twoFactor.isEnabled();
         int remainingBackupCodes = 0;
 
-        if (enabled && twoFactor.getBackupCodesEnc() != null) {
-            List<String> backupCodes = deserializeBackupCodes(
-                    encryptionService.decrypt(twoFactor.getBackupCodesEnc()));
-            remainingBackupCodes = backupCodes.size();
+        if (enabled) {
+            // 아직 이전되지 않은 이전 방식 데이터만 복호화해서 센다
+            remainingBackupCodes = twoFactor.getBackupCodesEnc() != null
+                    ? readLegacyBackupCodes(twoFactor).size()
+                    : twoFactor.getBackupCodesRemaining();
         }
 
         return TwoFactorStatusResponse.builder()
@@ -228,10 +279,8 @@ public class TotpService {
 
         // Generate new backup codes
         List<String> backupCodes = generateBackupCodes();
-        String backupCodesJson = serializeBackupCodes(backupCodes);
-        String encryptedBackupCodes = encryptionService.encrypt(backupCodesJson);
-
-        twoFactor.updateBackupCodes(encryptedBackupCodes);
+        storeBackupCodes(twoFactor, backupCodes);
+        securityPostureStore.recordBackupCodesRemaining(userId, backupCodes.size());
 
         log.info("Backup codes regenerated for user: {}", userId);
 
@@ -282,31 +331,60 @@ public class TotpService {
         return codes;
     }
 
-    private boolean verifyAndConsumeBackupCode(UserTwoFactor twoFactor, String code) {
-        if (twoFactor.getBackupCodesEnc() == null) {
+    /**
+     * 기존 백업 코드를 지우고 코드별 HMAC 해시로 저장한다
+     */
+    private void storeBackupCodes(UserTwoFactor twoFactor, List<String> backupCodes) {
+        User user = twoFactor.getUser();
+        userBackupCodeRepository.deleteByUserId(user.getId());
+        userBackupCodeRepository.saveAll(backupCodes.stream()
+                .map(code -> UserBackupCode.builder()
+                        .user(user)
+                        .codeHash(encryptionService.hashBackupCode(user.getId(), code))
+                        .build())
+                .toList());
+        twoFactor.resetBackupCodes(backupCodes.size());
+    }
+
+    /**
+     * 백업 코드 해시로 단건 조건부 UPDATE 하여 소비한다 (목록 복호화 없음)
+     */
+    private boolean verifyAndConsumeBackupCode(Long userId, UserTwoFactor twoFactor, String code) {
+        if (code == null || !BACKUP_CODE_PATTERN.matcher(code).matches()) {
+            return false;
+        }
+        if (twoFactor.getBackupCodesEnc() != null) {
+            migrateLegacyBackupCodes(twoFactor);
+        }
+        if (twoFactor.getBackupCodesRemaining() <= 0) {
             return false;
         }
 
-        List<String> backupCodes = deserializeBackupCodes(
-                encryptionService.decrypt(twoFactor.getBackupCodesEnc()));
-
-        if (backupCodes.contains(code)) {
-            backupCodes.remove(code);
-            String backupCodesJson = serializeBackupCodes(backupCodes);
-            twoFactor.updateBackupCodes(encryptionService.encrypt(backupCodesJson));
-            log.info("Backup code consumed for user: {}, remaining: {}", twoFactor.getUser().getId(), backupCodes.size());
-            return true;
+        String codeHash = encryptionService.hashBackupCode(userId, code);
+        if (userBackupCodeRepository.consume(userId, codeHash, LocalDateTime.now()) == 0) {
+            return false;
         }
 
-        return false;
+        // 남은 수도 DB에서 감소시킨 뒤 다시 읽는다 (동시 로그인이 메모리 값을 각자 줄여 어긋나지 않도록)
+        userTwoFactorRepository.decrementBackupCodesRemaining(userId);
+        int remaining = userTwoFactorRepository.findBackupCodesRemaining(userId);
+        twoFactor.syncBackupCodesRemaining(remaining);
+        securityPostureStore.recordBackupCodesRemaining(userId, remaining);
+        log.info("Backup code consumed for user: {}, remaining: {}", userId, remaining);
+        return true;
     }
 
-    private String serializeBackupCodes(List<String> codes) {
-        try {
-            return objectMapper.writeValueAsString(codes);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to serialize backup codes", e);
-        }
+    /**
+     * 암호화 JSON 목록으로 저장된 이전 백업 코드를 테이블로 한 번 이전한다
+     */
+    private void migrateLegacyBackupCodes(UserTwoFactor twoFactor) {
+        List<String> legacyCodes = readLegacyBackupCodes(twoFactor);
+        storeBackupCodes(twoFactor, legacyCodes);
+        log.info("Migrated {} legacy backup codes for user: {}", legacyCodes.size(), twoFactor.getUser().getId());
+    }
+
+    private List<String> readLegacyBackupCodes(UserTwoFactor twoFactor) {
+        return deserializeBackupCodes(encryptionService.decrypt(twoFactor.getBackupCodesEnc()));
     }
 
     private List<String> deserializeBackupCodes(String json) {
@@ -0,0 +1,304 @@
+package com.jay.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * TOTP 코드 검증기 (RFC 6238, SHA-1 / 6자리 / 30초)
+ * - 사용자별 마지막으로 수락한 time-step을 Redis에 짧은 TTL로 저장하여 같은 코드의 재사용(replay)을 막는다
+ * - 복호화된 비밀키는 디코딩된 byte[]로만 보관하고 짧은 TTL·최대 개수로 제한하며, 만료/무효화 시 0으로 덮어쓴다
+ * - HMAC을 직접 계산하여 비밀키가 SecretKeySpec 등으로 복제되지 않게 한다
+ */
+@Slf4j
+@Component
+public class TotpVerifier {
+
+    public enum Result {
+        /** 코드가 맞고 처음 사용된 time-step */
+        ACCEPTED,
+        /** 코드 불일치 */
+        REJECTED,
+        /** 이미 수락된 time-step 이하의 코드 */
+        REPLAYED,
+        /** 캐시된 비밀키 없음 */
+        NOT_CACHED
+    }
+
+    private static final String LAST_STEP_PREFIX = "totp:last-step:";
+    private static final int PERIOD_SECONDS = 30;
+    private static final int ALLOWED_DRIFT_STEPS = 1;
+    private static final int DIGITS = 6;
+    private static final int MODULUS = 1_000_000;
+    private static final int HMAC_BLOCK_SIZE = 64;
+    private static final Duration LAST_STEP_TTL = Duration.ofSeconds((long) PERIOD_SECONDS * (2 * ALLOWED_DRIFT_STEPS + 2));
+    private static final long SECRET_TTL_MILLIS = 60_000;
+    private static final int MAX_CACHED_SECRETS = 10_000;
+    private static final long USAGE_WRITE_INTERVAL_MILLIS = 3_600_000;
+
+    /** 저장된 step보다 큰 경우에만 갱신 (원자적 compare-and-set) */
+    private static final RedisScript<Long> ACCEPT_STEP_SCRIPT = new DefaultRedisScript<>(
+            "local last = redis.call('GET', KEYS[1]) " +
+                    "if last and tonumber(last) >= tonumber(ARGV[1]) then return 0 end " +
+                    "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LongSupplier clock;
+    private final Map<Long, CachedSecret> secrets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TotpVerifier(RedisTemplate<String, String> redisTemplate) {
+        this(redisTemplate, System::currentTimeMillis);
+    }
+
+    TotpVerifier(RedisTemplate<String, String> redisTemplate, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * 복호화된 Base32 비밀키를 캐시한다
+     * @param lastUsedAtMillis DB에 기록된 마지막 사용 시각 (사용 시각 기록 주기 계산용, 없으면 0)
+     */
+    public void cache(Long userId, String base32Secret, long lastUsedAtMillis) {
+        byte[] key = decodeBase32(base32Secret);
+        long now = clock.getAsLong();
+        if (secrets.size() >= MAX_CACHED_SECRETS) {
+            evictExpired();
+            evictOneIfFull();
+        }
+        CachedSecret previous = secrets.put(userId, new CachedSecret(key, now + SECRET_TTL_MILLIS, lastUsedAtMillis));
+        if (previous != null) {
+            previous.clear();
+        }
+    }
+
+    /**
+     * 캐시된 비밀키로 코드를 검증하고, 맞으면 replay 여부를 확인해 time-step을 수락한다
+     */
+    public Result verifyCached(Long userId, String code) {
+        CachedSecret entry = secrets.get(userId);
+        if (entry == null) {
+            return Result.NOT_CACHED;
+        }
+        if (!isCodeFormat(code)) {
+            return Result.REJECTED;
+        }
+
+        long now = clock.getAsLong();
+        long currentStep = now / 1000 / PERIOD_SECONDS;
+        long matchedStep = -1;
+        synchronized (entry) {
+            if (entry.isCleared() || entry.expiresAt <= now) {
+                secrets.remove(userId, entry);
+                entry.clear();
+                return Result.NOT_CACHED;
+            }
+            int expected = Integer.parseInt(code);
+            // 일치 여부와 관계없이 허용 구간 전체를 계산한다
+            for (long step = currentStep - ALLOWED_DRIFT_STEPS; step <= currentStep + ALLOWED_DRIFT_STEPS; step++) {
+                if (generate(entry.key, step) == expected) {
+                    matchedStep = step;
+                }
+            }
+        }
+        if (matchedStep < 0) {
+            return Result.REJECTED;
+        }
+        return acceptStep(userId, matchedStep) ? Result.ACCEPTED : Result.REPLAYED;
+    }
+
+    /**
+     * 마지막 사용 시각을 DB에 기록할 차례인지 확인하고 기록 시각을 갱신한다 (사용자당 주기 1회)
+     */
+    public boolean claimUsageWrite(Long userId) {
+        CachedSecret entry = secrets.get(userId);
+        if (entry == null) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        synchronized (entry) {
+            if (now - entry.lastUsageWriteAt < USAGE_WRITE_INTERVAL_MILLIS) {
+                return false;
+            }
+            entry.lastUsageWriteAt = now;
+            return true;
+        }
+    }
+
+    /**
+     * 비밀키 변경/2FA 해제 시 캐시를 지운다
+     */
+    public void invalidate(Long userId) {
+        CachedSecret entry = secrets.remove(userId);
+        if (entry != null) {
+            entry.clear();
+        }
+    }
+
+    int cachedSecretCount() {
+        return secrets.size();
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        secrets.entrySet().removeIf(e -> {
+            if (e.getValue().expiresAt <= now) {
+                e.getValue().clear();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void evictOneIfFull() {
+        if (secrets.size() < MAX_CACHED_SECRETS) {
+            return;
+        }
+        Iterator<Map.Entry<Long, CachedSecret>> it = secrets.entrySet().iterator();
+        if (it.hasNext()) {
+            CachedSecret evicted = it.next().getValue();
+            it.remove();
+            evicted.clear();
+        }
+    }
+
+    private boolean acceptStep(Long userId, long step) {
+        Long accepted = redisTemplate.execute(ACCEPT_STEP_SCRIPT, List.of(LAST_STEP_PREFIX + userId),
+                String.valueOf(step), String.valueOf(LAST_STEP_TTL.toSeconds()));
+        if (accepted == null || accepted != 1L) {
+            log.warn("TOTP code replay rejected: userId={}, step={}", userId, step);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isCodeFormat(String code) {
+        if (code == null || code.length() != DIGITS) {
+            return false;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            if (!Character.isDigit(code.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * HOTP (RFC 4226) - HMAC-SHA1을 MessageDigest로 직접 계산하고 중간 버퍼를 지운다
+     */
+    static int generate(byte[] key, long counter) {
+        MessageDigest sha1 = sha1();
+        byte[] pad = new byte[HMAC_BLOCK_SIZE];
+        byte[] blockKey = key.length > HMAC_BLOCK_SIZE ? sha1.digest(key) : key;
+        byte[] message = ByteBuffer.allocate(Long.BYTES).putLong(counter).array();
+        byte[] inner = null;
+        byte[] hash = null;
+        try {
+            for (int i = 0; i < HMAC_BLOCK_SIZE; i++) {
+                pad[i] = (byte) ((i < blockKey.length ? blockKey[i] : 0) ^ 0x36);
+            }
+            sha1.update(pad);
+            sha1.update(message);
+            inner = sha1.digest();
+
+            for (int i = 0; i < HMAC_BLOCK_SIZE; i++) {
+                pad[i] = (byte) ((i < blockKey.length ? blockKey[i] : 0) ^ 0x5c);
+            }
+            sha1.update(pad);
+            sha1.update(inner);
+            hash = sha1.digest();
+
+            int offset = hash[hash.length - 1] & 0x0F;
+            int binary = ((hash[offset] & 0x7F) << 24)
+                    | ((hash[offset + 1] & 0xFF) << 16)
+                    | ((hash[offset + 2] & 0xFF) << 8)
+                    | (hash[offset + 3] & 0xFF);
+            return binary % MODULUS;
+        } finally {
+            Arrays.fill(pad, (byte) 0);
+            if (inner != null) {
+                Arrays.fill(inner, (byte) 0);
+            }
+            if (hash != null) {
+                Arrays.fill(hash, (byte) 0);
+            }
+            if (blockKey != key) {
+                Arrays.fill(blockKey, (byte) 0);
+            }
+        }
+    }
+
+    static byte[] decodeBase32(String encoded) {
+        String normalized = encoded.replace("=", "").replace(" ", "").toUpperCase();
+        byte[] out = new byte[normalized.length() * 5 / 8];
+        int buffer = 0;
+        int bits = 0;
+        int index = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            int value = BASE32_ALPHABET.indexOf(normalized.charAt(i));
+            if (value < 0) {
+                Arrays.fill(out, (byte) 0);
+                throw new IllegalArgumentException("Invalid Base32 character in TOTP secret");
+            }
+            buffer = (buffer << 5) | value;
+            bits += 5;
+            if (bits >= 8) {
+                out[index++] = (byte) (buffer >> (bits - 8));
+                bits -= 8;
+            }
+        }
+        return out;
+    }
+
+    private static MessageDigest sha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    private static final class CachedSecret {
+        private final byte[] key;
+        private final long expiresAt;
+        private long lastUsageWriteAt;
+        private boolean cleared;
+
+        private CachedSecret(byte[] key, long expiresAt, long lastUsageWriteAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+            this.lastUsageWriteAt = lastUsageWriteAt;
+        }
+
+        private synchronized void clear() {
+            Arrays.fill(key, (byte) 0);
+            cleared = true;
+        }
+
+        private synchronized boolean isCleared() {
+            return cleared;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
+import com.jay.auth.config.UserScopedKeyGenerator;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserChannel;
 import com.jay.auth.domain.enums.UserStatus;
@@ -12,9 +14,9 @@ import com.jay.auth.exception.DuplicateNicknameException;
 import com.jay.auth.exception.InvalidVerificationException;
 import com.jay.auth.exception.UserNotFoundException;
 import com.jay.auth.repository.UserRepository;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,8 +34,10 @@ public class UserService {
     private final PhoneVerificationService phoneVerificationService;
     private final EmailVerificationService emailVerificationService;
     private final AuditLogService auditLogService;
+    private final SecurityPostureStore securityPostureStore;
+    private final UserCacheGenerations userCacheGenerations;
 
-    @Cacheable(value = "userProfile", key = "#userId")
+    @Cacheable(value = "userProfile", keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
     @Transactional(readOnly = true)
     public UserProfileResponse getProfile(Long userId) {
         User user = userRepository.findByIdWithChannels(userId)
@@ -67,7 +71,6 @@ public class UserService {
                 .build();
     }
 
-    @CacheEvict(value = "userProfile", key = "#userId")
     @Transactional
     public void updateNickname(Long userId, UpdateProfileRequest request) {
         User user = userRepository.findById(userId)
@@ -88,11 +91,11 @@ public class UserService {
         String encryptedNickname = encryptionService.encryptNickname(request.getNickname());
         user.updateNickname(encryptedNickname, nicknameLowerEnc);
         auditLogService.log(userId, "NICKNAME_CHANGE", "USER");
+        userCacheGenerations.bump(userId);
 
         log.info("User {} updated nickname", userId);
     }
 
-    @CacheEvict(value = "userProfile", key = "#userId")
     @Transactional
     public void updatePhone(Long userId, UpdatePhoneRequest request) {
         // tokenId 유효성 검증
@@ -109,11 +112,11 @@ public class UserService {
         // 인증 레코드 삭제
         phoneVerificationService.deleteVerificationByTokenId(request.getTokenId());
         auditLogService.log(userId, "PHONE_CHANGE", "USER");
+        userCacheGenerations.bump(userId);
 
         log.info("User {} updated phone", userId);
     }
 
-    @CacheEvict(value = {"userProfile", "securityDashboard"}, key = "#userId")
     @Transactional
     public void updateRecoveryEmail(Long userId, UpdateRecoveryEmailRequest request) {
         // tokenId로 이메일 인증 완료 여부 확인
@@ -128,10 +131,12 @@ public class UserService {
         EncryptionService.EncryptedEmail encryptedEmail =
                 encryptionService.encryptEmail(request.getRecoveryEmail());
         user.updateRecoveryEmail(encryptedEmail.encrypted(), encryptedEmail.encryptedLower());
+        securityPostureStore.recordRecoveryEmail(userId, true);
 
         // 인증 기록 삭제
         emailVerificationService.deleteVerificationByTokenId(request.getTokenId());
         auditLogService.log(userId, "RECOVERY_EMAIL_CHANGE", "USER");
+        userCacheGenerations.bump(userId);
 
         log.info("User {} updated recovery email", userId);
     }
@@ -170,7 +175,6 @@ public class UserService {
      * - 모든 토큰 무효화
      * - 30일 후 배치에서 실제 데이터 삭제
      */
-    @CacheEvict(value = {"userProfile", "securityDashboard"}, key = "#userId")
     @Transactional
     public void deleteAccount(Long userId) {
         User user = userRepository.findById(userId)
@@ -181,6 +185,7 @@ public class UserService {
         // 모든 토큰 무효화
         tokenService.logoutAll(userId, null);
         auditLogService.log(userId, "ACCOUNT_DELETE_REQUEST", "USER");
+        userCacheGenerations.bump(userId);
 
         log.info("User {} requested deletion (30 day grace period)", userId);
     }
@@ -188,7 +193,6 @@ public class UserService {
     /**
      * 탈퇴 유예 취소 (계정 복구)
      */
-    @CacheEvict(value = {"userProfile", "securityDashboard"}, key = "#userId")
     @Transactional
     public void cancelDeletion(Long userId) {
         User user = userRepository.findById(userId)
@@ -199,6 +203,7 @@ public class UserService {
         }
 
         user.cancelDeletion();
+        userCacheGenerations.bump(userId);
 
         log.info("User {} cancelled deletion request", userId);
     }
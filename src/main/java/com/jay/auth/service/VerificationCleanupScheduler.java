@@ -4,6 +4,7 @@ import com.jay.auth.repository.EmailVerificationRepository;
 import com.jay.auth.repository.PhoneVerificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,10 +13,11 @@ import java.time.LocalDateTime;
 
 /**
  * 만료된 인증 레코드 자동 정리 스케줄러
- * 매 시간마다 실행
+ * 매 시간마다 실행 (JPA 인증 저장소 사용 시에만 - Redis 저장소는 키 TTL로 만료)
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "app.verification.store", havingValue = "jpa")
 @RequiredArgsConstructor
 public class VerificationCleanupScheduler {
 
@@ -3,160 +3,245 @@ package com.jay.auth.service.metrics;
 import com.jay.auth.repository.UserPasskeyRepository;
 import com.jay.auth.repository.UserSignInInfoRepository;
 import com.jay.auth.repository.UserTwoFactorRepository;
+import com.jay.auth.security.TokenStore;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 /**
  * 인증 서비스 게이지 메트릭
  *
  * <p>Gauge는 Counter와 달리 값이 증가하거나 감소할 수 있는 지표에 사용한다.
  * <ul>
- *   <li>auth_active_sessions — Redis에 존재하는 활성 세션 수 (로그인 시 증가, 로그아웃 시 감소)</li>
- *   <li>auth_registered_passkeys — DB에 등록된 패스키 총 수 (등록 시 증가, 삭제 시 감소)</li>
- *   <li>auth_locked_accounts — 현재 잠금 상태인 계정 수 (잠금 발생 시 증가, 해제/만료 시 감소)</li>
- *   <li>auth_2fa_enabled_users — 2FA를 활성화한 사용자 수 (활성화 시 증가, 비활성화 시 감소)</li>
+ *   <li>auth_active_sessions — 만료되지 않은 활성 세션 수 ({@link TokenStore} 세션 인덱스 ZCOUNT)</li>
+ *   <li>auth_registered_passkeys — 등록된 패스키 총 수 (등록/삭제 커밋 시 Redis 카운터 증감)</li>
+ *   <li>auth_locked_accounts — 현재 잠금 상태인 계정 수 (잠금 만료 시각을 score로 둔 ZSET, 만료는 score로 걸러짐)</li>
+ *   <li>auth_2fa_enabled_users — 2FA를 활성화한 사용자 수 (활성화/비활성화 커밋 시 Redis 카운터 증감)</li>
  * </ul>
+ *
+ * <p>값은 클러스터 공용 Redis에 이벤트 단위로 반영되므로 모든 노드가 같은 정확한 값을 보고한다.
+ * 노드마다 키 스캔이나 집계 쿼리를 돌리지 않으며, 드리프트 보정은 리더로 선출된 한 노드가 1시간에 한 번만 수행한다.
  */
 @Slf4j
 @Component
 public class AuthGaugeMetrics {
 
-    private static final String SESSION_KEY_PATTERN = "session:*";
+    static final String REGISTERED_PASSKEYS_KEY = "metrics:gauge:registered-passkeys";
+    static final String TWO_FACTOR_USERS_KEY = "metrics:gauge:2fa-enabled-users";
+    static final String LOCKED_ACCOUNTS_KEY = "metrics:gauge:locked-accounts";
+    static final String RECONCILE_LEADER_KEY = "metrics:gauge:reconcile-leader";
+    private static final String LOCKED_ACCOUNTS_REBUILD_KEY = "metrics:gauge:locked-accounts:rebuild";
+
+    // 리더 임기는 보정 주기보다 짧게 두어, 리더가 내려가도 다음 주기에는 다른 노드가 이어받는다
+    private static final Duration LEADER_LEASE = Duration.ofMinutes(55);
 
-    // 실시간 추적: 이벤트 발생 시 증감 (Redis/DB 조회 없이 즉시 반영)
+    // Redis 장애 시 스크레이프가 0으로 떨어지지 않도록 마지막으로 읽은 값을 유지
     private final AtomicLong activeSessions = new AtomicLong(0);
     private final AtomicLong registeredPasskeys = new AtomicLong(0);
-
-    // 주기적 갱신: DB 집계 쿼리로 정확한 최신값 유지
     private final AtomicLong lockedAccounts = new AtomicLong(0);
     private final AtomicLong twoFactorEnabledUsers = new AtomicLong(0);
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final TokenStore tokenStore;
     private final UserSignInInfoRepository userSignInInfoRepository;
     private final UserPasskeyRepository userPasskeyRepository;
     private final UserTwoFactorRepository userTwoFactorRepository;
+    private final String instanceId = UUID.randomUUID().toString();
 
     public AuthGaugeMetrics(MeterRegistry registry,
                             StringRedisTemplate stringRedisTemplate,
+                            TokenStore tokenStore,
                             UserSignInInfoRepository userSignInInfoRepository,
                             UserPasskeyRepository userPasskeyRepository,
                             UserTwoFactorRepository userTwoFactorRepository) {
         this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenStore = tokenStore;
         this.userSignInInfoRepository = userSignInInfoRepository;
         this.userPasskeyRepository = userPasskeyRepository;
         this.userTwoFactorRepository = userTwoFactorRepository;
 
-        Gauge.builder("auth_active_sessions", activeSessions, AtomicLong::doubleValue)
-                .description("현재 활성 세션 수 (Redis session:* 키 기반)")
+        Gauge.builder("auth_active_sessions", this,
+                        m -> m.read(m.activeSessions, m.tokenStore::countActiveSessions))
+                .description("현재 활성 세션 수 (세션 인덱스 기반)")
                 .register(registry);
 
-        Gauge.builder("auth_registered_passkeys", registeredPasskeys, AtomicLong::doubleValue)
+        Gauge.builder("auth_registered_passkeys", this,
+                        m -> m.read(m.registeredPasskeys, () -> m.readCounter(REGISTERED_PASSKEYS_KEY)))
                 .description("등록된 패스키 총 수")
                 .register(registry);
 
-        Gauge.builder("auth_locked_accounts", lockedAccounts, AtomicLong::doubleValue)
+        Gauge.builder("auth_locked_accounts", this,
+                        m -> m.read(m.lockedAccounts, m::countLockedAccounts))
                 .description("현재 잠금 상태인 계정 수")
                 .register(registry);
 
-        Gauge.builder("auth_2fa_enabled_users", twoFactorEnabledUsers, AtomicLong::doubleValue)
+        Gauge.builder("auth_2fa_enabled_users", this,
+                        m -> m.read(m.twoFactorEnabledUsers, () -> m.readCounter(TWO_FACTOR_USERS_KEY)))
                 .description("2FA를 활성화한 사용자 수")
                 .register(registry);
     }
 
     // ─────────────────────────────────────────────────────────────────────────
-    // 실시간 업데이트 메서드 — 이벤트 발생 시 서비스에서 직접 호출
+    // 이벤트 반영 — 트랜잭션 안에서 호출되면 커밋 후에 반영한다 (롤백된 변경은 세지 않음)
     // ─────────────────────────────────────────────────────────────────────────
 
-    /** 로그인 성공 또는 토큰 발급 시 활성 세션 증가 */
-    public void incrementActiveSessions() {
-        activeSessions.incrementAndGet();
+    /** 패스키 등록 시 증가 */
+    public void incrementRegisteredPasskeys() {
+        afterCommit(() -> stringRedisTemplate.opsForValue().increment(REGISTERED_PASSKEYS_KEY));
     }
 
-    /** 로그아웃 시 활성 세션 감소 */
-    public void decrementActiveSessions() {
-        activeSessions.updateAndGet(v -> Math.max(0, v - 1));
+    /** 패스키 삭제 시 감소 */
+    public void decrementRegisteredPasskeys() {
+        afterCommit(() -> stringRedisTemplate.opsForValue().decrement(REGISTERED_PASSKEYS_KEY));
     }
 
-    /** 전체 로그아웃 시 활성 세션 n개 감소 */
-    public void decrementActiveSessions(long count) {
-        activeSessions.updateAndGet(v -> Math.max(0, v - count));
+    /** 2FA 활성화 시 증가 */
+    public void incrementTwoFactorEnabledUsers() {
+        afterCommit(() -> stringRedisTemplate.opsForValue().increment(TWO_FACTOR_USERS_KEY));
     }
 
-    /** 패스키 등록 시 증가 */
-    public void incrementRegisteredPasskeys() {
-        registeredPasskeys.incrementAndGet();
+    /** 2FA 비활성화 시 감소 */
+    public void decrementTwoFactorEnabledUsers() {
+        afterCommit(() -> stringRedisTemplate.opsForValue().decrement(TWO_FACTOR_USERS_KEY));
     }
 
-    /** 패스키 삭제 시 감소 */
-    public void decrementRegisteredPasskeys() {
-        registeredPasskeys.updateAndGet(v -> Math.max(0, v - 1));
+    /**
+     * 로그인 실패 누적으로 계정이 잠겼을 때 (잠금 만료는 score로 자동 제외)
+     * - 잠금은 Redis 로그인 상태에 바로 기록되고 로그인 실패 트랜잭션은 롤백되므로 커밋을 기다리지 않는다
+     */
+    public void recordAccountLocked(Long userId, LocalDateTime lockedUntil) {
+        applySafely(() -> stringRedisTemplate.opsForZSet()
+                .add(LOCKED_ACCOUNTS_KEY, userId.toString(), toEpochMillis(lockedUntil)));
+    }
+
+    /** 만료 전에 잠금이 해제됐을 때 */
+    public void recordAccountUnlocked(Long userId) {
+        applySafely(() -> stringRedisTemplate.opsForZSet().remove(LOCKED_ACCOUNTS_KEY, userId.toString()));
     }
 
     // ─────────────────────────────────────────────────────────────────────────
-    // 주기적 동기화 — 앱 재시작 후 초기값 설정 및 드리프트 보정
+    // 드리프트 보정 — 배포 직후 초기값 설정, Redis 유실/직접 조작 보정
     // ─────────────────────────────────────────────────────────────────────────
 
     /**
-     * 1분마다 Redis의 실제 세션 키 수로 activeSessions를 보정한다.
-     * 앱 재시작, 직접 Redis 조작 등으로 인한 AtomicLong 드리프트를 방지한다.
+     * 1시간마다 리더 노드 한 곳에서만 DB/Redis 실제 값으로 카운터와 인덱스를 다시 만든다.
+     * 리더 임기를 반납하지 않으므로 다른 노드의 같은 주기 실행은 임기 동안 건너뛴다.
      */
-    @Scheduled(fixedRate = 60_000)
-    public void syncActiveSessions() {
+    @Scheduled(initialDelay = 60_000, fixedDelay = 3_600_000)
+    public void reconcile() {
+        if (!acquireLeadership()) {
+            return;
+        }
+        reconcileStep("active_sessions", tokenStore::rebuildSessionIndex);
+        reconcileStep("registered_passkeys", () -> resetCounter(REGISTERED_PASSKEYS_KEY, userPasskeyRepository.count()));
+        reconcileStep("2fa_enabled_users", () -> resetCounter(TWO_FACTOR_USERS_KEY, userTwoFactorRepository.countByEnabled(true)));
+        reconcileStep("locked_accounts", this::rebuildLockedAccounts);
+    }
+
+    private boolean acquireLeadership() {
         try {
-            Set<String> keys = stringRedisTemplate.keys(SESSION_KEY_PATTERN);
-            long count = keys != null ? keys.size() : 0;
-            activeSessions.set(count);
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILE_LEADER_KEY, instanceId, LEADER_LEASE));
         } catch (Exception e) {
-            log.warn("활성 세션 게이지 동기화 실패", e);
+            log.warn("게이지 보정 리더 선출 실패", e);
+            return false;
         }
     }
 
-    /**
-     * 1분마다 DB의 실제 패스키 수로 registeredPasskeys를 보정한다.
-     */
-    @Scheduled(fixedRate = 60_000)
-    public void syncRegisteredPasskeys() {
+    private void reconcileStep(String gauge, LongSupplier step) {
         try {
-            long count = userPasskeyRepository.count();
-            registeredPasskeys.set(count);
+            long value = step.getAsLong();
+            log.info("Gauge reconciled: gauge={}, value={}", gauge, value);
         } catch (Exception e) {
-            log.warn("등록된 패스키 게이지 동기화 실패", e);
+            log.warn("게이지 보정 실패: {}", gauge, e);
         }
     }
 
-    /**
-     * 2분마다 현재 잠금 상태 계정 수를 갱신한다.
-     * 잠금은 5회 실패 시 설정되고, 30분 후 자동 만료되므로 주기적 갱신이 적합하다.
-     */
-    @Scheduled(fixedRate = 120_000)
-    public void refreshLockedAccountsCount() {
+    private long resetCounter(String key, long value) {
+        stringRedisTemplate.opsForValue().set(key, Long.toString(value));
+        return value;
+    }
+
+    private long rebuildLockedAccounts() {
+        List<Object[]> rows = userSignInInfoRepository.findLockedAccounts(LocalDateTime.now());
+        if (rows.isEmpty()) {
+            stringRedisTemplate.delete(LOCKED_ACCOUNTS_KEY);
+            return 0;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Object[] row : rows) {
+            tuples.add(new DefaultTypedTuple<>(row[0].toString(), toEpochMillis((LocalDateTime) row[1])));
+        }
+        stringRedisTemplate.delete(LOCKED_ACCOUNTS_REBUILD_KEY);
+        stringRedisTemplate.opsForZSet().add(LOCKED_ACCOUNTS_REBUILD_KEY, tuples);
+        stringRedisTemplate.rename(LOCKED_ACCOUNTS_REBUILD_KEY, LOCKED_ACCOUNTS_KEY);
+        return tuples.size();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // 조회 — 스크레이프 시점에 O(1)/O(log N) 명령 하나로 읽는다
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private double read(AtomicLong lastKnown, LongSupplier source) {
         try {
-            long count = userSignInInfoRepository.countLockedAccounts(LocalDateTime.now());
-            lockedAccounts.set(count);
+            lastKnown.set(Math.max(0, source.getAsLong()));
         } catch (Exception e) {
-            log.warn("잠금 계정 게이지 갱신 실패", e);
+            log.debug("게이지 조회 실패, 마지막 값 유지: {}", e.getMessage());
         }
+        return lastKnown.doubleValue();
     }
 
-    /**
-     * 5분마다 2FA 활성화 사용자 수를 갱신한다.
-     * 2FA 상태는 자주 변경되지 않으므로 긴 주기로 충분하다.
-     */
-    @Scheduled(fixedRate = 300_000)
-    public void refresh2faEnabledUsersCount() {
+    private long readCounter(String key) {
+        String value = stringRedisTemplate.opsForValue().get(key);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    private long countLockedAccounts() {
+        Long count = stringRedisTemplate.opsForZSet()
+                .count(LOCKED_ACCOUNTS_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return count != null ? count : 0;
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applySafely(update);
+                }
+            });
+        } else {
+            applySafely(update);
+        }
+    }
+
+    private void applySafely(Runnable update) {
         try {
-            long count = userTwoFactorRepository.countByEnabled(true);
-            twoFactorEnabledUsers.set(count);
+            update.run();
         } catch (Exception e) {
-            log.warn("2FA 활성화 사용자 게이지 갱신 실패", e);
+            log.warn("게이지 이벤트 반영 실패 (다음 보정 주기에 복구)", e);
         }
     }
+
+    private static double toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
@@ -170,4 +170,16 @@ public class AuthMetrics {
                 .increment();
     }
 
+    // ─────────────────────────────────────────────────────────────────────────
+    // 크리덴셜 스터핑 탐지 메트릭
+    // ─────────────────────────────────────────────────────────────────────────
+
+    public void recordCredentialStuffingDetected(String scope) {
+        Counter.builder("auth_credential_stuffing_detected_total")
+                .description("크리덴셜 스터핑 탐지 횟수")
+                .tag("scope", scope)
+                .register(registry)
+                .increment();
+    }
+
 }
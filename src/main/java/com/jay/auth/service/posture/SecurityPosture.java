@@ -0,0 +1,64 @@
+package com.jay.auth.service.posture;
+
+import com.jay.auth.domain.entity.LoginHistory;
+import com.jay.auth.domain.enums.ChannelCode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자별 보안 상태 스냅샷 (보안 대시보드 점수 계산 입력)
+ * - 각 사실을 바꾸는 서비스가 이벤트로 갱신하므로 대시보드는 DB 조회 없이 계산만 한다
+ * - 비밀번호 만료 여부는 저장하지 않고 passwordUpdatedAt으로 조회 시점에 판단한다
+ *
+ * @param recentLogins 최근 로그인 이력 (최신순, 최대 {@link #RECENT_LOGIN_LIMIT}건)
+ */
+public record SecurityPosture(
+        boolean twoFactorEnabled,
+        int backupCodesRemaining,
+        boolean hasPassword,
+        LocalDateTime passwordUpdatedAt,
+        boolean recoveryEmailSet,
+        int socialLinkCount,
+        int passkeyCount,
+        List<RecentLogin> recentLogins) {
+
+    public static final int RECENT_LOGIN_LIMIT = 10;
+
+    public SecurityPosture {
+        recentLogins = recentLogins != null ? List.copyOf(recentLogins) : List.of();
+    }
+
+    /**
+     * 최근 로그인이 있고 모두 성공한 경우 (실패가 섞여 있으면 의심 활동으로 본다)
+     */
+    public boolean hasCleanLoginHistory() {
+        return !recentLogins.isEmpty() && recentLogins.stream().allMatch(RecentLogin::success);
+    }
+
+    /**
+     * 대시보드 활동 목록에 필요한 로그인 이력 필드만 담는다
+     */
+    public record RecentLogin(
+            boolean success,
+            ChannelCode channelCode,
+            String failureReason,
+            String ipAddress,
+            String location,
+            String browser,
+            String os,
+            LocalDateTime occurredAt) {
+
+        public static RecentLogin from(LoginHistory history) {
+            return new RecentLogin(
+                    Boolean.TRUE.equals(history.getIsSuccess()),
+                    history.getChannelCode(),
+                    history.getFailureReason(),
+                    history.getIpAddress(),
+                    history.getLocation(),
+                    history.getBrowser(),
+                    history.getOs(),
+                    history.getCreatedAt());
+        }
+    }
+}
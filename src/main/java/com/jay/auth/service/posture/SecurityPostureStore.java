@@ -0,0 +1,301 @@
+package com.jay.auth.service.posture;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jay.auth.domain.entity.LoginHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 보안 상태 스냅샷 저장소 (Redis 해시)
+ * - 키: security:posture:{userId}, 필드별로 값을 두어 이벤트가 다른 필드를 덮어쓰지 않고 원자적으로 갱신한다
+ * - 스냅샷이 없을 때 들어온 이벤트는 반영하지 않고 stale 표시만 남긴다.
+ *   진행 중인 재구성이 이벤트 이전의 DB 값을 저장하지 못하게 막고, 표시가 사라진 뒤의 조회가 다시 재구성한다
+ * - 이벤트 반영에 실패하면 스냅샷이 어긋날 수 있으므로 TTL(1일)마다 DB에서 다시 만든다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecurityPostureStore {
+
+    private static final String KEY_PREFIX = "security:posture:";
+    private static final Duration POSTURE_TTL = Duration.ofDays(1);
+    // 재구성(대시보드 조회 한 번)보다 충분히 길게
+    private static final Duration STALE_TTL = Duration.ofSeconds(10);
+
+    static final String STALE = "stale";
+    static final String TWO_FACTOR_ENABLED = "twoFactorEnabled";
+    static final String BACKUP_CODES_REMAINING = "backupCodesRemaining";
+    static final String HAS_PASSWORD = "hasPassword";
+    static final String PASSWORD_UPDATED_AT = "passwordUpdatedAt";
+    static final String RECOVERY_EMAIL_SET = "recoveryEmailSet";
+    static final String SOCIAL_LINK_COUNT = "socialLinkCount";
+    static final String PASSKEY_COUNT = "passkeyCount";
+    static final String RECENT_LOGINS = "recentLogins";
+
+    /**
+     * 스냅샷이 없거나 stale 표시만 있으면 stale 표시를 (다시) 남기고 0을 반환한다
+     * KEYS[1]=스냅샷 해시, ARGV[1]=stale 표시 TTL(ms)
+     */
+    private static final String MARK_STALE_IF_ABSENT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('HEXISTS', KEYS[1], 'stale') == 1 then " +
+            "  redis.call('HSET', KEYS[1], 'stale', '1') " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "  return 0 " +
+            "end ";
+
+    /**
+     * 필드 값 설정. ARGV[2..]=field, value 쌍
+     */
+    private static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>(
+            MARK_STALE_IF_ABSENT +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 카운트 필드 증감 (0 미만으로 내려가지 않음). ARGV[2]=field, ARGV[3]=delta
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            MARK_STALE_IF_ABSENT +
+            "if redis.call('HINCRBY', KEYS[1], ARGV[2], ARGV[3]) < 0 then " +
+            "  redis.call('HSET', KEYS[1], ARGV[2], '0') " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 최근 로그인 목록 앞에 추가하고 최대 개수로 자른다. ARGV[2]=로그인 JSON, ARGV[3]=최대 개수
+     */
+    private static final RedisScript<Long> PUSH_LOGIN_SCRIPT = new DefaultRedisScript<>(
+            MARK_STALE_IF_ABSENT +
+            "local raw = redis.call('HGET', KEYS[1], 'recentLogins') " +
+            "local logins = raw and cjson.decode(raw) or {} " +
+            "table.insert(logins, 1, cjson.decode(ARGV[2])) " +
+            "while #logins > tonumber(ARGV[3]) do table.remove(logins) end " +
+            "redis.call('HSET', KEYS[1], 'recentLogins', cjson.encode(logins)) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 재구성한 스냅샷 저장. 이미 스냅샷(또는 stale 표시)이 있으면 저장하지 않는다
+     * ARGV[1]=스냅샷 TTL(ms), ARGV[2..]=field, value 쌍
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private static final TypeReference<List<SecurityPosture.RecentLogin>> RECENT_LOGINS_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 저장된 스냅샷 조회 (없거나 읽을 수 없으면 비어 있음 → 호출 측이 DB에서 재구성)
+     */
+    public Optional<SecurityPosture> find(Long userId) {
+        Map<Object, Object> fields;
+        try {
+            fields = stringRedisTemplate.opsForHash().entries(key(userId));
+        } catch (RuntimeException e) {
+            log.warn("보안 상태 조회 실패, DB에서 재구성: userId={}", userId, e);
+            return Optional.empty();
+        }
+        if (fields.isEmpty() || fields.containsKey(STALE)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(toPosture(fields));
+        } catch (RuntimeException | JsonProcessingException e) {
+            // 남겨 두면 재구성한 스냅샷을 저장할 수 없으므로 지운다
+            log.warn("보안 상태 역직렬화 실패, 재구성 대상: userId={}", userId);
+            applySafely(userId, () -> delete(userId));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB에서 재구성한 스냅샷 저장
+     * - 재구성 중에 이벤트가 들어왔으면(stale 표시) 저장하지 않는다
+     */
+    public void save(Long userId, SecurityPosture posture) {
+        try {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(POSTURE_TTL.toMillis()));
+            args.addAll(List.of(
+                    TWO_FACTOR_ENABLED, flag(posture.twoFactorEnabled()),
+                    BACKUP_CODES_REMAINING, String.valueOf(posture.backupCodesRemaining()),
+                    HAS_PASSWORD, flag(posture.hasPassword()),
+                    RECOVERY_EMAIL_SET, flag(posture.recoveryEmailSet()),
+                    SOCIAL_LINK_COUNT, String.valueOf(posture.socialLinkCount()),
+                    PASSKEY_COUNT, String.valueOf(posture.passkeyCount()),
+                    RECENT_LOGINS, objectMapper.writeValueAsString(posture.recentLogins())));
+            if (posture.passwordUpdatedAt() != null) {
+                args.add(PASSWORD_UPDATED_AT);
+                args.add(posture.passwordUpdatedAt().toString());
+            }
+            stringRedisTemplate.execute(SAVE_SCRIPT, List.of(key(userId)), args.toArray());
+        } catch (JsonProcessingException e) {
+            log.warn("보안 상태 직렬화 실패: userId={}", userId, e);
+        } catch (RuntimeException e) {
+            log.warn("보안 상태 저장 실패: userId={}", userId, e);
+        }
+    }
+
+    public void delete(Long userId) {
+        stringRedisTemplate.delete(key(userId));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // 이벤트 반영 — 트랜잭션 안에서 호출되면 커밋 후에 반영한다 (롤백된 변경은 반영하지 않음)
+    // ─────────────────────────────────────────────────────────────────────────
+
+    /** 2FA 활성화/비활성화 */
+    public void recordTwoFactor(Long userId, boolean enabled, int backupCodesRemaining) {
+        afterCommit(userId, () -> set(userId,
+                TWO_FACTOR_ENABLED, flag(enabled),
+                BACKUP_CODES_REMAINING, String.valueOf(backupCodesRemaining)));
+    }
+
+    /** 백업 코드 재생성/소비 */
+    public void recordBackupCodesRemaining(Long userId, int backupCodesRemaining) {
+        afterCommit(userId, () -> set(userId, BACKUP_CODES_REMAINING, String.valueOf(backupCodesRemaining)));
+    }
+
+    /** 비밀번호 변경/재설정 */
+    public void recordPasswordChanged(Long userId, LocalDateTime passwordUpdatedAt) {
+        if (passwordUpdatedAt == null) {
+            afterCommit(userId, () -> set(userId, HAS_PASSWORD, flag(true)));
+            return;
+        }
+        afterCommit(userId, () -> set(userId,
+                HAS_PASSWORD, flag(true),
+                PASSWORD_UPDATED_AT, passwordUpdatedAt.toString()));
+    }
+
+    /** 복구 이메일 설정/해제 */
+    public void recordRecoveryEmail(Long userId, boolean set) {
+        afterCommit(userId, () -> set(userId, RECOVERY_EMAIL_SET, flag(set)));
+    }
+
+    /** 소셜 채널 연결(+1)/해제(-1) */
+    public void adjustSocialLinkCount(Long userId, int delta) {
+        afterCommit(userId, () -> increment(userId, SOCIAL_LINK_COUNT, delta));
+    }
+
+    /** 패스키 등록(+1)/삭제(-1) */
+    public void adjustPasskeyCount(Long userId, int delta) {
+        afterCommit(userId, () -> increment(userId, PASSKEY_COUNT, delta));
+    }
+
+    /** 로그인 이력 저장 (사용자를 특정하지 못한 실패는 무시) */
+    public void recordLogin(LoginHistory history) {
+        Long userId = history.getUserId();
+        if (userId == null) {
+            return;
+        }
+        SecurityPosture.RecentLogin login = SecurityPosture.RecentLogin.from(history);
+        afterCommit(userId, () -> {
+            try {
+                stringRedisTemplate.execute(PUSH_LOGIN_SCRIPT, List.of(key(userId)),
+                        staleTtl(), objectMapper.writeValueAsString(login),
+                        String.valueOf(SecurityPosture.RECENT_LOGIN_LIMIT));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize recent login", e);
+            }
+        });
+    }
+
+    private void set(Long userId, String... fieldValues) {
+        Object[] args = new Object[fieldValues.length + 1];
+        args[0] = staleTtl();
+        System.arraycopy(fieldValues, 0, args, 1, fieldValues.length);
+        stringRedisTemplate.execute(SET_SCRIPT, List.of(key(userId)), args);
+    }
+
+    private void increment(Long userId, String field, int delta) {
+        stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key(userId)), staleTtl(), field, String.valueOf(delta));
+    }
+
+    private SecurityPosture toPosture(Map<Object, Object> fields) throws JsonProcessingException {
+        String passwordUpdatedAt = string(fields, PASSWORD_UPDATED_AT);
+        String recentLogins = string(fields, RECENT_LOGINS);
+        return new SecurityPosture(
+                "1".equals(string(fields, TWO_FACTOR_ENABLED)),
+                integer(fields, BACKUP_CODES_REMAINING),
+                "1".equals(string(fields, HAS_PASSWORD)),
+                passwordUpdatedAt != null ? LocalDateTime.parse(passwordUpdatedAt) : null,
+                "1".equals(string(fields, RECOVERY_EMAIL_SET)),
+                integer(fields, SOCIAL_LINK_COUNT),
+                integer(fields, PASSKEY_COUNT),
+                recentLogins != null ? objectMapper.readValue(recentLogins, RECENT_LOGINS_TYPE) : List.of());
+    }
+
+    private void afterCommit(Long userId, Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applySafely(userId, update);
+                }
+            });
+        } else {
+            applySafely(userId, update);
+        }
+    }
+
+    /**
+     * 반영에 실패하면 스냅샷을 지워 다음 조회가 DB에서 다시 만들게 한다 (그마저 실패하면 TTL로 정리)
+     */
+    private void applySafely(Long userId, Runnable update) {
+        try {
+            update.run();
+        } catch (Exception e) {
+            log.warn("보안 상태 이벤트 반영 실패, 스냅샷 삭제: userId={}", userId, e);
+            try {
+                delete(userId);
+            } catch (Exception ignored) {
+                // TTL이 지나면 재구성된다
+            }
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String staleTtl() {
+        return String.valueOf(STALE_TTL.toMillis());
+    }
+
+    private static String flag(boolean value) {
+        return value ? "1" : "0";
+    }
+
+    private static String string(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    private static int integer(Map<Object, Object> fields, String field) {
+        String value = string(fields, field);
+        return value != null ? Math.max(0, Integer.parseInt(value)) : 0;
+    }
+}
@@ -0,0 +1,66 @@
+package com.jay.auth.service.risk;
+
+/**
+ * Count-Min Sketch
+ * - depth x width 고정 크기 카운터 배열로 임의 개수 키의 빈도를 근사한다
+ * - 추정값은 실제 값 이상이며, 오차는 전체 합의 약 e/width 이내 (확률 1 - e^-depth)
+ * - 스레드 안전하지 않으므로 호출 측에서 동기화한다
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[][] table;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("depth와 width는 양수여야 합니다");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.table = new long[depth][width];
+    }
+
+    public void add(long hash) {
+        add(hash, 1);
+    }
+
+    public void add(long hash, long count) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < depth; i++) {
+            table[i][index(h1, h2, i)] += count;
+        }
+    }
+
+    public long estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, table[i][index(h1, h2, i)]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (long[] row : table) {
+            java.util.Arrays.fill(row, 0L);
+        }
+    }
+
+    private int index(int h1, int h2, int row) {
+        return column(h1, h2, row, width);
+    }
+
+    /**
+     * Kirsch-Mitzenmacher 이중 해싱으로 행별 인덱스를 만든다 (Redis에 둔 스케치도 같은 인덱스를 쓴다)
+     */
+    static int column(long hash, int row, int width) {
+        return column((int) hash, (int) (hash >>> 32), row, width);
+    }
+
+    private static int column(int h1, int h2, int row, int width) {
+        return Math.floorMod(h1 + row * h2, width);
+    }
+}
@@ -0,0 +1,178 @@
+package com.jay.auth.service.risk;
+
+import com.jay.auth.service.IpAccessService;
+import com.jay.auth.service.metrics.AuthMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 전체 로그인 시도 스트림 기반 크리덴셜 스터핑 탐지
+ * - 사용자 단위(SuspiciousActivityService)나 IP 카운터(LoginRateLimitService)로는 보이지 않는,
+ *   여러 계정과 IP에 분산된 공격을 전체 시도 스트림으로 탐지한다
+ * - 1분 버킷 5개로 된 슬라이딩 윈도우에 Count-Min Sketch(IP, 서브넷 실패 수)와
+ *   HyperLogLog(공격 대상 계정 수)를 두어 트래픽과 무관하게 메모리가 고정된다
+ * - 집계는 Redis({@link RedisStuffingWindow})에 두어 모든 인스턴스의 시도를 합산하고,
+ *   Redis 장애 시에는 인스턴스 로컬 집계({@link LocalStuffingWindow})로 탐지를 이어간다
+ * - 로그인 rate limit으로 거절된 시도도 실패로 넣는다 (IP 한도 20회 아래에서도 차단 임계치에 도달하도록)
+ * - IP 임계치를 넘으면 {@link IpAccessService#autoBlock}으로 차단하고,
+ *   전체 실패율과 대상 계정 수가 임계치를 넘으면 "공격 중" 신호를 켠다
+ */
+@Slf4j
+@Component
+public class CredentialStuffingDetector {
+
+    /** 출처별 고유 계정 추적을 시작하는 윈도우 내 실패 수 */
+    private static final long TRACK_THRESHOLD = 5;
+
+    private static final long IP_FAILURE_THRESHOLD = 30;
+    private static final long IP_DISTINCT_ACCOUNT_THRESHOLD = 10;
+    private static final long SUBNET_FAILURE_THRESHOLD = 100;
+    private static final long SUBNET_DISTINCT_ACCOUNT_THRESHOLD = 30;
+
+    private static final long ATTACK_MIN_FAILURES = 200;
+    private static final double ATTACK_FAILURE_RATIO = 0.6;
+    private static final long ATTACK_DISTINCT_ACCOUNTS = 100;
+    private static final double ATTACK_CLEAR_RATIO = 0.3;
+
+    private static final String IP_SOURCE_PREFIX = "ip:";
+    private static final String SUBNET_SOURCE_PREFIX = "net:";
+
+    private final IpAccessService ipAccessService;
+    private final AuthMetrics authMetrics;
+    private final StuffingWindow sharedWindow;
+    private final StuffingWindow localWindow = new LocalStuffingWindow();
+    private final LongSupplier clock;
+    private final AtomicBoolean underAttack = new AtomicBoolean(false);
+
+    @Autowired
+    public CredentialStuffingDetector(IpAccessService ipAccessService, AuthMetrics authMetrics,
+                                      MeterRegistry registry, StuffingWindow sharedWindow) {
+        this(ipAccessService, authMetrics, registry, sharedWindow, System::currentTimeMillis);
+    }
+
+    CredentialStuffingDetector(IpAccessService ipAccessService, AuthMetrics authMetrics,
+                               MeterRegistry registry, StuffingWindow sharedWindow, LongSupplier clock) {
+        this.ipAccessService = ipAccessService;
+        this.authMetrics = authMetrics;
+        this.sharedWindow = sharedWindow;
+        this.clock = clock;
+
+        Gauge.builder("auth_credential_stuffing_under_attack", underAttack, flag -> flag.get() ? 1 : 0)
+                .description("전역 크리덴셜 스터핑 공격 감지 상태 (1: 공격 중)")
+                .register(registry);
+    }
+
+    /**
+     * 로그인 시도 1건을 반영한다.
+     * 탐지 실패가 로그인 처리에 영향을 주지 않도록 예외는 로그로만 남긴다.
+     */
+    public void recordAttempt(String account, String ip, boolean success) {
+        if (ip == null || ip.isBlank()) {
+            return;
+        }
+        try {
+            record(sharedWindow, account, ip, success);
+        } catch (Exception e) {
+            log.warn("크리덴셜 스터핑 공유 집계 실패, 인스턴스 로컬 집계로 대체: ip={}, error={}", ip, e.getMessage());
+            try {
+                record(localWindow, account, ip, success);
+            } catch (Exception fallbackError) {
+                log.warn("크리덴셜 스터핑 탐지 처리 실패: ip={}", ip, fallbackError);
+            }
+        }
+    }
+
+    private void record(StuffingWindow window, String account, String ip, boolean success) {
+        long epoch = clock.getAsLong() / StuffingWindow.BUCKET_MILLIS;
+        long accountHash = HyperLogLogSketch.hash(account != null ? account.toLowerCase(Locale.ROOT) : "");
+
+        if (!success) {
+            String ipSource = IP_SOURCE_PREFIX + ip;
+            StuffingWindow.SourceCount ipCount = window.recordSourceFailure(ipSource, accountHash, epoch, TRACK_THRESHOLD);
+            if (ipCount.failures() >= IP_FAILURE_THRESHOLD && ipCount.accounts() >= IP_DISTINCT_ACCOUNT_THRESHOLD
+                    && window.flag(ipSource)) {
+                block(ip, ipCount);
+            }
+
+            String subnet = subnetOf(ip);
+            String subnetSource = SUBNET_SOURCE_PREFIX + subnet;
+            StuffingWindow.SourceCount subnetCount =
+                    window.recordSourceFailure(subnetSource, accountHash, epoch, TRACK_THRESHOLD);
+            if (subnetCount.failures() >= SUBNET_FAILURE_THRESHOLD
+                    && subnetCount.accounts() >= SUBNET_DISTINCT_ACCOUNT_THRESHOLD
+                    && window.flag(subnetSource)) {
+                // IP 규칙은 단일 IP 단위이므로 서브넷은 경고와 메트릭으로만 남긴다
+                log.warn("Credential stuffing suspected from subnet: subnet={}, failures~{}, accounts~{}",
+                        subnet, subnetCount.failures(), subnetCount.accounts());
+                authMetrics.recordCredentialStuffingDetected("subnet");
+            }
+        }
+
+        updateAttackSignal(window, window.recordAttempt(success, accountHash, epoch), epoch);
+    }
+
+    private void block(String ip, StuffingWindow.SourceCount count) {
+        log.warn("Credential stuffing detected: ip={}, failures~{}, accounts~{}", ip, count.failures(), count.accounts());
+        authMetrics.recordCredentialStuffingDetected("ip");
+        try {
+            ipAccessService.autoBlock(ip, "크리덴셜 스터핑 의심: 최근 "
+                    + (StuffingWindow.BUCKETS * StuffingWindow.BUCKET_MILLIS / 60_000)
+                    + "분간 실패 " + count.failures() + "회, 대상 계정 약 " + count.accounts() + "개");
+        } catch (Exception e) {
+            log.warn("크리덴셜 스터핑 IP 자동 차단 실패: ip={}", ip, e);
+        }
+    }
+
+    /**
+     * 전역 "공격 중" 신호
+     */
+    public boolean isUnderAttack() {
+        return underAttack.get();
+    }
+
+    private void updateAttackSignal(StuffingWindow window, StuffingWindow.WindowCount count, long epoch) {
+        long attempts = count.attempts();
+        long failures = count.failures();
+        double ratio = attempts > 0 ? (double) failures / attempts : 0;
+
+        if (!underAttack.get()) {
+            if (failures < ATTACK_MIN_FAILURES || ratio < ATTACK_FAILURE_RATIO) {
+                return;
+            }
+            long accounts = window.targetedAccounts(epoch);
+            if (accounts >= ATTACK_DISTINCT_ACCOUNTS && underAttack.compareAndSet(false, true)) {
+                authMetrics.recordCredentialStuffingDetected("global");
+                log.warn("Credential stuffing attack in progress: failures={}, ratio={}, accounts~{}",
+                        failures, String.format("%.2f", ratio), accounts);
+            }
+        } else if ((failures < ATTACK_MIN_FAILURES / 2 || ratio < ATTACK_CLEAR_RATIO)
+                && underAttack.compareAndSet(true, false)) {
+            log.info("Credential stuffing attack signal cleared: failures={}, ratio={}",
+                    failures, String.format("%.2f", ratio));
+        }
+    }
+
+    /**
+     * IPv4는 /24, IPv6는 앞 4개 그룹(/64 근사)으로 묶는다.
+     */
+    static String subnetOf(String ip) {
+        if (ip.indexOf(':') >= 0) {
+            int colons = 0;
+            for (int i = 0; i < ip.length(); i++) {
+                if (ip.charAt(i) == ':' && ++colons == 4) {
+                    return ip.substring(0, i) + "::/64";
+                }
+            }
+            return ip + "/64";
+        }
+        int lastDot = ip.lastIndexOf('.');
+        return lastDot > 0 ? ip.substring(0, lastDot) + ".0/24" : ip;
+    }
+}
@@ -0,0 +1,159 @@
+package com.jay.auth.service.risk;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인스턴스 로컬 슬라이딩 윈도우 (메모리 고정)
+ * - 버킷별 Count-Min Sketch(IP, 서브넷 실패 수)와 HyperLogLog(공격 대상 계정 수)를 둔다
+ * - 실패가 많은 출처(heavy hitter)만 출처별 고유 계정 HLL을 추적하며, 추적 대상 수도 상한이 있다
+ * - 다른 인스턴스의 시도는 보이지 않으므로 Redis를 쓸 수 없을 때만 사용한다
+ */
+public class LocalStuffingWindow implements StuffingWindow {
+
+    private static final int CMS_DEPTH = 4;
+    private static final int CMS_WIDTH = 4096;
+    private static final int MAX_TRACKED_SOURCES = 256;
+    private static final int MAX_REMEMBERED_FLAGS = 1024;
+
+    private final Bucket[] buckets = new Bucket[BUCKETS];
+    private final Map<String, TrackedSource> trackedSources = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TrackedSource> eldest) {
+            return size() > MAX_TRACKED_SOURCES;
+        }
+    };
+    private final Map<String, Boolean> flaggedSources = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_REMEMBERED_FLAGS;
+        }
+    };
+
+    public LocalStuffingWindow() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    @Override
+    public synchronized SourceCount recordSourceFailure(String source, long accountHash, long epoch,
+                                                        long trackThreshold) {
+        long sourceHash = HyperLogLogSketch.hash(source);
+        bucketFor(epoch).sourceFailures.add(sourceHash);
+
+        long failures = 0;
+        for (Bucket bucket : buckets) {
+            if (inWindow(bucket.epoch, epoch)) {
+                failures += bucket.sourceFailures.estimate(sourceHash);
+            }
+        }
+        return new SourceCount(failures, trackAccount(source, failures, accountHash, epoch, trackThreshold));
+    }
+
+    @Override
+    public synchronized WindowCount recordAttempt(boolean success, long accountHash, long epoch) {
+        Bucket current = bucketFor(epoch);
+        current.attempts++;
+        if (!success) {
+            current.failures++;
+            current.targetedAccounts.add(accountHash);
+        }
+
+        long attempts = 0;
+        long failures = 0;
+        for (Bucket bucket : buckets) {
+            if (inWindow(bucket.epoch, epoch)) {
+                attempts += bucket.attempts;
+                failures += bucket.failures;
+            }
+        }
+        return new WindowCount(attempts, failures);
+    }
+
+    @Override
+    public synchronized long targetedAccounts(long epoch) {
+        HyperLogLogSketch merged = new HyperLogLogSketch();
+        for (Bucket bucket : buckets) {
+            if (inWindow(bucket.epoch, epoch)) {
+                merged.merge(bucket.targetedAccounts);
+            }
+        }
+        return merged.estimate();
+    }
+
+    @Override
+    public synchronized boolean flag(String source) {
+        return flaggedSources.put(source, Boolean.TRUE) == null;
+    }
+
+    private Bucket bucketFor(long epoch) {
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) BUCKETS)];
+        if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+        return bucket;
+    }
+
+    private static boolean inWindow(long bucketEpoch, long currentEpoch) {
+        return bucketEpoch > currentEpoch - BUCKETS && bucketEpoch <= currentEpoch;
+    }
+
+    /**
+     * 실패가 trackThreshold 이상인 출처만 고유 계정 HLL을 유지하고, 윈도우 내 고유 계정 수를 반환한다.
+     * 추적 시작 전 실패의 계정은 포함되지 않으므로 최대 trackThreshold만큼 과소 추정될 수 있다.
+     */
+    private long trackAccount(String source, long failures, long accountHash, long epoch, long trackThreshold) {
+        TrackedSource tracked = trackedSources.get(source);
+        if (tracked == null) {
+            if (failures < trackThreshold) {
+                return 0;
+            }
+            tracked = new TrackedSource();
+            trackedSources.put(source, tracked);
+        }
+        int slot = (int) Math.floorMod(epoch, (long) BUCKETS);
+        if (tracked.epochs[slot] != epoch) {
+            tracked.epochs[slot] = epoch;
+            tracked.accounts[slot].clear();
+        }
+        tracked.accounts[slot].add(accountHash);
+
+        HyperLogLogSketch merged = new HyperLogLogSketch();
+        for (int i = 0; i < BUCKETS; i++) {
+            if (inWindow(tracked.epochs[i], epoch)) {
+                merged.merge(tracked.accounts[i]);
+            }
+        }
+        return merged.estimate();
+    }
+
+    private static final class Bucket {
+        private long epoch = Long.MIN_VALUE;
+        private long attempts;
+        private long failures;
+        /** IP와 서브넷 출처는 접두어("ip:", "net:")로 구분되므로 하나의 스케치를 함께 쓴다 */
+        private final CountMinSketch sourceFailures = new CountMinSketch(CMS_DEPTH, CMS_WIDTH * 2);
+        private final HyperLogLogSketch targetedAccounts = new HyperLogLogSketch();
+
+        private void reset(long newEpoch) {
+            epoch = newEpoch;
+            attempts = 0;
+            failures = 0;
+            sourceFailures.clear();
+            targetedAccounts.clear();
+        }
+    }
+
+    private static final class TrackedSource {
+        private final long[] epochs = new long[BUCKETS];
+        private final HyperLogLogSketch[] accounts = new HyperLogLogSketch[BUCKETS];
+
+        private TrackedSource() {
+            for (int i = 0; i < BUCKETS; i++) {
+                epochs[i] = Long.MIN_VALUE;
+                accounts[i] = new HyperLogLogSketch();
+            }
+        }
+    }
+}
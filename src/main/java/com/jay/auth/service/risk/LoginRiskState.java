@@ -0,0 +1,354 @@
+package com.jay.auth.service.risk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.jay.auth.domain.entity.LoginHistory;
+import com.jay.auth.dto.response.SuspiciousActivityResponse.SuspiciousEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 사용자별 로그인 위험 탐지 상태
+ * - 로그인 이벤트마다 증분 갱신되며, 분석 시 이력을 다시 읽지 않고 상태만으로 이벤트를 계산한다
+ * - 시각은 epoch 초, 기간 집계는 일 단위 버킷으로 저장하고 추적 대상 수를 제한하여 크기를 고정한다
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LoginRiskState {
+
+    public static final int ANALYSIS_DAYS = 7;
+    public static final int FAILED_LOGIN_THRESHOLD = 5;
+    public static final int MULTIPLE_LOCATION_THRESHOLD = 3;
+    public static final int RAPID_LOGIN_THRESHOLD = 5;
+    public static final int RAPID_LOGIN_MINUTES = 10;
+    private static final int NEW_DEVICE_DAYS = 1;
+    private static final int DEVICE_RETENTION_DAYS = 90;
+
+    private static final int MAX_TRACKED_IPS = 32;
+    private static final int MAX_TRACKED_LOCATIONS = 32;
+    private static final int MAX_TRACKED_DEVICES = 16;
+    private static final int MAX_RAPID_WINDOW = 50;
+
+    private static final String UNKNOWN_IP = "unknown";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /** IP별 로그인 실패 (일별 버킷) */
+    private Map<String, IpFailures> failuresByIp = new HashMap<>();
+
+    /** 전체 로그인 실패 (epochDay 별) — IP 추적 상한으로 밀려난 IP의 실패도 남아 IP를 바꿔 가며 시도하는 공격을 잡는다 */
+    private Map<Long, Integer> failuresByDay = new HashMap<>();
+    private LoginPoint lastFailure;
+
+    /** 성공 로그인 지역 → 마지막 로그인 시각 */
+    private Map<String, Long> locations = new HashMap<>();
+    private LoginPoint lastLocatedSuccess;
+
+    /** 최근 RAPID_LOGIN_MINUTES 이내 성공 로그인 시각 (오름차순) */
+    private List<Long> rapidWindow = new ArrayList<>();
+    private RapidLogin lastRapidLogin;
+
+    /** 새벽(01~05시) 성공 로그인 수 (epochDay 별) */
+    private Map<Long, Integer> lateNightByDay = new HashMap<>();
+    private LoginPoint lastLateNight;
+
+    /** 기기(browser|os|deviceType)별 최초/최근 사용 시각 */
+    private Map<String, DeviceSeen> devices = new HashMap<>();
+
+    /**
+     * 이력 행 목록(순서 무관)으로 상태를 재구성한다.
+     */
+    public static LoginRiskState replay(List<LoginHistory> histories) {
+        LoginRiskState state = new LoginRiskState();
+        histories.stream()
+                .sorted((a, b) -> {
+                    if (a.getCreatedAt() == null) return 1;
+                    if (b.getCreatedAt() == null) return -1;
+                    return a.getCreatedAt().compareTo(b.getCreatedAt());
+                })
+                .forEach(state::apply);
+        state.prune(LocalDateTime.now());
+        return state;
+    }
+
+    /**
+     * 로그인 이벤트 1건을 반영한다.
+     */
+    public void record(LoginHistory history) {
+        apply(history);
+        prune(LocalDateTime.now());
+    }
+
+    private void apply(LoginHistory history) {
+        LocalDateTime at = history.getCreatedAt() != null ? history.getCreatedAt() : LocalDateTime.now();
+        long epoch = toEpoch(at);
+        if (Boolean.TRUE.equals(history.getIsSuccess())) {
+            applySuccess(history, at, epoch);
+        } else {
+            applyFailure(history, at, epoch);
+        }
+    }
+
+    private void applyFailure(LoginHistory history, LocalDateTime at, long epoch) {
+        String ip = history.getIpAddress() != null ? history.getIpAddress() : UNKNOWN_IP;
+        failuresByDay.merge(at.toLocalDate().toEpochDay(), 1, Integer::sum);
+        if (lastFailure == null || lastFailure.getAt() <= epoch) {
+            lastFailure = new LoginPoint(epoch, ip, history.getLocation());
+        }
+
+        IpFailures failures = failuresByIp.computeIfAbsent(ip, k -> new IpFailures());
+        failures.getDaily().merge(at.toLocalDate().toEpochDay(), 1, Integer::sum);
+        if (failures.getLastAt() <= epoch) {
+            failures.setLastAt(epoch);
+            failures.setLocation(history.getLocation());
+        }
+        evictOldest(failuresByIp, MAX_TRACKED_IPS, IpFailures::getLastAt);
+    }
+
+    private void applySuccess(LoginHistory history, LocalDateTime at, long epoch) {
+        LoginPoint point = new LoginPoint(epoch, history.getIpAddress(), history.getLocation());
+
+        // 다중 지역
+        String location = history.getLocation();
+        if (location != null && !location.isEmpty()) {
+            locations.merge(location, epoch, Math::max);
+            if (lastLocatedSuccess == null || lastLocatedSuccess.getAt() <= epoch) {
+                lastLocatedSuccess = point;
+            }
+            evictOldest(locations, MAX_TRACKED_LOCATIONS, Long::longValue);
+        }
+
+        // 빠른 연속 로그인: 최신 시각 기준 RAPID_LOGIN_MINUTES 이내 시각만 유지
+        int insertAt = Collections.binarySearch(rapidWindow, epoch);
+        rapidWindow.add(insertAt < 0 ? -insertAt - 1 : insertAt, epoch);
+        long newest = rapidWindow.get(rapidWindow.size() - 1);
+        long windowStart = newest - RAPID_LOGIN_MINUTES * 60L;
+        rapidWindow.removeIf(t -> t < windowStart);
+        while (rapidWindow.size() > MAX_RAPID_WINDOW) {
+            rapidWindow.remove(0);
+        }
+        if (newest == epoch && rapidWindow.size() >= RAPID_LOGIN_THRESHOLD) {
+            lastRapidLogin = new RapidLogin(point, rapidWindow.size());
+        }
+
+        // 새벽 시간대
+        int hour = at.getHour();
+        if (hour >= 1 && hour <= 5) {
+            lateNightByDay.merge(at.toLocalDate().toEpochDay(), 1, Integer::sum);
+            if (lastLateNight == null || lastLateNight.getAt() <= epoch) {
+                lastLateNight = point;
+            }
+        }
+
+        // 최초 사용 기기
+        String deviceKey = (history.getBrowser() != null ? history.getBrowser() : "") + "|"
+                + (history.getOs() != null ? history.getOs() : "") + "|"
+                + (history.getDeviceType() != null ? history.getDeviceType() : "");
+        DeviceSeen device = devices.get(deviceKey);
+        if (device == null) {
+            devices.put(deviceKey, new DeviceSeen(point, epoch, history.getBrowser(), history.getOs()));
+        } else {
+            if (epoch < device.getFirstSeen().getAt()) {
+                device.setFirstSeen(point);
+            }
+            device.setLastSeenAt(Math.max(device.getLastSeenAt(), epoch));
+        }
+        evictOldest(devices, MAX_TRACKED_DEVICES, DeviceSeen::getLastSeenAt);
+    }
+
+    /**
+     * 분석 기간을 벗어난 버킷과 항목을 제거한다.
+     */
+    public void prune(LocalDateTime now) {
+        long cutoffDay = now.minusDays(ANALYSIS_DAYS).toLocalDate().toEpochDay();
+        long cutoff = toEpoch(now.minusDays(ANALYSIS_DAYS));
+
+        failuresByIp.values().forEach(f -> f.getDaily().keySet().removeIf(day -> day < cutoffDay));
+        failuresByIp.values().removeIf(f -> f.getDaily().isEmpty());
+        failuresByDay.keySet().removeIf(day -> day < cutoffDay);
+        if (lastFailure != null && lastFailure.getAt() < cutoff) {
+            lastFailure = null;
+        }
+
+        locations.values().removeIf(t -> t < cutoff);
+        if (lastLocatedSuccess != null && lastLocatedSuccess.getAt() < cutoff) {
+            lastLocatedSuccess = null;
+        }
+
+        if (lastRapidLogin != null && lastRapidLogin.getPoint().getAt() < cutoff) {
+            lastRapidLogin = null;
+        }
+
+        lateNightByDay.keySet().removeIf(day -> day < cutoffDay);
+        if (lastLateNight != null && lastLateNight.getAt() < cutoff) {
+            lastLateNight = null;
+        }
+
+        long deviceCutoff = toEpoch(now.minusDays(DEVICE_RETENTION_DAYS));
+        devices.values().removeIf(d -> d.getLastSeenAt() < deviceCutoff);
+    }
+
+    /**
+     * 현재 상태로부터 의심 이벤트를 계산한다.
+     */
+    public List<SuspiciousEvent> detectEvents(LocalDateTime now) {
+        prune(now);
+        List<SuspiciousEvent> events = new ArrayList<>();
+
+        boolean ipBruteForce = false;
+        for (Map.Entry<String, IpFailures> entry : failuresByIp.entrySet()) {
+            int count = entry.getValue().getDaily().values().stream().mapToInt(Integer::intValue).sum();
+            if (count >= FAILED_LOGIN_THRESHOLD) {
+                ipBruteForce = true;
+                events.add(SuspiciousEvent.builder()
+                        .type("BRUTE_FORCE")
+                        .severity("HIGH")
+                        .description("IP " + entry.getKey() + "에서 " + count + "회 로그인 실패가 감지되었습니다.")
+                        .ipAddress(entry.getKey())
+                        .location(entry.getValue().getLocation())
+                        .detectedAt(toDateTime(entry.getValue().getLastAt()))
+                        .build());
+            }
+        }
+
+        // 단일 IP 임계치에는 못 미치지만 여러 IP에 나뉜 실패 합계가 임계치를 넘는 경우
+        int totalFailures = failuresByDay.values().stream().mapToInt(Integer::intValue).sum();
+        if (!ipBruteForce && totalFailures >= FAILED_LOGIN_THRESHOLD && lastFailure != null) {
+            events.add(SuspiciousEvent.builder()
+                    .type("BRUTE_FORCE")
+                    .severity("HIGH")
+                    .description("여러 IP에서 총 " + totalFailures + "회 로그인 실패가 감지되었습니다.")
+                    .ipAddress(lastFailure.getIpAddress())
+                    .location(lastFailure.getLocation())
+                    .detectedAt(toDateTime(lastFailure.getAt()))
+                    .build());
+        }
+
+        if (locations.size() >= MULTIPLE_LOCATION_THRESHOLD) {
+            events.add(SuspiciousEvent.builder()
+                    .type("MULTIPLE_LOCATIONS")
+                    .severity("MEDIUM")
+                    .description(locations.size() + "개의 서로 다른 지역에서 로그인이 감지되었습니다: " +
+                            String.join(", ", locations.keySet()))
+                    .ipAddress(lastLocatedSuccess != null ? lastLocatedSuccess.getIpAddress() : null)
+                    .location(lastLocatedSuccess != null ? lastLocatedSuccess.getLocation() : null)
+                    .detectedAt(lastLocatedSuccess != null ? toDateTime(lastLocatedSuccess.getAt()) : now)
+                    .build());
+        }
+
+        if (lastRapidLogin != null) {
+            LoginPoint point = lastRapidLogin.getPoint();
+            events.add(SuspiciousEvent.builder()
+                    .type("RAPID_LOGIN")
+                    .severity("MEDIUM")
+                    .description(RAPID_LOGIN_MINUTES + "분 이내에 " + lastRapidLogin.getCount() + "회 로그인이 감지되었습니다.")
+                    .ipAddress(point.getIpAddress())
+                    .location(point.getLocation())
+                    .detectedAt(toDateTime(point.getAt()))
+                    .build());
+        }
+
+        int lateNightCount = lateNightByDay.values().stream().mapToInt(Integer::intValue).sum();
+        if (lateNightCount > 0 && lastLateNight != null) {
+            events.add(SuspiciousEvent.builder()
+                    .type("UNUSUAL_HOURS")
+                    .severity("LOW")
+                    .description("새벽 시간대(01:00~05:00)에 " + lateNightCount + "회 로그인이 감지되었습니다.")
+                    .ipAddress(lastLateNight.getIpAddress())
+                    .location(lastLateNight.getLocation())
+                    .detectedAt(toDateTime(lastLateNight.getAt()))
+                    .build());
+        }
+
+        long newDeviceThreshold = toEpoch(now.minusDays(NEW_DEVICE_DAYS));
+        for (DeviceSeen device : devices.values()) {
+            LoginPoint first = device.getFirstSeen();
+            if (first.getAt() > newDeviceThreshold) {
+                events.add(SuspiciousEvent.builder()
+                        .type("NEW_DEVICE")
+                        .severity("LOW")
+                        .description("새로운 기기에서 로그인: " + device.getBrowser() + " / " + device.getOs())
+                        .ipAddress(first.getIpAddress())
+                        .location(first.getLocation())
+                        .detectedAt(toDateTime(first.getAt()))
+                        .build());
+            }
+        }
+
+        return events;
+    }
+
+    private static <V> void evictOldest(Map<String, V> map, int maxSize, ToLongFunction<V> lastSeen) {
+        while (map.size() > maxSize) {
+            String oldestKey = null;
+            long oldest = Long.MAX_VALUE;
+            for (Map.Entry<String, V> entry : map.entrySet()) {
+                long seen = lastSeen.applyAsLong(entry.getValue());
+                if (seen < oldest) {
+                    oldest = seen;
+                    oldestKey = entry.getKey();
+                }
+            }
+            map.remove(oldestKey);
+        }
+    }
+
+    private static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toEpochSecond();
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZONE);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LoginPoint {
+        private long at;
+        private String ipAddress;
+        private String location;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class IpFailures {
+        private Map<Long, Integer> daily = new HashMap<>();
+        private long lastAt;
+        private String location;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RapidLogin {
+        private LoginPoint point;
+        private int count;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeviceSeen {
+        private LoginPoint firstSeen;
+        private long lastSeenAt;
+        private String browser;
+        private String os;
+    }
+}
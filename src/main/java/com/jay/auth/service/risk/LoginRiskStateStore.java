@@ -0,0 +1,113 @@
+package com.jay.auth.service.risk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 사용자별 로그인 위험 상태 저장소 (Redis)
+ * - 키: risk:state:{userId}, 값: JSON 직렬화된 {@link LoginRiskState}
+ * - 동시 갱신은 노드와 관계없이 compare-and-set 스크립트로 직렬화한다
+ *   (읽은 값이 그 사이 바뀌었으면 쓰지 않고 다시 읽어 mutation을 재적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginRiskStateStore {
+
+    private static final String KEY_PREFIX = "risk:state:";
+    private static final Duration STATE_TTL = Duration.ofDays(90);
+    private static final int MAX_UPDATE_ATTEMPTS = 16;
+
+    /**
+     * 현재 값이 읽은 값과 같을 때만 저장한다. ARGV[1]=읽은 값(없었으면 빈 문자열), ARGV[2]=새 값, ARGV[3]=TTL(ms)
+     */
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+                    "if (current or '') ~= ARGV[1] then return 0 end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Optional<LoginRiskState> find(Long userId) {
+        return parse(userId, redisTemplate.opsForValue().get(KEY_PREFIX + userId));
+    }
+
+    public void save(Long userId, LoginRiskState state) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, objectMapper.writeValueAsString(state), STATE_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("위험 상태 직렬화 실패: userId={}", userId, e);
+        }
+    }
+
+    public void delete(Long userId) {
+        redisTemplate.delete(KEY_PREFIX + userId);
+    }
+
+    /**
+     * 저장된 상태에 mutation을 적용한다.
+     * 상태가 없으면 loader 결과를 그대로 저장한다 (loader는 반영할 이벤트를 이미 포함한 이력으로 재구성해야 한다).
+     * 다른 요청(다른 노드 포함)이 먼저 저장했으면 최신 값을 다시 읽어 재시도하므로 mutation은 부수 효과가 없어야 한다.
+     */
+    public LoginRiskState update(Long userId, Consumer<LoginRiskState> mutation,
+                                 Function<Long, LoginRiskState> loader) {
+        String key = KEY_PREFIX + userId;
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            String current = redisTemplate.opsForValue().get(key);
+            Optional<LoginRiskState> existing = parse(userId, current);
+            LoginRiskState state;
+            if (existing.isPresent()) {
+                state = existing.get();
+                mutation.accept(state);
+            } else {
+                state = loader.apply(userId);
+            }
+
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(state);
+            } catch (JsonProcessingException e) {
+                log.warn("위험 상태 직렬화 실패: userId={}", userId, e);
+                return state;
+            }
+            Long stored = redisTemplate.execute(COMPARE_AND_SET_SCRIPT, List.of(key),
+                    current != null ? current : "", json, String.valueOf(STATE_TTL.toMillis()));
+            if (stored != null && stored == 1L) {
+                return state;
+            }
+            // 같은 사용자의 동시 로그인 간 충돌: 짧게 물러났다가 최신 값으로 재시도
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(TimeUnit.MILLISECONDS.toNanos(attempt)));
+        }
+        throw new IllegalStateException("Login risk state update kept conflicting: userId=" + userId);
+    }
+
+    private Optional<LoginRiskState> parse(Long userId, String json) {
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, LoginRiskState.class));
+        } catch (JsonProcessingException e) {
+            log.warn("위험 상태 역직렬화 실패, 재구성 대상: userId={}", userId);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.jay.auth.service.risk;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 슬라이딩 윈도우 (모든 인스턴스가 같은 집계를 본다)
+ * - 버킷별 Count-Min Sketch는 해시 1개(필드 "행:열", 최대 depth x width개)로 두어 출처 수와 무관하게 크기가 고정된다
+ * - 고유 계정 수는 Redis HyperLogLog(PFADD/PFCOUNT)로 추정한다
+ * - 버킷 키는 윈도우가 지나면 만료된다
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisStuffingWindow implements StuffingWindow {
+
+    private static final String CMS_PREFIX = "stuffing:cms:";
+    private static final String SOURCE_ACCOUNTS_PREFIX = "stuffing:acct:";
+    private static final String COUNT_PREFIX = "stuffing:count:";
+    private static final String TARGETS_PREFIX = "stuffing:targets:";
+    private static final String FLAGGED_PREFIX = "stuffing:flagged:";
+
+    private static final int CMS_DEPTH = 4;
+    private static final int CMS_WIDTH = 8192;
+    private static final long TTL_MILLIS = (BUCKETS + 1) * BUCKET_MILLIS;
+
+    /**
+     * 출처 실패 기록 + 윈도우 추정
+     * KEYS[1..n]=버킷별 CMS 해시 (오래된 순, 마지막이 현재), KEYS[n+1..2n]=버킷별 출처 계정 HLL
+     * ARGV[1]=TTL(ms), ARGV[2]=추적 시작 실패 수, ARGV[3]=계정 해시, ARGV[4..]=CMS 필드(행별 1개)
+     * @return {윈도우 실패 수, 고유 계정 수}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SOURCE_FAILURE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS / 2 " +
+            "local fields = {} " +
+            "for i = 4, #ARGV do fields[#fields + 1] = ARGV[i] end " +
+            "for _, field in ipairs(fields) do redis.call('HINCRBY', KEYS[n], field, 1) end " +
+            "redis.call('PEXPIRE', KEYS[n], ARGV[1]) " +
+            "local failures = 0 " +
+            "for b = 1, n do " +
+            "  local values = redis.call('HMGET', KEYS[b], unpack(fields)) " +
+            "  local min = nil " +
+            "  for _, value in ipairs(values) do " +
+            "    local count = tonumber(value) or 0 " +
+            "    if min == nil or count < min then min = count end " +
+            "  end " +
+            "  failures = failures + (min or 0) " +
+            "end " +
+            "local accounts = 0 " +
+            "if failures >= tonumber(ARGV[2]) then " +
+            "  redis.call('PFADD', KEYS[2 * n], ARGV[3]) " +
+            "  redis.call('PEXPIRE', KEYS[2 * n], ARGV[1]) " +
+            "  accounts = redis.call('PFCOUNT', unpack(KEYS, n + 1, 2 * n)) " +
+            "end " +
+            "return {failures, accounts}",
+            List.class);
+
+    /**
+     * 전체 시도 기록 + 윈도우 합계
+     * KEYS[1..n]=버킷별 카운터 해시 (오래된 순, 마지막이 현재), KEYS[n+1]=현재 버킷 대상 계정 HLL
+     * ARGV[1]=TTL(ms), ARGV[2]=성공이면 '1', ARGV[3]=계정 해시
+     * @return {윈도우 시도 수, 실패 수}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ATTEMPT_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 1 " +
+            "redis.call('HINCRBY', KEYS[n], 'attempts', 1) " +
+            "if ARGV[2] ~= '1' then " +
+            "  redis.call('HINCRBY', KEYS[n], 'failures', 1) " +
+            "  redis.call('PFADD', KEYS[n + 1], ARGV[3]) " +
+            "  redis.call('PEXPIRE', KEYS[n + 1], ARGV[1]) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[n], ARGV[1]) " +
+            "local attempts, failures = 0, 0 " +
+            "for b = 1, n do " +
+            "  local values = redis.call('HMGET', KEYS[b], 'attempts', 'failures') " +
+            "  attempts = attempts + (tonumber(values[1]) or 0) " +
+            "  failures = failures + (tonumber(values[2]) or 0) " +
+            "end " +
+            "return {attempts, failures}",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public SourceCount recordSourceFailure(String source, long accountHash, long epoch, long trackThreshold) {
+        List<String> keys = new ArrayList<>(BUCKETS * 2);
+        keys.addAll(windowKeys(CMS_PREFIX, epoch));
+        keys.addAll(windowKeys(SOURCE_ACCOUNTS_PREFIX + source + ":", epoch));
+
+        long sourceHash = HyperLogLogSketch.hash(source);
+        List<String> args = new ArrayList<>(3 + CMS_DEPTH);
+        args.add(String.valueOf(TTL_MILLIS));
+        args.add(String.valueOf(trackThreshold));
+        args.add(Long.toHexString(accountHash));
+        for (int row = 0; row < CMS_DEPTH; row++) {
+            args.add(row + ":" + CountMinSketch.column(sourceHash, row, CMS_WIDTH));
+        }
+
+        List<?> result = stringRedisTemplate.execute(SOURCE_FAILURE_SCRIPT, keys, args.toArray());
+        return new SourceCount(longAt(result, 0), longAt(result, 1));
+    }
+
+    @Override
+    public WindowCount recordAttempt(boolean success, long accountHash, long epoch) {
+        List<String> keys = new ArrayList<>(windowKeys(COUNT_PREFIX, epoch));
+        keys.add(TARGETS_PREFIX + epoch);
+
+        List<?> result = stringRedisTemplate.execute(ATTEMPT_SCRIPT, keys,
+                String.valueOf(TTL_MILLIS), success ? "1" : "0", Long.toHexString(accountHash));
+        return new WindowCount(longAt(result, 0), longAt(result, 1));
+    }
+
+    @Override
+    public long targetedAccounts(long epoch) {
+        Long size = stringRedisTemplate.opsForHyperLogLog()
+                .size(windowKeys(TARGETS_PREFIX, epoch).toArray(String[]::new));
+        return size != null ? size : 0;
+    }
+
+    @Override
+    public boolean flag(String source) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(FLAGGED_PREFIX + source, "1", Duration.ofMillis(TTL_MILLIS)));
+    }
+
+    private static List<String> windowKeys(String prefix, long epoch) {
+        List<String> keys = new ArrayList<>(BUCKETS);
+        for (long bucket = epoch - BUCKETS + 1; bucket <= epoch; bucket++) {
+            keys.add(prefix + bucket);
+        }
+        return keys;
+    }
+
+    private static long longAt(List<?> result, int index) {
+        if (result == null || result.size() <= index || result.get(index) == null) {
+            throw new IllegalStateException("Unexpected credential stuffing window result: " + result);
+        }
+        return ((Number) result.get(index)).longValue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.jay.auth.service.risk;
+
+/**
+ * 크리덴셜 스터핑 탐지용 슬라이딩 윈도우 집계 (1분 버킷 {@link #BUCKETS}개)
+ * - 출처(IP, 서브넷)별 실패 수는 Count-Min Sketch, 고유 대상 계정 수는 HyperLogLog로 추정한다
+ * - 구현: {@link RedisStuffingWindow}(인스턴스 간 공유), {@link LocalStuffingWindow}(인스턴스 로컬, Redis 장애 시 대체)
+ */
+public interface StuffingWindow {
+
+    int BUCKETS = 5;
+    long BUCKET_MILLIS = 60_000L;
+
+    /**
+     * 출처의 실패 1건을 더한다
+     * @param trackThreshold 윈도우 내 실패가 이 값 이상인 출처만 고유 계정을 추적한다
+     * @return 윈도우 내 실패 수와 고유 계정 수 (추적 전이면 0)
+     */
+    SourceCount recordSourceFailure(String source, long accountHash, long epoch, long trackThreshold);
+
+    /**
+     * 전체 시도 1건을 더한다 (실패면 대상 계정도 기록)
+     * @return 윈도우 내 전체 시도 수와 실패 수
+     */
+    WindowCount recordAttempt(boolean success, long accountHash, long epoch);
+
+    /**
+     * 윈도우 내 실패 대상 고유 계정 수
+     */
+    long targetedAccounts(long epoch);
+
+    /**
+     * 출처를 탐지됨으로 표시한다
+     * @return 처음 표시한 경우 true (같은 출처를 중복 차단하지 않도록)
+     */
+    boolean flag(String source);
+
+    record SourceCount(long failures, long accounts) {
+    }
+
+    record WindowCount(long attempts, long failures) {
+    }
+}
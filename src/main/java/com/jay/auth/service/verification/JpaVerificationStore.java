@@ -0,0 +1,125 @@
+package com.jay.auth.service.verification;
+
+import com.jay.auth.domain.entity.EmailVerification;
+import com.jay.auth.domain.entity.PhoneVerification;
+import com.jay.auth.repository.EmailVerificationRepository;
+import com.jay.auth.repository.PhoneVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * JPA 인증 코드 저장소 (Redis를 쓸 수 없는 환경용 대체 구현)
+ * - 이메일은 tb_email_verification, 휴대폰은 tb_phone_verification에 저장한다
+ * - 만료 행은 {@link com.jay.auth.service.VerificationCleanupScheduler}가 정리한다
+ * - 시도 횟수 제한은 없다 (테이블에 시도 횟수 컬럼이 없음)
+ */
+@Component
+@ConditionalOnProperty(name = "app.verification.store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaVerificationStore implements VerificationStore {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final PhoneVerificationRepository phoneVerificationRepository;
+
+    @Override
+    @Transactional
+    public String issue(VerificationTarget target, String code, Duration ttl) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+
+        if (target.channel() == VerificationTarget.Channel.PHONE) {
+            phoneVerificationRepository.deleteByPhoneLowerEnc(target.subjectKey());
+            PhoneVerification verification = PhoneVerification.builder()
+                    .phoneEnc(target.contactEnc())
+                    .phoneLowerEnc(target.subjectKey())
+                    .verificationCode(code)
+                    .expiresAt(expiresAt)
+                    .build();
+            return phoneVerificationRepository.save(verification).getTokenId();
+        }
+
+        emailVerificationRepository.deleteByEmailAndType(target.subjectKey(), target.type());
+        EmailVerification verification = EmailVerification.builder()
+                .emailLowerEnc(target.subjectKey())
+                .verificationCode(code)
+                .verificationType(target.type())
+                .expiresAt(expiresAt)
+                .build();
+        return emailVerificationRepository.save(verification).getTokenId();
+    }
+
+    @Override
+    @Transactional
+    public VerifyResult verify(VerificationTarget target, String code) {
+        if (target.channel() == VerificationTarget.Channel.PHONE) {
+            return phoneVerificationRepository.findByPhoneLowerEncAndIsVerifiedFalse(target.subjectKey())
+                    .map(v -> toResult(v.isExpired(), v.verify(code), v.getTokenId()))
+                    .orElseGet(() -> VerifyResult.of(VerifyResult.Status.NOT_FOUND));
+        }
+
+        return emailVerificationRepository
+                .findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse(target.subjectKey(), target.type())
+                .map(v -> toResult(v.isExpired(), v.verify(code), v.getTokenId()))
+                .orElseGet(() -> VerifyResult.of(VerifyResult.Status.NOT_FOUND));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VerificationToken> findByTokenId(String tokenId) {
+        Optional<VerificationToken> email = emailVerificationRepository.findByTokenId(tokenId)
+                .map(v -> new VerificationToken(v.getTokenId(), VerificationTarget.Channel.EMAIL,
+                        v.getVerificationType(), v.getEmailLowerEnc(), v.getIsVerified(), v.getExpiresAt()));
+        if (email.isPresent()) {
+            return email;
+        }
+        return phoneVerificationRepository.findByTokenId(tokenId)
+                .map(v -> new VerificationToken(v.getTokenId(), VerificationTarget.Channel.PHONE,
+                        null, v.getPhoneLowerEnc(), v.getIsVerified(), v.getExpiresAt()));
+    }
+
+    @Override
+    @Transactional
+    public void deleteByTokenId(String tokenId) {
+        emailVerificationRepository.findByTokenId(tokenId)
+                .ifPresent(emailVerificationRepository::delete);
+        phoneVerificationRepository.findByTokenId(tokenId)
+                .ifPresent(phoneVerificationRepository::delete);
+    }
+
+    @Override
+    @Transactional
+    public void delete(VerificationTarget target) {
+        if (target.channel() == VerificationTarget.Channel.PHONE) {
+            phoneVerificationRepository.deleteByPhoneLowerEnc(target.subjectKey());
+        } else {
+            emailVerificationRepository.deleteByEmailAndType(target.subjectKey(), target.type());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerified(VerificationTarget target) {
+        if (target.channel() == VerificationTarget.Channel.PHONE) {
+            // 휴대폰 인증은 tokenId로만 확인한다
+            return false;
+        }
+        return emailVerificationRepository
+                .findVerifiedAndNotExpired(target.subjectKey(), target.type(), LocalDateTime.now())
+                .isPresent();
+    }
+
+    private static VerifyResult toResult(boolean expired, boolean matched, String tokenId) {
+        if (expired) {
+            return VerifyResult.of(VerifyResult.Status.EXPIRED);
+        }
+        if (!matched) {
+            return VerifyResult.of(VerifyResult.Status.MISMATCH);
+        }
+        return VerifyResult.verified(tokenId);
+    }
+}
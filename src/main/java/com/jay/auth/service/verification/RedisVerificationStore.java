@@ -0,0 +1,188 @@
+package com.jay.auth.service.verification;
+
+import com.jay.auth.domain.enums.VerificationType;
+import com.jay.auth.service.EncryptionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 인증 코드 저장소
+ * - verification:{채널}:{유형}:{blind index} 해시 하나에 코드 해시·시도 횟수·인증 여부를 두고 키 TTL로 만료시킨다
+ * - verification:token:{tokenId} 보조 키가 본 키 이름을 가리킨다 (같은 TTL)
+ * - 코드는 평문 대신 대상별 HMAC으로 저장하고, 확인/시도 횟수 증가는 Lua 스크립트로 원자적으로 처리한다
+ * - 만료 행 정리 배치가 필요 없다
+ */
+@Component
+@ConditionalOnProperty(name = "app.verification.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisVerificationStore implements VerificationStore {
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private static final String KEY_PREFIX = "verification:";
+    private static final String TOKEN_KEY_PREFIX = "verification:token:";
+
+    private static final String FIELD_TOKEN_ID = "tokenId";
+    private static final String FIELD_CHANNEL = "channel";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_SUBJECT = "subject";
+    private static final String FIELD_VERIFIED = "verified";
+    private static final String FIELD_EXPIRES_AT = "expiresAt";
+
+    /**
+     * KEYS[1]=본 키, KEYS[2]=token 키
+     * ARGV: tokenId, channel, type, subject, codeHash, expiresAt(epoch ms), ttl(ms)
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'tokenId', ARGV[1], 'channel', ARGV[2], 'type', ARGV[3], " +
+            "  'subject', ARGV[4], 'codeHash', ARGV[5], 'attempts', '0', 'verified', '0', 'expiresAt', ARGV[6]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[7]) " +
+            "redis.call('SET', KEYS[2], KEYS[1], 'PX', ARGV[7]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * KEYS[1]=본 키, ARGV: codeHash, now(epoch ms), maxAttempts
+     * 반환: NOT_FOUND | EXPIRED | TOO_MANY_ATTEMPTS | MISMATCH | VERIFIED:{tokenId}
+     */
+    private static final RedisScript<String> VERIFY_SCRIPT = new DefaultRedisScript<>(
+            "local h = redis.call('HMGET', KEYS[1], 'tokenId', 'codeHash', 'attempts', 'verified', 'expiresAt') " +
+            "if not h[1] or h[4] == '1' then return 'NOT_FOUND' end " +
+            "if tonumber(h[5]) < tonumber(ARGV[2]) then return 'EXPIRED' end " +
+            "if tonumber(h[3]) >= tonumber(ARGV[3]) then return 'TOO_MANY_ATTEMPTS' end " +
+            "if h[2] ~= ARGV[1] then " +
+            "  local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1) " +
+            "  if attempts >= tonumber(ARGV[3]) then return 'TOO_MANY_ATTEMPTS' end " +
+            "  return 'MISMATCH' " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'verified', '1') " +
+            "return 'VERIFIED:' .. h[1]",
+            String.class);
+
+    private static final String VERIFIED_PREFIX = "VERIFIED:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EncryptionService encryptionService;
+
+    @Override
+    public String issue(VerificationTarget target, String code, Duration ttl) {
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+
+        stringRedisTemplate.execute(ISSUE_SCRIPT, List.of(key(target), TOKEN_KEY_PREFIX + tokenId),
+                tokenId,
+                target.channel().name(),
+                target.type() != null ? target.type().name() : "",
+                target.subjectKey(),
+                codeHash(target, code),
+                String.valueOf(expiresAt),
+                String.valueOf(ttl.toMillis()));
+        return tokenId;
+    }
+
+    @Override
+    public VerifyResult verify(VerificationTarget target, String code) {
+        String result = stringRedisTemplate.execute(VERIFY_SCRIPT, List.of(key(target)),
+                codeHash(target, code),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(MAX_ATTEMPTS));
+
+        if (result == null) {
+            return VerifyResult.of(VerifyResult.Status.NOT_FOUND);
+        }
+        if (result.startsWith(VERIFIED_PREFIX)) {
+            return VerifyResult.verified(result.substring(VERIFIED_PREFIX.length()));
+        }
+        return VerifyResult.of(VerifyResult.Status.valueOf(result));
+    }
+
+    @Override
+    public Optional<VerificationToken> findByTokenId(String tokenId) {
+        String key = stringRedisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + tokenId);
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        Map<String, String> fields = hashOps().entries(key);
+        // 같은 대상으로 재발급되면 본 키가 새 tokenId로 바뀐다
+        if (!tokenId.equals(fields.get(FIELD_TOKEN_ID))) {
+            return Optional.empty();
+        }
+
+        String type = fields.get(FIELD_TYPE);
+        return Optional.of(new VerificationToken(
+                tokenId,
+                VerificationTarget.Channel.valueOf(fields.get(FIELD_CHANNEL)),
+                type == null || type.isEmpty() ? null : VerificationType.valueOf(type),
+                fields.get(FIELD_SUBJECT),
+                "1".equals(fields.get(FIELD_VERIFIED)),
+                toLocalDateTime(fields.get(FIELD_EXPIRES_AT))));
+    }
+
+    @Override
+    public void deleteByTokenId(String tokenId) {
+        String tokenKey = TOKEN_KEY_PREFIX + tokenId;
+        String key = stringRedisTemplate.opsForValue().get(tokenKey);
+        if (key != null && tokenId.equals(hashOps().get(key, FIELD_TOKEN_ID))) {
+            stringRedisTemplate.delete(List.of(key, tokenKey));
+        } else {
+            stringRedisTemplate.delete(tokenKey);
+        }
+    }
+
+    @Override
+    public void delete(VerificationTarget target) {
+        String key = key(target);
+        String tokenId = hashOps().get(key, FIELD_TOKEN_ID);
+        if (tokenId != null) {
+            stringRedisTemplate.delete(List.of(key, TOKEN_KEY_PREFIX + tokenId));
+        } else {
+            stringRedisTemplate.delete(key);
+        }
+    }
+
+    @Override
+    public boolean isVerified(VerificationTarget target) {
+        List<String> values = hashOps().multiGet(key(target), List.of(FIELD_VERIFIED, FIELD_EXPIRES_AT));
+        return "1".equals(values.get(0))
+                && values.get(1) != null
+                && Long.parseLong(values.get(1)) > System.currentTimeMillis();
+    }
+
+    private HashOperations<String, String, String> hashOps() {
+        return stringRedisTemplate.opsForHash();
+    }
+
+    private String codeHash(VerificationTarget target, String code) {
+        return encryptionService.hashVerificationCode(key(target), code);
+    }
+
+    private static String key(VerificationTarget target) {
+        StringBuilder key = new StringBuilder(KEY_PREFIX)
+                .append(target.channel().name().toLowerCase())
+                .append(':');
+        if (target.type() != null) {
+            key.append(target.type().name()).append(':');
+        }
+        return key.append(target.subjectKey()).toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(String epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
+    }
+}
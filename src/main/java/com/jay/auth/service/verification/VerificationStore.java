@@ -0,0 +1,49 @@
+package com.jay.auth.service.verification;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증 코드 저장소
+ * - 기본 구현은 Redis ({@link RedisVerificationStore}, 키 TTL로 만료)
+ * - app.verification.store=jpa 이면 기존 tb_email_verification / tb_phone_verification 테이블 사용
+ */
+public interface VerificationStore {
+
+    /**
+     * 대상의 기존 요청을 대체해 새 인증 코드를 저장한다.
+     * @return tokenId
+     */
+    String issue(VerificationTarget target, String code, Duration ttl);
+
+    /**
+     * 미인증 요청의 코드를 확인하고 일치하면 인증 완료로 표시한다.
+     */
+    VerifyResult verify(VerificationTarget target, String code);
+
+    Optional<VerificationToken> findByTokenId(String tokenId);
+
+    void deleteByTokenId(String tokenId);
+
+    void delete(VerificationTarget target);
+
+    /**
+     * 대상에 인증 완료되고 만료되지 않은 요청이 있는지
+     */
+    boolean isVerified(VerificationTarget target);
+
+    record VerifyResult(Status status, String tokenId) {
+
+        public enum Status {
+            VERIFIED, NOT_FOUND, EXPIRED, MISMATCH, TOO_MANY_ATTEMPTS
+        }
+
+        public static VerifyResult verified(String tokenId) {
+            return new VerifyResult(Status.VERIFIED, tokenId);
+        }
+
+        public static VerifyResult of(Status status) {
+            return new VerifyResult(status, null);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.jay.auth.service.verification;
+
+import com.jay.auth.domain.enums.VerificationType;
+
+/**
+ * 인증 코드 발급 대상
+ * - subjectKey: 이메일/휴대폰 번호의 검색용 blind index (encryptForSearch)
+ * - contactEnc: 복호화 가능한 연락처 암호문 (JPA 휴대폰 저장소에서만 사용, 그 외 null)
+ */
+public record VerificationTarget(Channel channel, VerificationType type, String subjectKey, String contactEnc) {
+
+    public enum Channel {
+        EMAIL, PHONE
+    }
+
+    public static VerificationTarget email(VerificationType type, String emailLowerEnc) {
+        return new VerificationTarget(Channel.EMAIL, type, emailLowerEnc, null);
+    }
+
+    public static VerificationTarget phone(String phoneLowerEnc, String phoneEnc) {
+        return new VerificationTarget(Channel.PHONE, null, phoneLowerEnc, phoneEnc);
+    }
+
+    /**
+     * 채널·유형까지 같은 대상인지 (발급 토큰 검증용)
+     */
+    public boolean matches(VerificationToken token) {
+        return channel == token.channel()
+                && type == token.type()
+                && subjectKey.equals(token.subjectKey());
+    }
+}
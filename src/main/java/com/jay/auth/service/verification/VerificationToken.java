@@ -0,0 +1,27 @@
+package com.jay.auth.service.verification;
+
+import com.jay.auth.domain.enums.VerificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * tokenId로 조회한 인증 요청 상태
+ */
+public record VerificationToken(String tokenId,
+                                VerificationTarget.Channel channel,
+                                VerificationType type,
+                                String subjectKey,
+                                boolean verified,
+                                LocalDateTime expiresAt) {
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+
+    /**
+     * 인증 완료되었고 아직 유효한지
+     */
+    public boolean isUsable() {
+        return verified && !isExpired();
+    }
+}
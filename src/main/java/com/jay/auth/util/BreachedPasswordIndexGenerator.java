@@ -0,0 +1,121 @@
+package com.jay.auth.util;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * 유출 비밀번호 텍스트 목록으로 {@link BreachedPasswordIndex} 바이너리 파일을 만든다
+ * - 한 줄에 비밀번호 하나 (평문) 또는 HIBP 형식 "SHA1HEX[:count]"
+ * - 빈 줄은 건너뛰고 중복 해시는 제거한다
+ * - 모든 해시를 메모리에 올려 정렬하므로 건당 8바이트의 힙이 필요하다 (10억 건 약 8GB)
+ *
+ * 사용: java -cp auth.jar com.jay.auth.util.BreachedPasswordIndexGenerator input.txt output.bin
+ */
+public final class BreachedPasswordIndexGenerator {
+
+    /** 배열 최대 길이 (약 21억 건, 파일은 세그먼트로 나눠 매핑하므로 2GB를 넘어도 된다) */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private static final Pattern SHA1_HEX_LINE = Pattern.compile("^[0-9A-Fa-f]{40}(:\\d+)?$");
+
+    private BreachedPasswordIndexGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BreachedPasswordIndexGenerator <input.txt> <output.bin>");
+            System.exit(1);
+        }
+        long count = generate(Path.of(args[0]), Path.of(args[1]));
+        System.out.println("Wrote " + count + " entries to " + args[1]);
+    }
+
+    /**
+     * @return 기록된 고유 해시 수
+     */
+    public static long generate(Path input, Path output) throws IOException {
+        long[] hashes = readHashes(input);
+        int count = sortUniqueUnsigned(hashes);
+        write(hashes, count, output);
+        return count;
+    }
+
+    private static long[] readHashes(Path input) throws IOException {
+        long[] hashes = new long[1024];
+        int size = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                long hash = SHA1_HEX_LINE.matcher(line).matches()
+                        ? BreachedPasswordIndex.fingerprintOfHex(line)
+                        : BreachedPasswordIndex.fingerprint(line);
+                if (size == hashes.length) {
+                    if (size == MAX_ARRAY_LENGTH) {
+                        throw new IllegalArgumentException("Too many entries for one index: " + size);
+                    }
+                    hashes = Arrays.copyOf(hashes, (int) Math.min((long) size * 2, MAX_ARRAY_LENGTH));
+                }
+                hashes[size++] = hash;
+            }
+        }
+        return Arrays.copyOf(hashes, size);
+    }
+
+    /**
+     * 부호 비트를 뒤집어 부호 없는 순서로 정렬하고 중복을 제거한다
+     */
+    private static int sortUniqueUnsigned(long[] hashes) {
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] ^= Long.MIN_VALUE;
+        }
+        Arrays.sort(hashes);
+        int unique = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (unique == 0 || hashes[i] != hashes[unique - 1]) {
+                hashes[unique++] = hashes[i];
+            }
+        }
+        for (int i = 0; i < unique; i++) {
+            hashes[i] ^= Long.MIN_VALUE;
+        }
+        return unique;
+    }
+
+    private static void write(long[] hashes, int count, Path output) throws IOException {
+        int[] prefixIndex = new int[BreachedPasswordIndex.PREFIX_ENTRIES];
+        for (int i = 0; i < count; i++) {
+            int prefix = (int) (hashes[i] >>> (Long.SIZE - BreachedPasswordIndex.PREFIX_BITS));
+            prefixIndex[prefix + 1]++;
+        }
+        for (int i = 1; i < prefixIndex.length; i++) {
+            prefixIndex[i] += prefixIndex[i - 1];
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(output), 1 << 16))) {
+            out.writeInt(BreachedPasswordIndex.MAGIC);
+            out.writeInt(BreachedPasswordIndex.VERSION);
+            out.writeLong(count);
+            for (int offset : prefixIndex) {
+                out.writeInt(offset);
+            }
+            for (int i = 0; i < count; i++) {
+                out.writeLong(hashes[i]);
+            }
+        }
+    }
+}
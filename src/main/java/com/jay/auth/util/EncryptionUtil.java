@@ -10,20 +10,63 @@ import javax.crypto.Mac;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
+/**
+ * AES-256-GCM 암복호화 및 HMAC-SHA256 검색 해시
+ * - Cipher/Mac/SecureRandom은 스레드별로 한 번만 생성하여 재사용한다 (프로바이더 조회 비용 제거)
+ * - IV와 암호문을 하나의 버퍼에 직접 쓰고 읽어 중간 배열 복사를 하지 않는다
+ * - 버전별 데이터 키: 암호문 형식은 "{keyId}:Base64(IV + 암호문)"이며,
+ *   접두사가 없는 암호문은 기존 secretKey로 복호화한다 (무중단 키 교체)
+ * - 검색용 HMAC 키는 교체하지 않는다 (블라인드 인덱스 값이 바뀌면 기존 행 조회가 불가능해짐)
+ */
 @Component
 @RequiredArgsConstructor
 public class EncryptionUtil {
 
     private static final String ALGORITHM = "AES";
     private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 128;
+    private static final char KEY_ID_SEPARATOR = ':';
+    private static final Pattern KEY_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,16}");
 
     private final AppProperties appProperties;
     private SecretKeySpec secretKey;
+    private Map<String, SecretKeySpec> dataKeys = Map.of();
+    private String activeKeyId;
+    private SecretKeySpec activeKey;
+
+    private final ThreadLocal<Cipher> cipherHolder = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher initialization failed", e);
+        }
+    });
+
+    private final ThreadLocal<Mac> macHolder = ThreadLocal.withInitial(() -> {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Mac initialization failed", e);
+        }
+    });
+
+    private final ThreadLocal<SecureRandom> randomHolder = ThreadLocal.withInitial(SecureRandom::new);
 
     @PostConstruct
     public void init() {
@@ -33,6 +76,58 @@ public class EncryptionUtil {
         }
         byte[] keyBytes = key.substring(0, 32).getBytes(StandardCharsets.UTF_8);
         this.secretKey = new SecretKeySpec(keyBytes, ALGORITHM);
+
+        Map<String, SecretKeySpec> keys = new HashMap<>();
+        appProperties.getEncryption().getKeys().forEach((keyId, material) -> {
+            if (!KEY_ID_PATTERN.matcher(keyId).matches()) {
+                throw new IllegalStateException("Invalid encryption key id: " + keyId);
+            }
+            if (material == null || material.length() < 32) {
+                throw new IllegalStateException("Encryption key '" + keyId + "' must be at least 32 characters");
+            }
+            keys.put(keyId, new SecretKeySpec(sha256(material), ALGORITHM));
+        });
+        this.dataKeys = Map.copyOf(keys);
+
+        String configuredActive = appProperties.getEncryption().getActiveKeyId();
+        if (configuredActive == null || configuredActive.isBlank()) {
+            this.activeKeyId = null;
+            this.activeKey = secretKey;
+        } else {
+            SecretKeySpec configured = dataKeys.get(configuredActive);
+            if (configured == null) {
+                throw new IllegalStateException("Active encryption key id not found: " + configuredActive);
+            }
+            this.activeKeyId = configuredActive;
+            this.activeKey = configured;
+        }
+    }
+
+    /**
+     * 신규 암호화에 사용하는 키 ID (기존 단일 키 사용 시 null)
+     */
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * 암호문이 현재 활성 키로 암호화되어 있는지 확인한다.
+     */
+    public boolean isEncryptedWithActiveKey(String encryptedText) {
+        if (encryptedText == null || encryptedText.isEmpty()) {
+            return true;
+        }
+        return Objects.equals(keyIdOf(encryptedText), activeKeyId);
+    }
+
+    /**
+     * 이전 키로 암호화된 값을 활성 키로 다시 암호화한다. 이미 활성 키라면 그대로 반환한다.
+     */
+    public String reencrypt(String encryptedText) {
+        if (isEncryptedWithActiveKey(encryptedText)) {
+            return encryptedText;
+        }
+        return encrypt(decrypt(encryptedText));
     }
 
     /**
@@ -45,20 +140,7 @@ public class EncryptionUtil {
             return null;
         }
         try {
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            new SecureRandom().nextBytes(iv);
-
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
-
-            byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-
-            byte[] combined = new byte[iv.length + encryptedBytes.length];
-            System.arraycopy(iv, 0, combined, 0, iv.length);
-            System.arraycopy(encryptedBytes, 0, combined, iv.length, encryptedBytes.length);
-
-            return Base64.getEncoder().encodeToString(combined);
+            return encryptWith(cipherHolder.get(), randomHolder.get(), plainText);
         } catch (Exception e) {
             throw new RuntimeException("Encryption failed", e);
         }
@@ -74,22 +156,43 @@ public class EncryptionUtil {
             return null;
         }
         try {
-            byte[] combined = Base64.getDecoder().decode(encryptedText);
-
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byte[] encryptedBytes = new byte[combined.length - GCM_IV_LENGTH];
-            System.arraycopy(combined, 0, iv, 0, iv.length);
-            System.arraycopy(combined, iv.length, encryptedBytes, 0, encryptedBytes.length);
+            return decryptWith(cipherHolder.get(), encryptedText);
+        } catch (Exception e) {
+            throw new RuntimeException("Decryption failed", e);
+        }
+    }
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+    /**
+     * 목록 일괄 암호화 (입력 순서 유지, null/빈 문자열은 null)
+     */
+    public List<String> encryptAll(List<String> plainTexts) {
+        Cipher cipher = cipherHolder.get();
+        SecureRandom random = randomHolder.get();
+        List<String> result = new ArrayList<>(plainTexts.size());
+        try {
+            for (String plainText : plainTexts) {
+                result.add(plainText == null || plainText.isEmpty() ? null : encryptWith(cipher, random, plainText));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Encryption failed", e);
+        }
+        return result;
+    }
 
-            byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
+    /**
+     * 목록 일괄 복호화 (입력 순서 유지, null/빈 문자열은 null)
+     */
+    public List<String> decryptAll(List<String> encryptedTexts) {
+        Cipher cipher = cipherHolder.get();
+        List<String> result = new ArrayList<>(encryptedTexts.size());
+        try {
+            for (String encryptedText : encryptedTexts) {
+                result.add(encryptedText == null || encryptedText.isEmpty() ? null : decryptWith(cipher, encryptedText));
+            }
         } catch (Exception e) {
             throw new RuntimeException("Decryption failed", e);
         }
+        return result;
     }
 
     /**
@@ -103,12 +206,62 @@ public class EncryptionUtil {
             return null;
         }
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(secretKey);
-            byte[] hash = mac.doFinal(plainText.toLowerCase().getBytes(StandardCharsets.UTF_8));
+            // doFinal은 Mac을 초기 상태로 되돌리므로 재사용해도 이전 입력이 섞이지 않는다
+            byte[] hash = macHolder.get().doFinal(plainText.toLowerCase().getBytes(StandardCharsets.UTF_8));
             return Base64.getEncoder().encodeToString(hash);
         } catch (Exception e) {
             throw new RuntimeException("HMAC encryption failed", e);
         }
     }
+
+    private String encryptWith(Cipher cipher, SecureRandom random, String plainText) throws GeneralSecurityException {
+        byte[] input = plainText.getBytes(StandardCharsets.UTF_8);
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        random.nextBytes(iv);
+
+        cipher.init(Cipher.ENCRYPT_MODE, activeKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+
+        // IV 뒤에 암호문+태그를 바로 기록
+        byte[] combined = new byte[GCM_IV_LENGTH + cipher.getOutputSize(input.length)];
+        System.arraycopy(iv, 0, combined, 0, GCM_IV_LENGTH);
+        int written = cipher.doFinal(input, 0, input.length, combined, GCM_IV_LENGTH);
+
+        String encoded = Base64.getEncoder().encodeToString(
+                written + GCM_IV_LENGTH == combined.length ? combined
+                        : Arrays.copyOf(combined, GCM_IV_LENGTH + written));
+        return activeKeyId != null ? activeKeyId + KEY_ID_SEPARATOR + encoded : encoded;
+    }
+
+    private String decryptWith(Cipher cipher, String encryptedText) throws GeneralSecurityException {
+        String keyId = keyIdOf(encryptedText);
+        SecretKeySpec key = secretKey;
+        String payload = encryptedText;
+        if (keyId != null) {
+            key = dataKeys.get(keyId);
+            if (key == null) {
+                throw new IllegalStateException("Unknown encryption key id: " + keyId);
+            }
+            payload = encryptedText.substring(keyId.length() + 1);
+        }
+        byte[] combined = Base64.getDecoder().decode(payload);
+
+        // IV와 암호문을 별도 배열로 나누지 않고 오프셋으로 참조
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, combined, 0, GCM_IV_LENGTH));
+        byte[] decryptedBytes = cipher.doFinal(combined, GCM_IV_LENGTH, combined.length - GCM_IV_LENGTH);
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
+    }
+
+    /** Base64 알파벳에는 ':'가 없으므로 접두사 유무로 키 버전을 구분한다 */
+    private String keyIdOf(String encryptedText) {
+        int separator = encryptedText.indexOf(KEY_ID_SEPARATOR);
+        return separator > 0 ? encryptedText.substring(0, separator) : null;
+    }
+
+    private static byte[] sha256(String material) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package com.jay.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ * - (createdAt, id) 쌍을 기준으로 "이 행보다 오래된 행"을 조회한다
+ * - 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로 전달한다
+ */
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt.format(DateTimeUtil.ISO_FORMATTER) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석한다. null 또는 빈 문자열은 첫 페이지를 의미한다.
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex), DateTimeUtil.ISO_FORMATTER);
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new PageCursor(createdAt, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다", e);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.jay.auth.util;
+
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 조회 쿼리를 전용 풀에서 동시에 실행하는 실행기
+ * - 대시보드처럼 집계 쿼리 여러 개를 차례로 실행하던 곳의 지연을 합계가 아닌 가장 느린 쿼리 수준으로 줄인다
+ * - 작업마다 별도의 읽기 전용 트랜잭션(커넥션)을 사용하므로 호출 메서드에는 트랜잭션을 두지 않는다
+ * - {@link Scope} 밖으로 작업이 새지 않는다: 하나가 실패하거나 마감 시간을 넘기면 나머지를 취소한다
+ * - 대기열이 가득 차면 호출 스레드에서 바로 실행하여 순차 실행 수준으로 물러선다
+ *   (호출 스레드에서 실행 중인 작업은 인터럽트 없이 취소하므로 요청 스레드에 인터럽트가 남지 않는다)
+ * - 메트릭: query_fan_out_queue_depth, query_fan_out_active_threads, query_fan_out_duration_seconds,
+ *   query_fan_out_inline_total, query_fan_out_timeout_total
+ *
+ * <pre>
+ * try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.open("admin_dashboard")) {
+ *     Supplier&lt;Long&gt; total = scope.fork(userRepository::count);
+ *     Supplier&lt;Long&gt; active = scope.fork(() -&gt; userRepository.countByStatus(UserStatus.ACTIVE));
+ *     scope.join();
+ *     return new Stats(total.get(), active.get());
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long deadlineMillis;
+    private final long retryAfterSeconds;
+    private final MeterRegistry registry;
+
+    public ParallelQueryExecutor(AppProperties appProperties, PlatformTransactionManager transactionManager,
+                                 MeterRegistry registry) {
+        AppProperties.QueryFanOut settings = appProperties.getQueryFanOut();
+        int threads = Math.max(1, settings.getThreads());
+        this.deadlineMillis = settings.getDeadlineMillis();
+        this.retryAfterSeconds = settings.getRetryAfterSeconds();
+        this.registry = registry;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 취소된 작업의 쿼리도 마감 시간 근처에서 DB 쪽에서 끊기도록 한다
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(deadlineMillis + 999)));
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "query-fan-out-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("query_fan_out_queue_depth", executor, e -> e.getQueue().size())
+                .description("동시 조회 대기열 길이")
+                .register(registry);
+        Gauge.builder("query_fan_out_active_threads", executor, ThreadPoolExecutor::getActiveCount)
+                .description("동시 조회 중인 스레드 수")
+                .register(registry);
+
+        log.info("Parallel query executor initialized: threads={}, queueCapacity={}, deadlineMillis={}",
+                threads, settings.getQueueCapacity(), deadlineMillis);
+    }
+
+    /**
+     * 동시 조회 묶음을 연다. 마감 시간은 이 시점부터 계산한다.
+     * @param operation 메트릭 태그 (admin_dashboard, weekly_report 등)
+     */
+    public Scope open(String operation) {
+        return new Scope(operation);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 한 번의 동시 조회 묶음
+     * - fork로 작업을 시작하고 join으로 모두 끝나기를 기다린 뒤 결과를 읽는다
+     * - close는 끝나지 않은 작업을 취소하므로 try-with-resources로 사용한다
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final String operation;
+        private final long startedAt = System.nanoTime();
+        private final long deadlineNanos = startedAt + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        private final List<QueryTask<?>> tasks = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private boolean joined;
+
+        private Scope(String operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * 조회 작업을 읽기 전용 트랜잭션으로 시작한다.
+         * @return join 이후에만 읽을 수 있는 결과
+         */
+        public <T> Supplier<T> fork(Supplier<T> query) {
+            if (joined) {
+                throw new IllegalStateException("Cannot fork after join");
+            }
+            QueryTask<T> task = new QueryTask<>(query, MDC.getCopyOfContextMap());
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                Counter.builder("query_fan_out_inline_total")
+                        .description("대기열 포화로 호출 스레드에서 실행한 조회 수")
+                        .tag("operation", operation)
+                        .register(registry)
+                        .increment();
+                task.inline = true;
+                task.run();
+            }
+            return task::result;
+        }
+
+        /**
+         * 모든 작업이 끝나기를 기다린다.
+         * - 작업이 실패하면 나머지를 취소하고 처음 발생한 예외를 그대로 던진다
+         * @throws ServiceOverloadedException 마감 시간 초과 또는 대기 중 인터럽트
+         */
+        public void join() {
+            joined = true;
+            try {
+                for (QueryTask<?> task : tasks) {
+                    long remaining = deadlineNanos - System.nanoTime();
+                    try {
+                        task.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                    } catch (ExecutionException | CancellationException e) {
+                        throw propagate(failure.get() != null ? failure.get() : e.getCause());
+                    } catch (TimeoutException e) {
+                        cancelAll();
+                        throw timeout("timeout");
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        cancelAll();
+                        throw timeout("interrupted");
+                    }
+                }
+            } finally {
+                Timer.builder("query_fan_out_duration_seconds")
+                        .description("동시 조회 묶음 전체 소요 시간")
+                        .tag("operation", operation)
+                        .register(registry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            for (QueryTask<?> task : tasks) {
+                // 인라인 작업을 인터럽트하면 요청 스레드(Tomcat)에 인터럽트 상태가 새어 나간다
+                task.cancel(!task.inline);
+            }
+        }
+
+        private ServiceOverloadedException timeout(String reason) {
+            Counter.builder("query_fan_out_timeout_total")
+                    .description("마감 시간 안에 끝나지 않은 동시 조회 묶음 수")
+                    .tag("operation", operation)
+                    .tag("reason", reason)
+                    .register(registry)
+                    .increment();
+            log.warn("Parallel query deadline exceeded: operation={}, reason={}, deadlineMillis={}, queueDepth={}",
+                    operation, reason, deadlineMillis, executor.getQueue().size());
+            return new ServiceOverloadedException(retryAfterSeconds);
+        }
+
+        private RuntimeException propagate(Throwable cause) {
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException("Parallel query failed: " + operation, cause);
+        }
+
+        private final class QueryTask<T> extends FutureTask<T> {
+
+            /** 대기열 포화로 호출 스레드에서 실행되는 작업 */
+            private volatile boolean inline;
+
+            private QueryTask(Supplier<T> query, Map<String, String> mdc) {
+                super(() -> {
+                    Map<String, String> previous = MDC.getCopyOfContextMap();
+                    if (mdc != null) {
+                        MDC.setContextMap(mdc);
+                    }
+                    try {
+                        return readOnlyTransaction.execute(status -> query.get());
+                    } finally {
+                        if (previous != null) {
+                            MDC.setContextMap(previous);
+                        } else {
+                            MDC.clear();
+                        }
+                    }
+                });
+            }
+
+            @Override
+            protected void setException(Throwable t) {
+                super.setException(t);
+                // 이미 끝난 자기 자신은 취소되지 않으므로 호출 스레드(인라인 실행)를 인터럽트하지 않는다
+                if (failure.compareAndSet(null, t)) {
+                    cancelAll();
+                }
+            }
+
+            private T result() {
+                if (!joined || !isDone()) {
+                    throw new IllegalStateException("Result is not available before join");
+                }
+                try {
+                    return get();
+                } catch (ExecutionException | CancellationException e) {
+                    throw propagate(failure.get() != null ? failure.get() : e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while reading parallel query result", e);
+                }
+            }
+        }
+    }
+}
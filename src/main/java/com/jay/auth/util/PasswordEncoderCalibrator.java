@@ -0,0 +1,136 @@
+package com.jay.auth.util;
+
+import com.jay.auth.config.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 비밀번호 인코더 생성 및 해싱 비용 보정
+ * - 기동 시 현재 노드에서 해싱 시간을 측정해 목표 지연(targetMillis)에 맞는 비용을 고른다
+ * - bcrypt는 strength, argon2는 iterations를 보정하며 두 값 모두 해시에 기록되므로
+ *   설정이 바뀌어도 기존 해시는 그대로 검증되고 로그인 시 재해싱 대상이 된다
+ * - {id} 접두사가 없는 기존 bcrypt 해시는 기본 검증 인코더로 처리한다
+ */
+@Slf4j
+public final class PasswordEncoderCalibrator {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final String BOUNCY_CASTLE_ARGON2 = "org.bouncycastle.crypto.generators.Argon2BytesGenerator";
+    private static final String SAMPLE_PASSWORD = "Calibrate@2024!";
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    private PasswordEncoderCalibrator() {
+    }
+
+    /**
+     * 설정에 따라 보정된 DelegatingPasswordEncoder를 만든다
+     */
+    public static PasswordEncoder create(AppProperties.PasswordHashing settings) {
+        String algorithm = settings.getAlgorithm() != null ? settings.getAlgorithm().toLowerCase() : BCRYPT;
+        boolean argon2Available = ClassUtils.isPresent(BOUNCY_CASTLE_ARGON2, PasswordEncoderCalibrator.class.getClassLoader());
+        if (ARGON2.equals(algorithm) && !argon2Available) {
+            log.warn("Argon2 requires BouncyCastle on the classpath, falling back to bcrypt");
+            algorithm = BCRYPT;
+        }
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(BCRYPT.equals(algorithm)
+                ? calibrateBcrypt(settings)
+                : settings.getBcryptMinStrength()));
+        encoders.put(PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (argon2Available) {
+            int iterations = ARGON2.equals(algorithm) ? calibrateArgon2(settings) : settings.getArgon2MinIterations();
+            encoders.put(ARGON2, argon2(settings, iterations));
+        }
+        if (!encoders.containsKey(algorithm)) {
+            log.warn("Unknown password hashing algorithm '{}', falling back to bcrypt", algorithm);
+            algorithm = BCRYPT;
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        // 접두사 없는 기존 해시 ($2a$10$...)
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return delegating;
+    }
+
+    private static int calibrateBcrypt(AppProperties.PasswordHashing settings) {
+        int min = settings.getBcryptMinStrength();
+        if (!settings.isCalibrate()) {
+            return min;
+        }
+        int strength = calibrateBcryptStrength(settings.getTargetMillis(), min, settings.getBcryptMaxStrength(),
+                cost -> benchmark(new BCryptPasswordEncoder(cost)));
+        log.info("Calibrated bcrypt strength: {} (target {}ms)", strength, settings.getTargetMillis());
+        return strength;
+    }
+
+    private static int calibrateArgon2(AppProperties.PasswordHashing settings) {
+        int min = settings.getArgon2MinIterations();
+        if (!settings.isCalibrate()) {
+            return min;
+        }
+        int iterations = calibrateArgon2Iterations(settings.getTargetMillis(), min, settings.getArgon2MaxIterations(),
+                cost -> benchmark(argon2(settings, cost)));
+        log.info("Calibrated argon2 iterations: {} (memory {}KB, target {}ms)",
+                iterations, settings.getArgon2MemoryKb(), settings.getTargetMillis());
+        return iterations;
+    }
+
+    /**
+     * bcrypt는 strength가 1 오를 때마다 비용이 2배가 되므로 최소 비용에서 한 번 측정해 목표에 맞는 값을 계산한다
+     */
+    static int calibrateBcryptStrength(long targetMillis, int min, int max, IntToLongFunction benchmark) {
+        long measured = Math.max(1, benchmark.applyAsLong(min));
+        int strength = min;
+        while (strength < max && measured * 2 <= targetMillis) {
+            measured *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    /**
+     * argon2는 iterations에 비용이 선형 비례하므로 최소 비용 측정값으로 나눠 계산한다
+     */
+    static int calibrateArgon2Iterations(long targetMillis, int min, int max, IntToLongFunction benchmark) {
+        long measured = Math.max(1, benchmark.applyAsLong(min));
+        long perIteration = Math.max(1, measured / min);
+        long iterations = targetMillis / perIteration;
+        return (int) Math.max(min, Math.min(max, iterations));
+    }
+
+    private static Argon2PasswordEncoder argon2(AppProperties.PasswordHashing settings, int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, 1,
+                settings.getArgon2MemoryKb(), iterations);
+    }
+
+    /**
+     * 워밍업 1회 후 측정값의 중앙값 (ms)
+     */
+    private static long benchmark(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long[] samples = new long[BENCHMARK_ROUNDS];
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[BENCHMARK_ROUNDS / 2];
+    }
+}
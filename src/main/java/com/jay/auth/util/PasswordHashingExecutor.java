@@ -0,0 +1,132 @@
+package com.jay.auth.util;
+
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 전용 실행기
+ * - BCrypt 같은 CPU 집약 작업을 코어 수 크기의 전용 풀에서 실행해 동시 해싱 수를 코어 수로 제한한다
+ * - 요청 스레드는 결과를 최대 대기 시간까지 기다리며 블로킹된다 (서블릿 스레드를 반환하지 않음)
+ * - 대신 대기열을 고정 크기로 두어, 가득 차거나 최대 대기 시간을 넘으면 {@link ServiceOverloadedException}(503)으로
+ *   거절한다. 해싱을 기다리며 묶이는 서블릿 스레드 수와 대기 시간이 이 두 값으로 상한을 갖는 입장 제어다
+ * - 메트릭: password_hashing_queue_depth, password_hashing_active_threads,
+ *   password_hashing_queue_wait_seconds, password_hashing_duration_seconds, password_hashing_rejected_total
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final long retryAfterSeconds;
+    private final MeterRegistry registry;
+    private final Timer queueWaitTimer;
+
+    public PasswordHashingExecutor(AppProperties appProperties, MeterRegistry registry) {
+        AppProperties.PasswordHashing settings = appProperties.getPasswordHashing();
+        int threads = settings.getThreads() > 0 ? settings.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.maxWaitMillis = settings.getMaxWaitMillis();
+        this.retryAfterSeconds = settings.getRetryAfterSeconds();
+        this.registry = registry;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pwd-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password_hashing_queue_depth", executor, e -> e.getQueue().size())
+                .description("비밀번호 해싱 대기열 길이")
+                .register(registry);
+        Gauge.builder("password_hashing_active_threads", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해싱 중인 스레드 수")
+                .register(registry);
+        this.queueWaitTimer = Timer.builder("password_hashing_queue_wait_seconds")
+                .description("비밀번호 해싱 작업의 대기열 대기 시간")
+                .register(registry);
+
+        log.info("Password hashing executor initialized: threads={}, queueCapacity={}, maxWaitMillis={}",
+                threads, settings.getQueueCapacity(), maxWaitMillis);
+    }
+
+    /**
+     * 해싱 작업을 전용 풀에 넣고 호출 스레드에서 최대 maxWaitMillis까지 결과를 기다린다.
+     * @param operation 메트릭 태그 (encode, matches)
+     * @throws ServiceOverloadedException 대기열 포화 또는 최대 대기 시간 초과
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Timer durationTimer = Timer.builder("password_hashing_duration_seconds")
+                .description("비밀번호 해싱 소요 시간")
+                .tag("operation", operation)
+                .register(registry);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return durationTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject(operation, "queue_full");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject(operation, "timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw reject(operation, "interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private ServiceOverloadedException reject(String operation, String reason) {
+        Counter.builder("password_hashing_rejected_total")
+                .description("비밀번호 해싱 거절 횟수")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+        log.warn("Password hashing rejected: operation={}, reason={}, queueDepth={}",
+                operation, reason, executor.getQueue().size());
+        return new ServiceOverloadedException(retryAfterSeconds);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
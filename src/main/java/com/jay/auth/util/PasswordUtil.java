@@ -16,6 +16,8 @@ import java.util.regex.Pattern;
 public class PasswordUtil {
 
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final BreachedPasswordIndex breachedPasswordIndex;
 
     // 최소 8자, 영문, 숫자, 특수문자 포함
     private static final Pattern PASSWORD_PATTERN = Pattern.compile(
@@ -27,12 +29,12 @@ public class PasswordUtil {
     private static final Pattern SPECIAL_PATTERN = Pattern.compile("[!@#$%^&*(),.?\":{}|<>]");
 
     /**
-     * 비밀번호 해싱 (BCrypt)
+     * 비밀번호 해싱 (설정된 알고리즘, 해싱 전용 실행기에서 수행)
      * @param rawPassword 평문 비밀번호
      * @return 해싱된 비밀번호
      */
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return passwordHashingExecutor.execute("encode", () -> passwordEncoder.encode(rawPassword));
     }
 
     /**
@@ -42,7 +44,16 @@ public class PasswordUtil {
      * @return 일치 여부
      */
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return passwordHashingExecutor.execute("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 알고리즘/비용보다 약해 재해싱이 필요한지 확인
+     * @param encodedPassword 해싱된 비밀번호
+     * @return 재해싱 필요 여부
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
     }
 
     /**
@@ -69,6 +80,18 @@ public class PasswordUtil {
             "qwerty123", "password123", "1234567890", "admin123", "test1234"
     );
 
+    /**
+     * 흔한 비밀번호 또는 유출 비밀번호 인덱스에 포함된 비밀번호인지 확인
+     * @param password 검사할 비밀번호
+     * @return 유출/흔한 비밀번호 여부
+     */
+    public boolean isBreached(String password) {
+        if (password == null) {
+            return false;
+        }
+        return COMMON_PASSWORDS.contains(password.toLowerCase()) || breachedPasswordIndex.contains(password);
+    }
+
     public PasswordAnalysisResponse analyzePassword(String password) {
         if (password == null || password.isEmpty()) {
             return PasswordAnalysisResponse.builder()
@@ -128,8 +151,8 @@ public class PasswordUtil {
         if (noRepeated) score += 10;
         else suggestions.add("같은 문자의 반복(aaa, 111 등)을 피해주세요.");
 
-        // 9. 흔한 비밀번호 검사
-        boolean notCommon = !COMMON_PASSWORDS.contains(password.toLowerCase());
+        // 9. 흔한/유출 비밀번호 검사
+        boolean notCommon = !isBreached(password);
         checks.add(CheckItem.builder().name("NOT_COMMON").description("흔한 비밀번호 아님").passed(notCommon).build());
         if (notCommon) score += 5;
         else suggestions.add("너무 흔한 비밀번호입니다. 더 독특한 비밀번호를 사용해주세요.");
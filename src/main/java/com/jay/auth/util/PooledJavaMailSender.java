@@ -0,0 +1,153 @@
+package com.jay.auth.util;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMTP 연결을 재사용하는 JavaMailSender
+ * - 기본 구현은 발송마다 연결·STARTTLS·AUTH를 새로 하지만, 연결을 풀에 보관해 다음 발송에 재사용한다
+ * - 동시에 쓰는 연결 수를 poolSize로 제한하고, 오래 쉬었거나 끊긴 연결은 닫고 다시 연결한다
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final long ACQUIRE_TIMEOUT_MILLIS = 10_000;
+    /** 이 시간 이상 쉰 연결만 NOOP으로 연결 상태를 확인한다 */
+    private static final long VALIDATE_AFTER_MILLIS = 5_000;
+
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final long maxIdleMillis;
+    private volatile boolean closed;
+
+    public PooledJavaMailSender(int poolSize, long maxIdleMillis) {
+        this.permits = new Semaphore(Math.max(1, poolSize));
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pooled = borrow();
+        boolean reusable = true;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    if (mimeMessage.getSentDate() == null) {
+                        mimeMessage.setSentDate(new Date());
+                    }
+                    String messageId = mimeMessage.getMessageID();
+                    mimeMessage.saveChanges();
+                    if (messageId != null) {
+                        mimeMessage.setHeader("Message-ID", messageId);
+                    }
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    pooled.transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+                } catch (MessagingException ex) {
+                    failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessage, ex);
+                    if (!pooled.transport.isConnected()) {
+                        reusable = false;
+                    }
+                }
+            }
+        } finally {
+            release(pooled, reusable);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private PooledTransport borrow() {
+        try {
+            if (!permits.tryAcquire(ACQUIRE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("Timed out waiting for an SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for an SMTP connection", e);
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            PooledTransport pooled;
+            // 최근에 쓴 연결부터 꺼낸다 (LIFO) - 덜 쓰인 연결은 유휴 시간이 지나 정리된다
+            while ((pooled = idle.pollFirst()) != null) {
+                long idleMillis = now - pooled.lastUsedAt;
+                if (idleMillis < maxIdleMillis
+                        && (idleMillis < VALIDATE_AFTER_MILLIS || pooled.transport.isConnected())) {
+                    return pooled;
+                }
+                closeQuietly(pooled.transport);
+            }
+            return new PooledTransport(connectTransport());
+        } catch (MessagingException e) {
+            permits.release();
+            throw new MailSendException("Mail server connection failed", e);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledTransport pooled, boolean reusable) {
+        try {
+            if (reusable && !closed) {
+                pooled.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+            } else {
+                closeQuietly(pooled.transport);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    int idleConnections() {
+        return idle.size();
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closeQuietly(pooled.transport);
+        }
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP transport", e);
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private long lastUsedAt;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+    }
+}
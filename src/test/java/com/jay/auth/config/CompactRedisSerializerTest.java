@@ -0,0 +1,253 @@
+package com.jay.auth.config;
+
+import com.jay.auth.dto.response.LoginTimelineResponse;
+import com.jay.auth.dto.response.UserProfileResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactRedisSerializer 테스트")
+class CompactRedisSerializerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_238);
+
+    private final GenericJackson2JsonRedisSerializer json = CacheConfig.jsonCacheSerializer();
+
+    private CompactRedisSerializer serializer(CompactRedisSerializer.WriteFormat format, int threshold) {
+        return new CompactRedisSerializer(CacheConfig.cacheTypes(), json, format, threshold);
+    }
+
+    private CompactRedisSerializer compact() {
+        return serializer(CompactRedisSerializer.WriteFormat.COMPACT, 0);
+    }
+
+    private UserProfileResponse profile() {
+        return UserProfileResponse.builder()
+                .userId(42L)
+                .userUuid("5f0c8a9e-3b1d-4c2a-9e7f-1a2b3c4d5e6f")
+                .email("user@example.com")
+                .nickname("사용자")
+                .role("USER")
+                .status("ACTIVE")
+                .channels(new ArrayList<>(List.of(UserProfileResponse.ChannelInfo.builder()
+                        .channelCode("GOOGLE")
+                        .channelEmail("user@gmail.com")
+                        .linkedAt(CREATED_AT)
+                        .build())))
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT.plusDays(1))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("compact 쓰기")
+    class Compact {
+
+        @Test
+        @DisplayName("등록된 타입은 필드 값과 날짜(나노초 포함)가 그대로 복원된다")
+        void shouldRoundTripRegisteredType() {
+            // when
+            Object restored = compact().deserialize(compact().serialize(profile()));
+
+            // then
+            assertThat(restored).usingRecursiveComparison().isEqualTo(profile());
+        }
+
+        @Test
+        @DisplayName("single-flight 항목처럼 값을 감싼 레코드도 복원된다")
+        void shouldRoundTripWrappedEntry() {
+            // given
+            SingleFlightCache.Entry entry = new SingleFlightCache.Entry(profile(), 1_700_000_000_000L, 1_250L);
+
+            // when
+            Object restored = compact().deserialize(compact().serialize(entry));
+
+            // then
+            assertThat(restored).usingRecursiveComparison().isEqualTo(entry);
+        }
+
+        @Test
+        @DisplayName("기본 값, 음수, 목록과 맵이 복원된다")
+        void shouldRoundTripScalarsAndCollections() {
+            // given
+            Map<String, Object> value = Map.of("count", -3, "total", Long.MIN_VALUE, "rate", 0.25,
+                    "tags", List.of("a", "b"), "flag", true);
+
+            // when
+            Object restored = compact().deserialize(compact().serialize(value));
+
+            // then
+            assertThat(restored).isEqualTo(value);
+        }
+
+        @Test
+        @DisplayName("최상위 문자열은 따옴표 없이 헤더 1바이트만 붙는다")
+        void shouldWriteStringWithOneByteHeader() {
+            // when
+            byte[] bytes = compact().serialize("Seoul, KR");
+
+            // then
+            assertThat(bytes).hasSize("Seoul, KR".length() + 1);
+            assertThat(compact().deserialize(bytes)).isEqualTo("Seoul, KR");
+        }
+
+        @Test
+        @DisplayName("같은 값의 JSON보다 작다")
+        void shouldBeSmallerThanJson() {
+            // when
+            byte[] compactBytes = compact().serialize(profile());
+            byte[] jsonBytes = json.serialize(profile());
+
+            // then
+            assertThat(compactBytes.length).isLessThan(jsonBytes.length / 2);
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 타입은 JSON으로 기록한다")
+        void shouldFallBackToJsonForUnregisteredType() {
+            // given
+            Set<String> value = Set.of("x");
+
+            // when
+            byte[] bytes = compact().serialize(value);
+
+            // then
+            assertThat(bytes).isEqualTo(json.serialize(value));
+        }
+    }
+
+    @Nested
+    @DisplayName("압축")
+    class Compression {
+
+        private LoginTimelineResponse timeline() {
+            List<LoginTimelineResponse.HourlySlot> slots = new ArrayList<>();
+            IntStream.range(0, 24).forEach(hour -> slots.add(LoginTimelineResponse.HourlySlot.builder()
+                    .hour(hour).successCount(1_000L + hour).failureCount(hour).build()));
+            return LoginTimelineResponse.builder()
+                    .timeline(slots).peakHour(23).peakCount(1_023L).period("2026-10-12 ~ 2026-10-19").build();
+        }
+
+        @Test
+        @DisplayName("임계치를 넘으면 압축하고 그대로 복원된다")
+        void shouldCompressAboveThreshold() {
+            // given
+            CompactRedisSerializer serializer = serializer(CompactRedisSerializer.WriteFormat.COMPACT, 64);
+
+            // when
+            byte[] bytes = serializer.serialize(timeline());
+
+            // then
+            assertThat(bytes[0] & 0xFF).isEqualTo(CompactRedisSerializer.HEADER_DEFLATED);
+            assertThat(serializer.deserialize(bytes)).usingRecursiveComparison().isEqualTo(timeline());
+        }
+
+        @Test
+        @DisplayName("임계치 이하면 압축하지 않는다")
+        void shouldNotCompressBelowThreshold() {
+            // given
+            CompactRedisSerializer serializer = serializer(CompactRedisSerializer.WriteFormat.COMPACT, 4096);
+
+            // when
+            byte[] bytes = serializer.serialize(timeline());
+
+            // then
+            assertThat(bytes[0] & 0xFF).isEqualTo(CompactRedisSerializer.HEADER_TAGGED);
+        }
+
+        @Test
+        @DisplayName("압축 값이 잘렸으면 예외가 발생한다")
+        void shouldRejectTruncatedValue() {
+            // given
+            CompactRedisSerializer serializer = serializer(CompactRedisSerializer.WriteFormat.COMPACT, 64);
+            byte[] bytes = serializer.serialize(timeline());
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+            // when & then
+            assertThatThrownBy(() -> serializer.deserialize(truncated))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("마이그레이션")
+    class Migration {
+
+        @Test
+        @DisplayName("JSON 쓰기 모드는 기존 직렬화기와 같은 바이트를 쓴다")
+        void shouldWriteJsonByDefault() {
+            // given
+            CompactRedisSerializer serializer = serializer(CompactRedisSerializer.WriteFormat.JSON, 0);
+
+            // when & then
+            assertThat(serializer.serialize(profile())).isEqualTo(json.serialize(profile()));
+        }
+
+        @Test
+        @DisplayName("compact 모드에서도 기존 JSON 값을 읽는다")
+        void shouldReadLegacyJson() {
+            // when
+            Object restored = compact().deserialize(json.serialize(profile()));
+
+            // then
+            assertThat(restored).usingRecursiveComparison().isEqualTo(profile());
+        }
+
+        @Test
+        @DisplayName("JSON 모드에서도 compact 값을 읽는다")
+        void shouldReadCompactInJsonMode() {
+            // given
+            CompactRedisSerializer serializer = serializer(CompactRedisSerializer.WriteFormat.JSON, 0);
+
+            // when
+            Object restored = serializer.deserialize(compact().serialize(profile()));
+
+            // then
+            assertThat(restored).usingRecursiveComparison().isEqualTo(profile());
+        }
+
+        @Test
+        @DisplayName("INCR로 기록된 숫자는 JSON으로 읽는다")
+        void shouldReadIncrementedCounter() {
+            // given
+            CompactRedisSerializer serializer = new CompactRedisSerializer(CompactTypeRegistry.empty(),
+                    new GenericJackson2JsonRedisSerializer(), CompactRedisSerializer.WriteFormat.COMPACT, 0);
+
+            // when
+            Object restored = serializer.deserialize("12".getBytes(StandardCharsets.UTF_8));
+
+            // then
+            assertThat(restored).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("스키마가 다른 레지스트리로 기록된 값은 없는 값으로 취급한다")
+        void shouldTreatOtherSchemaAsMissing() {
+            // given
+            CompactRedisSerializer other = new CompactRedisSerializer(
+                    CompactTypeRegistry.builder().register(2, UserProfileResponse.class)
+                            .register(3, UserProfileResponse.ChannelInfo.class).build(),
+                    json, CompactRedisSerializer.WriteFormat.COMPACT, 0);
+
+            // when
+            Object restored = compact().deserialize(other.serialize(profile()));
+
+            // then
+            assertThat(restored).isNull();
+        }
+    }
+}
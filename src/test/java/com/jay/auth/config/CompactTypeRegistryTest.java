@@ -0,0 +1,83 @@
+package com.jay.auth.config;
+
+import com.jay.auth.dto.response.LoginHeatmapResponse;
+import com.jay.auth.dto.response.UserProfileResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactTypeRegistry 테스트")
+class CompactTypeRegistryTest {
+
+    @Test
+    @DisplayName("번호와 타입 양방향으로 스키마를 찾는다")
+    void shouldFindSchemaByIdAndType() {
+        // given
+        CompactTypeRegistry registry = CompactTypeRegistry.builder()
+                .register(2, UserProfileResponse.class)
+                .build();
+
+        // when & then
+        assertThat(registry.schemaOf(2).type()).isEqualTo(UserProfileResponse.class);
+        assertThat(registry.schemaOf(UserProfileResponse.class).id()).isEqualTo(2);
+        assertThat(registry.schemaOf(3)).isNull();
+    }
+
+    @Test
+    @DisplayName("필드는 선언 순서로 기록한다")
+    void shouldKeepDeclarationOrder() {
+        // when
+        CompactTypeRegistry.Schema schema = CompactTypeRegistry.builder()
+                .register(5, LoginHeatmapResponse.CountryStats.class)
+                .build()
+                .schemaOf(5);
+
+        // then
+        assertThat(schema.fields()).extracting("name")
+                .containsExactly("country", "city", "totalCount", "failureCount", "failureRate");
+    }
+
+    @Test
+    @DisplayName("기본 생성자가 없어도 @Builder 전체 인자 생성자로 만든다")
+    void shouldInstantiateWithAllArgsConstructor() throws Exception {
+        // given
+        CompactTypeRegistry.Schema schema = CompactTypeRegistry.builder()
+                .register(5, LoginHeatmapResponse.CountryStats.class)
+                .build()
+                .schemaOf(5);
+
+        // when
+        Object stats = schema.instantiate(new Object[]{"KR", "Seoul", 10L, 2L, 0.2});
+
+        // then
+        assertThat(stats).isInstanceOf(LoginHeatmapResponse.CountryStats.class);
+        assertThat(((LoginHeatmapResponse.CountryStats) stats).getFailureCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("같은 타입 구성이면 지문이 같고, 타입이 바뀌면 지문이 바뀐다")
+    void shouldDeriveFingerprintFromSchemas() {
+        // given
+        CompactTypeRegistry first = CompactTypeRegistry.builder().register(2, UserProfileResponse.class).build();
+        CompactTypeRegistry same = CompactTypeRegistry.builder().register(2, UserProfileResponse.class).build();
+        CompactTypeRegistry changed = CompactTypeRegistry.builder()
+                .register(2, UserProfileResponse.class)
+                .register(3, UserProfileResponse.ChannelInfo.class)
+                .build();
+
+        // when & then
+        assertThat(first.fingerprint()).isEqualTo(same.fingerprint());
+        assertThat(first.fingerprint()).isNotEqualTo(changed.fingerprint());
+    }
+
+    @Test
+    @DisplayName("같은 번호를 두 번 등록하면 예외가 발생한다")
+    void shouldRejectDuplicateId() {
+        assertThatThrownBy(() -> CompactTypeRegistry.builder()
+                .register(2, UserProfileResponse.class)
+                .register(2, UserProfileResponse.ChannelInfo.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,179 @@
+package com.jay.auth.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCacheManager 테스트")
+class NearCacheManagerTest {
+
+    private static final String CACHE = "userProfile";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ConcurrentMapCacheManager redisTier;
+    private SimpleMeterRegistry meterRegistry;
+    private NearCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        redisTier = new ConcurrentMapCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new NearCacheManager(redisTier, stringRedisTemplate, new AppProperties.Cache(), meterRegistry);
+    }
+
+    private double gets(String tier, String result) {
+        return meterRegistry.get(NearCache.METRIC_NAME)
+                .tag("cache", CACHE)
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter().count();
+    }
+
+    private Cache redisCache() {
+        return redisTier.getCache(CACHE);
+    }
+
+    private DefaultMessage invalidationFrom(String origin, String key) {
+        String body = key != null
+                ? "{\"origin\":\"" + origin + "\",\"cache\":\"" + CACHE + "\",\"key\":\"" + key + "\"}"
+                : "{\"origin\":\"" + origin + "\",\"cache\":\"" + CACHE + "\",\"key\":null}";
+        return new DefaultMessage(NearCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Lookup {
+
+        @Test
+        @DisplayName("Redis에서 읽은 값은 로컬에 두고 다음 조회는 Redis를 거치지 않는다")
+        void shouldServeFromLocalAfterFirstRead() {
+            // given
+            redisCache().put(7L, "profile");
+            Cache cache = cacheManager.getCache(CACHE);
+
+            // when
+            cache.get(7L);
+            redisCache().evict(7L);
+            Cache.ValueWrapper second = cache.get(7L);
+
+            // then
+            assertThat(second).isNotNull();
+            assertThat(second.get()).isEqualTo("profile");
+            assertThat(gets("redis", "hit")).isEqualTo(1);
+            assertThat(gets("local", "miss")).isEqualTo(1);
+            assertThat(gets("local", "hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("두 계층 모두 없으면 로더 결과를 두 계층에 저장한다")
+        void shouldStoreLoadedValueInBothTiers() {
+            // given
+            Cache cache = cacheManager.getCache(CACHE);
+
+            // when
+            String loaded = cache.get(7L, () -> "loaded");
+            String cached = cache.get(7L, () -> "reloaded");
+
+            // then
+            assertThat(loaded).isEqualTo("loaded");
+            assertThat(cached).isEqualTo("loaded");
+            assertThat(redisCache().get(7L).get()).isEqualTo("loaded");
+            assertThat(gets("redis", "miss")).isEqualTo(1);
+            assertThat(gets("local", "hit")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Invalidation {
+
+        @Test
+        @DisplayName("evict는 두 계층에서 지우고 다른 노드에 키를 알린다")
+        void shouldEvictAndPublish() {
+            // given
+            Cache cache = cacheManager.getCache(CACHE);
+            cache.get(7L, () -> "profile");
+
+            // when
+            cache.evict(7L);
+
+            // then
+            assertThat(redisCache().get(7L)).isNull();
+            assertThat(cache.get(7L)).isNull();
+            ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+            then(stringRedisTemplate).should().convertAndSend(eq(NearCacheManager.INVALIDATION_CHANNEL), message.capture());
+            assertThat(message.getValue()).contains("\"cache\":\"userProfile\"").contains("\"key\":\"7\"");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 값만 지운다")
+        void shouldInvalidateLocalOnRemoteMessage() {
+            // given
+            Cache cache = cacheManager.getCache(CACHE);
+            cache.get(7L, () -> "stale");
+            redisCache().put(7L, "fresh");
+
+            // when
+            cacheManager.onMessage(invalidationFrom("other-node", "7"), null);
+
+            // then
+            assertThat(cache.get(7L).get()).isEqualTo("fresh");
+        }
+
+        @Test
+        @DisplayName("자기 노드가 보낸 메시지는 무시한다")
+        void shouldIgnoreOwnMessage() {
+            // given
+            Cache cache = cacheManager.getCache(CACHE);
+            cache.put(7L, "mine");
+            ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+            then(stringRedisTemplate).should().convertAndSend(eq(NearCacheManager.INVALIDATION_CHANNEL), published.capture());
+            redisCache().evict(7L);
+
+            // when
+            cacheManager.onMessage(new DefaultMessage(
+                    NearCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+            // then
+            assertThat(cache.get(7L).get()).isEqualTo("mine");
+        }
+
+        @Test
+        @DisplayName("키 없는 메시지는 로컬 캐시 전체를 비운다")
+        void shouldClearLocalOnClearMessage() {
+            // given
+            Cache cache = cacheManager.getCache(CACHE);
+            cache.get(1L, () -> "a");
+            cache.get(2L, () -> "b");
+            redisCache().clear();
+
+            // when
+            cacheManager.onMessage(invalidationFrom("other-node", null), null);
+
+            // then
+            assertThat(cache.get(1L)).isNull();
+            assertThat(cache.get(2L)).isNull();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.jay.auth.config;
+
+import com.jay.auth.dto.response.LoginFailureHotspotResponse;
+import com.jay.auth.dto.response.LoginHeatmapResponse;
+import com.jay.auth.dto.response.LoginTimelineResponse;
+import com.jay.auth.dto.response.UserProfileResponse;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Redis 값 형식별 크기 비교 (JSON → compact)
+ * - 세션 해시는 RedisConfig의 해시 값 직렬화기, 캐시 항목은 CacheConfig의 캐시 직렬화기와 같은 구성으로 측정한다
+ * - 세션은 해시 필드 이름(문자열 그대로 저장, 두 형식 동일)을 포함한 합계, 캐시 항목은 값 1건의 바이트 수
+ * - 압축 임계치는 app.redis-codec.compress-threshold-bytes 기본값을 사용한다
+ *
+ * 사용: ./gradlew redisCodecSizeBenchmark
+ */
+public final class RedisCodecSizeBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 14, 3, 27, 512_000_000);
+
+    private RedisCodecSizeBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int threshold = new AppProperties.RedisCodec().getCompressThresholdBytes();
+
+        GenericJackson2JsonRedisSerializer hashJson = new GenericJackson2JsonRedisSerializer();
+        CompactRedisSerializer hashCompact = new CompactRedisSerializer(CompactTypeRegistry.empty(), hashJson,
+                CompactRedisSerializer.WriteFormat.COMPACT, threshold);
+
+        GenericJackson2JsonRedisSerializer cacheJson = CacheConfig.jsonCacheSerializer();
+        CompactRedisSerializer cacheCompact = new CompactRedisSerializer(CacheConfig.cacheTypes(), cacheJson,
+                CompactRedisSerializer.WriteFormat.COMPACT, threshold);
+
+        System.out.printf("%-28s %10s %10s %8s%n", "value", "json", "compact", "saved");
+        String isoActivity = NOW.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String millisActivity = String.valueOf(NOW.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        report("session (hash, ISO)", sessionBytes(hashJson, isoActivity), sessionBytes(hashCompact, isoActivity));
+        report("session (hash, millis)", sessionBytes(hashJson, millisActivity),
+                sessionBytes(hashCompact, millisActivity));
+        report("userProfile", cacheJson, cacheCompact, profile());
+        report("geoip", cacheJson, cacheCompact, "Seoul, South Korea");
+        report("loginHeatmap (entry)", cacheJson, cacheCompact, singleFlight(heatmap()));
+        report("loginHotspot (entry)", cacheJson, cacheCompact, singleFlight(hotspot()));
+        report("loginTimeline (entry)", cacheJson, cacheCompact, singleFlight(timeline()));
+    }
+
+    private static void report(String name, RedisSerializer<Object> json, RedisSerializer<Object> compact,
+                               Object value) {
+        report(name, json.serialize(value).length, compact.serialize(value).length);
+    }
+
+    private static void report(String name, int jsonBytes, int compactBytes) {
+        System.out.printf("%-28s %10d %10d %7.1f%%%n", name, jsonBytes, compactBytes,
+                100.0 * (jsonBytes - compactBytes) / jsonBytes);
+    }
+
+    /**
+     * TokenStore가 저장하는 세션 해시 1건 (lastActivity는 이전 ISO 형식과 현재 epoch millis 형식을 비교)
+     */
+    private static int sessionBytes(RedisSerializer<Object> serializer, String lastActivity) {
+        Map<String, String> session = new LinkedHashMap<>();
+        session.put("deviceType", "DESKTOP");
+        session.put("browser", "Chrome 141");
+        session.put("os", "macOS 15");
+        session.put("ipAddress", "203.0.113.42");
+        session.put("location", "Seoul, South Korea");
+        session.put("lastActivity", lastActivity);
+        return session.entrySet().stream()
+                .mapToInt(e -> e.getKey().getBytes(StandardCharsets.UTF_8).length
+                        + serializer.serialize(e.getValue()).length)
+                .sum();
+    }
+
+    private static SingleFlightCache.Entry singleFlight(Object value) {
+        return new SingleFlightCache.Entry(value, 1_792_375_407_512L, 843L);
+    }
+
+    private static UserProfileResponse profile() {
+        return UserProfileResponse.builder()
+                .userId(1_048_576L)
+                .userUuid("5f0c8a9e-3b1d-4c2a-9e7f-1a2b3c4d5e6f")
+                .email("user@example.com")
+                .recoveryEmail("recovery@example.com")
+                .phone("010-1234-5678")
+                .nickname("사용자")
+                .role("USER")
+                .status("ACTIVE")
+                .channels(new ArrayList<>(List.of(
+                        UserProfileResponse.ChannelInfo.builder()
+                                .channelCode("EMAIL").channelEmail("user@example.com").linkedAt(NOW.minusDays(90)).build(),
+                        UserProfileResponse.ChannelInfo.builder()
+                                .channelCode("GOOGLE").channelEmail("user@gmail.com").linkedAt(NOW.minusDays(30)).build())))
+                .createdAt(NOW.minusDays(90))
+                .updatedAt(NOW)
+                .build();
+    }
+
+    private static LoginHeatmapResponse heatmap() {
+        String[][] cities = {{"KR", "Seoul"}, {"KR", "Busan"}, {"US", "Ashburn"}, {"JP", "Tokyo"},
+                {"DE", "Frankfurt"}, {"SG", "Singapore"}, {"BR", "Sao Paulo"}, {"NL", "Amsterdam"}};
+        List<LoginHeatmapResponse.CountryStats> stats = new ArrayList<>();
+        for (int i = 0; i < cities.length; i++) {
+            long total = 12_000L / (i + 1);
+            long failures = total / (10 - i);
+            stats.add(LoginHeatmapResponse.CountryStats.builder()
+                    .country(cities[i][0]).city(cities[i][1])
+                    .totalCount(total).failureCount(failures).failureRate((double) failures / total)
+                    .build());
+        }
+        return LoginHeatmapResponse.builder()
+                .heatmap(stats)
+                .suspiciousRegions(new ArrayList<>(List.of("BR/Sao Paulo", "NL/Amsterdam")))
+                .period("2026-10-12 ~ 2026-10-19")
+                .build();
+    }
+
+    private static LoginFailureHotspotResponse hotspot() {
+        List<LoginFailureHotspotResponse.HotspotEntry> entries = new ArrayList<>();
+        IntStream.range(0, 10).forEach(i -> entries.add(LoginFailureHotspotResponse.HotspotEntry.builder()
+                .ipAddress("198.51.100." + (10 + i))
+                .location(i % 2 == 0 ? "Sao Paulo, Brazil" : "Amsterdam, Netherlands")
+                .failureCount(500L - i * 37)
+                .lastAttemptAt(NOW.minusMinutes(i * 7L).toString())
+                .build()));
+        return LoginFailureHotspotResponse.builder()
+                .hotspots(entries)
+                .totalFailures(3_335L)
+                .period("2026-10-12 ~ 2026-10-19")
+                .build();
+    }
+
+    private static LoginTimelineResponse timeline() {
+        List<LoginTimelineResponse.HourlySlot> slots = new ArrayList<>();
+        IntStream.range(0, 24).forEach(hour -> slots.add(LoginTimelineResponse.HourlySlot.builder()
+                .hour(hour).successCount(800L + hour * 31).failureCount(12L + hour % 5).build()));
+        return LoginTimelineResponse.builder()
+                .timeline(slots)
+                .peakHour(23)
+                .peakCount(1_513L)
+                .period("2026-10-12 ~ 2026-10-19")
+                .build();
+    }
+}
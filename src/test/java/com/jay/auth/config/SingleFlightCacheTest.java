@@ -0,0 +1,222 @@
+package com.jay.auth.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SingleFlightCache 테스트")
+class SingleFlightCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final String KEY = "7";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ConcurrentMapCache delegate;
+    private AppProperties.Cache settings;
+    private AtomicLong now;
+    private SingleFlightCache cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCache("loginHeatmap");
+        settings = new AppProperties.Cache();
+        settings.setSingleFlightPollMillis(1);
+        now = new AtomicLong(1_000_000);
+        cache = new SingleFlightCache(delegate, stringRedisTemplate, TTL, settings, now::get, () -> 0.5);
+    }
+
+    private void leaseAvailable(boolean available) {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("cache:lease:loginHeatmap::" + KEY), anyString(), any(Duration.class)))
+                .willReturn(available);
+    }
+
+    @Nested
+    @DisplayName("동시 로드 합치기")
+    class Coalescing {
+
+        @Test
+        @DisplayName("같은 키를 동시에 요청해도 한 번만 계산하고 나머지는 그 결과를 받는다")
+        void shouldComputeOnceForConcurrentMisses() throws Exception {
+            // given
+            leaseAvailable(true);
+            SingleFlightCache realClockCache = new SingleFlightCache(delegate, stringRedisTemplate, TTL, settings);
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> realClockCache.get(KEY, () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                release.await();
+                return "heatmap";
+            })));
+            leaderStarted.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> realClockCache.get(KEY, () -> {
+                    loads.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("heatmap");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            executor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("다른 노드가 리스를 잡고 있으면 계산하지 않고 그 노드의 결과를 기다린다")
+        void shouldWaitForRemoteResult() {
+            // given
+            leaseAvailable(false);
+            given(stringRedisTemplate.hasKey("cache:lease:loginHeatmap::" + KEY)).willAnswer(invocation -> {
+                delegate.put(KEY, new SingleFlightCache.Entry("remote", now.get(), 100));
+                return true;
+            });
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            String value = cache.get(KEY, () -> {
+                loads.incrementAndGet();
+                return "local";
+            });
+
+            // then
+            assertThat(value).isEqualTo("remote");
+            assertThat(loads.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 노드의 리스가 값 없이 풀리면 직접 계산한다")
+        void shouldComputeWhenRemoteLeaseReleasedWithoutValue() {
+            // given
+            leaseAvailable(false);
+            given(stringRedisTemplate.hasKey("cache:lease:loginHeatmap::" + KEY)).willReturn(false);
+
+            // when
+            String value = cache.get(KEY, () -> "local");
+
+            // then
+            assertThat(value).isEqualTo("local");
+            assertThat(delegate.get(KEY).get()).isInstanceOf(SingleFlightCache.Entry.class);
+        }
+
+        @Test
+        @DisplayName("계산에 실패하면 예외를 전달하고 리스를 해제한다")
+        void shouldReleaseLeaseOnFailure() {
+            // given
+            leaseAvailable(true);
+
+            // when & then
+            assertThatThrownBy(() -> cache.get(KEY, () -> {
+                throw new IllegalStateException("query failed");
+            })).isInstanceOf(Cache.ValueRetrievalException.class);
+            then(stringRedisTemplate).should().execute(any(), anyList(), anyString());
+            assertThat(delegate.get(KEY)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("확률적 조기 갱신")
+    class EarlyRefresh {
+
+        @Test
+        @DisplayName("만료가 멀면 캐시된 값을 그대로 반환한다")
+        void shouldServeCachedValueFarFromExpiry() {
+            // given
+            delegate.put(KEY, new SingleFlightCache.Entry("cached", now.get(), 1_000));
+            now.addAndGet(10_000);
+
+            // when
+            String value = cache.get(KEY, () -> "fresh");
+
+            // then
+            assertThat(value).isEqualTo("cached");
+        }
+
+        @Test
+        @DisplayName("만료가 계산 시간만큼 가까워지면 만료 전에 다시 계산한다")
+        void shouldRefreshBeforeExpiry() {
+            // given
+            leaseAvailable(true);
+            delegate.put(KEY, new SingleFlightCache.Entry("cached", now.get(), 1_000));
+            // 남은 TTL 500ms < 계산 1000ms * -ln(0.5)
+            now.addAndGet(TTL.toMillis() - 500);
+
+            // when
+            String value = cache.get(KEY, () -> "fresh");
+
+            // then
+            assertThat(value).isEqualTo("fresh");
+            assertThat(cache.get(KEY).get()).isEqualTo("fresh");
+        }
+
+        @Test
+        @DisplayName("다른 노드가 이미 갱신 중이면 기존 값을 바로 반환한다")
+        void shouldServeStaleValueWhileRemoteRefreshes() {
+            // given
+            leaseAvailable(false);
+            delegate.put(KEY, new SingleFlightCache.Entry("cached", now.get(), 1_000));
+            now.addAndGet(TTL.toMillis() - 500);
+
+            // when
+            String value = cache.get(KEY, () -> "fresh");
+
+            // then
+            assertThat(value).isEqualTo("cached");
+        }
+
+        @Test
+        @DisplayName("계산 정보 없이 저장된 기존 값은 조기 갱신 없이 그대로 쓴다")
+        void shouldServeLegacyValue() {
+            // given
+            delegate.put(KEY, "legacy");
+
+            // when & then
+            assertThat(cache.get(KEY, () -> "fresh")).isEqualTo("legacy");
+            assertThat(cache.get(KEY, String.class)).isEqualTo("legacy");
+        }
+    }
+}
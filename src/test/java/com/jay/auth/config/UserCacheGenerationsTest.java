@@ -0,0 +1,156 @@
+package com.jay.auth.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCacheGenerations 테스트")
+class UserCacheGenerationsTest {
+
+    private static final String KEY = "cache:generation:user:7";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private UserCacheGenerations generations;
+
+    @BeforeEach
+    void setUp() {
+        generations = new UserCacheGenerations(stringRedisTemplate, new AppProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(UserCacheGenerations.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Current {
+
+        @Test
+        @DisplayName("한 번도 올리지 않은 사용자는 0세대다")
+        void shouldStartAtZero() {
+            // given
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+
+            // when & then
+            assertThat(generations.current(7L)).isZero();
+        }
+
+        @Test
+        @DisplayName("Redis에서 읽은 세대는 로컬에 두고 다시 읽지 않는다")
+        void shouldCacheGenerationLocally() {
+            // given
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY)).willReturn("3");
+
+            // when
+            generations.current(7L);
+            long generation = generations.current(7L);
+
+            // then
+            assertThat(generation).isEqualTo(3);
+            then(valueOperations).should(times(1)).get(KEY);
+        }
+
+        @Test
+        @DisplayName("다른 노드의 알림을 받으면 로컬 세대를 버리고 Redis에서 다시 읽는다")
+        void shouldReloadAfterRemoteBump() {
+            // given
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY)).willReturn("3", "4");
+            generations.current(7L);
+
+            // when
+            generations.onMessage(message("7"), null);
+
+            // then
+            assertThat(generations.current(7L)).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("세대 증가")
+    class Bump {
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 바로 올리고 다른 노드에 알린다")
+        void shouldBumpImmediatelyWithoutTransaction() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), anyString())).willReturn(5L);
+
+            // when
+            generations.bump(7L);
+
+            // then
+            assertThat(generations.current(7L)).isEqualTo(5);
+            then(stringRedisTemplate).should().convertAndSend(UserCacheGenerations.INVALIDATION_CHANNEL, "7");
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 커밋 후에만 올린다")
+        void shouldBumpAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            generations.bump(7L);
+            verifyNoInteractions(stringRedisTemplate);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(List.of(KEY)), anyString());
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 예외를 던지지 않고 로컬 세대를 버린다")
+        void shouldSwallowRedisFailure() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), anyString()))
+                    .willThrow(new RuntimeException("Redis 연결 실패"));
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(KEY)).willReturn("2");
+
+            // when
+            generations.bump(7L);
+
+            // then
+            assertThat(generations.current(7L)).isEqualTo(2);
+        }
+    }
+}
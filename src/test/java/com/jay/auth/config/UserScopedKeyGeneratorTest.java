@@ -0,0 +1,63 @@
+package com.jay.auth.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserScopedKeyGenerator 테스트")
+class UserScopedKeyGeneratorTest {
+
+    @Mock
+    private UserCacheGenerations userCacheGenerations;
+
+    @InjectMocks
+    private UserScopedKeyGenerator keyGenerator;
+
+    private Method method() throws NoSuchMethodException {
+        return Object.class.getMethod("toString");
+    }
+
+    @Test
+    @DisplayName("첫 번째 인자인 userId 뒤에 현재 세대를 붙인다")
+    void shouldAppendGeneration() throws Exception {
+        // given
+        given(userCacheGenerations.current(7L)).willReturn(3L);
+
+        // when
+        Object key = keyGenerator.generate(this, method(), 7L, "ignored");
+
+        // then
+        assertThat(key).isEqualTo("7:3");
+    }
+
+    @Test
+    @DisplayName("세대가 바뀌면 같은 사용자라도 다른 키가 된다")
+    void shouldChangeKeyAfterBump() throws Exception {
+        // given
+        given(userCacheGenerations.current(7L)).willReturn(3L, 4L);
+
+        // when
+        Object before = keyGenerator.generate(this, method(), 7L);
+        Object after = keyGenerator.generate(this, method(), 7L);
+
+        // then
+        assertThat(before).isNotEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("첫 번째 인자가 userId가 아니면 예외가 발생한다")
+    void shouldRejectMissingUserId() {
+        assertThatThrownBy(() -> keyGenerator.generate(this, method(), "7"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
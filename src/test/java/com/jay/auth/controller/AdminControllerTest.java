@@ -73,6 +73,9 @@ class AdminControllerTest {
     @MockitoBean
     private com.jay.auth.service.AccountLockService accountLockService;
 
+    @MockitoBean
+    private com.jay.auth.service.EncryptionKeyRotationService encryptionKeyRotationService;
+
     @BeforeEach
     void setUp() {
         UserPrincipal adminPrincipal = new UserPrincipal(1L, "admin-uuid", "ADMIN");
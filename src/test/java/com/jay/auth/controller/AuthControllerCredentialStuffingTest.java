@@ -0,0 +1,179 @@
+package com.jay.auth.controller;
+
+import com.jay.auth.dto.request.EmailLoginRequest;
+import com.jay.auth.exception.AuthenticationException;
+import com.jay.auth.security.JwtAuthenticationFilter;
+import com.jay.auth.security.TokenStore;
+import com.jay.auth.service.AuthService;
+import com.jay.auth.service.IpAccessService;
+import com.jay.auth.service.LoginHistoryService;
+import com.jay.auth.service.LoginRateLimitService;
+import com.jay.auth.service.PasswordService;
+import com.jay.auth.service.PostLoginVerificationService;
+import com.jay.auth.service.SecurityNotificationService;
+import com.jay.auth.service.SecuritySettingsService;
+import com.jay.auth.service.TokenService;
+import com.jay.auth.service.TrustedDeviceService;
+import com.jay.auth.service.metrics.AuthMetrics;
+import com.jay.auth.service.risk.CredentialStuffingDetector;
+import com.jay.auth.service.risk.LocalStuffingWindow;
+import com.jay.auth.util.PasswordUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 LoginRateLimitService와 CredentialStuffingDetector를 거쳐
+ * 한 IP가 로그인 rate limit에 걸린 뒤에도 자동 차단까지 도달하는지 검증한다
+ */
+@WebMvcTest(
+        controllers = AuthController.class,
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {
+                        JwtAuthenticationFilter.class,
+                        com.jay.auth.config.RateLimitFilter.class,
+                        com.jay.auth.config.RequestLoggingFilter.class,
+                        com.jay.auth.config.SecurityHeadersFilter.class,
+                        com.jay.auth.config.RequestIdFilter.class,
+                        com.jay.auth.config.IpAccessFilter.class
+                }
+        )
+)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({LoginRateLimitService.class, AuthControllerCredentialStuffingTest.DetectorConfig.class})
+class AuthControllerCredentialStuffingTest {
+
+    private static final String ATTACKER_IP = "203.0.113.7";
+
+    @TestConfiguration
+    static class DetectorConfig {
+
+        @Bean
+        CredentialStuffingDetector credentialStuffingDetector(IpAccessService ipAccessService, AuthMetrics authMetrics) {
+            return new CredentialStuffingDetector(ipAccessService, authMetrics, new SimpleMeterRegistry(),
+                    new LocalStuffingWindow());
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private IpAccessService ipAccessService;
+
+    @MockitoBean
+    private AuthMetrics authMetrics;
+
+    @MockitoBean
+    private AuthService authService;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    @MockitoBean
+    private PasswordService passwordService;
+
+    @MockitoBean
+    private LoginHistoryService loginHistoryService;
+
+    @MockitoBean
+    private SecurityNotificationService securityNotificationService;
+
+    @MockitoBean
+    private PasswordUtil passwordUtil;
+
+    @MockitoBean
+    private SecuritySettingsService securitySettingsService;
+
+    @MockitoBean
+    private PostLoginVerificationService postLoginVerificationService;
+
+    @MockitoBean
+    private TrustedDeviceService trustedDeviceService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Redis 카운터를 메모리 맵으로 흉내낸다
+        Map<String, Long> counters = new HashMap<>();
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment(anyString()))
+                .willAnswer(invocation -> counters.merge(invocation.getArgument(0), 1L, Long::sum));
+        given(valueOperations.get(anyString())).willAnswer(invocation -> {
+            Long count = counters.get(invocation.<String>getArgument(0));
+            return count != null ? String.valueOf(count) : null;
+        });
+        given(redisTemplate.getExpire(anyString())).willReturn(900L);
+
+        given(loginHistoryService.extractSessionInfo(any())).willReturn(
+                new TokenStore.SessionInfo("Desktop", "Chrome", "macOS", ATTACKER_IP, null));
+        given(authService.loginWithEmail(any(EmailLoginRequest.class), any(TokenStore.SessionInfo.class)))
+                .willThrow(AuthenticationException.invalidCredentials());
+    }
+
+    @Test
+    @DisplayName("IP rate limit(20회)에 걸린 뒤의 시도도 집계되어 한 IP가 자동 차단되어야 한다")
+    void autoBlocksIpAfterRateLimit() throws Exception {
+        // when: 계정마다 다른 이메일로 20회 실패 → 이후 rate limit 거절
+        for (int i = 0; i < 20; i++) {
+            login("victim" + i + "@email.com").andExpect(status().isUnauthorized());
+        }
+        verify(ipAccessService, never()).autoBlock(anyString(), anyString());
+
+        for (int i = 20; i < 35; i++) {
+            login("victim" + i + "@email.com").andExpect(status().isTooManyRequests());
+        }
+
+        // then
+        verify(ipAccessService, times(1)).autoBlock(eq(ATTACKER_IP), anyString());
+    }
+
+    private ResultActions login(String email) throws Exception {
+        return mockMvc.perform(post("/api/v1/auth/email/login")
+                .with(request -> {
+                    request.setRemoteAddr(ATTACKER_IP);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                            "email": "%s",
+                            "password": "WrongPass@1"
+                        }
+                        """.formatted(email)));
+    }
+}
@@ -42,6 +42,8 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -204,6 +206,36 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.token.accessToken").value("access-token"));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/auth/email/login - 새 기기 알림 등록에 실패해도 로그인은 성공해야 한다")
+    void loginSucceedsWhenNotificationFails() throws Exception {
+        // given
+        TokenResponse tokenResponse = TokenResponse.of("access-token", "refresh-token", 1800);
+        LoginResponse loginResponse = LoginResponse.of(1L, "uuid-1234", "test@email.com", "테스트", tokenResponse);
+
+        given(authService.loginWithEmail(any(EmailLoginRequest.class), any(TokenStore.SessionInfo.class))).willReturn(loginResponse);
+        given(loginRateLimitService.isLoginAllowed(any(), any())).willReturn(true);
+        willThrow(new IllegalStateException("outbox unavailable"))
+                .given(securityNotificationService).notifyNewDeviceLogin(any(), any());
+
+        String requestBody = """
+                {
+                    "email": "test@email.com",
+                    "password": "Test@1234"
+                }
+                """;
+
+        // when & then
+        mockMvc.perform(post("/api/v1/auth/email/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token.accessToken").value("access-token"));
+
+        verify(loginRateLimitService, never()).recordFailedAttempt(any(), any());
+        verify(securitySettingsService, never()).recordFailedAttemptForLock(any());
+    }
+
     @Test
     @DisplayName("POST /api/v1/auth/email/login - 로그인 실패 시 401")
     void loginFails() throws Exception {
@@ -246,6 +278,8 @@ class AuthControllerTest {
                         .content(requestBody))
                 .andExpect(status().isTooManyRequests())
                 .andExpect(header().string("Retry-After", "300"));
+
+        verify(loginRateLimitService).recordRejectedAttempt("test@email.com", "127.0.0.1");
     }
 
     @Test
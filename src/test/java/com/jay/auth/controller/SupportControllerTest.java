@@ -34,6 +34,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -104,6 +105,19 @@ class SupportControllerTest {
                     .andExpect(jsonPath("$.content[0].title").value("테스트 제목"))
                     .andExpect(jsonPath("$.content[0].authorNickname").value("작성자"));
         }
+
+        @Test
+        @DisplayName("GET /api/v1/support/posts/cursor - 0 이하 size는 1로 조회한다")
+        void getPostsByCursorClampsNonPositiveSize() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/support/posts/cursor").param("size", "0"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/support/posts/cursor").param("size", "-5"))
+                    .andExpect(status().isOk());
+
+            verify(supportPostService, times(2))
+                    .getPostsByCursor(eq(1L), eq(false), eq(null), eq(null), eq(null), eq(1), eq(false));
+        }
     }
 
     @Nested
@@ -0,0 +1,105 @@
+package com.jay.auth.repository;
+
+import com.jay.auth.config.JpaConfig;
+import com.jay.auth.domain.entity.User;
+import com.jay.auth.domain.entity.UserSignInInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+@DisplayName("UserSignInInfoRepository 테스트")
+class UserSignInInfoRepositoryTest {
+
+    @Autowired
+    private UserSignInInfoRepository userSignInInfoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .emailEnc("email-enc")
+                .emailLowerEnc("email-lower-enc")
+                .build();
+        UserSignInInfo.builder()
+                .user(user)
+                .loginEmailEnc("email-enc")
+                .loginEmailLowerEnc("email-lower-enc")
+                .passwordHash("hash")
+                .build();
+        entityManager.persistAndFlush(user);
+        entityManager.clear();
+        userId = user.getId();
+    }
+
+    @Test
+    @DisplayName("성공 상태가 먼저 반영된 뒤 그보다 오래된 실패 상태가 반영되면 무시해야 한다")
+    void ignoresStaleFailureAfterSuccess() {
+        // given
+        LocalDateTime failedAt = LocalDateTime.now().minusSeconds(10);
+        LocalDateTime succeededAt = failedAt.plusSeconds(5);
+        userSignInInfoRepository.updateFailureState(userId, 0, null, succeededAt);
+
+        // when
+        int updated = userSignInInfoRepository.updateFailureState(userId, 5, failedAt.plusMinutes(30), failedAt);
+
+        // then
+        assertThat(updated).isZero();
+        UserSignInInfo signInInfo = reload();
+        assertThat(signInInfo.getLoginFailCount()).isZero();
+        assertThat(signInInfo.isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잠금 해제 이전에 발생한 실패 상태가 뒤늦게 반영되어도 다시 잠그지 않아야 한다")
+    void ignoresStaleFailureAfterUnlock() {
+        // given
+        LocalDateTime failedAt = LocalDateTime.now().minusSeconds(10);
+        reload().unlock();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int updated = userSignInInfoRepository.updateFailureState(userId, 5, failedAt.plusMinutes(30), failedAt);
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(reload().isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("더 최근 실패 상태는 반영해야 한다")
+    void appliesNewerFailure() {
+        // given
+        LocalDateTime succeededAt = LocalDateTime.now().minusSeconds(10);
+        LocalDateTime failedAt = succeededAt.plusSeconds(5);
+        userSignInInfoRepository.updateFailureState(userId, 0, null, succeededAt);
+
+        // when
+        int updated = userSignInInfoRepository.updateFailureState(userId, 5, failedAt.plusMinutes(30), failedAt);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        UserSignInInfo signInInfo = reload();
+        assertThat(signInInfo.getLoginFailCount()).isEqualTo(5);
+        assertThat(signInInfo.isLocked()).isTrue();
+    }
+
+    private UserSignInInfo reload() {
+        entityManager.clear();
+        return userSignInInfoRepository.findByUserId(userId).orElseThrow();
+    }
+}
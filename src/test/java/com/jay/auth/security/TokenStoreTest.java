@@ -5,15 +5,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -39,10 +46,14 @@ class TokenStoreTest {
     @Mock
     private HashOperations<String, Object, Object> hashOperations;
 
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
     @BeforeEach
     void setUp() {
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
         given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
     }
 
     @Nested
@@ -68,6 +79,7 @@ class TokenStoreTest {
                     expirationMs,
                     TimeUnit.MILLISECONDS
             );
+            verify(zSetOperations).add(eq("session-index"), eq("1:token-id-1"), anyDouble());
         }
     }
 
@@ -145,6 +157,7 @@ class TokenStoreTest {
 
             // then
             verify(redisTemplate).delete("refresh:1:token-id-1");
+            verify(zSetOperations).remove("session-index", "1:token-id-1");
         }
     }
 
@@ -168,6 +181,7 @@ class TokenStoreTest {
             // then
             verify(redisTemplate).delete(tokenKeys);
             verify(redisTemplate).delete(sessionKeys);
+            verify(zSetOperations).remove(eq("session-index"), any(Object[].class));
         }
 
         @Test
@@ -185,6 +199,62 @@ class TokenStoreTest {
         }
     }
 
+    @Nested
+    @DisplayName("활성 세션 인덱스")
+    class SessionIndex {
+
+        @Test
+        @DisplayName("만료되지 않은 인덱스 멤버 수를 활성 세션 수로 반환해야 한다")
+        void shouldCountUnexpiredSessions() {
+            // given
+            given(zSetOperations.count(eq("session-index"), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                    .willReturn(3L);
+
+            // when & then
+            assertThat(tokenStore.countActiveSessions()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("재구성 시 TTL이 남은 refresh 키만 임시 인덱스에 담아 교체해야 한다")
+        @SuppressWarnings("unchecked")
+        void shouldRebuildIndexFromLiveRefreshKeys() {
+            // given
+            Cursor<String> cursor = org.mockito.Mockito.mock(Cursor.class);
+            given(cursor.hasNext()).willReturn(true, true, false);
+            given(cursor.next()).willReturn("refresh:1:t1", "refresh:2:t2");
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+            given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(60_000L, -2L));
+
+            // when
+            long rebuilt = tokenStore.rebuildSessionIndex();
+
+            // then
+            assertThat(rebuilt).isEqualTo(1L);
+            verify(zSetOperations).add(eq("session-index:rebuild"),
+                    argThat((Set<ZSetOperations.TypedTuple<Object>> tuples) -> tuples.size() == 1
+                            && "1:t1".equals(tuples.iterator().next().getValue())));
+            verify(redisTemplate).rename("session-index:rebuild", "session-index");
+        }
+
+        @Test
+        @DisplayName("살아있는 refresh 키가 없으면 인덱스를 비워야 한다")
+        @SuppressWarnings("unchecked")
+        void shouldClearIndexWhenNoRefreshKeys() {
+            // given
+            Cursor<String> cursor = org.mockito.Mockito.mock(Cursor.class);
+            given(cursor.hasNext()).willReturn(false);
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+            // when
+            long rebuilt = tokenStore.rebuildSessionIndex();
+
+            // then
+            assertThat(rebuilt).isZero();
+            verify(redisTemplate).delete("session-index");
+            verify(redisTemplate, never()).rename(anyString(), anyString());
+        }
+    }
+
     @Nested
     @DisplayName("Access Token 블랙리스트 등록")
     class AddToBlacklist {
@@ -292,6 +362,28 @@ class TokenStoreTest {
             assertThat(sessions.get(1).get("deviceType")).isEqualTo("Desktop");
         }
 
+        @Test
+        @DisplayName("epoch millis와 이전 ISO 형식의 마지막 활동 시간을 함께 읽어 ISO로 정렬해야 한다")
+        void shouldReadBothLastActivityFormats() {
+            // given
+            LocalDateTime recent = LocalDateTime.of(2025, 1, 15, 11, 0);
+            long recentMillis = recent.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            Set<String> keys = new LinkedHashSet<>(Arrays.asList("session:1:legacy", "session:1:compact"));
+            given(redisTemplate.keys("session:1:*")).willReturn(keys);
+            given(hashOperations.entries("session:1:legacy"))
+                    .willReturn(new HashMap<>(Map.of("lastActivity", "2025-01-15T10:30:00")));
+            given(hashOperations.entries("session:1:compact"))
+                    .willReturn(new HashMap<>(Map.of("lastActivity", String.valueOf(recentMillis))));
+
+            // when
+            List<Map<String, String>> sessions = tokenStore.getAllSessions(1L);
+
+            // then
+            assertThat(sessions).extracting(session -> session.get("sessionId")).containsExactly("compact", "legacy");
+            assertThat(sessions.get(0).get("lastActivity")).isEqualTo("2025-01-15T11:00:00");
+            assertThat(sessions.get(1).get("lastActivity")).isEqualTo("2025-01-15T10:30:00");
+        }
+
         @Test
         @DisplayName("세션이 없으면 빈 리스트를 반환해야 한다")
         void shouldReturnEmptyListWhenNoSessions() {
@@ -345,6 +437,25 @@ class TokenStoreTest {
             verify(hashOperations).putAll(eq("session:1:token-id-1"), anyMap());
             verify(redisTemplate).expire("session:1:token-id-1", expirationMs, TimeUnit.MILLISECONDS);
         }
+
+        @Test
+        @DisplayName("마지막 활동 시간은 epoch millis 문자열로 저장해야 한다")
+        @SuppressWarnings("unchecked")
+        void shouldStoreLastActivityAsEpochMillis() {
+            // given
+            long before = System.currentTimeMillis();
+            TokenStore.SessionInfo sessionInfo = new TokenStore.SessionInfo(
+                    "Desktop", "Chrome", "Windows", "127.0.0.1", "Seoul");
+
+            // when
+            tokenStore.saveRefreshTokenWithSession(1L, "token-id-1", "refresh-token", 1209600000L, sessionInfo);
+
+            // then
+            ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(hashOperations).putAll(eq("session:1:token-id-1"), captor.capture());
+            long stored = Long.parseLong(captor.getValue().get("lastActivity"));
+            assertThat(stored).isBetween(before, System.currentTimeMillis());
+        }
     }
 
     @Nested
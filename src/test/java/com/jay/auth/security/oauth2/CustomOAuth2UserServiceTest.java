@@ -1,14 +1,11 @@
 package com.jay.auth.security.oauth2;
 
-import com.jay.auth.controller.OAuth2LinkController;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.ChannelCode;
 import com.jay.auth.domain.enums.UserRole;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.exception.AccountLinkingException;
-import com.jay.auth.service.OAuth2LinkStateService;
 import com.jay.auth.service.OAuth2UserService;
-import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -53,7 +50,10 @@ class CustomOAuth2UserServiceTest {
     private OAuth2UserService oAuth2UserService;
 
     @Mock
-    private OAuth2LinkStateService oAuth2LinkStateService;
+    private RedisOAuth2AuthorizationRequestRepository authorizationRequestRepository;
+
+    @Mock
+    private OAuth2ProviderHttpClient providerHttpClient;
 
     private MockHttpServletRequest mockRequest;
 
@@ -182,9 +182,7 @@ class CustomOAuth2UserServiceTest {
             attributes.put("properties", Map.of("nickname", "TestUser"));
             attributes.put("kakao_account", Map.of("email", "test@kakao.com"));
 
-            // Set link state cookie
-            mockRequest.setCookies(new Cookie(OAuth2LinkController.LINK_STATE_COOKIE_NAME, "link-state-abc"));
-            given(oAuth2LinkStateService.getLinkUserId("link-state-abc")).willReturn(10L);
+            given(authorizationRequestRepository.getLinkUserId(mockRequest)).willReturn(10L);
 
             User mockUser = createMockUser(10L, "uuid-linked", UserStatus.ACTIVE, UserRole.USER);
             given(oAuth2UserService.processOAuth2UserForLinking(eq(10L), eq(ChannelCode.KAKAO), any(OAuth2UserInfo.class)))
@@ -217,8 +215,7 @@ class CustomOAuth2UserServiceTest {
             attributes.put("properties", Map.of("nickname", "TestUser"));
             attributes.put("kakao_account", Map.of("email", "test@kakao.com"));
 
-            mockRequest.setCookies(new Cookie(OAuth2LinkController.LINK_STATE_COOKIE_NAME, "link-state-dup"));
-            given(oAuth2LinkStateService.getLinkUserId("link-state-dup")).willReturn(20L);
+            given(authorizationRequestRepository.getLinkUserId(mockRequest)).willReturn(20L);
             given(oAuth2UserService.processOAuth2UserForLinking(eq(20L), eq(ChannelCode.KAKAO), any(OAuth2UserInfo.class)))
                     .willThrow(AccountLinkingException.alreadyLinkedToAnotherUser());
 
@@ -261,7 +258,7 @@ class CustomOAuth2UserServiceTest {
      * 테스트용 서브클래스를 생성하여 super.loadUser()를 오버라이드합니다.
      */
     private CustomOAuth2UserService createTestableService(Map<String, Object> attributes) {
-        return new CustomOAuth2UserService(oAuth2UserService, oAuth2LinkStateService) {
+        return new CustomOAuth2UserService(oAuth2UserService, authorizationRequestRepository, providerHttpClient) {
             @Override
             public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
                 // super.loadUser()를 호출하는 대신 직접 DefaultOAuth2User를 생성
@@ -290,8 +287,7 @@ class CustomOAuth2UserServiceTest {
                         registrationId, defaultUser.getAttributes());
                 ChannelCode channelCode = OAuth2UserInfoFactory.getChannelCode(registrationId);
 
-                String linkState = getLinkStateFromCookie();
-                Long linkUserId = linkState != null ? oAuth2LinkStateService.getLinkUserId(linkState) : null;
+                Long linkUserId = authorizationRequestRepository.getLinkUserId(mockRequest);
                 boolean isLinkMode = linkUserId != null;
 
                 User user;
@@ -326,25 +322,6 @@ class CustomOAuth2UserServiceTest {
                         user.getDeletionRequestedAt()
                 );
             }
-
-            private String getLinkStateFromCookie() {
-                try {
-                    org.springframework.web.context.request.ServletRequestAttributes attrs =
-                            (org.springframework.web.context.request.ServletRequestAttributes)
-                                    RequestContextHolder.getRequestAttributes();
-                    if (attrs == null) return null;
-                    jakarta.servlet.http.HttpServletRequest request = attrs.getRequest();
-                    Cookie[] cookies = request.getCookies();
-                    if (cookies == null) return null;
-                    return java.util.Arrays.stream(cookies)
-                            .filter(c -> OAuth2LinkController.LINK_STATE_COOKIE_NAME.equals(c.getName()))
-                            .map(Cookie::getValue)
-                            .findFirst()
-                            .orElse(null);
-                } catch (Exception e) {
-                    return null;
-                }
-            }
         };
     }
 }
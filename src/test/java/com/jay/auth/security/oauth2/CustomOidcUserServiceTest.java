@@ -1,14 +1,11 @@
 package com.jay.auth.security.oauth2;
 
-import com.jay.auth.controller.OAuth2LinkController;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.ChannelCode;
 import com.jay.auth.domain.enums.UserRole;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.exception.AccountLinkingException;
-import com.jay.auth.service.OAuth2LinkStateService;
 import com.jay.auth.service.OAuth2UserService;
-import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -49,7 +46,10 @@ class CustomOidcUserServiceTest {
     private OAuth2UserService oAuth2UserService;
 
     @Mock
-    private OAuth2LinkStateService oAuth2LinkStateService;
+    private RedisOAuth2AuthorizationRequestRepository authorizationRequestRepository;
+
+    @Mock
+    private OAuth2ProviderHttpClient providerHttpClient;
 
     private MockHttpServletRequest mockRequest;
 
@@ -112,7 +112,7 @@ class CustomOidcUserServiceTest {
      * 테스트용 서브클래스를 생성하여 super.loadUser()를 오버라이드합니다.
      */
     private CustomOidcUserService createTestableService(Map<String, Object> attributes, OidcIdToken idToken) {
-        return new CustomOidcUserService(oAuth2UserService, oAuth2LinkStateService) {
+        return new CustomOidcUserService(oAuth2UserService, authorizationRequestRepository, providerHttpClient) {
             @Override
             public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
                 String registrationId = userRequest.getClientRegistration().getRegistrationId();
@@ -127,8 +127,7 @@ class CustomOidcUserServiceTest {
                 OAuth2UserInfo oAuth2UserInfo = OAuth2UserInfoFactory.getOAuth2UserInfo(registrationId, mergedAttributes);
                 ChannelCode channelCode = OAuth2UserInfoFactory.getChannelCode(registrationId);
 
-                String linkState = getLinkStateFromCookie();
-                Long linkUserId = linkState != null ? oAuth2LinkStateService.getLinkUserId(linkState) : null;
+                Long linkUserId = authorizationRequestRepository.getLinkUserId(mockRequest);
                 boolean isLinkMode = linkUserId != null;
 
                 User user;
@@ -165,25 +164,6 @@ class CustomOidcUserServiceTest {
                         user.getDeletionRequestedAt()
                 );
             }
-
-            private String getLinkStateFromCookie() {
-                try {
-                    org.springframework.web.context.request.ServletRequestAttributes attrs =
-                            (org.springframework.web.context.request.ServletRequestAttributes)
-                                    RequestContextHolder.getRequestAttributes();
-                    if (attrs == null) return null;
-                    jakarta.servlet.http.HttpServletRequest request = attrs.getRequest();
-                    Cookie[] cookies = request.getCookies();
-                    if (cookies == null) return null;
-                    return java.util.Arrays.stream(cookies)
-                            .filter(c -> OAuth2LinkController.LINK_STATE_COOKIE_NAME.equals(c.getName()))
-                            .map(Cookie::getValue)
-                            .findFirst()
-                            .orElse(null);
-                } catch (Exception e) {
-                    return null;
-                }
-            }
         };
     }
 
@@ -264,8 +244,7 @@ class CustomOidcUserServiceTest {
             attributes.put("name", "Link User");
             attributes.put("email", "link@example.com");
 
-            mockRequest.setCookies(new Cookie(OAuth2LinkController.LINK_STATE_COOKIE_NAME, "oidc-link-state"));
-            given(oAuth2LinkStateService.getLinkUserId("oidc-link-state")).willReturn(10L);
+            given(authorizationRequestRepository.getLinkUserId(mockRequest)).willReturn(10L);
 
             User mockUser = createMockUser(10L, "uuid-linked", UserStatus.ACTIVE, UserRole.USER);
             given(oAuth2UserService.processOAuth2UserForLinking(eq(10L), eq(ChannelCode.GOOGLE), any(OAuth2UserInfo.class)))
@@ -293,8 +272,7 @@ class CustomOidcUserServiceTest {
             attributes.put("sub", "google-oidc-dup");
             attributes.put("name", "Dup User");
 
-            mockRequest.setCookies(new Cookie(OAuth2LinkController.LINK_STATE_COOKIE_NAME, "oidc-dup-state"));
-            given(oAuth2LinkStateService.getLinkUserId("oidc-dup-state")).willReturn(20L);
+            given(authorizationRequestRepository.getLinkUserId(mockRequest)).willReturn(20L);
             given(oAuth2UserService.processOAuth2UserForLinking(eq(20L), eq(ChannelCode.GOOGLE), any(OAuth2UserInfo.class)))
                     .willThrow(AccountLinkingException.alreadyLinkedToAnotherUser());
 
@@ -332,18 +310,18 @@ class CustomOidcUserServiceTest {
     }
 
     @Nested
-    @DisplayName("쿠키가 없는 경우")
-    class NoCookies {
+    @DisplayName("연동 정보가 없는 경우")
+    class NoLinkUser {
 
         @Test
-        @DisplayName("쿠키가 없으면 일반 로그인 모드로 처리되어야 한다")
-        void shouldTreatAsNormalLoginWhenNoCookies() {
+        @DisplayName("인가 요청에 연동 대상이 없으면 일반 로그인 모드로 처리되어야 한다")
+        void shouldTreatAsNormalLoginWhenNoLinkUser() {
             // given
             OidcUserRequest userRequest = createOidcUserRequest();
 
             Map<String, Object> attributes = new HashMap<>();
             attributes.put("sub", "google-no-cookie");
-            attributes.put("name", "No Cookie User");
+            attributes.put("name", "No Link User");
             attributes.put("email", "nocookie@example.com");
 
             User mockUser = createMockUser(5L, "uuid-nocookie", UserStatus.ACTIVE, UserRole.USER);
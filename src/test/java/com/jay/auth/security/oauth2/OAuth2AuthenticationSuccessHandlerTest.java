@@ -5,7 +5,6 @@ import com.jay.auth.domain.enums.ChannelCode;
 import com.jay.auth.dto.response.TokenResponse;
 import com.jay.auth.security.TokenStore;
 import com.jay.auth.service.LoginHistoryService;
-import com.jay.auth.service.OAuth2LinkStateService;
 import com.jay.auth.service.SecurityNotificationService;
 import com.jay.auth.service.TokenService;
 import com.jay.auth.service.metrics.AuthMetrics;
@@ -44,9 +43,6 @@ class OAuth2AuthenticationSuccessHandlerTest {
     @Mock
     private TokenService tokenService;
 
-    @Mock
-    private OAuth2LinkStateService oAuth2LinkStateService;
-
     @Mock
     private LoginHistoryService loginHistoryService;
 
@@ -108,7 +104,6 @@ class OAuth2AuthenticationSuccessHandlerTest {
 
             verify(loginHistoryService).recordLoginSuccess(eq(1L), eq(ChannelCode.KAKAO), eq(request));
             verify(securityNotificationService).notifyNewDeviceLogin(eq(1L), any());
-            verify(oAuth2LinkStateService).removeLinkState(any());
         }
 
         @Test
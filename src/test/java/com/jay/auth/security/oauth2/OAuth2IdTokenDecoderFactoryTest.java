@@ -0,0 +1,170 @@
+package com.jay.auth.security.oauth2;
+
+import com.jay.auth.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OAuth2IdTokenDecoderFactory 테스트")
+class OAuth2IdTokenDecoderFactoryTest {
+
+    private static final long MIN_REFETCH_MILLIS = 30_000;
+
+    private StubOAuth2Provider provider;
+    private ClientRegistration registration;
+    private AtomicLong now;
+    private OAuth2IdTokenDecoderFactory factory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        provider = new StubOAuth2Provider();
+        registration = provider.clientRegistration("stub");
+        now = new AtomicLong(1_760_000_000_000L);
+        OAuth2ProviderHttpClient httpClient = new OAuth2ProviderHttpClient(
+                List.of(registration), new AppProperties.OAuth2(), new SimpleMeterRegistry());
+        factory = new OAuth2IdTokenDecoderFactory(httpClient.jwkSetRestOperations(), MIN_REFETCH_MILLIS, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.close();
+    }
+
+    @Test
+    @DisplayName("JWK Set을 한 번만 받아 두고 이후 id_token은 캐시된 키로 검증한다")
+    void cachesJwkSet() {
+        // given
+        JwtDecoder decoder = factory.createDecoder(registration);
+
+        // when
+        Jwt first = decoder.decode(provider.issueIdToken());
+        Jwt second = decoder.decode(provider.issueIdToken());
+
+        // then
+        assertThat(first.getSubject()).isEqualTo(StubOAuth2Provider.SUBJECT);
+        assertThat(second.getSubject()).isEqualTo(StubOAuth2Provider.SUBJECT);
+        assertThat(provider.hits("/jwks")).isEqualTo(1);
+        assertThat(factory.createDecoder(registration)).isSameAs(decoder);
+    }
+
+    @Test
+    @DisplayName("jwk-set-uri가 없으면 OAuth2AuthenticationException을 던진다")
+    void missingJwkSetUri() {
+        // given
+        ClientRegistration withoutJwks = ClientRegistration.withRegistrationId("naver")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost/login/oauth2/code/naver")
+                .authorizationUri(provider.baseUrl() + "/authorize")
+                .tokenUri(provider.baseUrl() + "/token")
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> factory.createDecoder(withoutJwks))
+                .isInstanceOf(OAuth2AuthenticationException.class)
+                .hasMessageContaining("missing_signature_verifier");
+    }
+
+    @Nested
+    @DisplayName("키 교체")
+    class KeyRotation {
+
+        @Test
+        @DisplayName("모르는 kid가 오면 최소 간격이 지난 뒤 JWK Set을 다시 받아온다")
+        void refetchesOnUnknownKid() {
+            // given
+            JwtDecoder decoder = factory.createDecoder(registration);
+            decoder.decode(provider.issueIdToken());
+            provider.rotateKey("key-2");
+            now.addAndGet(MIN_REFETCH_MILLIS);
+
+            // when
+            Jwt jwt = decoder.decode(provider.issueIdToken());
+
+            // then
+            assertThat(jwt.getSubject()).isEqualTo(StubOAuth2Provider.SUBJECT);
+            assertThat(provider.hits("/jwks")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최소 간격 안에서는 모르는 kid로 JWK Set을 다시 받지 않는다")
+        void doesNotRefetchWithinMinInterval() {
+            // given
+            JwtDecoder decoder = factory.createDecoder(registration);
+            decoder.decode(provider.issueIdToken());
+            provider.rotateKey("key-2");
+            String rotated = provider.issueIdToken();
+
+            // when & then
+            assertThatThrownBy(() -> decoder.decode(rotated)).isInstanceOf(JwtException.class);
+            assertThat(provider.hits("/jwks")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("백그라운드 갱신 (refreshAll)")
+    class RefreshAll {
+
+        @Test
+        @DisplayName("조회했던 JWK Set을 다시 받아 교체된 키를 요청 경로 밖에서 반영한다")
+        void refreshesLoadedSets() {
+            // given
+            JwtDecoder decoder = factory.createDecoder(registration);
+            decoder.decode(provider.issueIdToken());
+            provider.rotateKey("key-2");
+
+            // when
+            factory.refreshAll();
+
+            // then
+            assertThat(provider.hits("/jwks")).isEqualTo(2);
+            assertThat(decoder.decode(provider.issueIdToken()).getSubject()).isEqualTo(StubOAuth2Provider.SUBJECT);
+            assertThat(provider.hits("/jwks")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("갱신에 실패해도 기존 키로 계속 검증한다")
+        void keepsCachedKeysOnFailure() {
+            // given
+            JwtDecoder decoder = factory.createDecoder(registration);
+            decoder.decode(provider.issueIdToken());
+            provider.failJwks(true);
+
+            // when
+            factory.refreshAll();
+
+            // then
+            assertThat(decoder.decode(provider.issueIdToken()).getSubject()).isEqualTo(StubOAuth2Provider.SUBJECT);
+        }
+
+        @Test
+        @DisplayName("디코더만 만들어진 제공자의 JWK Set도 미리 받아 둔다")
+        void prefetchesCreatedDecoders() {
+            // given
+            JwtDecoder decoder = factory.createDecoder(registration);
+
+            // when
+            factory.refreshAll();
+            decoder.decode(provider.issueIdToken());
+
+            // then
+            assertThat(provider.hits("/jwks")).isEqualTo(1);
+        }
+    }
+}
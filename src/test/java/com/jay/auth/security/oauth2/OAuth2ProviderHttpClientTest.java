@@ -0,0 +1,156 @@
+package com.jay.auth.security.oauth2;
+
+import com.jay.auth.config.AppProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OAuth2ProviderHttpClient 테스트")
+class OAuth2ProviderHttpClientTest {
+
+    private StubOAuth2Provider provider;
+    private ClientRegistration registration;
+    private AppProperties.OAuth2 settings;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        provider = new StubOAuth2Provider();
+        registration = provider.clientRegistration("stub");
+        settings = new AppProperties.OAuth2();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.close();
+    }
+
+    private OAuth2ProviderHttpClient createClient() {
+        return new OAuth2ProviderHttpClient(List.of(registration), settings, registry);
+    }
+
+    private Timer timer(String endpoint, String status) {
+        return registry.get(OAuth2ProviderHttpClient.METRIC_NAME)
+                .tag("provider", "stub")
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("인가 코드로 토큰을 교환하고 token 엔드포인트 지연 시간을 기록한다")
+    void exchangesAuthorizationCode() {
+        // given
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(registration.getProviderDetails().getAuthorizationUri())
+                .clientId(StubOAuth2Provider.CLIENT_ID)
+                .redirectUri(registration.getRedirectUri())
+                .state("state")
+                .build();
+        OAuth2AuthorizationResponse authorizationResponse = OAuth2AuthorizationResponse.success("code")
+                .redirectUri(registration.getRedirectUri())
+                .state("state")
+                .build();
+        OAuth2AuthorizationCodeGrantRequest grantRequest = new OAuth2AuthorizationCodeGrantRequest(
+                registration, new OAuth2AuthorizationExchange(authorizationRequest, authorizationResponse));
+
+        // when
+        OAuth2AccessTokenResponse response = createClient().authorizationCodeTokenResponseClient()
+                .getTokenResponse(grantRequest);
+
+        // then
+        assertThat(response.getAccessToken().getTokenValue()).isEqualTo("stub-access-token");
+        assertThat(response.getAdditionalParameters()).containsKey("id_token");
+        assertThat(timer("token", "200").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UserInfo를 조회하고 userinfo 엔드포인트 지연 시간을 기록한다")
+    void loadsUserInfo() {
+        // given
+        DefaultOAuth2UserService userService = new DefaultOAuth2UserService();
+        userService.setRestOperations(createClient().userInfoRestOperations());
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
+                "stub-access-token", Instant.now(), Instant.now().plusSeconds(3600));
+
+        // when
+        OAuth2User user = userService.loadUser(new OAuth2UserRequest(registration, accessToken));
+
+        // then
+        assertThat(user.getName()).isEqualTo(StubOAuth2Provider.SUBJECT);
+        assertThat(timer("userinfo", "200").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결을 재사용해도 호출마다 지연 시간이 기록된다")
+    void recordsEveryCallOnReusedConnection() {
+        // given
+        var restOperations = createClient().jwkSetRestOperations();
+        URI jwkSetUri = URI.create(registration.getProviderDetails().getJwkSetUri());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            restOperations.getForObject(jwkSetUri, String.class);
+        }
+
+        // then
+        assertThat(provider.hits("/jwks")).isEqualTo(3);
+        assertThat(timer("jwks", "200").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("제공자별 읽기 타임아웃을 넘기면 실패하고 IO_ERROR로 기록한다")
+    void appliesPerProviderReadTimeout() {
+        // given
+        AppProperties.OAuth2.Timeouts timeouts = new AppProperties.OAuth2.Timeouts();
+        timeouts.setReadTimeoutMillis(200);
+        settings.getTimeouts().put("stub", timeouts);
+        provider.delay("/jwks", 1_000);
+        var restOperations = createClient().jwkSetRestOperations();
+
+        // when & then
+        assertThatThrownBy(() -> restOperations.getForObject(
+                URI.create(registration.getProviderDetails().getJwkSetUri()), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(timer("jwks", "IO_ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 호스트 호출은 unknown 태그로 기록한다")
+    void unknownHostIsTaggedUnknown() {
+        // given
+        var restOperations = new OAuth2ProviderHttpClient(List.of(), settings, registry).jwkSetRestOperations();
+
+        // when
+        restOperations.getForObject(URI.create(provider.baseUrl() + "/userinfo"), String.class);
+
+        // then
+        assertThat(registry.get(OAuth2ProviderHttpClient.METRIC_NAME)
+                .tag("provider", OAuth2ProviderHttpClient.UNKNOWN)
+                .tag("endpoint", OAuth2ProviderHttpClient.UNKNOWN)
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,228 @@
+package com.jay.auth.security.oauth2;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisOAuth2AuthorizationRequestRepository 테스트")
+class RedisOAuth2AuthorizationRequestRepositoryTest {
+
+    private static final String STATE = "state-1234";
+    private static final String KEY = "oauth2:authz:" + STATE;
+
+    @InjectMocks
+    private RedisOAuth2AuthorizationRequestRepository repository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    private OAuth2AuthorizationRequest createAuthorizationRequest(Long linkUserId) {
+        OAuth2AuthorizationRequest.Builder builder = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://provider.example.com/authorize")
+                .clientId("client-id")
+                .redirectUri("http://localhost/login/oauth2/code/google")
+                .scope("openid", "profile")
+                .state(STATE)
+                .attributes(attributes -> attributes.put("registration_id", "google"));
+        if (linkUserId != null) {
+            builder.attributes(attributes -> attributes.put(
+                    RedisOAuth2AuthorizationRequestRepository.LINK_USER_ID_ATTRIBUTE, linkUserId.toString()));
+        }
+        return builder.build();
+    }
+
+    private String saveAndCaptureJson(OAuth2AuthorizationRequest authorizationRequest) {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        repository.saveAuthorizationRequest(authorizationRequest, request, response);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        then(valueOperations).should().set(eq(KEY), json.capture(), eq(Duration.ofMinutes(10)));
+        return json.getValue();
+    }
+
+    private void callback(String state, String cookieState) {
+        request = new MockHttpServletRequest();
+        request.setParameter("state", state);
+        if (cookieState != null) {
+            request.setCookies(new Cookie(RedisOAuth2AuthorizationRequestRepository.STATE_COOKIE_NAME, cookieState));
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Nested
+    @DisplayName("인가 요청 저장")
+    class Save {
+
+        @Test
+        @DisplayName("state 키로 Redis에 저장하고 state 쿠키를 내려준다")
+        void shouldStoreInRedisAndSetStateCookie() {
+            // when
+            saveAndCaptureJson(createAuthorizationRequest(null));
+
+            // then
+            Cookie cookie = response.getCookie(RedisOAuth2AuthorizationRequestRepository.STATE_COOKIE_NAME);
+            assertThat(cookie).isNotNull();
+            assertThat(cookie.getValue()).isEqualTo(STATE);
+            assertThat(cookie.isHttpOnly()).isTrue();
+            assertThat(cookie.getMaxAge()).isEqualTo(600);
+            assertThat(cookie.getAttribute("SameSite")).isEqualTo("Lax");
+            assertThat(request.getSession(false)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("인가 요청 조회")
+    class Load {
+
+        @Test
+        @DisplayName("state 쿠키와 콜백 state가 같으면 저장된 인가 요청을 복원한다")
+        void shouldLoadWhenCookieMatches() {
+            // given
+            OAuth2AuthorizationRequest saved = createAuthorizationRequest(null);
+            String json = saveAndCaptureJson(saved);
+            callback(STATE, STATE);
+            given(valueOperations.get(KEY)).willReturn(json);
+
+            // when
+            OAuth2AuthorizationRequest loaded = repository.loadAuthorizationRequest(request);
+
+            // then
+            assertThat(loaded).isNotNull();
+            assertThat(loaded.getState()).isEqualTo(STATE);
+            assertThat(loaded.getClientId()).isEqualTo(saved.getClientId());
+            assertThat(loaded.getRedirectUri()).isEqualTo(saved.getRedirectUri());
+            assertThat(loaded.getScopes()).containsExactlyInAnyOrder("openid", "profile");
+            assertThat(loaded.getAuthorizationRequestUri()).isEqualTo(saved.getAuthorizationRequestUri());
+        }
+
+        @Test
+        @DisplayName("state 쿠키가 다르면 Redis를 조회하지 않고 null을 반환한다")
+        void shouldReturnNullWhenCookieMismatch() {
+            // given
+            callback(STATE, "other-state");
+
+            // when
+            OAuth2AuthorizationRequest loaded = repository.loadAuthorizationRequest(request);
+
+            // then
+            assertThat(loaded).isNull();
+            then(stringRedisTemplate).should(never()).opsForValue();
+        }
+
+        @Test
+        @DisplayName("state 쿠키가 없으면 null을 반환한다")
+        void shouldReturnNullWithoutCookie() {
+            // given
+            callback(STATE, null);
+
+            // when & then
+            assertThat(repository.loadAuthorizationRequest(request)).isNull();
+            then(stringRedisTemplate).should(never()).opsForValue();
+        }
+    }
+
+    @Nested
+    @DisplayName("인가 요청 제거")
+    class Remove {
+
+        @Test
+        @DisplayName("GETDEL로 한 번만 꺼내고 state 쿠키를 만료시킨다")
+        void shouldConsumeOnceAndExpireCookie() {
+            // given
+            String json = saveAndCaptureJson(createAuthorizationRequest(null));
+            callback(STATE, STATE);
+            given(valueOperations.getAndDelete(KEY)).willReturn(json);
+
+            // when
+            OAuth2AuthorizationRequest removed = repository.removeAuthorizationRequest(request, response);
+
+            // then
+            assertThat(removed).isNotNull();
+            assertThat(removed.getState()).isEqualTo(STATE);
+            Cookie cookie = response.getCookie(RedisOAuth2AuthorizationRequestRepository.STATE_COOKIE_NAME);
+            assertThat(cookie).isNotNull();
+            assertThat(cookie.getMaxAge()).isZero();
+        }
+
+        @Test
+        @DisplayName("이미 사용된 state면 null을 반환한다")
+        void shouldReturnNullWhenAlreadyConsumed() {
+            // given
+            callback(STATE, STATE);
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.getAndDelete(anyString())).willReturn(null);
+
+            // when & then
+            assertThat(repository.removeAuthorizationRequest(request, response)).isNull();
+            assertThat(repository.getLinkUserId(request)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("연동 대상 사용자 조회")
+    class GetLinkUserId {
+
+        @Test
+        @DisplayName("연동으로 시작된 인가 요청이면 꺼낸 뒤 연동 대상 사용자 ID를 반환한다")
+        void shouldReturnLinkUserIdAfterRemove() {
+            // given
+            String json = saveAndCaptureJson(createAuthorizationRequest(10L));
+            callback(STATE, STATE);
+            given(valueOperations.getAndDelete(KEY)).willReturn(json);
+            repository.removeAuthorizationRequest(request, response);
+
+            // when
+            Long linkUserId = repository.getLinkUserId(request);
+
+            // then
+            assertThat(linkUserId).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("일반 로그인이면 null을 반환한다")
+        void shouldReturnNullForNormalLogin() {
+            // given
+            String json = saveAndCaptureJson(createAuthorizationRequest(null));
+            callback(STATE, STATE);
+            given(valueOperations.getAndDelete(KEY)).willReturn(json);
+            repository.removeAuthorizationRequest(request, response);
+
+            // when & then
+            assertThat(repository.getLinkUserId(request)).isNull();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.jay.auth.security.oauth2;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 테스트용 로컬 OAuth2/OIDC 제공자
+ * - /token, /userinfo, /jwks 를 루프백 주소에서 응답하고 경로별 호출 횟수를 센다
+ * - 서명 키 교체, 경로별 응답 지연, JWKS 장애를 흉내 낼 수 있다
+ */
+class StubOAuth2Provider implements AutoCloseable {
+
+    static final String CLIENT_ID = "stub-client";
+    static final String SUBJECT = "stub-user";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final Map<String, Long> delays = new ConcurrentHashMap<>();
+    private volatile RSAKey signingKey;
+    private volatile boolean jwksFailing;
+
+    StubOAuth2Provider() throws IOException {
+        signingKey = generateKey("key-1");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        route("/token", () -> "{\"access_token\":\"stub-access-token\",\"token_type\":\"Bearer\","
+                + "\"expires_in\":3600,\"scope\":\"openid profile\",\"id_token\":\"" + issueIdToken() + "\"}");
+        route("/userinfo", () -> "{\"sub\":\"" + SUBJECT + "\",\"name\":\"Stub User\",\"email\":\"stub@example.com\"}");
+        route("/jwks", () -> new JWKSet(signingKey.toPublicJWK()).toString());
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    ClientRegistration clientRegistration(String registrationId) {
+        return ClientRegistration.withRegistrationId(registrationId)
+                .clientId(CLIENT_ID)
+                .clientSecret("stub-secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost/login/oauth2/code/" + registrationId)
+                .scope("openid", "profile")
+                .authorizationUri(baseUrl() + "/authorize")
+                .tokenUri(baseUrl() + "/token")
+                .userInfoUri(baseUrl() + "/userinfo")
+                .userNameAttributeName("sub")
+                .jwkSetUri(baseUrl() + "/jwks")
+                .issuerUri(baseUrl())
+                .build();
+    }
+
+    /**
+     * 현재 서명 키로 서명한 id_token (5분 유효)
+     */
+    String issueIdToken() {
+        long now = System.currentTimeMillis();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(baseUrl())
+                .subject(SUBJECT)
+                .audience(CLIENT_ID)
+                .issueTime(new Date(now))
+                .expirationTime(new Date(now + 300_000))
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        try {
+            jwt.sign(new RSASSASigner(signingKey));
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return jwt.serialize();
+    }
+
+    /**
+     * 서명 키 교체 (이후 JWKS는 새 키만 내려준다)
+     */
+    void rotateKey(String keyId) {
+        signingKey = generateKey(keyId);
+    }
+
+    void delay(String path, long millis) {
+        delays.put(path, millis);
+    }
+
+    void failJwks(boolean failing) {
+        this.jwksFailing = failing;
+    }
+
+    int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count != null ? count.get() : 0;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void route(String path, Supplier<String> body) {
+        server.createContext(path, exchange -> {
+            hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delays.getOrDefault(path, 0L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if ("/jwks".equals(path) && jwksFailing) {
+                respond(exchange, 503, "{\"error\":\"unavailable\"}");
+            } else {
+                respond(exchange, 200, body.get());
+            }
+        });
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static RSAKey generateKey(String keyId) {
+        try {
+            return new RSAKeyGenerator(2048).keyID(keyId).generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -43,6 +43,9 @@ class AccountCleanupSchedulerTest {
     @Mock
     private UserTwoFactorRepository userTwoFactorRepository;
 
+    @Mock
+    private com.jay.auth.repository.UserBackupCodeRepository userBackupCodeRepository;
+
     @Mock
     private PasswordHistoryRepository passwordHistoryRepository;
 
@@ -55,6 +58,15 @@ class AccountCleanupSchedulerTest {
     @Mock
     private SecurityNotificationService securityNotificationService;
 
+    @Mock
+    private com.jay.auth.service.risk.LoginRiskStateStore loginRiskStateStore;
+
+    @Mock
+    private com.jay.auth.service.posture.SecurityPostureStore securityPostureStore;
+
+    @Mock
+    private com.jay.auth.config.UserCacheGenerations userCacheGenerations;
+
     @Nested
     @DisplayName("만료된 탈퇴 예정 계정 정리")
     class CleanupExpiredDeletions {
@@ -74,9 +86,11 @@ class AccountCleanupSchedulerTest {
 
             // then
             verify(userTwoFactorRepository).deleteByUserId(1L);
+            verify(userBackupCodeRepository).deleteByUserId(1L);
             verify(passwordHistoryRepository).deleteByUserId(1L);
             verify(loginHistoryRepository).deleteByUserId(1L);
             assertThat(expiredUser.getStatus()).isEqualTo(UserStatus.DELETED);
+            verify(userCacheGenerations).bump(1L);
             assertThat(expiredUser.getEmailEnc()).isNull();
             assertThat(expiredUser.getNicknameEnc()).isNull();
             assertThat(expiredUser.getPhoneEnc()).isNull();
@@ -158,6 +172,7 @@ class AccountCleanupSchedulerTest {
 
             // then
             assertThat(dormantCandidate.getStatus()).isEqualTo(UserStatus.DORMANT);
+            verify(userCacheGenerations).bump(1L);
         }
 
         @Test
@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserChannel;
 import com.jay.auth.domain.enums.ChannelCode;
@@ -9,6 +10,7 @@ import com.jay.auth.exception.UserNotFoundException;
 import com.jay.auth.repository.UserChannelRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import com.jay.auth.util.PasswordUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,8 +19,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -52,9 +52,9 @@ class AccountLinkingServiceTest {
     @Mock
     private SecurityNotificationService securityNotificationService;
     @Mock
-    private CacheManager cacheManager;
+    private UserCacheGenerations userCacheGenerations;
     @Mock
-    private Cache cache;
+    private SecurityPostureStore securityPostureStore;
 
     @Nested
     @DisplayName("소셜 계정 연동")
@@ -77,8 +77,6 @@ class AccountLinkingServiceTest {
                     .willReturn(Collections.emptyList());
             given(encryptionService.encryptEmail(email))
                     .willReturn(new EncryptionService.EncryptedEmail("enc", "enc_lower"));
-            given(cacheManager.getCache("userProfile")).willReturn(cache);
-            given(cacheManager.getCache("securityDashboard")).willReturn(cache);
 
             // when
             accountLinkingService.linkSocialAccount(userId, channelCode, channelKey, email);
@@ -86,6 +84,8 @@ class AccountLinkingServiceTest {
             // then
             verify(userChannelRepository).save(any(UserChannel.class));
             verify(securityNotificationService).notifyAccountLinked(userId, channelCode);
+            verify(securityPostureStore).adjustSocialLinkCount(userId, 1);
+            verify(userCacheGenerations).bump(userId);
         }
 
         @Test
@@ -325,14 +325,14 @@ class AccountLinkingServiceTest {
             setField(user, "channels", channels);
 
             given(userRepository.findByIdWithChannels(userId)).willReturn(Optional.of(user));
-            given(cacheManager.getCache("userProfile")).willReturn(cache);
-            given(cacheManager.getCache("securityDashboard")).willReturn(cache);
 
             // when
             accountLinkingService.unlinkChannel(userId, ChannelCode.GOOGLE);
 
             // then
             verify(securityNotificationService).notifyAccountUnlinked(userId, ChannelCode.GOOGLE);
+            verify(securityPostureStore).adjustSocialLinkCount(userId, -1);
+            verify(userCacheGenerations).bump(userId);
         }
 
         @Test
@@ -446,8 +446,6 @@ class AccountLinkingServiceTest {
                     .willReturn(Optional.empty());
             given(userChannelRepository.findByUserIdAndChannelCode(userId, channelCode))
                     .willReturn(Collections.emptyList());
-            given(cacheManager.getCache("userProfile")).willReturn(cache);
-            given(cacheManager.getCache("securityDashboard")).willReturn(cache);
 
             // when
             accountLinkingService.linkSocialAccount(userId, channelCode, channelKey, null);
@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.exception.UserNotFoundException;
@@ -32,16 +33,17 @@ class AccountLockServiceTest {
 
     @Mock private UserRepository userRepository;
     @Mock private RedisTemplate<String, Object> redisTemplate;
-    @Mock private EmailSender emailSender;
-    @Mock private EncryptionService encryptionService;
+    @Mock private SecurityNotificationService securityNotificationService;
     @Mock private ValueOperations<String, Object> valueOperations;
+    @Mock private UserCacheGenerations userCacheGenerations;
 
     private AccountLockService accountLockService;
 
     @BeforeEach
     void setUp() {
         accountLockService = new AccountLockService(
-                userRepository, redisTemplate, emailSender, encryptionService, new SimpleMeterRegistry());
+                userRepository, redisTemplate, securityNotificationService, new SimpleMeterRegistry(),
+                userCacheGenerations);
     }
 
     @Nested
@@ -74,6 +76,23 @@ class AccountLockServiceTest {
 
             assertThat(user.getStatus()).isEqualTo(UserStatus.LOCKED);
         }
+
+        @Test
+        @DisplayName("자동 잠금 시 이메일이 있으면 잠금 알림을 기록한다")
+        void atThresholdNotifiesUser() {
+            User user = User.builder().emailEnc("enc-email").build();
+            ReflectionTestUtils.setField(user, "id", 1L);
+            ReflectionTestUtils.setField(user, "status", UserStatus.ACTIVE);
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.increment(anyString())).willReturn(10L);
+            given(userRepository.findById(1L)).willReturn(Optional.of(user));
+            given(redisTemplate.delete(anyString())).willReturn(true);
+
+            accountLockService.recordFailedAttempt(1L);
+
+            then(securityNotificationService).should().notifyAccountLocked(eq(1L), anyString());
+        }
     }
 
     @Nested
@@ -93,6 +112,7 @@ class AccountLockServiceTest {
             accountLockService.lockAccount(1L, "테스트 잠금", false);
 
             assertThat(user.getStatus()).isEqualTo(UserStatus.LOCKED);
+            then(userCacheGenerations).should().bump(1L);
         }
 
         @Test
@@ -148,6 +168,7 @@ class AccountLockServiceTest {
             accountLockService.unlockAccount(1L);
 
             assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
+            then(userCacheGenerations).should().bump(1L);
         }
 
         @Test
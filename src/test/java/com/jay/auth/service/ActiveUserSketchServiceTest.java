@@ -0,0 +1,193 @@
+package com.jay.auth.service;
+
+import com.jay.auth.repository.LoginHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ActiveUserSketchServiceTest {
+
+    @InjectMocks
+    private ActiveUserSketchService activeUserSketchService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private LoginHistoryRepository loginHistoryRepository;
+
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForHyperLogLog()).willReturn(hyperLogLogOperations);
+    }
+
+    private String keyOf(LocalDate date) {
+        return "hll:active:" + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    @Nested
+    @DisplayName("활성 사용자 기록")
+    class RecordActiveUser {
+
+        @Test
+        @DisplayName("당일 스케치에 사용자 ID가 추가되고 새 키에는 TTL이 설정되어야 한다")
+        void recordAddsUserToTodaySketch() {
+            // given
+            String key = keyOf(LocalDate.now());
+            given(hyperLogLogOperations.add(key, "1")).willReturn(1L);
+
+            // when
+            activeUserSketchService.recordActiveUser(1L);
+
+            // then
+            verify(hyperLogLogOperations).add(key, "1");
+            verify(redisTemplate).expire(eq(key), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("이미 포함된 사용자라면 TTL을 다시 설정하지 않아야 한다")
+        void recordDoesNotResetTtlWhenUnchanged() {
+            // given
+            String key = keyOf(LocalDate.now());
+            given(hyperLogLogOperations.add(key, "1")).willReturn(0L);
+
+            // when
+            activeUserSketchService.recordActiveUser(1L);
+
+            // then
+            verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("Redis 오류가 발생해도 예외가 전파되지 않아야 한다")
+        void recordSwallowsRedisFailure() {
+            // given
+            given(hyperLogLogOperations.add(anyString(), any(String[].class)))
+                    .willThrow(new RuntimeException("redis down"));
+
+            // when & then
+            assertThatCode(() -> activeUserSketchService.recordActiveUser(1L)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("활성 사용자 수 조회")
+    class CountActiveUsers {
+
+        @Test
+        @DisplayName("기간 내 모든 일별 스케치를 병합하여 조회해야 한다")
+        void countMergesDailySketches() {
+            // given
+            LocalDate to = LocalDate.of(2025, 1, 15);
+            LocalDate from = to.minusDays(2);
+            given(hyperLogLogOperations.size(keyOf(from), keyOf(from.plusDays(1)), keyOf(to))).willReturn(42L);
+
+            // when
+            long count = activeUserSketchService.countActiveUsers(from, to);
+
+            // then
+            assertThat(count).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("MAU는 오늘을 포함한 30일치 스케치를 병합해야 한다")
+        void countMonthlyMergesThirtyDays() {
+            // given
+            ArgumentCaptor<String[]> keysCaptor = ArgumentCaptor.forClass(String[].class);
+            given(hyperLogLogOperations.size(any(String[].class))).willReturn(300L);
+
+            // when
+            long count = activeUserSketchService.countMonthlyActiveUsers();
+
+            // then
+            assertThat(count).isEqualTo(300L);
+            verify(hyperLogLogOperations).size(keysCaptor.capture());
+            assertThat(keysCaptor.getValue()).hasSize(30);
+            assertThat(keysCaptor.getValue()).contains(keyOf(LocalDate.now()));
+        }
+
+        @Test
+        @DisplayName("시작일이 종료일보다 늦으면 0을 반환해야 한다")
+        void countReturnsZeroForEmptyRange() {
+            // when
+            long count = activeUserSketchService.countActiveUsers(LocalDate.now(), LocalDate.now().minusDays(1));
+
+            // then
+            assertThat(count).isZero();
+            verify(hyperLogLogOperations, never()).size(any(String[].class));
+        }
+    }
+
+    @Nested
+    @DisplayName("스케치 재구성 (backfill)")
+    class Backfill {
+
+        @Test
+        @DisplayName("로그인 이력의 일별 고유 사용자가 스케치에 추가되어야 한다")
+        void backfillAddsDistinctUsersPerDay() {
+            // given
+            LocalDate today = LocalDate.now();
+            given(loginHistoryRepository.findDistinctActiveUserIds(any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .willReturn(Collections.emptyList());
+            given(loginHistoryRepository.findDistinctActiveUserIds(today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                    .willReturn(List.of(1L, 2L, 3L));
+
+            // when
+            long entries = activeUserSketchService.backfill(2);
+
+            // then
+            assertThat(entries).isEqualTo(3L);
+            verify(hyperLogLogOperations).add(keyOf(today), "1", "2", "3");
+            verify(redisTemplate).expire(eq(keyOf(today)), any(Duration.class));
+            verify(loginHistoryRepository, times(2))
+                    .findDistinctActiveUserIds(any(LocalDateTime.class), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("보관 기간을 넘는 일수는 보관 기간으로 제한되어야 한다")
+        void backfillCapsDaysToRetention() {
+            // given
+            given(loginHistoryRepository.findDistinctActiveUserIds(any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .willReturn(Collections.emptyList());
+
+            // when
+            activeUserSketchService.backfill(365);
+
+            // then
+            verify(loginHistoryRepository, times(35))
+                    .findDistinctActiveUserIds(any(LocalDateTime.class), any(LocalDateTime.class));
+        }
+    }
+}
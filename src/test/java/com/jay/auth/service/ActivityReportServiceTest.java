@@ -1,18 +1,24 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.AppProperties;
 import com.jay.auth.domain.entity.AuditLog;
 import com.jay.auth.domain.entity.LoginHistory;
 import com.jay.auth.domain.enums.ChannelCode;
 import com.jay.auth.dto.response.WeeklyActivityResponse;
 import com.jay.auth.repository.AuditLogRepository;
 import com.jay.auth.repository.LoginHistoryRepository;
+import com.jay.auth.util.ParallelQueryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -24,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class ActivityReportServiceTest {
@@ -37,6 +44,15 @@ class ActivityReportServiceTest {
     @Mock
     private AuditLogRepository auditLogRepository;
 
+    @Spy
+    private ParallelQueryExecutor parallelQueryExecutor = new ParallelQueryExecutor(
+            new AppProperties(), mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+    }
+
     @Nested
     @DisplayName("현재 주간 리포트 조회")
     class GetWeeklyReportCurrentWeek {
@@ -1,5 +1,7 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.*;
 import com.jay.auth.domain.enums.*;
 import com.jay.auth.dto.response.*;
@@ -8,18 +10,25 @@ import com.jay.auth.repository.AuditLogRepository;
 import com.jay.auth.repository.LoginHistoryRepository;
 import com.jay.auth.repository.SupportPostRepository;
 import com.jay.auth.repository.UserRepository;
+import com.jay.auth.util.PageCursor;
+import com.jay.auth.util.ParallelQueryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -29,6 +38,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +65,21 @@ class AdminServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private ActiveUserSketchService activeUserSketchService;
+
+    @Mock
+    private UserCacheGenerations userCacheGenerations;
+
+    @Spy
+    private ParallelQueryExecutor parallelQueryExecutor = new ParallelQueryExecutor(
+            new AppProperties(), mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+    }
+
     @Nested
     @DisplayName("대시보드 조회")
     class GetDashboard {
@@ -72,8 +97,8 @@ class AdminServiceTest {
             User user = createUserWithChannels();
             given(userRepository.findRecentUsersWithChannels(any(PageRequest.class)))
                     .willReturn(List.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@email.com");
-            given(encryptionService.decryptNickname("enc_nickname")).willReturn("테스트유저");
+            given(encryptionService.decryptAll(List.of("enc_email", "enc_nickname")))
+                    .willReturn(List.of("test@email.com", "테스트유저"));
 
             // when
             AdminDashboardResponse response = adminService.getDashboard();
@@ -122,8 +147,8 @@ class AdminServiceTest {
             User user = createUserWithSignInInfo();
             given(userRepository.findRecentUsersWithChannels(any(PageRequest.class)))
                     .willReturn(List.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@email.com");
-            given(encryptionService.decryptNickname("enc_nickname")).willReturn("테스트유저");
+            given(encryptionService.decryptAll(List.of("enc_email", "enc_nickname")))
+                    .willReturn(List.of("test@email.com", "테스트유저"));
 
             // when
             AdminDashboardResponse response = adminService.getDashboard();
@@ -180,6 +205,7 @@ class AdminServiceTest {
             assertThat(target.getRole()).isEqualTo(UserRole.ADMIN);
             verify(auditLogService).log(eq(1L), eq("USER_ROLE_CHANGE"), eq("ADMIN"),
                     eq("targetUserId=2, newRole=ADMIN"), eq(true));
+            verify(userCacheGenerations).bump(2L);
         }
 
         @Test
@@ -212,6 +238,7 @@ class AdminServiceTest {
             assertThat(target.getStatus()).isEqualTo(UserStatus.LOCKED);
             verify(auditLogService).log(eq(1L), eq("USER_STATUS_CHANGE"), eq("ADMIN"),
                     eq("targetUserId=2, newStatus=LOCKED"), eq(true));
+            verify(userCacheGenerations).bump(2L);
         }
 
         @Test
@@ -254,8 +281,8 @@ class AdminServiceTest {
                     .willReturn(new EncryptionService.EncryptedEmail("enc_keyword", "enc_keyword_lower"));
             given(userRepository.searchUsers(eq("enc_keyword_lower"), eq(UserStatus.ACTIVE), any(PageRequest.class)))
                     .willReturn(page);
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@email.com");
-            given(encryptionService.decryptNickname("enc_nickname")).willReturn("테스트");
+            given(encryptionService.decryptAll(List.of("enc_email", "enc_nickname")))
+                    .willReturn(List.of("test@email.com", "테스트"));
 
             // when
             AdminUserSearchResponse response = adminService.searchUsers("test@email.com", UserStatus.ACTIVE, 0, 20);
@@ -282,6 +309,51 @@ class AdminServiceTest {
             assertThat(response.getUsers()).isEmpty();
             assertThat(response.getTotalElements()).isEqualTo(0);
         }
+
+        @Test
+        @DisplayName("커서 검색 시 size + 1건을 조회하여 다음 커서를 계산해야 한다")
+        void searchUsersByCursorReturnsNextCursor() {
+            // given
+            User first = createUser(2L);
+            setField(first, "createdAt", LocalDateTime.of(2025, 1, 15, 10, 0));
+            User second = createUser(1L);
+            setField(second, "createdAt", LocalDateTime.of(2025, 1, 14, 10, 0));
+            given(userRepository.searchUsersPage(isNull(), isNull(), isNull(), isNull(), eq(PageRequest.of(0, 2))))
+                    .willReturn(List.of(first, second));
+            given(encryptionService.decryptAll(List.of("enc_email", "enc_nickname")))
+                    .willReturn(List.of("test@email.com", "테스트"));
+
+            // when
+            CursorPageResponse<AdminDashboardResponse.AdminUserInfo> response =
+                    adminService.searchUsersByCursor(null, null, null, 1, false);
+
+            // then
+            assertThat(response.getItems()).hasSize(1);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(PageCursor.decode(response.getNextCursor()))
+                    .isEqualTo(new PageCursor(LocalDateTime.of(2025, 1, 15, 10, 0), 2L));
+            assertThat(response.getTotalElements()).isNull();
+        }
+
+        @Test
+        @DisplayName("커서 검색 시 includeTotal이면 전체 건수를 함께 반환해야 한다")
+        void searchUsersByCursorWithTotal() {
+            // given
+            LocalDateTime cursorTime = LocalDateTime.of(2025, 1, 15, 10, 0);
+            String cursor = new PageCursor(cursorTime, 5L).encode();
+            given(userRepository.searchUsersPage(isNull(), eq(UserStatus.ACTIVE), eq(cursorTime), eq(5L), any(PageRequest.class)))
+                    .willReturn(Collections.emptyList());
+            given(userRepository.countSearchUsers(null, UserStatus.ACTIVE)).willReturn(5L);
+
+            // when
+            CursorPageResponse<AdminDashboardResponse.AdminUserInfo> response =
+                    adminService.searchUsersByCursor(null, UserStatus.ACTIVE, cursor, 20, true);
+
+            // then
+            assertThat(response.getItems()).isEmpty();
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getTotalElements()).isEqualTo(5L);
+        }
     }
 
     @Nested
@@ -294,7 +366,10 @@ class AdminServiceTest {
             // given
             given(loginHistoryRepository.countByCreatedAtAfter(any(LocalDateTime.class))).willReturn(150L);
             given(userRepository.countByCreatedAtAfter(any(LocalDateTime.class))).willReturn(10L);
-            given(loginHistoryRepository.countDistinctActiveUsersSince(any(LocalDateTime.class))).willReturn(500L);
+            given(activeUserSketchService.countActiveUsers(any(LocalDate.class), any(LocalDate.class))).willReturn(500L);
+            given(activeUserSketchService.countDailyActiveUsers()).willReturn(120L);
+            given(activeUserSketchService.countWeeklyActiveUsers()).willReturn(450L);
+            given(activeUserSketchService.countMonthlyActiveUsers()).willReturn(900L);
             List<Object[]> dailyLogins = Collections.singletonList(new Object[]{"2025-01-15", 100L});
             given(loginHistoryRepository.countDailyLogins(any(LocalDateTime.class)))
                     .willReturn(dailyLogins);
@@ -309,6 +384,9 @@ class AdminServiceTest {
             assertThat(response.getTodayLogins()).isEqualTo(150L);
             assertThat(response.getTodaySignups()).isEqualTo(10L);
             assertThat(response.getActiveUsersLast7Days()).isEqualTo(500L);
+            assertThat(response.getDailyActiveUsers()).isEqualTo(120L);
+            assertThat(response.getWeeklyActiveUsers()).isEqualTo(450L);
+            assertThat(response.getMonthlyActiveUsers()).isEqualTo(900L);
             assertThat(response.getDailyLogins()).hasSize(1);
             assertThat(response.getDailySignups()).hasSize(1);
         }
@@ -16,10 +16,12 @@ import com.jay.auth.exception.AuthenticationException;
 import com.jay.auth.exception.DuplicateEmailException;
 import com.jay.auth.exception.InvalidPasswordException;
 import com.jay.auth.exception.InvalidVerificationException;
+import com.jay.auth.exception.PasswordPolicyException;
 import com.jay.auth.repository.UserChannelRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.repository.UserSignInInfoRepository;
 import com.jay.auth.security.TokenStore;
+import com.jay.auth.service.metrics.AuthGaugeMetrics;
 import com.jay.auth.service.metrics.AuthMetrics;
 import com.jay.auth.util.NicknameGenerator;
 import com.jay.auth.util.PasswordUtil;
@@ -31,6 +33,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,6 +72,10 @@ class AuthServiceTest {
     private NicknameGenerator nicknameGenerator;
     @Mock
     private AuthMetrics authMetrics;
+    @Mock
+    private AuthGaugeMetrics authGaugeMetrics;
+    @Mock
+    private LoginAttemptStore loginAttemptStore;
 
     @Nested
     @DisplayName("이메일 회원가입")
@@ -130,6 +138,20 @@ class AuthServiceTest {
                     .isInstanceOf(InvalidPasswordException.class);
         }
 
+        @Test
+        @DisplayName("유출 비밀번호 목록에 있는 비밀번호로 가입 시 실패해야 한다")
+        void signUpFailsWithBreachedPassword() {
+            // given
+            EmailSignUpRequest request = createSignUpRequest("token-123", "test@email.com", "Password1!");
+            given(nicknameGenerator.generateUnique(any())).willReturn("행복한고양이1234");
+            given(passwordUtil.isValidPassword("Password1!")).willReturn(true);
+            given(passwordUtil.isBreached("Password1!")).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> authService.signUpWithEmail(request))
+                    .isInstanceOf(PasswordPolicyException.class);
+        }
+
         @Test
         @DisplayName("이메일 인증 미완료 시 실패해야 한다")
         void signUpFailsWithoutVerification() {
@@ -202,6 +224,36 @@ class AuthServiceTest {
             assertThat(response.getToken().getAccessToken()).isEqualTo("access-token");
         }
 
+        @Test
+        @DisplayName("해시 비용이 낮으면 로그인 성공 시 다시 해싱해야 한다")
+        void loginRehashesOutdatedHash() {
+            // given
+            EmailLoginRequest request = createLoginRequest("test@email.com", "Test@1234");
+
+            User user = createUser(1L, "uuid-1234", "enc_email", "enc_email_lower", "enc_nickname");
+            UserSignInInfo signInInfo = UserSignInInfo.builder()
+                    .user(user)
+                    .loginEmailEnc("enc_email")
+                    .loginEmailLowerEnc("enc_email_lower")
+                    .passwordHash("hashed_password")
+                    .build();
+
+            given(encryptionService.encryptForSearch("test@email.com")).willReturn("enc_email_lower");
+            given(userSignInInfoRepository.findByLoginEmailLowerEncWithUser("enc_email_lower"))
+                    .willReturn(Optional.of(signInInfo));
+            given(passwordUtil.matches("Test@1234", "hashed_password")).willReturn(true);
+            given(passwordUtil.needsRehash("hashed_password")).willReturn(true);
+            given(passwordUtil.encode("Test@1234")).willReturn("{bcrypt}rehashed_password");
+            given(encryptionService.decryptNickname("enc_nickname")).willReturn("테스트");
+
+            // when
+            authService.authenticateWithEmail(request);
+
+            // then
+            assertThat(signInInfo.getPasswordHash()).isEqualTo("{bcrypt}rehashed_password");
+            assertThat(signInInfo.getPasswordUpdatedAt()).isNull();
+        }
+
         @Test
         @DisplayName("존재하지 않는 이메일로 로그인 시 실패해야 한다")
         void loginFailsWithInvalidEmail() {
@@ -234,11 +286,41 @@ class AuthServiceTest {
             given(userSignInInfoRepository.findByLoginEmailLowerEncWithUser("enc_email_lower"))
                     .willReturn(Optional.of(signInInfo));
             given(passwordUtil.matches("WrongPass@1", "hashed_password")).willReturn(false);
+            given(loginAttemptStore.recordFailure(1L)).willReturn(new LoginAttemptStore.FailureResult(1, null));
+
+            // when & then
+            assertThatThrownBy(() -> authService.loginWithEmail(request))
+                    .isInstanceOf(AuthenticationException.class);
+            verify(loginAttemptStore).recordFailure(1L);
+            verify(authGaugeMetrics, never()).recordAccountLocked(any(), any());
+            assertThat(signInInfo.getLoginFailCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("실패 누적으로 잠기면 잠금 게이지에 기록해야 한다")
+        void loginFailureLocksAccount() {
+            // given
+            EmailLoginRequest request = createLoginRequest("test@email.com", "WrongPass@1");
+
+            User user = createUser(1L, "uuid-1234", "enc_email", "enc_email_lower", "enc_nickname");
+            UserSignInInfo signInInfo = UserSignInInfo.builder()
+                    .user(user)
+                    .loginEmailEnc("enc_email")
+                    .loginEmailLowerEnc("enc_email_lower")
+                    .passwordHash("hashed_password")
+                    .build();
+            LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(30);
+
+            given(encryptionService.encryptForSearch("test@email.com")).willReturn("enc_email_lower");
+            given(userSignInInfoRepository.findByLoginEmailLowerEncWithUser("enc_email_lower"))
+                    .willReturn(Optional.of(signInInfo));
+            given(passwordUtil.matches("WrongPass@1", "hashed_password")).willReturn(false);
+            given(loginAttemptStore.recordFailure(1L)).willReturn(new LoginAttemptStore.FailureResult(5, lockedUntil));
 
             // when & then
             assertThatThrownBy(() -> authService.loginWithEmail(request))
                     .isInstanceOf(AuthenticationException.class);
-            assertThat(signInInfo.getLoginFailCount()).isEqualTo(1);
+            verify(authGaugeMetrics).recordAccountLocked(1L, lockedUntil);
         }
 
         @Test
@@ -278,18 +360,16 @@ class AuthServiceTest {
                     .loginEmailLowerEnc("enc_email_lower")
                     .passwordHash("hashed_password")
                     .build();
-            // trigger lock: 5 consecutive failures
-            for (int i = 0; i < 5; i++) {
-                signInInfo.recordLoginFailure();
-            }
 
             given(encryptionService.encryptForSearch("test@email.com")).willReturn("enc_email_lower");
             given(userSignInInfoRepository.findByLoginEmailLowerEncWithUser("enc_email_lower"))
                     .willReturn(Optional.of(signInInfo));
+            given(loginAttemptStore.isLocked(1L)).willReturn(true);
 
             // when & then
             assertThatThrownBy(() -> authService.loginWithEmail(request))
                     .isInstanceOf(AuthenticationException.class);
+            verify(passwordUtil, never()).matches(any(), any());
         }
 
         @Test
@@ -0,0 +1,259 @@
+package com.jay.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.domain.entity.EmailOutbox;
+import com.jay.auth.domain.entity.User;
+import com.jay.auth.domain.enums.EmailMessageType;
+import com.jay.auth.domain.enums.EmailOutboxStatus;
+import com.jay.auth.repository.EmailOutboxRepository;
+import com.jay.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private EmailSender emailSender;
+    @Mock
+    private EncryptionService encryptionService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private AppProperties appProperties;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        appProperties.getEmail().setSmtpPoolSize(2);
+        appProperties.getEmail().getOutbox().setBatchSize(10);
+        appProperties.getEmail().getOutbox().setMaxAttempts(3);
+        appProperties.getEmail().getOutbox().setInitialBackoffMillis(1_000);
+        appProperties.getEmail().getOutbox().setMaxBackoffMillis(10_000);
+        dispatcher = new EmailOutboxDispatcher(emailOutboxRepository, userRepository, emailSender,
+                encryptionService, new ObjectMapper(), transactionTemplate, appProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Nested
+    @DisplayName("발송 (dispatch)")
+    class Dispatch {
+
+        @Test
+        @DisplayName("사용자 메일은 이메일을 복호화해 발송하고 성공한 행을 삭제해야 한다")
+        void sendsToUserAndDeletes() {
+            // given
+            runInTransaction();
+            EmailOutbox row = createRow(1L, EmailMessageType.PASSWORD_CHANGED, 7L, null);
+            given(emailOutboxRepository.findDispatchable(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(row));
+            given(userRepository.findAllById(any())).willReturn(List.of(createUser(7L, "enc-email")));
+            given(encryptionService.decryptEmail("enc-email")).willReturn("user@test.com");
+            given(encryptionService.decrypt("enc-payload")).willReturn("{\"time\":\"2026-01-01 10:00\"}");
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            verify(emailSender).sendPasswordChangedAlert("user@test.com", "2026-01-01 10:00");
+            verify(emailOutboxRepository).deleteAllByIdInBatch(argThat(ids -> ids.iterator().next().equals(1L)));
+            assertThat(row.getAttempts()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("주소 메일은 수신 주소를 복호화해 발송해야 한다")
+        void sendsToAddress() {
+            // given
+            runInTransaction();
+            EmailOutbox row = createRow(2L, EmailMessageType.VERIFICATION_CODE, null, "enc-recipient");
+            given(emailOutboxRepository.findDispatchable(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(row));
+            given(encryptionService.decrypt("enc-recipient")).willReturn("new@test.com");
+            given(encryptionService.decrypt("enc-payload")).willReturn("{\"code\":\"123456\"}");
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            verify(emailSender).sendVerificationCode("new@test.com", "123456");
+            verify(userRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("발송에 실패하면 백오프 후 재시도하도록 남겨야 한다")
+        void schedulesRetryOnFailure() {
+            // given
+            runInTransaction();
+            EmailOutbox row = createRow(3L, EmailMessageType.VERIFICATION_CODE, null, "enc-recipient");
+            given(emailOutboxRepository.findDispatchable(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(row));
+            given(encryptionService.decrypt("enc-recipient")).willReturn("new@test.com");
+            given(encryptionService.decrypt("enc-payload")).willReturn("{\"code\":\"123456\"}");
+            doThrow(new MailSendException("connection refused"))
+                    .when(emailSender).sendVerificationCode(anyString(), anyString());
+            given(emailOutboxRepository.findAllById(any())).willReturn(List.of(row));
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            assertThat(row.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(row.getNextAttemptAt()).isAfter(LocalDateTime.now());
+            assertThat(row.getLastError()).contains("connection refused");
+            verify(emailOutboxRepository, never()).deleteAllByIdInBatch(any());
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수를 넘기면 FAILED로 남겨야 한다")
+        void marksFailedAfterMaxAttempts() {
+            // given
+            runInTransaction();
+            EmailOutbox row = createRow(4L, EmailMessageType.VERIFICATION_CODE, null, "enc-recipient");
+            ReflectionTestUtils.setField(row, "attempts", 2);
+            given(emailOutboxRepository.findDispatchable(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(row));
+            given(encryptionService.decrypt("enc-recipient")).willReturn("new@test.com");
+            given(encryptionService.decrypt("enc-payload")).willReturn("{\"code\":\"123456\"}");
+            doThrow(new MailSendException("mailbox unavailable"))
+                    .when(emailSender).sendVerificationCode(anyString(), anyString());
+            given(emailOutboxRepository.findAllById(any())).willReturn(List.of(row));
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            assertThat(row.getAttempts()).isEqualTo(3);
+            assertThat(row.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        }
+
+        @Test
+        @DisplayName("수신자가 없으면 발송하지 않고 행을 삭제해야 한다")
+        void dropsWhenRecipientMissing() {
+            // given
+            runInTransaction();
+            EmailOutbox row = createRow(5L, EmailMessageType.PASSWORD_CHANGED, 99L, null);
+            given(emailOutboxRepository.findDispatchable(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(row));
+            given(userRepository.findAllById(any())).willReturn(List.of());
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            verify(emailSender, never()).sendPasswordChangedAlert(anyString(), anyString());
+            verify(emailOutboxRepository).deleteAllByIdInBatch(argThat(ids -> ids.iterator().next().equals(5L)));
+        }
+
+        @Test
+        @DisplayName("수신자 복호화에 실패한 건만 재시도로 남기고 나머지는 발송해야 한다")
+        void recordsDecryptFailurePerItem() {
+            // given
+            runInTransaction();
+            EmailOutbox broken = createRow(6L, EmailMessageType.VERIFICATION_CODE, null, "enc-broken");
+            EmailOutbox row = createRow(7L, EmailMessageType.VERIFICATION_CODE, null, "enc-recipient");
+            given(emailOutboxRepository.findDispatchable(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(broken, row));
+            given(encryptionService.decrypt("enc-broken")).willThrow(new IllegalStateException("bad key version"));
+            given(encryptionService.decrypt("enc-recipient")).willReturn("new@test.com");
+            given(encryptionService.decrypt("enc-payload")).willReturn("{\"code\":\"123456\"}");
+            given(emailOutboxRepository.findAllById(any())).willReturn(List.of(broken));
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            verify(emailSender).sendVerificationCode("new@test.com", "123456");
+            verify(emailOutboxRepository).deleteAllByIdInBatch(argThat(ids -> ids.iterator().next().equals(7L)));
+            assertThat(broken.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(broken.getLastError()).contains("bad key version");
+        }
+
+        @Test
+        @DisplayName("사용자 조회에 실패하면 사용자 메일만 재시도로 남겨야 한다")
+        void recordsUserLookupFailure() {
+            // given
+            runInTransaction();
+            EmailOutbox userRow = createRow(8L, EmailMessageType.PASSWORD_CHANGED, 7L, null);
+            EmailOutbox addressRow = createRow(9L, EmailMessageType.VERIFICATION_CODE, null, "enc-recipient");
+            given(emailOutboxRepository.findDispatchable(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(userRow, addressRow));
+            given(userRepository.findAllById(any())).willThrow(new IllegalStateException("db down"));
+            given(encryptionService.decrypt("enc-recipient")).willReturn("new@test.com");
+            given(encryptionService.decrypt("enc-payload")).willReturn("{\"code\":\"123456\"}");
+            given(emailOutboxRepository.findAllById(any())).willReturn(List.of(userRow));
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            verify(emailSender).sendVerificationCode("new@test.com", "123456");
+            assertThat(userRow.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(userRow.getLastError()).contains("db down");
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 늘어나고 상한을 넘지 않아야 한다")
+    void backoffGrowsAndIsCapped() {
+        assertThat(dispatcher.backoffMillis(1)).isBetween(1_000L, 1_200L);
+        assertThat(dispatcher.backoffMillis(2)).isBetween(2_000L, 2_400L);
+        assertThat(dispatcher.backoffMillis(10)).isBetween(10_000L, 12_000L);
+    }
+
+    private void runInTransaction() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private EmailOutbox createRow(Long id, EmailMessageType type, Long userId, String recipientEnc) {
+        EmailOutbox row = EmailOutbox.builder()
+                .messageType(type)
+                .userId(userId)
+                .recipientEnc(recipientEnc)
+                .payloadEnc("enc-payload")
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(row, "id", id);
+        return row;
+    }
+
+    private User createUser(Long id, String emailEnc) {
+        User user = User.builder().emailEnc(emailEnc).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,121 @@
+package com.jay.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jay.auth.domain.entity.EmailOutbox;
+import com.jay.auth.domain.enums.EmailMessageType;
+import com.jay.auth.domain.enums.EmailOutboxStatus;
+import com.jay.auth.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    private EmailOutboxService emailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxService = new EmailOutboxService(emailOutboxRepository, encryptionService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("주소로 보낼 메일은 수신자와 템플릿 변수를 암호화해 기록해야 한다")
+    void enqueueForAddress() {
+        // given
+        given(encryptionService.encrypt("user@test.com")).willReturn("enc-recipient");
+        given(encryptionService.encrypt("{\"code\":\"123456\"}")).willReturn("enc-payload");
+
+        // when
+        boolean queued = emailOutboxService.enqueueForAddress(EmailMessageType.VERIFICATION_CODE,
+                "user@test.com", Map.of("code", "123456"), null);
+
+        // then
+        assertThat(queued).isTrue();
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        EmailOutbox saved = captor.getValue();
+        assertThat(saved.getRecipientEnc()).isEqualTo("enc-recipient");
+        assertThat(saved.getPayloadEnc()).isEqualTo("enc-payload");
+        assertThat(saved.getUserId()).isNull();
+        assertThat(saved.getPriority()).isEqualTo(EmailMessageType.VERIFICATION_CODE.getPriority());
+        assertThat(saved.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(saved.getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("사용자에게 보낼 메일은 수신 주소 없이 사용자 ID로 기록해야 한다")
+    void enqueueForUser() {
+        // given
+        given(encryptionService.encrypt(anyString())).willReturn("enc-payload");
+
+        // when
+        emailOutboxService.enqueueForUser(EmailMessageType.PASSWORD_CHANGED, 7L, Map.of("time", "2026-01-01 10:00"), null);
+
+        // then
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(7L);
+        assertThat(captor.getValue().getRecipientEnc()).isNull();
+    }
+
+    @Test
+    @DisplayName("dedupKey가 있으면 중복을 건너뛰는 INSERT로 기록해야 한다")
+    void enqueueWithDedupKey() {
+        // given
+        given(encryptionService.encrypt(anyString())).willReturn("enc-payload");
+        given(emailOutboxRepository.insertIgnoringDuplicate(eq("PASSWORD_CHANGED"),
+                eq(EmailMessageType.PASSWORD_CHANGED.getPriority()), eq(7L), isNull(), eq("enc-payload"),
+                eq("PASSWORD_CHANGED:7:abc"), eq("PENDING"), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(1);
+
+        // when
+        boolean queued = emailOutboxService.enqueueForUser(EmailMessageType.PASSWORD_CHANGED, 7L,
+                Map.of("time", "2026-01-01 10:00"), "PASSWORD_CHANGED:7:abc");
+
+        // then
+        assertThat(queued).isTrue();
+        verify(emailOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 dedupKey가 이미 있으면 예외 없이 기록하지 않아야 한다")
+    void skipDuplicate() {
+        // given
+        given(encryptionService.encrypt(anyString())).willReturn("enc-payload");
+        given(emailOutboxRepository.insertIgnoringDuplicate(anyString(), anyInt(), any(), any(), anyString(),
+                eq("PASSWORD_CHANGED:7:abc"), anyString(), any(), any()))
+                .willReturn(0);
+
+        // when
+        boolean queued = emailOutboxService.enqueueForUser(EmailMessageType.PASSWORD_CHANGED, 7L,
+                Map.of("time", "2026-01-01 10:00"), "PASSWORD_CHANGED:7:abc");
+
+        // then
+        assertThat(queued).isFalse();
+        verify(emailOutboxRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,232 @@
+package com.jay.auth.service;
+
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.domain.entity.User;
+import com.jay.auth.domain.entity.UserTwoFactor;
+import com.jay.auth.domain.enums.UserStatus;
+import com.jay.auth.dto.response.EncryptionRotationStatusResponse;
+import com.jay.auth.repository.UserChannelRepository;
+import com.jay.auth.repository.UserRepository;
+import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.repository.UserTwoFactorRepository;
+import com.jay.auth.util.EncryptionUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EncryptionKeyRotationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSignInInfoRepository userSignInInfoRepository;
+
+    @Mock
+    private UserChannelRepository userChannelRepository;
+
+    @Mock
+    private UserTwoFactorRepository userTwoFactorRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EncryptionUtil legacyUtil;
+    private EncryptionUtil rotatedUtil;
+    private EncryptionKeyRotationService rotationService;
+
+    @BeforeEach
+    void setUp() {
+        legacyUtil = createUtil(null);
+        rotatedUtil = createUtil("k1");
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.getEncryption().getReencryption().setChunkSize(2);
+        appProperties.getEncryption().getReencryption().setRowsPerSecond(100_000);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(userRepository.findChunkAfter(any(), any(Pageable.class))).willReturn(Collections.emptyList());
+        given(userSignInInfoRepository.findChunkAfter(any(), any(Pageable.class))).willReturn(Collections.emptyList());
+        given(userChannelRepository.findChunkAfter(any(), any(Pageable.class))).willReturn(Collections.emptyList());
+        given(userTwoFactorRepository.findChunkAfter(any(), any(Pageable.class))).willReturn(Collections.emptyList());
+
+        rotationService = new EncryptionKeyRotationService(rotatedUtil, userRepository, userSignInInfoRepository,
+                userChannelRepository, userTwoFactorRepository, redisTemplate, appProperties,
+                transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("재암호화 실행 (run)")
+    class Run {
+
+        @Test
+        @DisplayName("이전 키로 암호화된 컬럼만 활성 키로 다시 암호화해야 한다")
+        void reencryptsLegacyColumns() {
+            // given
+            User legacyUser = createUser(1L, legacyUtil.encrypt("old@test.com"), legacyUtil.encrypt("닉네임"));
+            String currentEmail = rotatedUtil.encrypt("new@test.com");
+            User currentUser = createUser(2L, currentEmail, null);
+            given(userRepository.findChunkAfter(eq(0L), any(Pageable.class))).willReturn(List.of(legacyUser, currentUser));
+
+            UserTwoFactor twoFactor = UserTwoFactor.builder()
+                    .id(7L)
+                    .secretEnc(legacyUtil.encrypt("JBSWY3DPEHPK3PXP"))
+                    .build();
+            given(userTwoFactorRepository.findChunkAfter(eq(0L), any(Pageable.class))).willReturn(List.of(twoFactor));
+
+            // when
+            boolean completed = rotationService.run();
+
+            // then
+            assertThat(completed).isTrue();
+            assertThat(legacyUser.getEmailEnc()).startsWith("k1:");
+            assertThat(rotatedUtil.decrypt(legacyUser.getEmailEnc())).isEqualTo("old@test.com");
+            assertThat(rotatedUtil.decrypt(legacyUser.getNicknameEnc())).isEqualTo("닉네임");
+            assertThat(currentUser.getEmailEnc()).isSameAs(currentEmail);
+            assertThat(twoFactor.getSecretEnc()).startsWith("k1:");
+
+            EncryptionRotationStatusResponse status = rotationService.getStatus();
+            assertThat(status.getActiveKeyId()).isEqualTo("k1");
+            assertThat(status.getTables()).filteredOn(t -> t.getTable().equals("tb_user"))
+                    .singleElement()
+                    .satisfies(t -> {
+                        assertThat(t.getScannedRows()).isEqualTo(2L);
+                        assertThat(t.getRewrittenRows()).isEqualTo(1L);
+                    });
+        }
+
+        @Test
+        @DisplayName("청크마다 체크포인트를 저장하고 완료 시 삭제해야 한다")
+        void savesAndClearsCheckpoints() {
+            // given
+            User first = createUser(1L, legacyUtil.encrypt("a@test.com"), null);
+            User second = createUser(2L, legacyUtil.encrypt("b@test.com"), null);
+            given(userRepository.findChunkAfter(eq(0L), any(Pageable.class))).willReturn(List.of(first, second));
+
+            // when
+            rotationService.run();
+
+            // then
+            verify(valueOperations).set("crypto:reencrypt:checkpoint:tb_user", "k1|2");
+            verify(userRepository).findChunkAfter(eq(2L), any(Pageable.class));
+            verify(redisTemplate).delete("crypto:reencrypt:checkpoint:tb_user");
+            verify(redisTemplate).delete("crypto:reencrypt:checkpoint:tb_user_two_factor");
+        }
+
+        @Test
+        @DisplayName("같은 활성 키의 체크포인트가 있으면 그 다음 PK부터 재개해야 한다")
+        void resumesFromCheckpoint() {
+            // given
+            given(valueOperations.get("crypto:reencrypt:checkpoint:tb_user")).willReturn("k1|100");
+
+            // when
+            rotationService.run();
+
+            // then
+            verify(userRepository).findChunkAfter(eq(100L), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("다른 키로 저장된 체크포인트는 무시하고 처음부터 처리해야 한다")
+        void ignoresCheckpointOfOtherKey() {
+            // given
+            given(valueOperations.get(anyString())).willReturn("k0|100");
+
+            // when
+            rotationService.run();
+
+            // then
+            verify(userRepository).findChunkAfter(eq(0L), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("순회 후 이전 키 암호문이 다시 기록된 행이 있으면 처음부터 다시 순회해야 한다")
+        void rescansUntilNoRowsOnOtherKeys() {
+            // given
+            given(userRepository.countEncryptedWithOtherKey("k1:")).willReturn(1L, 0L);
+
+            // when
+            boolean completed = rotationService.run();
+
+            // then
+            assertThat(completed).isTrue();
+            verify(userRepository, times(2)).findChunkAfter(eq(0L), any(Pageable.class));
+            verify(userRepository, times(2)).countEncryptedWithOtherKey("k1:");
+        }
+
+        @Test
+        @DisplayName("최대 순회 후에도 이전 키 암호문이 남으면 완료로 보지 않아야 한다")
+        void givesUpAfterMaxPasses() {
+            // given
+            given(userTwoFactorRepository.countEncryptedWithOtherKey("k1:")).willReturn(3L);
+
+            // when
+            boolean completed = rotationService.run();
+
+            // then
+            assertThat(completed).isFalse();
+            assertThat(rotationService.isRunning()).isFalse();
+            verify(userRepository, times(5)).findChunkAfter(eq(0L), any(Pageable.class));
+        }
+    }
+
+    private EncryptionUtil createUtil(String activeKeyId) {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Encryption encryption = new AppProperties.Encryption();
+        encryption.setSecretKey("test-32-character-secret-key!!!!");
+        encryption.setKeys(Map.of("k1", "rotated-key-material-at-least-32-chars!!"));
+        encryption.setActiveKeyId(activeKeyId);
+        appProperties.setEncryption(encryption);
+
+        EncryptionUtil util = new EncryptionUtil(appProperties);
+        util.init();
+        return util;
+    }
+
+    private User createUser(Long id, String emailEnc, String nicknameEnc) {
+        User user = User.builder()
+                .emailEnc(emailEnc)
+                .nicknameEnc(nicknameEnc)
+                .status(UserStatus.ACTIVE)
+                .build();
+        try {
+            java.lang.reflect.Field field = User.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(user, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return user;
+    }
+}
@@ -0,0 +1,237 @@
+package com.jay.auth.service;
+
+import com.jay.auth.repository.UserSignInInfoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptStoreTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private UserSignInInfoRepository userSignInInfoRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private LoginAttemptStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LoginAttemptStore(stringRedisTemplate, userSignInInfoRepository, transactionTemplate, () -> NOW);
+    }
+
+    @Nested
+    @DisplayName("잠금 확인 (isLocked)")
+    class IsLocked {
+
+        @Test
+        @DisplayName("잠금 만료 시각이 지나지 않았으면 잠금으로 판단해야 한다")
+        void lockedUntilFuture() {
+            // given
+            given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+            given(hashOperations.get("login:failures:1", "lockedUntil")).willReturn(String.valueOf(NOW + 1));
+
+            // when & then
+            assertThat(store.isLocked(1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("실패 상태가 없거나 잠금이 만료됐으면 잠금이 아니어야 한다")
+        void notLocked() {
+            // given
+            given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+            given(hashOperations.get("login:failures:1", "lockedUntil")).willReturn(null);
+            given(hashOperations.get("login:failures:2", "lockedUntil")).willReturn(String.valueOf(NOW));
+
+            // when & then
+            assertThat(store.isLocked(1L)).isFalse();
+            assertThat(store.isLocked(2L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 잠금이 아닌 것으로 판단해야 한다")
+        void redisFailure() {
+            // given
+            given(stringRedisTemplate.opsForHash()).willThrow(new IllegalStateException("redis down"));
+
+            // when & then
+            assertThat(store.isLocked(1L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 기록 (recordFailure)")
+    class RecordFailure {
+
+        @Test
+        @DisplayName("임계치 전에는 실패 횟수만 반환해야 한다")
+        void countsFailure() {
+            // given
+            givenFailureScriptResult("3:0");
+
+            // when
+            LoginAttemptStore.FailureResult result = store.recordFailure(1L);
+
+            // then
+            assertThat(result.failCount()).isEqualTo(3);
+            assertThat(result.isLocked()).isFalse();
+        }
+
+        @Test
+        @DisplayName("임계치에 도달하면 잠금 만료 시각을 반환해야 한다")
+        void locksAtThreshold() {
+            // given
+            long lockedUntil = NOW + LoginAttemptStore.LOCK_MILLIS;
+            givenFailureScriptResult("5:" + lockedUntil);
+
+            // when
+            LoginAttemptStore.FailureResult result = store.recordFailure(1L);
+
+            // then
+            assertThat(result.isLocked()).isTrue();
+            assertThat(result.lockedUntil()).isEqualTo(
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(lockedUntil), ZoneId.systemDefault()));
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of("login:failures:1", LoginAttemptStore.PENDING_FAILURES_KEY)),
+                    eq("1"), eq(String.valueOf(NOW)), eq("5"), eq(String.valueOf(LoginAttemptStore.LOCK_MILLIS)), any());
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 예외 없이 기록되지 않은 결과를 반환해야 한다")
+        void redisFailure() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any(), any(), any()))
+                    .willThrow(new IllegalStateException("redis down"));
+
+            // when
+            LoginAttemptStore.FailureResult result = store.recordFailure(1L);
+
+            // then
+            assertThat(result.failCount()).isZero();
+            assertThat(result.isLocked()).isFalse();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void givenFailureScriptResult(String state) {
+            given(stringRedisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any(), any(), any()))
+                    .willReturn(state);
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 반영 (flush)")
+    class Flush {
+
+        @Test
+        @DisplayName("대기열의 lastLoginAt과 실패 상태를 한 트랜잭션에서 반영해야 한다")
+        @SuppressWarnings("unchecked")
+        void flushesPendingState() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(LoginAttemptStore.PENDING_LAST_LOGIN_KEY))))
+                    .willReturn(List.of("1", String.valueOf(NOW)));
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(LoginAttemptStore.PENDING_FAILURES_KEY))))
+                    .willReturn(List.of("2", "0:0:" + NOW));
+            runTransactionCallback();
+
+            // when
+            store.flush();
+
+            // then
+            verify(userSignInInfoRepository).updateLastLoginAt(1L,
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(NOW), ZoneId.systemDefault()));
+            verify(userSignInInfoRepository).updateFailureState(2L, 0, null,
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(NOW), ZoneId.systemDefault()));
+        }
+
+        @Test
+        @DisplayName("대기열이 비어 있으면 트랜잭션을 열지 않아야 한다")
+        @SuppressWarnings("unchecked")
+        void skipsWhenEmpty() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), any(List.class))).willReturn(List.of());
+
+            // when
+            store.flush();
+
+            // then
+            verify(transactionTemplate, never()).executeWithoutResult(any());
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 더 새로운 값을 덮어쓰지 않고 대기열로 되돌려야 한다")
+        @SuppressWarnings("unchecked")
+        void requeuesOnFailure() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(LoginAttemptStore.PENDING_LAST_LOGIN_KEY))))
+                    .willReturn(List.of("1", String.valueOf(NOW)));
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(LoginAttemptStore.PENDING_FAILURES_KEY))))
+                    .willReturn(List.of());
+            given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+            willThrow(new IllegalStateException("db down")).given(transactionTemplate).executeWithoutResult(any());
+
+            // when
+            store.flush();
+
+            // then
+            verify(hashOperations).putIfAbsent(LoginAttemptStore.PENDING_LAST_LOGIN_KEY, "1", String.valueOf(NOW));
+            verify(userSignInInfoRepository, never()).updateLastLoginAt(anyLong(), any());
+            verify(userSignInInfoRepository, never()).updateFailureState(anyLong(), anyInt(), any(), any());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void runTransactionCallback() {
+            willAnswer(invocation -> {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+                return null;
+            }).given(transactionTemplate).executeWithoutResult(any());
+        }
+    }
+
+    @Test
+    @DisplayName("잠금 해제 시 실패 상태와 반영 대기 중인 실패 상태를 함께 지워야 한다")
+    void resetClearsPendingFailures() {
+        // given
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(stringRedisTemplate.delete("login:failures:1")).willReturn(true);
+
+        // when
+        boolean hadState = store.reset(1L);
+
+        // then
+        assertThat(hadState).isTrue();
+        verify(hashOperations).delete(LoginAttemptStore.PENDING_FAILURES_KEY, "1");
+    }
+}
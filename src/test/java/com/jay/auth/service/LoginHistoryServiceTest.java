@@ -2,9 +2,12 @@ package com.jay.auth.service;
 
 import com.jay.auth.domain.entity.LoginHistory;
 import com.jay.auth.domain.enums.ChannelCode;
+import com.jay.auth.dto.response.CursorPageResponse;
 import com.jay.auth.dto.response.LoginHistoryResponse;
 import com.jay.auth.repository.LoginHistoryRepository;
 import com.jay.auth.security.TokenStore;
+import com.jay.auth.service.posture.SecurityPostureStore;
+import com.jay.auth.util.PageCursor;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,7 +27,9 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +44,15 @@ class LoginHistoryServiceTest {
     @Mock
     private GeoIpService geoIpService;
 
+    @Mock
+    private ActiveUserSketchService activeUserSketchService;
+
+    @Mock
+    private SuspiciousActivityService suspiciousActivityService;
+
+    @Mock
+    private SecurityPostureStore securityPostureStore;
+
     @Mock
     private HttpServletRequest httpServletRequest;
 
@@ -86,6 +100,9 @@ class LoginHistoryServiceTest {
             assertThat(saved.getBrowser()).isEqualTo("Chrome");
             assertThat(saved.getOs()).isEqualTo("Windows");
             assertThat(saved.getLocation()).isEqualTo("대한민국 서울특별시 강남구");
+            verify(activeUserSketchService).recordActiveUser(userId);
+            verify(suspiciousActivityService).recordLoginEvent(saved);
+            verify(securityPostureStore).recordLogin(saved);
         }
 
         @Test
@@ -142,6 +159,7 @@ class LoginHistoryServiceTest {
             assertThat(saved.getFailureReason()).isEqualTo("INVALID_PASSWORD");
             assertThat(saved.getBrowser()).isEqualTo("Safari");
             assertThat(saved.getOs()).isEqualTo("macOS");
+            verify(activeUserSketchService, never()).recordActiveUser(any());
         }
     }
 
@@ -445,6 +463,58 @@ class LoginHistoryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("로그인 이력 커서 조회")
+    class GetLoginHistoryPage {
+
+        @Test
+        @DisplayName("size보다 많은 행이 조회되면 다음 커서가 반환되어야 한다")
+        void returnsNextCursorWhenMoreRows() {
+            // given
+            Long userId = 1L;
+            LoginHistory h1 = createLoginHistory(3L, userId, ChannelCode.EMAIL, true);
+            LoginHistory h2 = createLoginHistory(2L, userId, ChannelCode.EMAIL, true);
+            LoginHistory h3 = createLoginHistory(1L, userId, ChannelCode.EMAIL, true);
+            given(loginHistoryRepository.findPageByUserId(eq(userId), isNull(), isNull(), eq(PageRequest.of(0, 3))))
+                    .willReturn(List.of(h1, h2, h3));
+
+            // when
+            CursorPageResponse<LoginHistoryResponse> result =
+                    loginHistoryService.getLoginHistoryPage(userId, null, 2, false);
+
+            // then
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(PageCursor.decode(result.getNextCursor()))
+                    .isEqualTo(new PageCursor(h2.getCreatedAt(), 2L));
+            assertThat(result.getTotalElements()).isNull();
+            verify(loginHistoryRepository, never()).countByUserId(any());
+        }
+
+        @Test
+        @DisplayName("커서가 전달되면 해당 위치 이후부터 조회하고 요청 시 전체 건수를 포함해야 한다")
+        void seeksFromCursorWithTotal() {
+            // given
+            Long userId = 1L;
+            LocalDateTime cursorTime = LocalDateTime.of(2025, 1, 15, 10, 0);
+            String cursor = new PageCursor(cursorTime, 10L).encode();
+            LoginHistory h1 = createLoginHistory(9L, userId, ChannelCode.EMAIL, true);
+            given(loginHistoryRepository.findPageByUserId(eq(userId), eq(cursorTime), eq(10L), any(PageRequest.class)))
+                    .willReturn(List.of(h1));
+            given(loginHistoryRepository.countByUserId(userId)).willReturn(11L);
+
+            // when
+            CursorPageResponse<LoginHistoryResponse> result =
+                    loginHistoryService.getLoginHistoryPage(userId, cursor, 20, true);
+
+            // then
+            assertThat(result.getItems()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+            assertThat(result.getTotalElements()).isEqualTo(11L);
+        }
+    }
+
     // Helper methods
     private LoginHistory createLoginHistory(Long id, Long userId, ChannelCode channelCode, boolean success) {
         LoginHistory history = LoginHistory.builder()
@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.service.risk.CredentialStuffingDetector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +35,9 @@ class LoginRateLimitServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private CredentialStuffingDetector credentialStuffingDetector;
+
     @BeforeEach
     void setUp() {
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
@@ -94,6 +98,24 @@ class LoginRateLimitServiceTest {
             assertThat(result).isFalse();
         }
 
+        @Test
+        @DisplayName("공격 감지 중에는 IP 기준 한도를 낮춰 차단해야 한다")
+        void isLoginBlockedByTightenedIpLimitUnderAttack() {
+            // given
+            String email = "test@email.com";
+            String ip = "192.168.1.1";
+
+            given(valueOperations.get("login:email:" + email)).willReturn("0");
+            given(valueOperations.get("login:ip:" + ip)).willReturn("10");
+            given(credentialStuffingDetector.isUnderAttack()).willReturn(true);
+
+            // when
+            boolean result = loginRateLimitService.isLoginAllowed(email, ip);
+
+            // then
+            assertThat(result).isFalse();
+        }
+
         @Test
         @DisplayName("카운터가 없는 경우(null) 로그인을 허용해야 한다")
         void isLoginAllowedWhenNoCounter() {
@@ -134,6 +156,7 @@ class LoginRateLimitServiceTest {
             verify(valueOperations).increment("login:ip:" + ip);
             verify(redisTemplate).expire(eq("login:email:" + email.toLowerCase()), eq(Duration.ofMinutes(15)));
             verify(redisTemplate).expire(eq("login:ip:" + ip), eq(Duration.ofMinutes(15)));
+            verify(credentialStuffingDetector).recordAttempt(email, ip, false);
         }
 
         @Test
@@ -16,7 +16,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
-import static org.mockito.ArgumentMatchers.anyString;
 
 @ExtendWith(MockitoExtension.class)
 class OAuth2LinkStateServiceTest {
@@ -55,75 +54,48 @@ class OAuth2LinkStateServiceTest {
     }
 
     @Nested
-    @DisplayName("링크 사용자 ID 조회")
-    class GetLinkUserId {
+    @DisplayName("링크 사용자 ID 소비")
+    class ConsumeLinkUserId {
 
         @Test
-        @DisplayName("저장된 state에 대해 userId를 반환해야 한다")
-        void getLinkUserIdSuccess() {
+        @DisplayName("저장된 state에 대해 userId를 반환하고 삭제해야 한다")
+        void consumeLinkUserIdSuccess() {
             // given
             String state = "random-state-123";
             given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.get("oauth2:link:" + state)).willReturn("1");
+            given(valueOperations.getAndDelete("oauth2:link:" + state)).willReturn("1");
 
             // when
-            Long result = oAuth2LinkStateService.getLinkUserId(state);
+            Long result = oAuth2LinkStateService.consumeLinkUserId(state);
 
             // then
             assertThat(result).isEqualTo(1L);
         }
 
         @Test
-        @DisplayName("저장되지 않은 state는 null을 반환해야 한다")
-        void getLinkUserIdReturnsNullWhenNotFound() {
+        @DisplayName("저장되지 않았거나 이미 사용된 state는 null을 반환해야 한다")
+        void consumeLinkUserIdReturnsNullWhenNotFound() {
             // given
             String state = "unknown-state";
             given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.get("oauth2:link:" + state)).willReturn(null);
+            given(valueOperations.getAndDelete("oauth2:link:" + state)).willReturn(null);
 
             // when
-            Long result = oAuth2LinkStateService.getLinkUserId(state);
+            Long result = oAuth2LinkStateService.consumeLinkUserId(state);
 
             // then
             assertThat(result).isNull();
         }
 
         @Test
-        @DisplayName("null state는 null을 반환해야 한다")
-        void getLinkUserIdReturnsNullForNullState() {
+        @DisplayName("null state는 Redis를 조회하지 않고 null을 반환해야 한다")
+        void consumeLinkUserIdReturnsNullForNullState() {
             // when
-            Long result = oAuth2LinkStateService.getLinkUserId(null);
+            Long result = oAuth2LinkStateService.consumeLinkUserId(null);
 
             // then
             assertThat(result).isNull();
-        }
-    }
-
-    @Nested
-    @DisplayName("링크 상태 제거")
-    class RemoveLinkState {
-
-        @Test
-        @DisplayName("state에 해당하는 키가 Redis에서 삭제되어야 한다")
-        void removeLinkStateSuccess() {
-            // given
-            String state = "random-state-123";
-
-            // when
-            oAuth2LinkStateService.removeLinkState(state);
-
-            // then
-            verify(redisTemplate).delete("oauth2:link:" + state);
-        }
-
-        @Test
-        @DisplayName("null state는 삭제를 수행하지 않아야 한다")
-        void removeLinkStateWithNullDoesNothing() {
-            // when
-            oAuth2LinkStateService.removeLinkState(null);
-
-            // then
-            verify(redisTemplate, never()).delete(anyString());
+            verify(redisTemplate, never()).opsForValue();
         }
     }
 }
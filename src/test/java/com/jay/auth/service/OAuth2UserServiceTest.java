@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserChannel;
 import com.jay.auth.domain.enums.ChannelCode;
@@ -10,6 +11,7 @@ import com.jay.auth.repository.UserChannelRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.security.oauth2.GoogleOAuth2UserInfo;
 import com.jay.auth.security.oauth2.OAuth2UserInfo;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import com.jay.auth.util.NicknameGenerator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,8 +21,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collections;
@@ -51,7 +51,9 @@ class OAuth2UserServiceTest {
     @Mock
     private NicknameGenerator nicknameGenerator;
     @Mock
-    private CacheManager cacheManager;
+    private UserCacheGenerations userCacheGenerations;
+    @Mock
+    private SecurityPostureStore securityPostureStore;
 
     @Test
     @DisplayName("신규 소셜 사용자가 생성되어야 한다")
@@ -106,14 +108,15 @@ class OAuth2UserServiceTest {
 
         given(userChannelRepository.findByChannelCodeAndChannelKeyWithUser(ChannelCode.GOOGLE, "google-123"))
                 .willReturn(Optional.of(existingChannel));
-        given(encryptionService.encryptEmail("test@gmail.com"))
-                .willReturn(new EncryptionService.EncryptedEmail("enc_email", "enc_email_lower"));
+        given(encryptionService.encryptForSearch("test@gmail.com")).willReturn("enc_email_lower");
 
         // when
         User result = oAuth2UserService.processOAuth2User(ChannelCode.GOOGLE, userInfo);
 
         // then
         assertThat(result.getId()).isEqualTo(1L);
+        assertThat(existingChannel.getChannelEmailEnc()).isEqualTo("enc_email");
+        verify(encryptionService, never()).encrypt(any());
     }
 
     @Test
@@ -167,8 +170,8 @@ class OAuth2UserServiceTest {
 
             given(userChannelRepository.findByChannelCodeAndChannelKeyWithUser(ChannelCode.GOOGLE, "google-123"))
                     .willReturn(Optional.of(existingChannel));
-            given(encryptionService.encryptEmail("test@gmail.com"))
-                    .willReturn(new EncryptionService.EncryptedEmail("enc_email", "enc_email_lower"));
+            given(encryptionService.encryptForSearch("test@gmail.com")).willReturn("enc_email_lower");
+            given(encryptionService.encrypt("test@gmail.com")).willReturn("enc_email");
 
             // when
             User result = oAuth2UserService.processOAuth2User(ChannelCode.GOOGLE, userInfo);
@@ -176,6 +179,7 @@ class OAuth2UserServiceTest {
             // then
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(1L);
+            assertThat(existingChannel.getChannelEmailLowerEnc()).isEqualTo("enc_email_lower");
         }
     }
 
@@ -246,6 +250,8 @@ class OAuth2UserServiceTest {
                 assertThat(result).isNotNull();
                 assertThat(result.getId()).isEqualTo(userId);
                 verify(userChannelRepository).save(any(UserChannel.class));
+                verify(securityPostureStore).adjustSocialLinkCount(userId, 1);
+                verify(userCacheGenerations).bump(userId);
             } finally {
                 TransactionSynchronizationManager.clearSynchronization();
             }
@@ -346,15 +352,18 @@ class OAuth2UserServiceTest {
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
             given(userChannelRepository.findByChannelCodeAndChannelKeyWithUser(ChannelCode.GOOGLE, "google-mine"))
                     .willReturn(Optional.of(existingChannel));
-            given(encryptionService.encryptEmail("newemail@gmail.com"))
-                    .willReturn(new EncryptionService.EncryptedEmail("new_enc", "new_enc_lower"));
+            given(encryptionService.encryptForSearch("newemail@gmail.com")).willReturn("new_enc_lower");
+            given(encryptionService.encrypt("newemail@gmail.com")).willReturn("new_enc");
 
             // when
             User result = oAuth2UserService.processOAuth2UserForLinking(userId, ChannelCode.GOOGLE, userInfo);
 
             // then
             assertThat(result).isNotNull();
+            assertThat(existingChannel.getChannelEmailEnc()).isEqualTo("new_enc");
+            assertThat(existingChannel.getChannelEmailLowerEnc()).isEqualTo("new_enc_lower");
             verify(userChannelRepository, never()).save(any(UserChannel.class));
+            verify(userCacheGenerations).bump(userId);
         }
 
         @Test
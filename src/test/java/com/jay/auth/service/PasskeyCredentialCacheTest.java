@@ -0,0 +1,212 @@
+package com.jay.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PasskeyCredentialCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private PasskeyCredentialCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PasskeyCredentialCache(stringRedisTemplate, now::get, 2, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 조회/저장")
+    class GetAndPut {
+
+        @Test
+        @DisplayName("저장한 credential을 TTL 동안 반환해야 한다")
+        void returnsCachedCredential() {
+            // given
+            PasskeyCredentialCache.CachedCredential credential = credential(10L, 5);
+            cache.put("cred-1", credential);
+
+            // when & then
+            assertThat(cache.get("cred-1")).contains(credential);
+            now.addAndGet(60_000);
+            assertThat(cache.get("cred-1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 항목을 제거해야 한다")
+        void evictsLeastRecentlyUsed() {
+            // given
+            cache.put("cred-1", credential(1L, 0));
+            cache.put("cred-2", credential(2L, 0));
+            cache.get("cred-1");
+
+            // when
+            cache.put("cred-3", credential(3L, 0));
+
+            // then
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.get("cred-2")).isEmpty();
+            assertThat(cache.get("cred-1")).isPresent();
+        }
+
+        @Test
+        @DisplayName("서명 카운터 기준값은 증가만 해야 한다")
+        void advancesSignCountMonotonically() {
+            // given
+            cache.put("cred-1", credential(1L, 5));
+
+            // when
+            cache.advanceSignCount("cred-1", 9);
+            cache.advanceSignCount("cred-1", 7);
+
+            // then
+            assertThat(cache.get("cred-1")).get()
+                    .extracting(PasskeyCredentialCache.CachedCredential::signCount)
+                    .isEqualTo(9L);
+        }
+    }
+
+    @Nested
+    @DisplayName("서명 카운터 수락 (acceptSignCount)")
+    class AcceptSignCount {
+
+        @Test
+        @DisplayName("공유 카운터가 증가하면 수락해야 한다")
+        void accepted() {
+            // given
+            givenScriptResult(1L);
+
+            // when
+            PasskeyCredentialCache.SignCountResult result = cache.acceptSignCount("cred-1", 5, 6);
+
+            // then
+            assertThat(result).isEqualTo(PasskeyCredentialCache.SignCountResult.ACCEPTED);
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of("passkey:sign-count:cred-1", "passkey:revoked:cred-1")),
+                    eq("5"), eq("6"), any());
+        }
+
+        @Test
+        @DisplayName("카운터가 증가하지 않으면 복제 의심으로 판정해야 한다")
+        void cloneSuspected() {
+            // given
+            givenScriptResult(0L);
+
+            // when & then
+            assertThat(cache.acceptSignCount("cred-1", 5, 5))
+                    .isEqualTo(PasskeyCredentialCache.SignCountResult.CLONE_SUSPECTED);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스에서 삭제된 credential이면 로컬 캐시를 지워야 한다")
+        void revoked() {
+            // given
+            cache.put("cred-1", credential(1L, 5));
+            givenScriptResult(-1L);
+
+            // when
+            PasskeyCredentialCache.SignCountResult result = cache.acceptSignCount("cred-1", 5, 6);
+
+            // then
+            assertThat(result).isEqualTo(PasskeyCredentialCache.SignCountResult.REVOKED);
+            assertThat(cache.get("cred-1")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Invalidation {
+
+        @Test
+        @DisplayName("삭제 시 로컬 캐시와 공유 카운터를 지우고 삭제 표시를 남겨야 한다")
+        void revokeMarksCredential() {
+            // given
+            cache.put("cred-1", credential(1L, 5));
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+
+            // when
+            cache.revoke("cred-1");
+
+            // then
+            assertThat(cache.get("cred-1")).isEmpty();
+            verify(valueOperations).set(eq("passkey:revoked:cred-1"), eq("1"), any(Duration.class));
+            verify(stringRedisTemplate).delete("passkey:sign-count:cred-1");
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 삭제하면 커밋 후에 무효화해야 한다")
+        void revokeWaitsForCommit() {
+            // given
+            cache.put("cred-1", credential(1L, 5));
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            cache.revoke("cred-1");
+            assertThat(cache.get("cred-1")).isPresent();
+            verifyNoInteractions(stringRedisTemplate);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(cache.get("cred-1")).isEmpty();
+            verify(valueOperations).set(eq("passkey:revoked:cred-1"), eq("1"), any(Duration.class));
+            verify(stringRedisTemplate).delete("passkey:sign-count:cred-1");
+        }
+
+        @Test
+        @DisplayName("이름 변경 시 로컬 캐시만 지워야 한다")
+        void invalidateRemovesLocalEntry() {
+            // given
+            cache.put("cred-1", credential(1L, 5));
+
+            // when
+            cache.invalidate("cred-1");
+
+            // then
+            assertThat(cache.get("cred-1")).isEmpty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScriptResult(Long result) {
+        given(stringRedisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any()))
+                .willReturn(result);
+    }
+
+    private PasskeyCredentialCache.CachedCredential credential(Long passkeyId, long signCount) {
+        return new PasskeyCredentialCache.CachedCredential(passkeyId, 1L, null, signCount, "패스키");
+    }
+}
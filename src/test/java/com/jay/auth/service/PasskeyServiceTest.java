@@ -10,6 +10,7 @@ import com.jay.auth.exception.UserNotFoundException;
 import com.jay.auth.repository.UserPasskeyRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.service.metrics.AuthGaugeMetrics;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -55,6 +56,12 @@ class PasskeyServiceTest {
     private SecurityNotificationService securityNotificationService;
     @Mock
     private AuthGaugeMetrics authGaugeMetrics;
+    @Mock
+    private PasskeyCredentialCache passkeyCredentialCache;
+    @Mock
+    private PasskeyUsageWriteBehind passkeyUsageWriteBehind;
+    @Mock
+    private SecurityPostureStore securityPostureStore;
 
     @Nested
     @DisplayName("패스키 등록 옵션 생성 (generateRegistrationOptions)")
@@ -229,6 +236,9 @@ class PasskeyServiceTest {
 
             // then
             verify(userPasskeyRepository).delete(passkey);
+            verify(passkeyUsageWriteBehind).discard(passkeyId);
+            verify(passkeyCredentialCache).revoke("cred-1");
+            verify(securityPostureStore).adjustPasskeyCount(userId, -1);
         }
 
         @Test
@@ -265,6 +275,7 @@ class PasskeyServiceTest {
 
             // then
             assertThat(passkey.getDeviceName()).isEqualTo("새 이름");
+            verify(passkeyCredentialCache).invalidate("cred-1");
         }
 
         @Test
@@ -0,0 +1,75 @@
+package com.jay.auth.service;
+
+import com.jay.auth.repository.UserPasskeyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PasskeyUsageWriteBehindTest {
+
+    @InjectMocks
+    private PasskeyUsageWriteBehind writeBehind;
+
+    @Mock
+    private UserPasskeyRepository userPasskeyRepository;
+
+    @Test
+    @DisplayName("같은 패스키의 기록은 큰 값으로 병합해 한 번만 반영해야 한다")
+    void mergesMonotonically() {
+        // given
+        LocalDateTime earlier = LocalDateTime.of(2026, 1, 1, 10, 0);
+        LocalDateTime later = earlier.plusMinutes(1);
+        writeBehind.record(10L, 8, later);
+        writeBehind.record(10L, 5, earlier);
+
+        // when
+        writeBehind.flush();
+
+        // then
+        verify(userPasskeyRepository).updateUsage(10L, 8, later);
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 주기에 다시 시도해야 한다")
+    void requeuesOnFailure() {
+        // given
+        LocalDateTime usedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        writeBehind.record(10L, 3, usedAt);
+        given(userPasskeyRepository.updateUsage(any(), anyLong(), any()))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        writeBehind.flush();
+
+        // then
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 패스키의 기록은 반영하지 않아야 한다")
+    void discardsDeletedPasskey() {
+        // given
+        writeBehind.record(10L, 3, LocalDateTime.of(2026, 1, 1, 10, 0));
+
+        // when
+        writeBehind.discard(10L);
+        writeBehind.flush();
+
+        // then
+        verify(userPasskeyRepository, never()).updateUsage(any(), anyLong(), any());
+    }
+}
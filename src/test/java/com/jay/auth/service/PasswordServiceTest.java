@@ -13,6 +13,8 @@ import com.jay.auth.exception.InvalidVerificationException;
 import com.jay.auth.exception.PasswordPolicyException;
 import com.jay.auth.exception.UserNotFoundException;
 import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.service.metrics.AuthGaugeMetrics;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import com.jay.auth.util.PasswordUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,9 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,9 +55,11 @@ class PasswordServiceTest {
     @Mock
     private PasswordPolicyService passwordPolicyService;
     @Mock
-    private CacheManager cacheManager;
+    private AuthGaugeMetrics authGaugeMetrics;
     @Mock
-    private Cache cache;
+    private LoginAttemptStore loginAttemptStore;
+    @Mock
+    private SecurityPostureStore securityPostureStore;
 
     @Nested
     @DisplayName("비밀번호 변경")
@@ -125,6 +128,26 @@ class PasswordServiceTest {
                     .isInstanceOf(InvalidPasswordException.class);
         }
 
+        @Test
+        @DisplayName("새 비밀번호가 유출 비밀번호 목록에 있으면 실패해야 한다")
+        void changePasswordFailsWithBreachedPassword() {
+            // given
+            User user = createUser(1L, "uuid-1234");
+            UserSignInInfo signInInfo = createSignInInfo(user, "hashed_old");
+
+            given(userSignInInfoRepository.findByUserId(1L)).willReturn(Optional.of(signInInfo));
+            given(passwordUtil.matches("OldPass@1234", "hashed_old")).willReturn(true);
+            given(passwordUtil.isValidPassword("Password1!")).willReturn(true);
+            given(passwordUtil.isBreached("Password1!")).willReturn(true);
+
+            ChangePasswordRequest request = createChangePasswordRequest("OldPass@1234", "Password1!");
+
+            // when & then
+            assertThatThrownBy(() -> passwordService.changePassword(1L, request))
+                    .isInstanceOf(PasswordPolicyException.class)
+                    .hasMessageContaining("유출");
+        }
+
         @Test
         @DisplayName("사용자가 없으면 실패해야 한다")
         void changePasswordFailsWithUserNotFound() {
@@ -223,7 +246,6 @@ class PasswordServiceTest {
             given(passwordPolicyService.isSameAsCurrentPassword("NewPass@1234", "hashed_old")).willReturn(false);
             given(passwordPolicyService.isPasswordReused(1L, "NewPass@1234")).willReturn(false);
             given(passwordUtil.encode("NewPass@1234")).willReturn("hashed_new");
-            given(cacheManager.getCache("securityDashboard")).willReturn(cache);
 
             ResetPasswordRequest request = createResetPasswordRequest("token-123", "recovery@email.com", "login@email.com", "NewPass@1234");
 
@@ -363,10 +385,9 @@ class PasswordServiceTest {
             User user = createUser(1L, "uuid-1234");
             setField(user, "recoveryEmailLowerEnc", "enc_recovery_email_lower");
             UserSignInInfo signInInfo = createSignInInfo(user, "hashed_old");
-            // lock the account by simulating 5 failures
-            for (int i = 0; i < 5; i++) {
-                signInInfo.recordLoginFailure();
-            }
+            // DB에 반영된 잠금 상태
+            setField(signInInfo, "loginFailCount", 5);
+            setField(signInInfo, "lockedUntil", LocalDateTime.now().plusMinutes(30));
             assertThat(signInInfo.isLocked()).isTrue();
 
             given(emailVerificationService.isVerifiedByTokenId("token-123", "recovery@email.com", VerificationType.PASSWORD_RESET))
@@ -379,7 +400,6 @@ class PasswordServiceTest {
             given(passwordPolicyService.isSameAsCurrentPassword("NewPass@1234", "hashed_old")).willReturn(false);
             given(passwordPolicyService.isPasswordReused(1L, "NewPass@1234")).willReturn(false);
             given(passwordUtil.encode("NewPass@1234")).willReturn("hashed_new");
-            given(cacheManager.getCache("securityDashboard")).willReturn(cache);
 
             ResetPasswordRequest request = createResetPasswordRequest("token-123", "recovery@email.com", "login@email.com", "NewPass@1234");
 
@@ -388,11 +408,14 @@ class PasswordServiceTest {
 
             // then
             assertThat(signInInfo.isLocked()).isFalse();
+            assertThat(signInInfo.getLoginFailCount()).isZero();
+            verify(loginAttemptStore).reset(1L);
+            verify(authGaugeMetrics).recordAccountUnlocked(1L);
         }
 
         @Test
-        @DisplayName("비밀번호 재설정 성공 시 캐시가 무효화되어야 한다")
-        void resetPasswordEvictsCache() {
+        @DisplayName("비밀번호 재설정 성공 시 보안 상태의 비밀번호 변경일이 갱신되어야 한다")
+        void resetPasswordRecordsPosture() {
             // given
             User user = createUser(1L, "uuid-1234");
             setField(user, "recoveryEmailLowerEnc", "enc_recovery_email_lower");
@@ -408,7 +431,6 @@ class PasswordServiceTest {
             given(passwordPolicyService.isSameAsCurrentPassword("NewPass@1234", "hashed_old")).willReturn(false);
             given(passwordPolicyService.isPasswordReused(1L, "NewPass@1234")).willReturn(false);
             given(passwordUtil.encode("NewPass@1234")).willReturn("hashed_new");
-            given(cacheManager.getCache("securityDashboard")).willReturn(cache);
 
             ResetPasswordRequest request = createResetPasswordRequest("token-123", "recovery@email.com", "login@email.com", "NewPass@1234");
 
@@ -416,7 +438,7 @@ class PasswordServiceTest {
             passwordService.resetPassword(request);
 
             // then
-            verify(cache).evict(1L);
+            verify(securityPostureStore).recordPasswordChanged(1L, signInInfo.getPasswordUpdatedAt());
         }
     }
 
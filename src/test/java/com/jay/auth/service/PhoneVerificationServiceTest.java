@@ -1,8 +1,13 @@
 package com.jay.auth.service;
 
-import com.jay.auth.domain.entity.PhoneVerification;
+import com.jay.auth.domain.enums.VerificationType;
 import com.jay.auth.exception.InvalidVerificationException;
-import com.jay.auth.repository.PhoneVerificationRepository;
+import com.jay.auth.exception.RateLimitException;
+import com.jay.auth.exception.ServiceOverloadedException;
+import com.jay.auth.service.verification.VerificationStore;
+import com.jay.auth.service.verification.VerificationStore.VerifyResult;
+import com.jay.auth.service.verification.VerificationTarget;
+import com.jay.auth.service.verification.VerificationToken;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,14 +16,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,13 +37,15 @@ class PhoneVerificationServiceTest {
     private PhoneVerificationService phoneVerificationService;
 
     @Mock
-    private PhoneVerificationRepository phoneVerificationRepository;
+    private VerificationStore verificationStore;
 
     @Mock
     private EncryptionService encryptionService;
 
     @Mock
-    private SmsSender smsSender;
+    private SmsDispatchQueue smsDispatchQueue;
+
+    private static final String PHONE = "010-1234-5678";
 
     @Nested
     @DisplayName("인증 코드 발송")
@@ -44,23 +55,49 @@ class PhoneVerificationServiceTest {
         @DisplayName("인증 코드 발송이 성공해야 한다")
         void sendVerificationCodeSuccess() {
             // given
-            String phone = "010-1234-5678";
-            given(encryptionService.encryptPhone(phone)).willReturn("enc_phone");
-            given(encryptionService.encryptForSearch(phone)).willReturn("enc_phone_lower");
-            given(phoneVerificationRepository.save(any(PhoneVerification.class)))
-                    .willAnswer(invocation -> {
-                        PhoneVerification v = invocation.getArgument(0);
-                        setField(v, "tokenId", "token-123");
-                        return v;
-                    });
+            given(encryptionService.encryptPhone(PHONE)).willReturn("enc_phone");
+            given(encryptionService.encryptForSearch(PHONE)).willReturn("enc_phone_lower");
+            given(smsDispatchQueue.tryReserve("enc_phone_lower")).willReturn(true);
+            given(verificationStore.issue(eq(VerificationTarget.phone("enc_phone_lower", "enc_phone")),
+                    anyString(), eq(Duration.ofMinutes(3)))).willReturn("token-123");
 
             // when
-            String tokenId = phoneVerificationService.sendVerificationCode(phone);
+            String tokenId = phoneVerificationService.sendVerificationCode(PHONE);
 
             // then
             assertThat(tokenId).isEqualTo("token-123");
-            verify(phoneVerificationRepository).deleteByPhoneLowerEnc("enc_phone_lower");
-            verify(phoneVerificationRepository).save(any(PhoneVerification.class));
+            verify(smsDispatchQueue).enqueue(eq(PHONE), anyString(), eq("enc_phone_lower"), eq(Duration.ofMinutes(3)));
+        }
+
+        @Test
+        @DisplayName("같은 번호로 연속 요청하면 새 코드를 발급하지 않고 거절해야 한다")
+        void rejectsDuplicateRequest() {
+            // given
+            given(encryptionService.encryptForSearch(PHONE)).willReturn("enc_phone_lower");
+            given(smsDispatchQueue.tryReserve("enc_phone_lower")).willReturn(false);
+            given(smsDispatchQueue.getDedupWindowSeconds()).willReturn(30L);
+
+            // when & then
+            assertThatThrownBy(() -> phoneVerificationService.sendVerificationCode(PHONE))
+                    .isInstanceOf(RateLimitException.class);
+            verify(verificationStore, never()).issue(any(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("대기열에 넣지 못하면 예약을 해제해야 한다")
+        void releasesReservationOnFailure() {
+            // given
+            given(encryptionService.encryptPhone(PHONE)).willReturn("enc_phone");
+            given(encryptionService.encryptForSearch(PHONE)).willReturn("enc_phone_lower");
+            given(smsDispatchQueue.tryReserve("enc_phone_lower")).willReturn(true);
+            given(verificationStore.issue(any(), anyString(), any())).willReturn("token-123");
+            willThrow(new ServiceOverloadedException(1))
+                    .given(smsDispatchQueue).enqueue(anyString(), anyString(), anyString(), any());
+
+            // when & then
+            assertThatThrownBy(() -> phoneVerificationService.sendVerificationCode(PHONE))
+                    .isInstanceOf(ServiceOverloadedException.class);
+            verify(smsDispatchQueue).release("enc_phone_lower");
         }
     }
 
@@ -72,75 +109,49 @@ class PhoneVerificationServiceTest {
         @DisplayName("인증 코드 확인이 성공해야 한다")
         void verifyCodeSuccess() {
             // given
-            String phone = "010-1234-5678";
-            String code = "123456";
-
-            PhoneVerification verification = createVerification("token-123", code, false);
-
-            given(encryptionService.encryptForSearch(phone)).willReturn("enc_phone_lower");
-            given(phoneVerificationRepository.findByPhoneLowerEncAndIsVerifiedFalse("enc_phone_lower"))
-                    .willReturn(Optional.of(verification));
-            given(phoneVerificationRepository.save(any(PhoneVerification.class))).willReturn(verification);
+            given(encryptionService.encryptForSearch(PHONE)).willReturn("enc_phone_lower");
+            given(verificationStore.verify(VerificationTarget.phone("enc_phone_lower", null), "123456"))
+                    .willReturn(VerifyResult.verified("token-123"));
 
             // when
-            String tokenId = phoneVerificationService.verifyCode(phone, code);
+            String tokenId = phoneVerificationService.verifyCode(PHONE, "123456");
 
             // then
             assertThat(tokenId).isEqualTo("token-123");
-            assertThat(verification.getIsVerified()).isTrue();
-            verify(phoneVerificationRepository).save(verification);
         }
 
         @Test
         @DisplayName("인증 요청이 없으면 실패해야 한다")
         void verifyCodeFailsWithNoRequest() {
-            // given
-            String phone = "010-1234-5678";
-            String code = "123456";
-
-            given(encryptionService.encryptForSearch(phone)).willReturn("enc_phone_lower");
-            given(phoneVerificationRepository.findByPhoneLowerEncAndIsVerifiedFalse("enc_phone_lower"))
-                    .willReturn(Optional.empty());
-
-            // when & then
-            assertThatThrownBy(() -> phoneVerificationService.verifyCode(phone, code))
-                    .isInstanceOf(InvalidVerificationException.class);
+            assertVerifyFails(VerifyResult.Status.NOT_FOUND);
         }
 
         @Test
         @DisplayName("만료된 인증 코드로 확인 시 실패해야 한다")
         void verifyCodeFailsWithExpiredCode() {
-            // given
-            String phone = "010-1234-5678";
-            String code = "123456";
-
-            PhoneVerification verification = createExpiredVerification("token-123", code);
-
-            given(encryptionService.encryptForSearch(phone)).willReturn("enc_phone_lower");
-            given(phoneVerificationRepository.findByPhoneLowerEncAndIsVerifiedFalse("enc_phone_lower"))
-                    .willReturn(Optional.of(verification));
-
-            // when & then
-            assertThatThrownBy(() -> phoneVerificationService.verifyCode(phone, code))
-                    .isInstanceOf(InvalidVerificationException.class);
+            assertVerifyFails(VerifyResult.Status.EXPIRED);
         }
 
         @Test
         @DisplayName("잘못된 인증 코드로 확인 시 실패해야 한다")
         void verifyCodeFailsWithWrongCode() {
-            // given
-            String phone = "010-1234-5678";
-            String correctCode = "123456";
-            String wrongCode = "654321";
+            assertVerifyFails(VerifyResult.Status.MISMATCH);
+        }
 
-            PhoneVerification verification = createVerification("token-123", correctCode, false);
+        @Test
+        @DisplayName("시도 횟수를 초과하면 실패해야 한다")
+        void verifyCodeFailsWithTooManyAttempts() {
+            assertVerifyFails(VerifyResult.Status.TOO_MANY_ATTEMPTS);
+        }
 
-            given(encryptionService.encryptForSearch(phone)).willReturn("enc_phone_lower");
-            given(phoneVerificationRepository.findByPhoneLowerEncAndIsVerifiedFalse("enc_phone_lower"))
-                    .willReturn(Optional.of(verification));
+        private void assertVerifyFails(VerifyResult.Status status) {
+            // given
+            given(encryptionService.encryptForSearch(PHONE)).willReturn("enc_phone_lower");
+            given(verificationStore.verify(any(VerificationTarget.class), eq("123456")))
+                    .willReturn(VerifyResult.of(status));
 
             // when & then
-            assertThatThrownBy(() -> phoneVerificationService.verifyCode(phone, wrongCode))
+            assertThatThrownBy(() -> phoneVerificationService.verifyCode(PHONE, "123456"))
                     .isInstanceOf(InvalidVerificationException.class);
         }
     }
@@ -153,92 +164,52 @@ class PhoneVerificationServiceTest {
         @DisplayName("유효한 tokenId는 true를 반환해야 한다")
         void validTokenIdReturnsTrue() {
             // given
-            String tokenId = "token-123";
-            PhoneVerification verification = createVerification(tokenId, "123456", true);
-
-            given(phoneVerificationRepository.findByTokenIdAndVerifiedTrue(eq(tokenId), any(LocalDateTime.class)))
-                    .willReturn(Optional.of(verification));
+            given(verificationStore.findByTokenId("token-123")).willReturn(Optional.of(
+                    token(VerificationTarget.Channel.PHONE, null, true)));
 
-            // when
-            boolean result = phoneVerificationService.isValidTokenId(tokenId);
-
-            // then
-            assertThat(result).isTrue();
+            // when & then
+            assertThat(phoneVerificationService.isValidTokenId("token-123")).isTrue();
         }
 
         @Test
         @DisplayName("유효하지 않은 tokenId는 false를 반환해야 한다")
         void invalidTokenIdReturnsFalse() {
             // given
-            String tokenId = "invalid-token";
+            given(verificationStore.findByTokenId("invalid-token")).willReturn(Optional.empty());
 
-            given(phoneVerificationRepository.findByTokenIdAndVerifiedTrue(eq(tokenId), any(LocalDateTime.class)))
-                    .willReturn(Optional.empty());
+            // when & then
+            assertThat(phoneVerificationService.isValidTokenId("invalid-token")).isFalse();
+        }
 
-            // when
-            boolean result = phoneVerificationService.isValidTokenId(tokenId);
+        @Test
+        @DisplayName("이메일 인증 tokenId는 false를 반환해야 한다")
+        void emailTokenIdReturnsFalse() {
+            // given
+            given(verificationStore.findByTokenId("token-123")).willReturn(Optional.of(
+                    token(VerificationTarget.Channel.EMAIL, VerificationType.SIGNUP, true)));
 
-            // then
-            assertThat(result).isFalse();
+            // when & then
+            assertThat(phoneVerificationService.isValidTokenId("token-123")).isFalse();
         }
     }
 
     @Nested
     @DisplayName("인증 레코드 삭제")
-    class DeleteVerificationByTokenId {
+    class DeleteVerification {
 
         @Test
         @DisplayName("tokenId로 인증 레코드 삭제가 성공해야 한다")
         void deleteVerificationByTokenIdSuccess() {
-            // given
-            String tokenId = "token-123";
-            PhoneVerification verification = createVerification(tokenId, "123456", true);
-
-            given(phoneVerificationRepository.findByTokenId(tokenId))
-                    .willReturn(Optional.of(verification));
-
             // when
-            phoneVerificationService.deleteVerificationByTokenId(tokenId);
+            phoneVerificationService.deleteVerificationByTokenId("token-123");
 
             // then
-            verify(phoneVerificationRepository).delete(verification);
+            verify(verificationStore).deleteByTokenId("token-123");
         }
     }
 
-    // Helper methods
-    private PhoneVerification createVerification(String tokenId, String code, boolean verified) {
-        PhoneVerification verification = PhoneVerification.builder()
-                .phoneEnc("enc_phone")
-                .phoneLowerEnc("enc_phone_lower")
-                .verificationCode(code)
-                .expiresAt(LocalDateTime.now().plusMinutes(3))
-                .build();
-        setField(verification, "tokenId", tokenId);
-        if (verified) {
-            setField(verification, "isVerified", true);
-            setField(verification, "verifiedAt", LocalDateTime.now());
-        }
-        return verification;
-    }
-
-    private PhoneVerification createExpiredVerification(String tokenId, String code) {
-        PhoneVerification verification = PhoneVerification.builder()
-                .phoneEnc("enc_phone")
-                .phoneLowerEnc("enc_phone_lower")
-                .verificationCode(code)
-                .expiresAt(LocalDateTime.now().minusMinutes(1))
-                .build();
-        setField(verification, "tokenId", tokenId);
-        return verification;
-    }
-
-    private void setField(Object target, String fieldName, Object value) {
-        try {
-            java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            field.set(target, value);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    private VerificationToken token(VerificationTarget.Channel channel, VerificationType type, boolean verified) {
+        return new VerificationToken("token-123", channel, type, "enc_phone_lower",
+                verified, LocalDateTime.now().plusMinutes(3));
     }
 }
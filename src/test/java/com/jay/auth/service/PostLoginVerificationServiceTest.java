@@ -1,10 +1,13 @@
 package com.jay.auth.service;
 
-import com.jay.auth.domain.entity.EmailVerification;
+import com.jay.auth.domain.enums.EmailMessageType;
 import com.jay.auth.domain.enums.VerificationType;
 import com.jay.auth.exception.InvalidVerificationException;
-import com.jay.auth.repository.EmailVerificationRepository;
 import com.jay.auth.service.metrics.AuthMetrics;
+import com.jay.auth.service.verification.VerificationStore;
+import com.jay.auth.service.verification.VerificationStore.VerifyResult;
+import com.jay.auth.service.verification.VerificationTarget;
+import com.jay.auth.service.verification.VerificationToken;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,15 +17,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -30,19 +34,22 @@ import static org.mockito.BDDMockito.then;
 @DisplayName("PostLoginVerificationService 테스트")
 class PostLoginVerificationServiceTest {
 
-    @Mock private EmailVerificationRepository emailVerificationRepository;
-    @Mock private EmailSender emailSender;
+    @Mock private VerificationStore verificationStore;
+    @Mock private EmailOutboxService emailOutboxService;
     @Mock private EncryptionService encryptionService;
     @Mock private TrustedDeviceService trustedDeviceService;
     @Mock private TotpService totpService;
     @Mock private AuthMetrics authMetrics;
 
+    private static final VerificationTarget TARGET =
+            VerificationTarget.email(VerificationType.POST_LOGIN_VERIFICATION, "enc-email");
+
     private PostLoginVerificationService service;
 
     @BeforeEach
     void setUp() {
         service = new PostLoginVerificationService(
-                emailVerificationRepository, emailSender, encryptionService,
+                verificationStore, emailOutboxService, encryptionService,
                 trustedDeviceService, totpService, new SimpleMeterRegistry(), authMetrics);
     }
 
@@ -93,21 +100,14 @@ class PostLoginVerificationServiceTest {
         @DisplayName("인증 코드를 발송하고 tokenId를 반환한다")
         void sendsCodeAndReturnsTokenId() {
             given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
-
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email")
-                    .verificationCode("123456")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().plusMinutes(10))
-                    .build();
-            ReflectionTestUtils.setField(verification, "tokenId", "test-token-id");
-
-            given(emailVerificationRepository.save(any())).willReturn(verification);
+            given(verificationStore.issue(eq(TARGET), anyString(), eq(Duration.ofMinutes(10))))
+                    .willReturn("test-token-id");
 
             String tokenId = service.sendVerificationCode("user@example.com");
 
             assertThat(tokenId).isEqualTo("test-token-id");
-            then(emailSender).should().sendPostLoginVerificationCode(anyString(), anyString());
+            then(emailOutboxService).should().enqueueForAddress(eq(EmailMessageType.POST_LOGIN_VERIFICATION_CODE),
+                    eq("user@example.com"), anyMap(), eq("post-login-code:test-token-id"));
         }
     }
 
@@ -119,19 +119,7 @@ class PostLoginVerificationServiceTest {
         @DisplayName("유효한 코드 인증 시 tokenId를 반환한다")
         void verifyValidCode() {
             given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
-
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email")
-                    .verificationCode("123456")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().plusMinutes(5))
-                    .build();
-            ReflectionTestUtils.setField(verification, "tokenId", "return-token-id");
-
-            given(emailVerificationRepository
-                    .findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse("enc-email", VerificationType.POST_LOGIN_VERIFICATION))
-                    .willReturn(Optional.of(verification));
-            given(emailVerificationRepository.save(any())).willReturn(verification);
+            given(verificationStore.verify(TARGET, "123456")).willReturn(VerifyResult.verified("return-token-id"));
 
             String tokenId = service.verifyCode("user@example.com", "123456");
 
@@ -141,10 +129,7 @@ class PostLoginVerificationServiceTest {
         @Test
         @DisplayName("인증 레코드가 없으면 InvalidVerificationException")
         void noRecordThrows() {
-            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
-            given(emailVerificationRepository
-                    .findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse(anyString(), any()))
-                    .willReturn(Optional.empty());
+            givenVerifyResult(VerifyResult.Status.NOT_FOUND);
 
             assertThatThrownBy(() -> service.verifyCode("user@example.com", "000000"))
                     .isInstanceOf(InvalidVerificationException.class);
@@ -153,41 +138,37 @@ class PostLoginVerificationServiceTest {
         @Test
         @DisplayName("코드 불일치 시 InvalidVerificationException")
         void codeMismatchThrows() {
-            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
-
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email")
-                    .verificationCode("999999")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().plusMinutes(5))
-                    .build();
+            givenVerifyResult(VerifyResult.Status.MISMATCH);
 
-            given(emailVerificationRepository
-                    .findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse("enc-email", VerificationType.POST_LOGIN_VERIFICATION))
-                    .willReturn(Optional.of(verification));
-
-            assertThatThrownBy(() -> service.verifyCode("user@example.com", "123456"))
+            assertThatThrownBy(() -> service.verifyCode("user@example.com", "000000"))
                     .isInstanceOf(InvalidVerificationException.class);
         }
 
         @Test
         @DisplayName("만료된 코드 — InvalidVerificationException(codeExpired)")
         void expiredCodeThrows() {
-            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
+            givenVerifyResult(VerifyResult.Status.EXPIRED);
 
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email")
-                    .verificationCode("123456")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().minusMinutes(1)) // 이미 만료
-                    .build();
+            assertThatThrownBy(() -> service.verifyCode("user@example.com", "000000"))
+                    .isInstanceOf(InvalidVerificationException.class)
+                    .hasMessage(InvalidVerificationException.codeExpired().getMessage());
+        }
 
-            given(emailVerificationRepository
-                    .findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse("enc-email", VerificationType.POST_LOGIN_VERIFICATION))
-                    .willReturn(Optional.of(verification));
+        @Test
+        @DisplayName("시도 횟수 초과 — InvalidVerificationException(tooManyAttempts)")
+        void tooManyAttemptsThrows() {
+            givenVerifyResult(VerifyResult.Status.TOO_MANY_ATTEMPTS);
 
-            assertThatThrownBy(() -> service.verifyCode("user@example.com", "123456"))
-                    .isInstanceOf(InvalidVerificationException.class);
+            assertThatThrownBy(() -> service.verifyCode("user@example.com", "000000"))
+                    .isInstanceOf(InvalidVerificationException.class)
+                    .hasMessage(InvalidVerificationException.tooManyAttempts().getMessage());
+            then(authMetrics).should().recordEmailVerificationFailure(
+                    VerificationType.POST_LOGIN_VERIFICATION.name(), "too_many_attempts");
+        }
+
+        private void givenVerifyResult(VerifyResult.Status status) {
+            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
+            given(verificationStore.verify(TARGET, "000000")).willReturn(VerifyResult.of(status));
         }
     }
 
@@ -198,19 +179,7 @@ class PostLoginVerificationServiceTest {
         @Test
         @DisplayName("검증 완료 레코드 — true 반환")
         void verifiedRecordReturnsTrue() {
-            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
-
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email")
-                    .verificationCode("123456")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().plusMinutes(5))
-                    .build();
-            ReflectionTestUtils.setField(verification, "tokenId", "valid-token");
-            ReflectionTestUtils.setField(verification, "isVerified", true);
-
-            given(emailVerificationRepository.findByTokenId("valid-token"))
-                    .willReturn(Optional.of(verification));
+            givenToken("valid-token", "enc-email", true, 5);
 
             assertThat(service.isVerifiedByTokenId("valid-token", "user@example.com")).isTrue();
         }
@@ -219,8 +188,7 @@ class PostLoginVerificationServiceTest {
         @DisplayName("레코드 없음 — false 반환")
         void noRecordReturnsFalse() {
             given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
-            given(emailVerificationRepository.findByTokenId("missing-token"))
-                    .willReturn(Optional.empty());
+            given(verificationStore.findByTokenId("missing-token")).willReturn(Optional.empty());
 
             assertThat(service.isVerifiedByTokenId("missing-token", "user@example.com")).isFalse();
         }
@@ -228,19 +196,7 @@ class PostLoginVerificationServiceTest {
         @Test
         @DisplayName("isVerified=false — false 반환")
         void notVerifiedReturnsFalse() {
-            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
-
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email")
-                    .verificationCode("123456")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().plusMinutes(5))
-                    .build();
-            ReflectionTestUtils.setField(verification, "tokenId", "token-not-verified");
-            // isVerified는 기본값 false
-
-            given(emailVerificationRepository.findByTokenId("token-not-verified"))
-                    .willReturn(Optional.of(verification));
+            givenToken("token-not-verified", "enc-email", false, 5);
 
             assertThat(service.isVerifiedByTokenId("token-not-verified", "user@example.com")).isFalse();
         }
@@ -248,19 +204,7 @@ class PostLoginVerificationServiceTest {
         @Test
         @DisplayName("만료 레코드 — false 반환")
         void expiredRecordReturnsFalse() {
-            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
-
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email")
-                    .verificationCode("123456")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().minusMinutes(1)) // 만료됨
-                    .build();
-            ReflectionTestUtils.setField(verification, "tokenId", "expired-token");
-            ReflectionTestUtils.setField(verification, "isVerified", true);
-
-            given(emailVerificationRepository.findByTokenId("expired-token"))
-                    .willReturn(Optional.of(verification));
+            givenToken("expired-token", "enc-email", true, -1);
 
             assertThat(service.isVerifiedByTokenId("expired-token", "user@example.com")).isFalse();
         }
@@ -268,21 +212,16 @@ class PostLoginVerificationServiceTest {
         @Test
         @DisplayName("email 불일치 — false 반환")
         void emailMismatchReturnsFalse() {
-            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-other-email");
+            givenToken("token-email-mismatch", "enc-other-email", true, 5);
 
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email") // 다른 이메일
-                    .verificationCode("123456")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().plusMinutes(5))
-                    .build();
-            ReflectionTestUtils.setField(verification, "tokenId", "token-email-mismatch");
-            ReflectionTestUtils.setField(verification, "isVerified", true);
-
-            given(emailVerificationRepository.findByTokenId("token-email-mismatch"))
-                    .willReturn(Optional.of(verification));
+            assertThat(service.isVerifiedByTokenId("token-email-mismatch", "user@example.com")).isFalse();
+        }
 
-            assertThat(service.isVerifiedByTokenId("token-email-mismatch", "other@example.com")).isFalse();
+        private void givenToken(String tokenId, String subjectKey, boolean verified, int expiresInMinutes) {
+            given(encryptionService.encryptForSearch(anyString())).willReturn("enc-email");
+            given(verificationStore.findByTokenId(tokenId)).willReturn(Optional.of(new VerificationToken(
+                    tokenId, VerificationTarget.Channel.EMAIL, VerificationType.POST_LOGIN_VERIFICATION,
+                    subjectKey, verified, LocalDateTime.now().plusMinutes(expiresInMinutes))));
         }
     }
 
@@ -291,32 +230,11 @@ class PostLoginVerificationServiceTest {
     class DeleteVerificationByTokenId {
 
         @Test
-        @DisplayName("레코드 있음 — emailVerificationRepository.delete() 호출")
-        void deletesWhenFound() {
-            EmailVerification verification = EmailVerification.builder()
-                    .emailLowerEnc("enc-email")
-                    .verificationCode("123456")
-                    .verificationType(VerificationType.POST_LOGIN_VERIFICATION)
-                    .expiresAt(LocalDateTime.now().plusMinutes(5))
-                    .build();
-
-            given(emailVerificationRepository.findByTokenId("token-to-delete"))
-                    .willReturn(Optional.of(verification));
-
+        @DisplayName("저장소에서 tokenId로 삭제한다")
+        void deletesByTokenId() {
             service.deleteVerificationByTokenId("token-to-delete");
 
-            then(emailVerificationRepository).should().delete(verification);
-        }
-
-        @Test
-        @DisplayName("레코드 없음 — delete 미호출")
-        void noDeleteWhenNotFound() {
-            given(emailVerificationRepository.findByTokenId("missing-token"))
-                    .willReturn(Optional.empty());
-
-            service.deleteVerificationByTokenId("missing-token");
-
-            then(emailVerificationRepository).should(org.mockito.Mockito.never()).delete(any());
+            then(verificationStore).should().deleteByTokenId("token-to-delete");
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.AppProperties;
 import com.jay.auth.domain.entity.LoginHistory;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserSignInInfo;
@@ -13,14 +14,22 @@ import com.jay.auth.repository.UserChannelRepository;
 import com.jay.auth.repository.UserPasskeyRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.repository.UserSignInInfoRepository;
+import com.jay.auth.service.posture.SecurityPosture;
+import com.jay.auth.service.posture.SecurityPostureStore;
+import com.jay.auth.util.ParallelQueryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +40,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class SecurityDashboardServiceTest {
@@ -54,6 +67,16 @@ class SecurityDashboardServiceTest {
     private PasswordPolicyService passwordPolicyService;
     @Mock
     private EncryptionService encryptionService;
+    @Mock
+    private SecurityPostureStore securityPostureStore;
+    @Spy
+    private ParallelQueryExecutor parallelQueryExecutor = new ParallelQueryExecutor(
+            new AppProperties(), mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+    }
 
     @Nested
     @DisplayName("보안 대시보드 조회 (getSecurityDashboard)")
@@ -64,31 +87,11 @@ class SecurityDashboardServiceTest {
         void getSecurityDashboardWithAllFactorsFulfilled() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, "enc_recovery_email");
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
-            // 2FA enabled (30pts)
-            TwoFactorStatusResponse twoFactorStatus = TwoFactorStatusResponse.builder()
-                    .enabled(true)
-                    .remainingBackupCodes(8)
-                    .build();
-            given(totpService.getTwoFactorStatus(userId)).willReturn(twoFactorStatus);
-
-            // Password healthy (25pts) - recent change, not expired
-            UserSignInInfo signInInfo = createSignInInfo(user);
-            setField(signInInfo, "passwordUpdatedAt", LocalDateTime.now().minusDays(10));
-            given(userSignInInfoRepository.findByUserId(userId)).willReturn(Optional.of(signInInfo));
-            given(passwordPolicyService.isPasswordExpired(signInInfo)).willReturn(false);
-            given(passwordPolicyService.getDaysUntilExpiration(signInInfo)).willReturn(80);
-
-            // Social accounts linked (15pts) - 소셜 채널 2개 이상 = 15점
-            given(userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL)).willReturn(3L);
-
-            // Recent login activity - all successful (15pts)
-            LoginHistory successLogin = createLoginHistory(userId, true, "Seoul");
-            given(loginHistoryRepository.findRecentByUserId(eq(userId), any(PageRequest.class)))
-                    .willReturn(List.of(successLogin));
+            SecurityPosture posture = new SecurityPosture(true, 8, true, LocalDateTime.now().minusDays(10),
+                    true, 3, 1, List.of(recentLogin(true)));
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(posture));
+            given(passwordPolicyService.isPasswordExpiredSince(posture.passwordUpdatedAt())).willReturn(false);
+            given(passwordPolicyService.getDaysUntilExpirationSince(posture.passwordUpdatedAt())).willReturn(80);
 
             // when
             SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
@@ -98,33 +101,31 @@ class SecurityDashboardServiceTest {
             assertThat(response.getSecurityScore()).isGreaterThanOrEqualTo(80);
             assertThat(response.getSecurityLevel()).isIn("EXCELLENT", "GOOD");
             assertThat(response.getFactors()).isNotEmpty();
+            assertThat(response.getRecentActivities()).hasSize(1);
         }
 
         @Test
-        @DisplayName("최소 보안 상태에서는 낮은 점수를 반환해야 한다")
-        void getSecurityDashboardWithMinimalSecurity() {
+        @DisplayName("보안 상태 스냅샷이 있으면 DB를 조회하지 않아야 한다")
+        void getSecurityDashboardFromPostureWithoutQueries() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, null); // no recovery email
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(minimalPosture()));
 
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
-            // 2FA disabled (0pts)
-            TwoFactorStatusResponse twoFactorStatus = TwoFactorStatusResponse.builder()
-                    .enabled(false)
-                    .remainingBackupCodes(0)
-                    .build();
-            given(totpService.getTwoFactorStatus(userId)).willReturn(twoFactorStatus);
-
-            // No sign in info (social only)
-            given(userSignInInfoRepository.findByUserId(userId)).willReturn(Optional.empty());
+            // when
+            securityDashboardService.getSecurityDashboard(userId);
 
-            // Only 1 channel (10pts)
-            given(userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL)).willReturn(0L);
+            // then
+            verifyNoInteractions(userRepository, userSignInInfoRepository, userChannelRepository,
+                    loginHistoryRepository, userPasskeyRepository, totpService, parallelQueryExecutor);
+            verify(securityPostureStore, never()).save(any(), any());
+        }
 
-            // No recent login
-            given(loginHistoryRepository.findRecentByUserId(eq(userId), any(PageRequest.class)))
-                    .willReturn(List.of());
+        @Test
+        @DisplayName("최소 보안 상태에서는 낮은 점수를 반환해야 한다")
+        void getSecurityDashboardWithMinimalSecurity() {
+            // given
+            Long userId = 1L;
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(minimalPosture()));
 
             // when
             SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
@@ -140,19 +141,8 @@ class SecurityDashboardServiceTest {
         void getSecurityDashboardWith2FAEnabled() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, null);
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
-            TwoFactorStatusResponse twoFactorStatus = TwoFactorStatusResponse.builder()
-                    .enabled(true)
-                    .remainingBackupCodes(8)
-                    .build();
-            given(totpService.getTwoFactorStatus(userId)).willReturn(twoFactorStatus);
-            given(userSignInInfoRepository.findByUserId(userId)).willReturn(Optional.empty());
-            given(userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL)).willReturn(0L);
-            given(loginHistoryRepository.findRecentByUserId(eq(userId), any(PageRequest.class)))
-                    .willReturn(List.of());
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(
+                    new SecurityPosture(true, 8, false, null, false, 0, 0, List.of())));
 
             // when
             SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
@@ -168,19 +158,8 @@ class SecurityDashboardServiceTest {
         void getSecurityDashboardWithRecoveryEmail() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, "enc_recovery_email");
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
-            TwoFactorStatusResponse twoFactorStatus = TwoFactorStatusResponse.builder()
-                    .enabled(false)
-                    .remainingBackupCodes(0)
-                    .build();
-            given(totpService.getTwoFactorStatus(userId)).willReturn(twoFactorStatus);
-            given(userSignInInfoRepository.findByUserId(userId)).willReturn(Optional.empty());
-            given(userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL)).willReturn(0L);
-            given(loginHistoryRepository.findRecentByUserId(eq(userId), any(PageRequest.class)))
-                    .willReturn(List.of());
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(
+                    new SecurityPosture(false, 0, false, null, true, 0, 0, List.of())));
 
             // when
             SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
@@ -196,19 +175,7 @@ class SecurityDashboardServiceTest {
         void getSecurityDashboardGeneratesRecommendations() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, null); // no recovery email
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
-            TwoFactorStatusResponse twoFactorStatus = TwoFactorStatusResponse.builder()
-                    .enabled(false)
-                    .remainingBackupCodes(0)
-                    .build();
-            given(totpService.getTwoFactorStatus(userId)).willReturn(twoFactorStatus);
-            given(userSignInInfoRepository.findByUserId(userId)).willReturn(Optional.empty());
-            given(userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL)).willReturn(0L);
-            given(loginHistoryRepository.findRecentByUserId(eq(userId), any(PageRequest.class)))
-                    .willReturn(List.of());
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(minimalPosture()));
 
             // when
             SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
@@ -224,15 +191,38 @@ class SecurityDashboardServiceTest {
         }
 
         @Test
-        @DisplayName("존재하지 않는 사용자의 경우 예외를 발생시켜야 한다")
-        void getSecurityDashboardFailsUserNotFound() {
+        @DisplayName("남은 백업 코드가 적으면 재생성을 권장해야 한다")
+        void getSecurityDashboardRecommendsBackupCodeRegeneration() {
             // given
-            Long userId = 999L;
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            Long userId = 1L;
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(
+                    new SecurityPosture(true, 1, false, null, true, 0, 0, List.of())));
 
-            // when & then
-            assertThatThrownBy(() -> securityDashboardService.getSecurityDashboard(userId))
-                    .isInstanceOf(UserNotFoundException.class);
+            // when
+            SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
+
+            // then
+            assertThat(response.getRecommendations()).anyMatch(r -> r.contains("백업 코드"));
+        }
+
+        @Test
+        @DisplayName("최근 로그인에 실패가 있으면 로그인 모니터링 점수가 낮아야 한다")
+        void getSecurityDashboardWithFailedRecentLogin() {
+            // given
+            Long userId = 1L;
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(
+                    new SecurityPosture(false, 0, false, null, false, 0, 0,
+                            List.of(recentLogin(true), recentLogin(false)))));
+
+            // when
+            SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
+
+            // then
+            assertThat(response.getFactors()).anyMatch(
+                    factor -> "LOGIN_MONITORING".equals(factor.getName()) && factor.getScore() == 10
+            );
+            assertThat(response.getRecentActivities()).extracting("type")
+                    .containsExactly("LOGIN_SUCCESS", "LOGIN_FAILURE");
         }
 
         @Test
@@ -240,21 +230,76 @@ class SecurityDashboardServiceTest {
         void getSecurityDashboardWithExpiredPassword() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, null);
+            LocalDateTime passwordUpdatedAt = LocalDateTime.now().minusDays(120);
+            given(securityPostureStore.find(userId)).willReturn(Optional.of(
+                    new SecurityPosture(false, 0, true, passwordUpdatedAt, false, 0, 0, List.of())));
+            given(passwordPolicyService.isPasswordExpiredSince(passwordUpdatedAt)).willReturn(true);
 
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            // when
+            SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
 
-            TwoFactorStatusResponse twoFactorStatus = TwoFactorStatusResponse.builder()
-                    .enabled(false)
-                    .remainingBackupCodes(0)
-                    .build();
-            given(totpService.getTwoFactorStatus(userId)).willReturn(twoFactorStatus);
+            // then
+            assertThat(response.getFactors()).anyMatch(
+                    factor -> "PASSWORD_HEALTH".equals(factor.getName()) && factor.getScore() == 5
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("보안 상태 재구성")
+    class RebuildPosture {
 
+        @Test
+        @DisplayName("스냅샷이 없으면 DB에서 재구성해 저장해야 한다")
+        void rebuildsPostureFromDatabase() {
+            // given
+            Long userId = 1L;
+            User user = createUser(userId, "enc_recovery_email");
+            given(securityPostureStore.find(userId)).willReturn(Optional.empty());
+            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            given(totpService.getTwoFactorStatus(userId)).willReturn(TwoFactorStatusResponse.builder()
+                    .enabled(true)
+                    .remainingBackupCodes(8)
+                    .build());
             UserSignInInfo signInInfo = createSignInInfo(user);
+            setField(signInInfo, "passwordUpdatedAt", LocalDateTime.now().minusDays(10));
             given(userSignInInfoRepository.findByUserId(userId)).willReturn(Optional.of(signInInfo));
-            given(passwordPolicyService.isPasswordExpired(signInInfo)).willReturn(true);
+            given(userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL)).willReturn(2L);
+            given(userPasskeyRepository.countByUserId(userId)).willReturn(1L);
+            given(loginHistoryRepository.findRecentByUserId(eq(userId), any(PageRequest.class)))
+                    .willReturn(List.of(createLoginHistory(userId, true, "Seoul")));
 
-            given(userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL)).willReturn(0L);
+            // when
+            securityDashboardService.getSecurityDashboard(userId);
+
+            // then
+            ArgumentCaptor<SecurityPosture> captor = ArgumentCaptor.forClass(SecurityPosture.class);
+            verify(securityPostureStore).save(eq(userId), captor.capture());
+            SecurityPosture posture = captor.getValue();
+            assertThat(posture.twoFactorEnabled()).isTrue();
+            assertThat(posture.backupCodesRemaining()).isEqualTo(8);
+            assertThat(posture.hasPassword()).isTrue();
+            assertThat(posture.passwordUpdatedAt()).isEqualTo(signInInfo.getPasswordUpdatedAt());
+            assertThat(posture.recoveryEmailSet()).isTrue();
+            assertThat(posture.socialLinkCount()).isEqualTo(2);
+            assertThat(posture.passkeyCount()).isEqualTo(1);
+            assertThat(posture.recentLogins()).hasSize(1);
+            assertThat(posture.recentLogins().get(0).location()).isEqualTo("Seoul");
+        }
+
+        @Test
+        @DisplayName("소셜 전용 사용자는 비밀번호 항목 없이 재구성해야 한다")
+        void rebuildsPostureForSocialOnlyUser() {
+            // given
+            Long userId = 1L;
+            given(securityPostureStore.find(userId)).willReturn(Optional.empty());
+            given(userRepository.findById(userId)).willReturn(Optional.of(createUser(userId, null)));
+            given(totpService.getTwoFactorStatus(userId)).willReturn(TwoFactorStatusResponse.builder()
+                    .enabled(false)
+                    .remainingBackupCodes(0)
+                    .build());
+            given(userSignInInfoRepository.findByUserId(userId)).willReturn(Optional.empty());
+            given(userChannelRepository.countByUserIdAndChannelCodeNot(userId, ChannelCode.EMAIL)).willReturn(1L);
             given(loginHistoryRepository.findRecentByUserId(eq(userId), any(PageRequest.class)))
                     .willReturn(List.of());
 
@@ -262,13 +307,37 @@ class SecurityDashboardServiceTest {
             SecurityDashboardResponse response = securityDashboardService.getSecurityDashboard(userId);
 
             // then
+            assertThat(response.getFactors()).noneMatch(factor -> "PASSWORD_HEALTH".equals(factor.getName()));
             assertThat(response.getFactors()).anyMatch(
-                    factor -> "PASSWORD_HEALTH".equals(factor.getName()) && factor.getScore() == 5
+                    factor -> "SOCIAL_LINKED".equals(factor.getName()) && factor.getScore() == 10
             );
         }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자의 경우 예외를 발생시켜야 한다")
+        void getSecurityDashboardFailsUserNotFound() {
+            // given
+            Long userId = 999L;
+            given(securityPostureStore.find(userId)).willReturn(Optional.empty());
+            given(userRepository.findById(userId)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> securityDashboardService.getSecurityDashboard(userId))
+                    .isInstanceOf(UserNotFoundException.class);
+            verify(securityPostureStore, never()).save(any(), any());
+        }
     }
 
     // Helper methods
+    private SecurityPosture minimalPosture() {
+        return new SecurityPosture(false, 0, false, null, false, 0, 0, List.of());
+    }
+
+    private SecurityPosture.RecentLogin recentLogin(boolean success) {
+        return new SecurityPosture.RecentLogin(success, ChannelCode.EMAIL, success ? null : "INVALID_PASSWORD",
+                "192.168.1.1", "Seoul", "Chrome", "macOS", LocalDateTime.now());
+    }
+
     private User createUser(Long id, String recoveryEmailEnc) {
         User user = User.builder()
                 .emailEnc("enc_email")
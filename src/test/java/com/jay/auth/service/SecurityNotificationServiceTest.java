@@ -1,23 +1,24 @@
 package com.jay.auth.service;
 
-import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.ChannelCode;
-import com.jay.auth.repository.UserRepository;
+import com.jay.auth.domain.enums.EmailMessageType;
 import com.jay.auth.security.TokenStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,73 +28,44 @@ class SecurityNotificationServiceTest {
     private SecurityNotificationService securityNotificationService;
 
     @Mock
-    private EmailSender emailSender;
-
-    @Mock
-    private EncryptionService encryptionService;
-
-    @Mock
-    private UserRepository userRepository;
+    private EmailOutboxService emailOutboxService;
 
     @Nested
     @DisplayName("새 기기 로그인 알림")
     class NotifyNewDeviceLogin {
 
         @Test
-        @DisplayName("새 기기 로그인 시 이메일 알림을 발송해야 한다")
-        void sendNewDeviceLoginNotification() {
+        @DisplayName("새 기기 로그인 시 기기 정보와 함께 아웃박스에 기록해야 한다")
+        void queueNewDeviceLoginNotification() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-            TokenStore.SessionInfo sessionInfo = new TokenStore.SessionInfo(
-                    "Desktop", "Chrome", "Windows 10", "192.168.1.1", "Seoul");
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
-
-            // when
-            securityNotificationService.notifyNewDeviceLogin(userId, sessionInfo);
-
-            // then
-            verify(emailSender).sendNewDeviceLoginAlert(
-                    eq("test@example.com"), anyString(), eq("192.168.1.1"), eq("Seoul"), anyString());
-        }
-
-        @Test
-        @DisplayName("사용자가 없으면 알림을 발송하지 않아야 한다")
-        void doNotSendWhenUserNotFound() {
-            // given
-            Long userId = 999L;
             TokenStore.SessionInfo sessionInfo = new TokenStore.SessionInfo(
                     "Desktop", "Chrome", "Windows 10", "192.168.1.1", "Seoul");
 
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
-
             // when
             securityNotificationService.notifyNewDeviceLogin(userId, sessionInfo);
 
             // then
-            verify(emailSender, never()).sendNewDeviceLoginAlert(
-                    anyString(), anyString(), anyString(), anyString(), anyString());
+            Map<String, String> params = captureParams(EmailMessageType.NEW_DEVICE_LOGIN, userId);
+            assertThat(params)
+                    .containsEntry("deviceInfo", "Chrome / Windows 10 (Desktop)")
+                    .containsEntry("ipAddress", "192.168.1.1")
+                    .containsEntry("location", "Seoul")
+                    .containsKey("time");
         }
 
         @Test
-        @DisplayName("이메일이 없는 사용자는 알림을 발송하지 않아야 한다")
-        void doNotSendWhenNoEmail() {
+        @DisplayName("위치 정보가 없어도 기록해야 한다")
+        void queueWithoutLocation() {
             // given
-            Long userId = 1L;
-            User user = createUser(userId, null);
             TokenStore.SessionInfo sessionInfo = new TokenStore.SessionInfo(
-                    "Desktop", "Chrome", "Windows 10", "192.168.1.1", "Seoul");
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+                    "Mobile", "Safari", "iOS", "10.0.0.1", null);
 
             // when
-            securityNotificationService.notifyNewDeviceLogin(userId, sessionInfo);
+            securityNotificationService.notifyNewDeviceLogin(1L, sessionInfo);
 
             // then
-            verify(emailSender, never()).sendNewDeviceLoginAlert(
-                    anyString(), anyString(), anyString(), anyString(), anyString());
+            assertThat(captureParams(EmailMessageType.NEW_DEVICE_LOGIN, 1L)).containsEntry("location", null);
         }
     }
 
@@ -102,34 +74,13 @@ class SecurityNotificationServiceTest {
     class NotifyPasswordChanged {
 
         @Test
-        @DisplayName("비밀번호 변경 시 이메일 알림을 발송해야 한다")
-        void sendPasswordChangedNotification() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
-
+        @DisplayName("비밀번호 변경 시 아웃박스에 기록해야 한다")
+        void queuePasswordChangedNotification() {
             // when
-            securityNotificationService.notifyPasswordChanged(userId);
+            securityNotificationService.notifyPasswordChanged(1L);
 
             // then
-            verify(emailSender).sendPasswordChangedAlert(eq("test@example.com"), anyString());
-        }
-
-        @Test
-        @DisplayName("사용자가 없으면 알림을 발송하지 않아야 한다")
-        void doNotSendWhenUserNotFound() {
-            // given
-            Long userId = 999L;
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
-
-            // when
-            securityNotificationService.notifyPasswordChanged(userId);
-
-            // then
-            verify(emailSender, never()).sendPasswordChangedAlert(anyString(), anyString());
+            assertThat(captureParams(EmailMessageType.PASSWORD_CHANGED, 1L)).containsKey("time");
         }
     }
 
@@ -138,293 +89,122 @@ class SecurityNotificationServiceTest {
     class NotifyAccountLinked {
 
         @Test
-        @DisplayName("계정 연동 시 이메일 알림을 발송해야 한다")
-        void sendAccountLinkedNotification() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
-
-            // when
-            securityNotificationService.notifyAccountLinked(userId, ChannelCode.GOOGLE);
-
-            // then
-            verify(emailSender).sendAccountLinkedAlert(eq("test@example.com"), eq("Google"), anyString());
-        }
-
-        @Test
-        @DisplayName("사용자가 없으면 알림을 발송하지 않아야 한다")
-        void doNotSendWhenUserNotFound() {
-            // given
-            Long userId = 999L;
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
-
-            // when
-            securityNotificationService.notifyAccountLinked(userId, ChannelCode.GOOGLE);
-
-            // then
-            verify(emailSender, never()).sendAccountLinkedAlert(anyString(), anyString(), anyString());
-        }
-    }
-
-    @Nested
-    @DisplayName("계정 연동 해제 알림")
-    class NotifyAccountUnlinked {
-
-        @Test
-        @DisplayName("계정 연동 해제 시 이메일 알림을 발송해야 한다")
-        void sendAccountUnlinkedNotification() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
-
-            // when
-            securityNotificationService.notifyAccountUnlinked(userId, ChannelCode.KAKAO);
-
-            // then
-            verify(emailSender).sendAccountUnlinkedAlert(eq("test@example.com"), eq("카카오"), anyString());
-        }
-
-        @Test
-        @DisplayName("사용자가 없으면 알림을 발송하지 않아야 한다")
-        void doNotSendWhenUserNotFound() {
-            // given
-            Long userId = 999L;
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
-
-            // when
-            securityNotificationService.notifyAccountUnlinked(userId, ChannelCode.NAVER);
-
-            // then
-            verify(emailSender, never()).sendAccountUnlinkedAlert(anyString(), anyString(), anyString());
-        }
-    }
-
-    @Nested
-    @DisplayName("비밀번호 만료 임박 알림")
-    class NotifyPasswordExpiringSoon {
-
-        @Test
-        @DisplayName("정상 발송 — sendPasswordExpiringSoonAlert 호출됨")
-        void sendAlert() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-            LocalDateTime expireDate = LocalDateTime.now().plusDays(7);
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
-
-            // when
-            securityNotificationService.notifyPasswordExpiringSoon(userId, 7, expireDate);
-
-            // then
-            verify(emailSender).sendPasswordExpiringSoonAlert(eq("test@example.com"), eq(7), anyString());
-        }
-
-        @Test
-        @DisplayName("사용자 없음 — emailSender 미호출")
-        void userNotFound() {
-            // given
-            Long userId = 999L;
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
-
+        @DisplayName("계정 연동 시 채널 표시 이름으로 기록해야 한다")
+        void queueAccountLinkedNotification() {
             // when
-            securityNotificationService.notifyPasswordExpiringSoon(userId, 7, LocalDateTime.now().plusDays(7));
+            securityNotificationService.notifyAccountLinked(1L, ChannelCode.GOOGLE);
 
             // then
-            verify(emailSender, never()).sendPasswordExpiringSoonAlert(anyString(), anyInt(), anyString());
+            assertThat(captureParams(EmailMessageType.ACCOUNT_LINKED, 1L)).containsEntry("channelName", "Google");
         }
 
         @Test
-        @DisplayName("emailEnc null — emailSender 미호출")
-        void emailEncNull() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, null);
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
+        @DisplayName("계정 연동 해제 시 채널 표시 이름으로 기록해야 한다")
+        void queueAccountUnlinkedNotification() {
             // when
-            securityNotificationService.notifyPasswordExpiringSoon(userId, 7, LocalDateTime.now().plusDays(7));
+            securityNotificationService.notifyAccountUnlinked(1L, ChannelCode.KAKAO);
 
             // then
-            verify(emailSender, never()).sendPasswordExpiringSoonAlert(anyString(), anyInt(), anyString());
-        }
-
-        @Test
-        @DisplayName("emailSender 예외 발생 시 예외 미전파")
-        void emailSenderExceptionNotPropagated() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
-            org.mockito.Mockito.doThrow(new RuntimeException("메일 발송 실패"))
-                    .when(emailSender).sendPasswordExpiringSoonAlert(anyString(), anyInt(), anyString());
-
-            // when & then (no exception thrown)
-            securityNotificationService.notifyPasswordExpiringSoon(userId, 7, LocalDateTime.now().plusDays(7));
+            assertThat(captureParams(EmailMessageType.ACCOUNT_UNLINKED, 1L)).containsEntry("channelName", "카카오");
         }
     }
 
     @Nested
     @DisplayName("비밀번호 만료 알림")
-    class NotifyPasswordExpired {
+    class NotifyPasswordExpiration {
 
         @Test
-        @DisplayName("정상 발송 — sendPasswordExpiredAlert 호출됨")
-        void sendAlert() {
+        @DisplayName("만료 임박 알림은 남은 일수와 만료일로 기록해야 한다")
+        void queueExpiringSoon() {
             // given
-            Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-            LocalDateTime expireDate = LocalDateTime.now();
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
+            LocalDateTime expireDate = LocalDateTime.of(2026, 3, 1, 9, 0);
 
             // when
-            securityNotificationService.notifyPasswordExpired(userId, expireDate);
+            securityNotificationService.notifyPasswordExpiringSoon(1L, 7, expireDate);
 
             // then
-            verify(emailSender).sendPasswordExpiredAlert(eq("test@example.com"), anyString());
+            assertThat(captureParams(EmailMessageType.PASSWORD_EXPIRING_SOON, 1L))
+                    .containsEntry("daysLeft", "7")
+                    .containsKey("expireDate");
         }
 
         @Test
-        @DisplayName("사용자 없음 — emailSender 미호출")
-        void userNotFound() {
+        @DisplayName("같은 만료일·남은 일수의 알림은 같은 dedupKey를 사용해야 한다")
+        void sameDedupKeyForSameExpiration() {
             // given
-            Long userId = 999L;
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            LocalDateTime expireDate = LocalDateTime.of(2026, 3, 1, 9, 0);
+            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
 
             // when
-            securityNotificationService.notifyPasswordExpired(userId, LocalDateTime.now());
+            securityNotificationService.notifyPasswordExpiringSoon(1L, 7, expireDate);
+            securityNotificationService.notifyPasswordExpiringSoon(1L, 7, expireDate.plusHours(3));
+            securityNotificationService.notifyPasswordExpiringSoon(1L, 3, expireDate);
 
             // then
-            verify(emailSender, never()).sendPasswordExpiredAlert(anyString(), anyString());
+            verify(emailOutboxService, times(3)).enqueueForUser(
+                    eq(EmailMessageType.PASSWORD_EXPIRING_SOON), eq(1L), anyMap(), keyCaptor.capture());
+            assertThat(keyCaptor.getAllValues().get(0)).isEqualTo(keyCaptor.getAllValues().get(1));
+            assertThat(keyCaptor.getAllValues().get(0)).isNotEqualTo(keyCaptor.getAllValues().get(2));
         }
 
         @Test
-        @DisplayName("emailEnc null — emailSender 미호출")
-        void emailEncNull() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, null);
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
+        @DisplayName("만료 알림은 만료일로 기록해야 한다")
+        void queueExpired() {
             // when
-            securityNotificationService.notifyPasswordExpired(userId, LocalDateTime.now());
+            securityNotificationService.notifyPasswordExpired(1L, LocalDateTime.now());
 
             // then
-            verify(emailSender, never()).sendPasswordExpiredAlert(anyString(), anyString());
+            assertThat(captureParams(EmailMessageType.PASSWORD_EXPIRED, 1L)).containsKey("expireDate");
         }
     }
 
     @Nested
-    @DisplayName("패스키 등록 알림")
-    class NotifyPasskeyRegistered {
+    @DisplayName("패스키 알림")
+    class NotifyPasskey {
 
         @Test
-        @DisplayName("정상 발송 — sendPasskeyRegisteredAlert 호출됨")
-        void sendAlert() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
-
+        @DisplayName("패스키 등록 시 기기 이름으로 기록해야 한다")
+        void queuePasskeyRegistered() {
             // when
-            securityNotificationService.notifyPasskeyRegistered(userId, "MacBook Pro");
+            securityNotificationService.notifyPasskeyRegistered(1L, "MacBook Pro");
 
             // then
-            verify(emailSender).sendPasskeyRegisteredAlert(eq("test@example.com"), eq("MacBook Pro"), anyString());
+            assertThat(captureParams(EmailMessageType.PASSKEY_REGISTERED, 1L)).containsEntry("deviceName", "MacBook Pro");
         }
 
         @Test
-        @DisplayName("사용자 없음 — emailSender 미호출")
-        void userNotFound() {
-            // given
-            Long userId = 999L;
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
-
+        @DisplayName("패스키 삭제 시 기기 이름으로 기록해야 한다")
+        void queuePasskeyRemoved() {
             // when
-            securityNotificationService.notifyPasskeyRegistered(userId, "MacBook Pro");
+            securityNotificationService.notifyPasskeyRemoved(1L, "iPhone 15");
 
             // then
-            verify(emailSender, never()).sendPasskeyRegisteredAlert(anyString(), anyString(), anyString());
-        }
-
-        @Test
-        @DisplayName("emailEnc null — emailSender 미호출")
-        void emailEncNull() {
-            // given
-            Long userId = 1L;
-            User user = createUser(userId, null);
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
-            // when
-            securityNotificationService.notifyPasskeyRegistered(userId, "MacBook Pro");
-
-            // then
-            verify(emailSender, never()).sendPasskeyRegisteredAlert(anyString(), anyString(), anyString());
+            assertThat(captureParams(EmailMessageType.PASSKEY_REMOVED, 1L)).containsEntry("deviceName", "iPhone 15");
         }
     }
 
     @Nested
-    @DisplayName("패스키 삭제 알림")
-    class NotifyPasskeyRemoved {
+    @DisplayName("계정 잠금 알림")
+    class NotifyAccountLocked {
 
         @Test
-        @DisplayName("정상 발송 — sendPasskeyRemovedAlert 호출됨")
-        void sendAlert() {
+        @DisplayName("잠금 사유와 함께 기록해야 한다")
+        void queueAccountLocked() {
             // given
-            Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(encryptionService.decryptEmail("enc_email")).willReturn("test@example.com");
+            given(emailOutboxService.enqueueForUser(any(), any(), anyMap(), anyString())).willReturn(true);
 
             // when
-            securityNotificationService.notifyPasskeyRemoved(userId, "iPhone 15");
+            securityNotificationService.notifyAccountLocked(1L, "로그인 10회 연속 실패");
 
             // then
-            verify(emailSender).sendPasskeyRemovedAlert(eq("test@example.com"), eq("iPhone 15"), anyString());
-        }
-
-        @Test
-        @DisplayName("사용자 없음 — emailSender 미호출")
-        void userNotFound() {
-            // given
-            Long userId = 999L;
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
-
-            // when
-            securityNotificationService.notifyPasskeyRemoved(userId, "iPhone 15");
-
-            // then
-            verify(emailSender, never()).sendPasskeyRemovedAlert(anyString(), anyString(), anyString());
+            assertThat(captureParams(EmailMessageType.ACCOUNT_LOCKED, 1L)).containsEntry("reason", "로그인 10회 연속 실패");
         }
     }
 
-    // Helper methods
-    private User createUser(Long userId, String emailEnc) {
-        User user = User.builder()
-                .emailEnc(emailEnc)
-                .build();
-        setField(user, "id", userId);
-        return user;
-    }
-
-    private void setField(Object target, String fieldName, Object value) {
-        try {
-            java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            field.set(target, value);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    @SuppressWarnings("unchecked")
+    private Map<String, String> captureParams(EmailMessageType type, Long userId) {
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(emailOutboxService).enqueueForUser(eq(type), eq(userId), captor.capture(), startsWith(type.name() + ":" + userId + ":"));
+        return captor.getValue();
     }
 }
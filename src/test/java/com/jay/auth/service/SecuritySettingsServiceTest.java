@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.enums.UserStatus;
 import com.jay.auth.dto.response.SecuritySettingsResponse;
@@ -36,6 +37,9 @@ class SecuritySettingsServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCacheGenerations userCacheGenerations;
+
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
@@ -248,6 +252,7 @@ class SecuritySettingsServiceTest {
             // then
             assertThat(user.getStatus()).isEqualTo(UserStatus.LOCKED);
             verify(valueOperations).set("lock:reason:" + userId, "수동 잠금");
+            verify(userCacheGenerations).bump(userId);
             verify(redisTemplate).delete("lock:attempts:" + userId);
         }
 
@@ -298,6 +303,7 @@ class SecuritySettingsServiceTest {
             // then
             assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
             verify(redisTemplate).delete("lock:reason:" + userId);
+            verify(userCacheGenerations).bump(userId);
             verify(redisTemplate).delete("lock:attempts:" + userId);
         }
 
@@ -0,0 +1,239 @@
+package com.jay.auth.service;
+
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SmsDispatchQueueTest {
+
+    @Mock
+    private SmsSender smsSender;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties appProperties = new AppProperties();
+    private SmsDispatchQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties.Sms.Dispatch dispatch = appProperties.getSms().getDispatch();
+        dispatch.setQueueCapacity(2);
+        dispatch.setMaxAttempts(2);
+        dispatch.setRetryBackoffMillis(1_000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.destroy();
+        }
+    }
+
+    private SmsDispatchQueue createQueue(SmsSender sender) {
+        queue = new SmsDispatchQueue(sender, redisTemplate, appProperties, meterRegistry, now::get);
+        return queue;
+    }
+
+    @Nested
+    @DisplayName("발송")
+    class Dispatch {
+
+        @BeforeEach
+        void setUp() {
+            given(smsSender.providerName()).willReturn("coolsms");
+            createQueue(smsSender);
+        }
+
+        @Test
+        @DisplayName("대기열에 넣은 건을 워커가 발송하고 지연 시간을 기록해야 한다")
+        void sendsQueuedMessage() throws InterruptedException {
+            // given
+            queue.enqueue("010-1234-5678", "123456", "dedup", Duration.ofMinutes(3));
+            now.addAndGet(200);
+
+            // when
+            boolean dispatched = queue.dispatchOnce(0);
+
+            // then
+            assertThat(dispatched).isTrue();
+            verify(smsSender).sendVerificationCode("010-1234-5678", "123456");
+            assertThat(meterRegistry.get("sms_dispatch_total").tag("result", "sent").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("sms_delivery_latency_seconds").tag("result", "sent").timer().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("발송에 실패하면 백오프 후 다시 시도해야 한다")
+        void retriesAfterBackoff() throws InterruptedException {
+            // given
+            willThrow(new IllegalStateException("timeout")).willDoNothing()
+                    .given(smsSender).sendVerificationCode("010-1234-5678", "123456");
+            queue.enqueue("010-1234-5678", "123456", "dedup", Duration.ofMinutes(3));
+            queue.dispatchOnce(0);
+
+            // when & then - 백오프 전에는 꺼내지 않는다
+            assertThat(queue.dispatchOnce(0)).isFalse();
+            now.addAndGet(1_000);
+            assertThat(queue.dispatchOnce(0)).isTrue();
+            verify(smsSender, times(2)).sendVerificationCode("010-1234-5678", "123456");
+            assertThat(meterRegistry.get("sms_dispatch_total").tag("result", "retried").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수를 넘으면 포기하고 중복 억제 예약을 해제해야 한다")
+        void givesUpAfterMaxAttempts() throws InterruptedException {
+            // given
+            willThrow(new IllegalStateException("provider down"))
+                    .given(smsSender).sendVerificationCode(any(), any());
+            queue.enqueue("010-1234-5678", "123456", "dedup", Duration.ofMinutes(3));
+
+            // when
+            queue.dispatchOnce(0);
+            now.addAndGet(1_000);
+            queue.dispatchOnce(0);
+
+            // then
+            assertThat(queue.size()).isZero();
+            assertThat(meterRegistry.get("sms_dispatch_total").tag("result", "failed").counter().count()).isEqualTo(1);
+            verify(redisTemplate).delete("sms:dedup:dedup");
+        }
+
+        @Test
+        @DisplayName("인증 코드 유효 시간이 지난 건은 발송하지 않아야 한다")
+        void dropsExpiredMessage() throws InterruptedException {
+            // given
+            queue.enqueue("010-1234-5678", "123456", "dedup", Duration.ofMinutes(3));
+            now.addAndGet(Duration.ofMinutes(3).toMillis());
+
+            // when
+            queue.dispatchOnce(0);
+
+            // then
+            verify(smsSender, never()).sendVerificationCode(any(), any());
+            assertThat(meterRegistry.get("sms_dispatch_total").tag("result", "expired").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("제공자 버킷이 비어 있으면 토큰이 충전될 때까지 기다린 뒤 발송해야 한다")
+        void waitsForSharedRateLimit() throws InterruptedException {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of("sms:rate:coolsms")), eq("0.01"), eq("10")))
+                    .willReturn(5L, 0L);
+            queue.enqueue("010-1234-5678", "123456", "dedup", Duration.ofMinutes(3));
+
+            // when
+            queue.dispatchOnce(0);
+
+            // then
+            verify(redisTemplate, times(2))
+                    .execute(any(RedisScript.class), eq(List.of("sms:rate:coolsms")), eq("0.01"), eq("10"));
+            verify(smsSender).sendVerificationCode("010-1234-5678", "123456");
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시에는 인스턴스 로컬 버킷으로 제한하고 발송해야 한다")
+        void fallsBackToLocalRateLimitWhenRedisFails() throws InterruptedException {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), any(), any(), any()))
+                    .willThrow(new IllegalStateException("redis down"));
+            queue.enqueue("010-1234-5678", "123456", "dedup", Duration.ofMinutes(3));
+
+            // when
+            queue.dispatchOnce(0);
+
+            // then
+            verify(smsSender).sendVerificationCode("010-1234-5678", "123456");
+            assertThat(meterRegistry.get("sms_dispatch_total").tag("result", "sent").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 503으로 거절해야 한다")
+        void rejectsWhenFull() {
+            // given
+            queue.enqueue("010-0000-0001", "111111", "a", Duration.ofMinutes(3));
+            queue.enqueue("010-0000-0002", "222222", "b", Duration.ofMinutes(3));
+
+            // when & then
+            assertThatThrownBy(() -> queue.enqueue("010-0000-0003", "333333", "c", Duration.ofMinutes(3)))
+                    .isInstanceOf(ServiceOverloadedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("중복 억제")
+    class Dedup {
+
+        @BeforeEach
+        void setUp() {
+            given(smsSender.providerName()).willReturn("coolsms");
+            createQueue(smsSender);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        }
+
+        @Test
+        @DisplayName("창 안에 같은 대상으로 이미 예약되어 있으면 거절해야 한다")
+        void suppressesDuplicate() {
+            // given
+            given(valueOperations.setIfAbsent(eq("sms:dedup:key"), eq("1"), any(Duration.class))).willReturn(false);
+
+            // when & then
+            assertThat(queue.tryReserve("key")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시에는 발송을 허용해야 한다")
+        void allowsWhenRedisFails() {
+            // given
+            given(valueOperations.setIfAbsent(eq("sms:dedup:key"), eq("1"), any(Duration.class)))
+                    .willThrow(new IllegalStateException("redis down"));
+
+            // when & then
+            assertThat(queue.tryReserve("key")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("LogSmsSender로도 대기열을 통해 발송할 수 있어야 한다")
+    void worksWithLogSender() throws InterruptedException {
+        // given
+        createQueue(new LogSmsSender());
+        queue.enqueue("010-1234-5678", "123456", "dedup", Duration.ofMinutes(3));
+
+        // when
+        queue.dispatchOnce(0);
+
+        // then
+        assertThat(meterRegistry.get("sms_dispatch_total")
+                .tag("provider", "log").tag("result", "sent").counter().count()).isEqualTo(1);
+    }
+}
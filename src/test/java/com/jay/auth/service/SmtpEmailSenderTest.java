@@ -9,11 +9,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -53,7 +55,7 @@ class SmtpEmailSenderTest {
         }
 
         @Test
-        @DisplayName("MimeMessage 구성 중 MessagingException 발생 시 예외가 전파되지 않아야 한다")
+        @DisplayName("MimeMessage 구성 중 MessagingException 발생 시 재시도할 수 있도록 예외를 전파해야 한다")
         void sendVerificationCodeWithMessagingException() throws MessagingException {
             // given - MimeMessage that causes MessagingException when setContent(Multipart) is called
             MimeMessage badMimeMessage = mock(MimeMessage.class);
@@ -63,9 +65,9 @@ class SmtpEmailSenderTest {
                     .willReturn("<html>인증코드</html>");
             given(mailSender.createMimeMessage()).willReturn(badMimeMessage);
 
-            // when & then - should not throw because sendHtmlEmail catches MessagingException
-            assertThatCode(() -> smtpEmailSender.sendVerificationCode("test@example.com", "123456"))
-                    .doesNotThrowAnyException();
+            // when & then - outbox dispatcher schedules a retry on this exception
+            assertThatThrownBy(() -> smtpEmailSender.sendVerificationCode("test@example.com", "123456"))
+                    .isInstanceOf(MailPreparationException.class);
             verify(mailSender, never()).send(any(MimeMessage.class));
         }
     }
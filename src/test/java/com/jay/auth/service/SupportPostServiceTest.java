@@ -5,6 +5,7 @@ import com.jay.auth.domain.enums.PostCategory;
 import com.jay.auth.domain.enums.PostStatus;
 import com.jay.auth.dto.request.CreateSupportPostRequest;
 import com.jay.auth.dto.request.UpdateSupportPostRequest;
+import com.jay.auth.dto.response.CursorPageResponse;
 import com.jay.auth.dto.response.SupportPostDetailResponse;
 import com.jay.auth.dto.response.SupportPostListResponse;
 import com.jay.auth.exception.SupportPostAccessDeniedException;
@@ -94,6 +95,48 @@ class SupportPostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 커서 조회")
+    class GetPostsByCursor {
+
+        @Test
+        @DisplayName("일반 사용자 커서 조회 시 사용자용 쿼리로 size + 1건을 조회해야 한다")
+        void getPostsByCursorForUser() {
+            // given
+            SupportPost post = createPost(1L, 1L, "테스트", "테스트 제목", "테스트 내용", PostCategory.ACCOUNT, false);
+            given(supportPostRepository.findPageForUser(eq(1L), eq(null), eq(null), eq(null), eq(null), eq(PageRequest.of(0, 11))))
+                    .willReturn(List.of(post));
+
+            // when
+            CursorPageResponse<SupportPostListResponse> result =
+                    supportPostService.getPostsByCursor(1L, false, null, null, null, 10, false);
+
+            // then
+            assertThat(result.getItems()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+            assertThat(result.getTotalElements()).isNull();
+        }
+
+        @Test
+        @DisplayName("관리자 커서 조회 시 includeTotal이면 관리자용 COUNT 쿼리를 실행해야 한다")
+        void getPostsByCursorForAdminWithTotal() {
+            // given
+            given(supportPostRepository.findPageForAdmin(eq(null), eq(PostStatus.OPEN), eq(null), eq(null), any(PageRequest.class)))
+                    .willReturn(List.of());
+            given(supportPostRepository.countForAdmin(null, PostStatus.OPEN)).willReturn(0L);
+
+            // when
+            CursorPageResponse<SupportPostListResponse> result =
+                    supportPostService.getPostsByCursor(1L, true, null, PostStatus.OPEN, null, 10, true);
+
+            // then
+            assertThat(result.getItems()).isEmpty();
+            assertThat(result.getTotalElements()).isZero();
+            verify(supportPostRepository).countForAdmin(null, PostStatus.OPEN);
+        }
+    }
+
     @Nested
     @DisplayName("게시글 상세 조회")
     class GetPost {
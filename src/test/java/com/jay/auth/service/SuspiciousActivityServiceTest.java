@@ -4,6 +4,8 @@ import com.jay.auth.domain.entity.LoginHistory;
 import com.jay.auth.domain.enums.ChannelCode;
 import com.jay.auth.dto.response.SuspiciousActivityResponse;
 import com.jay.auth.repository.LoginHistoryRepository;
+import com.jay.auth.service.risk.LoginRiskState;
+import com.jay.auth.service.risk.LoginRiskStateStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,11 +17,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class SuspiciousActivityServiceTest {
@@ -33,6 +39,9 @@ class SuspiciousActivityServiceTest {
     @Mock
     private TrustedDeviceService trustedDeviceService;
 
+    @Mock
+    private LoginRiskStateStore loginRiskStateStore;
+
     @Nested
     @DisplayName("최근 활동 분석 (analyzeRecentActivity)")
     class AnalyzeRecentActivity {
@@ -241,6 +250,74 @@ class SuspiciousActivityServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("위험 상태 증분 갱신")
+    class IncrementalState {
+
+        @Test
+        @DisplayName("저장된 위험 상태가 있으면 로그인 이력을 조회하지 않아야 한다")
+        void analyzeUsesStoredState() {
+            // given
+            Long userId = 1L;
+            LoginRiskState state = new LoginRiskState();
+            for (int i = 0; i < 5; i++) {
+                state.record(createLoginHistory(userId, false, "10.0.0.1", "Seoul", "Chrome", "macOS", "Desktop",
+                        LocalDateTime.now().minusMinutes(i)));
+            }
+            given(loginRiskStateStore.find(userId)).willReturn(Optional.of(state));
+
+            // when
+            SuspiciousActivityResponse response = suspiciousActivityService.analyzeRecentActivity(userId);
+
+            // then
+            assertThat(response.getEvents()).anyMatch(event -> "BRUTE_FORCE".equals(event.getType()));
+            verify(loginHistoryRepository, never()).findByUserIdAndPeriod(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("위험 상태가 없으면 이력으로 재구성하여 저장해야 한다")
+        void analyzeRebuildsAndSavesState() {
+            // given
+            Long userId = 1L;
+            given(loginHistoryRepository.findByUserIdAndPeriod(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .willReturn(List.of());
+
+            // when
+            suspiciousActivityService.analyzeRecentActivity(userId);
+
+            // then
+            verify(loginRiskStateStore).save(eq(userId), any(LoginRiskState.class));
+        }
+
+        @Test
+        @DisplayName("로그인 이벤트가 저장된 위험 상태에 반영되어야 한다")
+        void recordLoginEventUpdatesState() {
+            // given
+            Long userId = 1L;
+            LoginHistory history = createLoginHistory(userId, false, "10.0.0.1", "Seoul", "Chrome", "macOS", "Desktop",
+                    LocalDateTime.now());
+
+            // when
+            suspiciousActivityService.recordLoginEvent(history);
+
+            // then
+            verify(loginRiskStateStore).update(eq(userId), any(), any());
+        }
+
+        @Test
+        @DisplayName("위험 상태 갱신 실패는 전파되지 않아야 한다")
+        void recordLoginEventSwallowsFailure() {
+            // given
+            Long userId = 1L;
+            LoginHistory history = createLoginHistory(userId, true, "10.0.0.1", "Seoul", "Chrome", "macOS", "Desktop",
+                    LocalDateTime.now());
+            given(loginRiskStateStore.update(eq(userId), any(), any())).willThrow(new RuntimeException("redis down"));
+
+            // when & then
+            assertThatCode(() -> suspiciousActivityService.recordLoginEvent(history)).doesNotThrowAnyException();
+        }
+    }
+
     // Helper methods
     private LoginHistory createLoginHistory(Long userId, boolean isSuccess, String ipAddress,
                                             String location, String browser, String os,
@@ -6,7 +6,6 @@ import com.jay.auth.dto.response.TokenResponse;
 import com.jay.auth.exception.InvalidTokenException;
 import com.jay.auth.security.JwtTokenProvider;
 import com.jay.auth.security.TokenStore;
-import com.jay.auth.service.metrics.AuthGaugeMetrics;
 import com.jay.auth.service.metrics.AuthMetrics;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -42,14 +41,12 @@ class TokenServiceTest {
     private TokenStore tokenStore;
     @Mock
     private AuthMetrics authMetrics;
-    @Mock
-    private AuthGaugeMetrics authGaugeMetrics;
 
     private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @BeforeEach
     void setUp() {
-        tokenService = new TokenService(jwtTokenProvider, tokenStore, authMetrics, authGaugeMetrics, meterRegistry);
+        tokenService = new TokenService(jwtTokenProvider, tokenStore, authMetrics, meterRegistry);
     }
 
     @Nested
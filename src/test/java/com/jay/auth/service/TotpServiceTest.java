@@ -9,8 +9,11 @@ import com.jay.auth.dto.response.TwoFactorSetupResponse;
 import com.jay.auth.dto.response.TwoFactorStatusResponse;
 import com.jay.auth.exception.TwoFactorException;
 import com.jay.auth.exception.UserNotFoundException;
+import com.jay.auth.repository.UserBackupCodeRepository;
 import com.jay.auth.repository.UserRepository;
 import com.jay.auth.repository.UserTwoFactorRepository;
+import com.jay.auth.service.metrics.AuthGaugeMetrics;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import dev.samstevens.totp.code.CodeVerifier;
 import dev.samstevens.totp.secret.SecretGenerator;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +36,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,9 +50,19 @@ class TotpServiceTest {
     @Mock
     private UserTwoFactorRepository userTwoFactorRepository;
     @Mock
+    private UserBackupCodeRepository userBackupCodeRepository;
+    @Mock
     private EncryptionService encryptionService;
     @Mock
     private ObjectMapper objectMapper;
+    @Mock
+    private TotpVerifier totpVerifier;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private AuthGaugeMetrics authGaugeMetrics;
+    @Mock
+    private SecurityPostureStore securityPostureStore;
 
     @Nested
     @DisplayName("2FA 설정 (setupTwoFactor)")
@@ -140,8 +156,7 @@ class TotpServiceTest {
             setField(totpService, "codeVerifier", mockCodeVerifier);
             given(mockCodeVerifier.isValidCode("plain_secret", "123456")).willReturn(true);
 
-            given(objectMapper.writeValueAsString(any(List.class))).willReturn("[\"12345678\"]");
-            given(encryptionService.encrypt("[\"12345678\"]")).willReturn("encrypted_backup");
+            given(encryptionService.hashBackupCode(eq(userId), anyString())).willReturn("code_hash");
 
             // when
             List<String> backupCodes = totpService.enableTwoFactor(userId, "123456");
@@ -149,6 +164,11 @@ class TotpServiceTest {
             // then
             assertThat(backupCodes).isNotNull();
             assertThat(backupCodes).hasSize(8);
+            assertThat(twoFactor.getBackupCodesRemaining()).isEqualTo(8);
+            verify(userBackupCodeRepository).deleteByUserId(userId);
+            verify(userBackupCodeRepository).saveAll(any());
+            verify(authGaugeMetrics).incrementTwoFactorEnabledUsers();
+            verify(securityPostureStore).recordTwoFactor(userId, true, 8);
         }
 
         @Test
@@ -234,6 +254,8 @@ class TotpServiceTest {
 
             // then
             assertThat(twoFactor.isEnabled()).isFalse();
+            verify(authGaugeMetrics).decrementTwoFactorEnabledUsers();
+            verify(securityPostureStore).recordTwoFactor(userId, false, 0);
         }
 
         @Test
@@ -266,64 +288,199 @@ class TotpServiceTest {
     class VerifyCode {
 
         @Test
-        @DisplayName("정상 TOTP 코드로 검증이 성공해야 한다")
+        @DisplayName("캐시된 비밀키로 검증되면 DB 조회 없이 성공해야 한다")
+        void verifyCodeWithCachedSecret() {
+            // given
+            Long userId = 1L;
+            given(totpVerifier.verifyCached(userId, "123456")).willReturn(TotpVerifier.Result.ACCEPTED);
+            given(totpVerifier.claimUsageWrite(userId)).willReturn(false);
+
+            // when
+            boolean result = totpService.verifyCode(userId, "123456");
+
+            // then
+            assertThat(result).isTrue();
+            verify(userTwoFactorRepository, never()).findByUserId(any());
+            verify(userTwoFactorRepository, never()).updateLastUsedAt(any(), any());
+            verify(encryptionService, never()).decrypt(anyString());
+        }
+
+        @Test
+        @DisplayName("사용 시각 기록 주기가 되면 조회 없이 사용 시각만 갱신해야 한다")
+        void verifyCodeRecordsUsagePeriodically() {
+            // given
+            Long userId = 1L;
+            given(totpVerifier.verifyCached(userId, "123456")).willReturn(TotpVerifier.Result.ACCEPTED);
+            given(totpVerifier.claimUsageWrite(userId)).willReturn(true);
+
+            // when
+            totpService.verifyCode(userId, "123456");
+
+            // then
+            verify(userTwoFactorRepository).updateLastUsedAt(eq(userId), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("이미 수락된 time-step의 코드는 재사용할 수 없어야 한다")
+        void verifyCodeRejectsReplay() {
+            // given
+            Long userId = 1L;
+            given(totpVerifier.verifyCached(userId, "123456")).willReturn(TotpVerifier.Result.REPLAYED);
+
+            // when
+            boolean result = totpService.verifyCode(userId, "123456");
+
+            // then
+            assertThat(result).isFalse();
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("캐시 미스면 비밀키를 복호화해 캐시에 적재한 뒤 검증해야 한다")
         void verifyCodeWithValidTotpCode() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-            UserTwoFactor twoFactor = UserTwoFactor.builder()
-                    .user(user)
-                    .build();
-            setField(twoFactor, "secretEnc", "encrypted_secret");
-            setField(twoFactor, "enabled", true);
+            UserTwoFactor twoFactor = createEnabledTwoFactor(userId);
+            runInTransaction();
 
+            given(totpVerifier.verifyCached(userId, "123456"))
+                    .willReturn(TotpVerifier.Result.NOT_CACHED, TotpVerifier.Result.ACCEPTED);
             given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.of(twoFactor));
             given(encryptionService.decrypt("encrypted_secret")).willReturn("plain_secret");
-
-            CodeVerifier mockCodeVerifier = org.mockito.Mockito.mock(CodeVerifier.class);
-            setField(totpService, "codeVerifier", mockCodeVerifier);
-            given(mockCodeVerifier.isValidCode("plain_secret", "123456")).willReturn(true);
+            given(totpVerifier.claimUsageWrite(userId)).willReturn(true);
 
             // when
             boolean result = totpService.verifyCode(userId, "123456");
 
             // then
             assertThat(result).isTrue();
+            verify(totpVerifier).cache(userId, "plain_secret", 0L);
+            assertThat(twoFactor.getLastUsedAt()).isNotNull();
         }
 
         @Test
-        @DisplayName("백업 코드로 검증이 성공해야 한다")
-        void verifyCodeWithBackupCode() throws Exception {
+        @DisplayName("백업 코드로 검증이 성공하면 해시 단건 갱신으로 소비해야 한다")
+        void verifyCodeWithBackupCode() {
             // given
             Long userId = 1L;
-            User user = createUser(userId, "enc_email");
-            UserTwoFactor twoFactor = UserTwoFactor.builder()
-                    .user(user)
-                    .build();
-            setField(twoFactor, "id", 1L);
-            setField(twoFactor, "secretEnc", "encrypted_secret");
-            setField(twoFactor, "enabled", true);
-            setField(twoFactor, "backupCodesEnc", "encrypted_backup");
+            UserTwoFactor twoFactor = createEnabledTwoFactor(userId);
+            setField(twoFactor, "backupCodesRemaining", 2);
+            runInTransaction();
 
+            given(totpVerifier.verifyCached(userId, "12345678")).willReturn(TotpVerifier.Result.REJECTED);
             given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.of(twoFactor));
-            given(encryptionService.decrypt("encrypted_secret")).willReturn("plain_secret");
-            given(encryptionService.decrypt("encrypted_backup")).willReturn("[\"12345678\",\"87654321\"]");
+            given(encryptionService.hashBackupCode(userId, "12345678")).willReturn("code_hash");
+            given(userBackupCodeRepository.consume(eq(userId), eq("code_hash"), any(LocalDateTime.class)))
+                    .willReturn(1);
+            given(userTwoFactorRepository.findBackupCodesRemaining(userId)).willReturn(1);
 
-            CodeVerifier mockCodeVerifier = org.mockito.Mockito.mock(CodeVerifier.class);
-            setField(totpService, "codeVerifier", mockCodeVerifier);
-            given(mockCodeVerifier.isValidCode("plain_secret", "12345678")).willReturn(false);
+            // when
+            boolean result = totpService.verifyCode(userId, "12345678");
 
-            List<String> backupCodes = new java.util.ArrayList<>(List.of("12345678", "87654321"));
+            // then
+            assertThat(result).isTrue();
+            assertThat(twoFactor.getBackupCodesRemaining()).isEqualTo(1);
+            verify(userTwoFactorRepository).decrementBackupCodesRemaining(userId);
+            verify(encryptionService, never()).decrypt(anyString());
+        }
+
+        @Test
+        @DisplayName("동시에 소비된 백업 코드가 있으면 DB에서 감소시킨 남은 수를 반영해야 한다")
+        void verifyCodeWithBackupCodeUsesDatabaseRemaining() {
+            // given: 메모리 값은 3이지만 다른 로그인이 먼저 1개를 소비해 DB 감소 후 값은 1
+            Long userId = 1L;
+            UserTwoFactor twoFactor = createEnabledTwoFactor(userId);
+            setField(twoFactor, "backupCodesRemaining", 3);
+            runInTransaction();
+
+            given(totpVerifier.verifyCached(userId, "12345678")).willReturn(TotpVerifier.Result.REJECTED);
+            given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.of(twoFactor));
+            given(encryptionService.hashBackupCode(userId, "12345678")).willReturn("code_hash");
+            given(userBackupCodeRepository.consume(eq(userId), eq("code_hash"), any(LocalDateTime.class)))
+                    .willReturn(1);
+            given(userTwoFactorRepository.decrementBackupCodesRemaining(userId)).willReturn(1);
+            given(userTwoFactorRepository.findBackupCodesRemaining(userId)).willReturn(1);
+
+            // when
+            boolean result = totpService.verifyCode(userId, "12345678");
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(twoFactor.getBackupCodesRemaining()).isEqualTo(1);
+            verify(securityPostureStore).recordBackupCodesRemaining(userId, 1);
+        }
+
+        @Test
+        @DisplayName("이미 사용했거나 없는 백업 코드는 실패해야 한다")
+        void verifyCodeWithUsedBackupCode() {
+            // given
+            Long userId = 1L;
+            UserTwoFactor twoFactor = createEnabledTwoFactor(userId);
+            setField(twoFactor, "backupCodesRemaining", 2);
+            runInTransaction();
+
+            given(totpVerifier.verifyCached(userId, "12345678")).willReturn(TotpVerifier.Result.REJECTED);
+            given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.of(twoFactor));
+            given(encryptionService.hashBackupCode(userId, "12345678")).willReturn("code_hash");
+            given(userBackupCodeRepository.consume(eq(userId), eq("code_hash"), any(LocalDateTime.class)))
+                    .willReturn(0);
+
+            // when
+            boolean result = totpService.verifyCode(userId, "12345678");
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(twoFactor.getBackupCodesRemaining()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("백업 코드 형식이 아니면 조회 없이 실패해야 한다")
+        void verifyCodeSkipsBackupLookupForTotpFormat() {
+            // given
+            Long userId = 1L;
+            UserTwoFactor twoFactor = createEnabledTwoFactor(userId);
+            setField(twoFactor, "backupCodesRemaining", 2);
+            runInTransaction();
+
+            given(totpVerifier.verifyCached(userId, "000000")).willReturn(TotpVerifier.Result.REJECTED);
+            given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.of(twoFactor));
+
+            // when
+            boolean result = totpService.verifyCode(userId, "000000");
+
+            // then
+            assertThat(result).isFalse();
+            verify(userBackupCodeRepository, never()).consume(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("이전 방식의 암호화 목록은 한 번 테이블로 이전한 뒤 소비해야 한다")
+        void verifyCodeMigratesLegacyBackupCodes() throws Exception {
+            // given
+            Long userId = 1L;
+            UserTwoFactor twoFactor = createEnabledTwoFactor(userId);
+            setField(twoFactor, "backupCodesEnc", "encrypted_backup");
+            runInTransaction();
+
+            given(totpVerifier.verifyCached(userId, "12345678")).willReturn(TotpVerifier.Result.REJECTED);
+            given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.of(twoFactor));
+            given(encryptionService.decrypt("encrypted_backup")).willReturn("[\"12345678\",\"87654321\"]");
             given(objectMapper.readValue(eq("[\"12345678\",\"87654321\"]"), any(TypeReference.class)))
-                    .willReturn(backupCodes);
-            given(objectMapper.writeValueAsString(any(List.class))).willReturn("[\"87654321\"]");
-            given(encryptionService.encrypt("[\"87654321\"]")).willReturn("new_encrypted_backup");
+                    .willReturn(List.of("12345678", "87654321"));
+            given(encryptionService.hashBackupCode(eq(userId), anyString()))
+                    .willAnswer(invocation -> "hash_" + invocation.getArgument(1));
+            given(userBackupCodeRepository.consume(eq(userId), eq("hash_12345678"), any(LocalDateTime.class)))
+                    .willReturn(1);
+            given(userTwoFactorRepository.findBackupCodesRemaining(userId)).willReturn(1);
 
             // when
             boolean result = totpService.verifyCode(userId, "12345678");
 
             // then
             assertThat(result).isTrue();
+            assertThat(twoFactor.getBackupCodesEnc()).isNull();
+            assertThat(twoFactor.getBackupCodesRemaining()).isEqualTo(1);
+            verify(userBackupCodeRepository).saveAll(any());
         }
 
         @Test
@@ -331,6 +488,8 @@ class TotpServiceTest {
         void verifyCodeWhenTwoFactorNotEnabled() {
             // given
             Long userId = 1L;
+            runInTransaction();
+            given(totpVerifier.verifyCached(userId, "123456")).willReturn(TotpVerifier.Result.NOT_CACHED);
             given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.empty());
 
             // when
@@ -338,6 +497,7 @@ class TotpServiceTest {
 
             // then
             assertThat(result).isTrue();
+            verify(totpVerifier).invalidate(userId);
         }
     }
 
@@ -355,9 +515,33 @@ class TotpServiceTest {
                     .user(user)
                     .build();
             setField(twoFactor, "enabled", true);
-            setField(twoFactor, "backupCodesEnc", "encrypted_backup");
+            setField(twoFactor, "backupCodesRemaining", 3);
             setField(twoFactor, "lastUsedAt", LocalDateTime.now());
 
+            given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.of(twoFactor));
+
+            // when
+            TwoFactorStatusResponse response = totpService.getTwoFactorStatus(userId);
+
+            // then
+            assertThat(response.isEnabled()).isTrue();
+            assertThat(response.getRemainingBackupCodes()).isEqualTo(3);
+            assertThat(response.getLastUsedAt()).isNotNull();
+            verify(encryptionService, never()).decrypt(anyString());
+        }
+
+        @Test
+        @DisplayName("이전되지 않은 암호화 목록은 복호화해서 개수를 세야 한다")
+        void getTwoFactorStatusWithLegacyBackupCodes() throws Exception {
+            // given
+            Long userId = 1L;
+            User user = createUser(userId, "enc_email");
+            UserTwoFactor twoFactor = UserTwoFactor.builder()
+                    .user(user)
+                    .build();
+            setField(twoFactor, "enabled", true);
+            setField(twoFactor, "backupCodesEnc", "encrypted_backup");
+
             given(userTwoFactorRepository.findByUserId(userId)).willReturn(Optional.of(twoFactor));
             given(encryptionService.decrypt("encrypted_backup")).willReturn("[\"code1\",\"code2\",\"code3\"]");
             given(objectMapper.readValue(eq("[\"code1\",\"code2\",\"code3\"]"), any(TypeReference.class)))
@@ -367,9 +551,7 @@ class TotpServiceTest {
             TwoFactorStatusResponse response = totpService.getTwoFactorStatus(userId);
 
             // then
-            assertThat(response.isEnabled()).isTrue();
             assertThat(response.getRemainingBackupCodes()).isEqualTo(3);
-            assertThat(response.getLastUsedAt()).isNotNull();
         }
 
         @Test
@@ -412,15 +594,14 @@ class TotpServiceTest {
             setField(totpService, "codeVerifier", mockCodeVerifier);
             given(mockCodeVerifier.isValidCode("plain_secret", "123456")).willReturn(true);
 
-            given(objectMapper.writeValueAsString(any(List.class))).willReturn("[\"newcode1\"]");
-            given(encryptionService.encrypt("[\"newcode1\"]")).willReturn("new_encrypted_backup");
-
             // when
             List<String> newBackupCodes = totpService.regenerateBackupCodes(userId, "123456");
 
             // then
             assertThat(newBackupCodes).isNotNull();
             assertThat(newBackupCodes).hasSize(8);
+            assertThat(twoFactor.getBackupCodesRemaining()).isEqualTo(8);
+            verify(userBackupCodeRepository).deleteByUserId(userId);
         }
     }
 
@@ -458,6 +639,21 @@ class TotpServiceTest {
     }
 
     // Helper methods
+    private UserTwoFactor createEnabledTwoFactor(Long userId) {
+        UserTwoFactor twoFactor = UserTwoFactor.builder()
+                .user(createUser(userId, "enc_email"))
+                .build();
+        setField(twoFactor, "id", 1L);
+        setField(twoFactor, "secretEnc", "encrypted_secret");
+        setField(twoFactor, "enabled", true);
+        return twoFactor;
+    }
+
+    private void runInTransaction() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     private User createUser(Long id, String emailEnc) {
         User user = User.builder()
                 .emailEnc(emailEnc)
@@ -0,0 +1,181 @@
+package com.jay.auth.service;
+
+import dev.samstevens.totp.code.DefaultCodeGenerator;
+import dev.samstevens.totp.secret.DefaultSecretGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TotpVerifierTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final String secret = new DefaultSecretGenerator().generate();
+    private TotpVerifier totpVerifier;
+
+    @BeforeEach
+    void setUp() {
+        totpVerifier = new TotpVerifier(redisTemplate, now::get);
+    }
+
+    @Test
+    @DisplayName("직접 계산한 HOTP 값은 TOTP 라이브러리와 같아야 한다")
+    void generateMatchesLibrary() throws Exception {
+        DefaultCodeGenerator generator = new DefaultCodeGenerator();
+        byte[] key = TotpVerifier.decodeBase32(secret);
+
+        for (long counter = 56_666_660L; counter < 56_666_700L; counter++) {
+            assertThat(String.format("%06d", TotpVerifier.generate(key, counter)))
+                    .isEqualTo(generator.generate(secret, counter));
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 검증 (verifyCached)")
+    class VerifyCached {
+
+        @Test
+        @DisplayName("캐시에 없으면 NOT_CACHED를 반환해야 한다")
+        void notCached() {
+            assertThat(totpVerifier.verifyCached(1L, "123456")).isEqualTo(TotpVerifier.Result.NOT_CACHED);
+        }
+
+        @Test
+        @DisplayName("올바른 코드는 time-step을 기록하고 수락해야 한다")
+        void acceptsValidCode() throws Exception {
+            // given
+            totpVerifier.cache(1L, secret, 0L);
+            givenStepAccepted(1L);
+
+            // when
+            TotpVerifier.Result result = totpVerifier.verifyCached(1L, currentCode(0));
+
+            // then
+            assertThat(result).isEqualTo(TotpVerifier.Result.ACCEPTED);
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("totp:last-step:1")),
+                    eq(String.valueOf(currentStep())), eq("120"));
+        }
+
+        @Test
+        @DisplayName("허용 범위(±1 step)의 코드도 수락해야 한다")
+        void acceptsDriftedCode() throws Exception {
+            // given
+            totpVerifier.cache(1L, secret, 0L);
+            givenStepAccepted(1L);
+
+            // when & then
+            assertThat(totpVerifier.verifyCached(1L, currentCode(-1))).isEqualTo(TotpVerifier.Result.ACCEPTED);
+        }
+
+        @Test
+        @DisplayName("Redis에 같거나 이후 step이 있으면 재사용으로 거부해야 한다")
+        void rejectsReplay() throws Exception {
+            // given
+            totpVerifier.cache(1L, secret, 0L);
+            givenStepAccepted(0L);
+
+            // when & then
+            assertThat(totpVerifier.verifyCached(1L, currentCode(0))).isEqualTo(TotpVerifier.Result.REPLAYED);
+        }
+
+        @Test
+        @DisplayName("틀린 코드는 Redis 조회 없이 거부해야 한다")
+        void rejectsWrongCode() throws Exception {
+            // given
+            totpVerifier.cache(1L, secret, 0L);
+            String wrong = String.format("%06d", (Integer.parseInt(currentCode(0)) + 1) % 1_000_000);
+
+            // when
+            TotpVerifier.Result result = totpVerifier.verifyCached(1L, wrong);
+
+            // then
+            assertThat(result).isEqualTo(TotpVerifier.Result.REJECTED);
+            verify(redisTemplate, never()).execute(any(RedisScript.class), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 비밀키가 지워지고 NOT_CACHED를 반환해야 한다")
+        void expiresSecret() throws Exception {
+            // given
+            totpVerifier.cache(1L, secret, 0L);
+            now.addAndGet(61_000);
+
+            // when & then
+            assertThat(totpVerifier.verifyCached(1L, currentCode(0))).isEqualTo(TotpVerifier.Result.NOT_CACHED);
+            assertThat(totpVerifier.cachedSecretCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("무효화하면 NOT_CACHED를 반환해야 한다")
+        void invalidate() throws Exception {
+            // given
+            totpVerifier.cache(1L, secret, 0L);
+
+            // when
+            totpVerifier.invalidate(1L);
+
+            // then
+            assertThat(totpVerifier.verifyCached(1L, currentCode(0))).isEqualTo(TotpVerifier.Result.NOT_CACHED);
+        }
+    }
+
+    @Test
+    @DisplayName("사용 시각 기록은 주기마다 한 번만 허용해야 한다")
+    void claimUsageWriteOncePerInterval() {
+        // given
+        totpVerifier.cache(1L, secret, now.get());
+
+        // when & then
+        assertThat(totpVerifier.claimUsageWrite(1L)).isFalse();
+        now.addAndGet(3_600_000);
+        assertThat(totpVerifier.claimUsageWrite(1L)).isTrue();
+        assertThat(totpVerifier.claimUsageWrite(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 비밀키는 주기 정리에서 제거되어야 한다")
+    void evictExpired() {
+        // given
+        totpVerifier.cache(1L, secret, 0L);
+        totpVerifier.cache(2L, secret, 0L);
+        now.addAndGet(61_000);
+
+        // when
+        totpVerifier.evictExpired();
+
+        // then
+        assertThat(totpVerifier.cachedSecretCount()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStepAccepted(long result) {
+        given(redisTemplate.execute(any(RedisScript.class), any(List.class), any(), any())).willReturn(result);
+    }
+
+    private long currentStep() {
+        return now.get() / 1000 / 30;
+    }
+
+    private String currentCode(int drift) throws Exception {
+        return new DefaultCodeGenerator().generate(secret, currentStep() + drift);
+    }
+}
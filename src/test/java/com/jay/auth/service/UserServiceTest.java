@@ -1,5 +1,6 @@
 package com.jay.auth.service;
 
+import com.jay.auth.config.UserCacheGenerations;
 import com.jay.auth.domain.entity.User;
 import com.jay.auth.domain.entity.UserChannel;
 import com.jay.auth.domain.enums.ChannelCode;
@@ -14,6 +15,7 @@ import com.jay.auth.exception.DuplicateNicknameException;
 import com.jay.auth.exception.InvalidVerificationException;
 import com.jay.auth.exception.UserNotFoundException;
 import com.jay.auth.repository.UserRepository;
+import com.jay.auth.service.posture.SecurityPostureStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -47,6 +49,10 @@ class UserServiceTest {
     private EmailVerificationService emailVerificationService;
     @Mock
     private AuditLogService auditLogService;
+    @Mock
+    private SecurityPostureStore securityPostureStore;
+    @Mock
+    private UserCacheGenerations userCacheGenerations;
 
     @Nested
     @DisplayName("프로필 조회")
@@ -111,6 +117,7 @@ class UserServiceTest {
             verify(encryptionService).encryptNickname("새닉네임");
             assertThat(user.getNicknameEnc()).isEqualTo("enc_new_nickname");
             assertThat(user.getNicknameLowerEnc()).isEqualTo("enc_new_nickname_lower");
+            verify(userCacheGenerations).bump(1L);
         }
 
         @Test
@@ -219,6 +226,8 @@ class UserServiceTest {
             verify(emailVerificationService).deleteVerificationByTokenId("token-123");
             assertThat(user.getRecoveryEmailEnc()).isEqualTo("enc_recovery");
             assertThat(user.getRecoveryEmailLowerEnc()).isEqualTo("enc_recovery_lower");
+            verify(securityPostureStore).recordRecoveryEmail(1L, true);
+            verify(userCacheGenerations).bump(1L);
         }
 
         @Test
@@ -255,6 +264,7 @@ class UserServiceTest {
             // then
             assertThat(user.getStatus()).isEqualTo(UserStatus.PENDING_DELETE);
             verify(tokenService).logoutAll(1L, null);
+            verify(userCacheGenerations).bump(1L);
         }
 
         @Test
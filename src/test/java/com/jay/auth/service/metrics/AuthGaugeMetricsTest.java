@@ -3,7 +3,9 @@ package com.jay.auth.service.metrics;
 import com.jay.auth.repository.UserPasskeyRepository;
 import com.jay.auth.repository.UserSignInInfoRepository;
 import com.jay.auth.repository.UserTwoFactorRepository;
+import com.jay.auth.security.TokenStore;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,13 +14,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthGaugeMetrics 테스트")
@@ -27,6 +42,15 @@ class AuthGaugeMetricsTest {
     @Mock
     private StringRedisTemplate stringRedisTemplate;
 
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private TokenStore tokenStore;
+
     @Mock
     private UserSignInInfoRepository userSignInInfoRepository;
 
@@ -42,229 +66,188 @@ class AuthGaugeMetricsTest {
     @BeforeEach
     void setUp() {
         registry = new SimpleMeterRegistry();
-        gaugeMetrics = new AuthGaugeMetrics(registry, stringRedisTemplate,
+        gaugeMetrics = new AuthGaugeMetrics(registry, stringRedisTemplate, tokenStore,
                 userSignInInfoRepository, userPasskeyRepository, userTwoFactorRepository);
     }
 
-    // ─── activeSessions ───────────────────────────────────────────────────────────
-
-    @Nested
-    @DisplayName("활성 세션 게이지")
-    class ActiveSessions {
-
-        @Test
-        @DisplayName("incrementActiveSessions — 0 → 1로 증가")
-        void increment() {
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(0.0);
-
-            gaugeMetrics.incrementActiveSessions();
-
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(1.0);
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
         }
+    }
 
-        @Test
-        @DisplayName("decrementActiveSessions — 1 → 0으로 감소")
-        void decrement() {
-            gaugeMetrics.incrementActiveSessions();
-            gaugeMetrics.decrementActiveSessions();
-
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(0.0);
-        }
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
 
-        @Test
-        @DisplayName("decrementActiveSessions — 0에서 호출해도 음수가 되지 않음")
-        void decrementAtZeroStaysZero() {
-            gaugeMetrics.decrementActiveSessions();
+    // ─── 조회 ─────────────────────────────────────────────────────────────────────
 
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(0.0);
-        }
+    @Nested
+    @DisplayName("게이지 조회")
+    class Read {
 
         @Test
-        @DisplayName("decrementActiveSessions(long count) — 벌크 감소")
-        void decrementBulk() {
-            gaugeMetrics.incrementActiveSessions();
-            gaugeMetrics.incrementActiveSessions();
-            gaugeMetrics.incrementActiveSessions();
+        @DisplayName("활성 세션 수는 세션 인덱스 집계값을 그대로 보고한다")
+        void activeSessionsFromIndex() {
+            given(tokenStore.countActiveSessions()).willReturn(3L);
 
-            gaugeMetrics.decrementActiveSessions(2L);
-
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(1.0);
+            assertThat(gauge("auth_active_sessions")).isEqualTo(3.0);
         }
 
         @Test
-        @DisplayName("decrementActiveSessions(long count) — 음수 방지")
-        void decrementBulkNegativePrevention() {
-            gaugeMetrics.incrementActiveSessions();
-            gaugeMetrics.decrementActiveSessions(5L);
+        @DisplayName("패스키/2FA 수는 공유 카운터 값을 보고하고, 카운터가 없으면 0")
+        void countersFromRedis() {
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(AuthGaugeMetrics.REGISTERED_PASSKEYS_KEY)).willReturn("5");
+            given(valueOperations.get(AuthGaugeMetrics.TWO_FACTOR_USERS_KEY)).willReturn(null);
 
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(0.0);
+            assertThat(gauge("auth_registered_passkeys")).isEqualTo(5.0);
+            assertThat(gauge("auth_2fa_enabled_users")).isEqualTo(0.0);
         }
-    }
-
-    // ─── registeredPasskeys ───────────────────────────────────────────────────────
-
-    @Nested
-    @DisplayName("등록된 패스키 게이지")
-    class RegisteredPasskeys {
 
         @Test
-        @DisplayName("incrementRegisteredPasskeys — 0 → 1로 증가")
-        void increment() {
-            gaugeMetrics.incrementRegisteredPasskeys();
+        @DisplayName("잠금 계정 수는 잠금 만료 시각이 지나지 않은 멤버만 센다")
+        void lockedAccountsFromSortedSet() {
+            given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(zSetOperations.count(eq(AuthGaugeMetrics.LOCKED_ACCOUNTS_KEY), anyDouble(),
+                    eq(Double.POSITIVE_INFINITY))).willReturn(2L);
 
-            assertThat(registry.get("auth_registered_passkeys").gauge().value()).isEqualTo(1.0);
+            assertThat(gauge("auth_locked_accounts")).isEqualTo(2.0);
         }
 
         @Test
-        @DisplayName("decrementRegisteredPasskeys — 1 → 0으로 감소")
-        void decrement() {
-            gaugeMetrics.incrementRegisteredPasskeys();
-            gaugeMetrics.decrementRegisteredPasskeys();
+        @DisplayName("보정 전 감소로 카운터가 음수여도 0으로 보고한다")
+        void negativeCounterClampedToZero() {
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(AuthGaugeMetrics.REGISTERED_PASSKEYS_KEY)).willReturn("-1");
 
-            assertThat(registry.get("auth_registered_passkeys").gauge().value()).isEqualTo(0.0);
+            assertThat(gauge("auth_registered_passkeys")).isEqualTo(0.0);
         }
 
         @Test
-        @DisplayName("decrementRegisteredPasskeys — 0에서 호출해도 음수가 되지 않음")
-        void decrementAtZeroStaysZero() {
-            gaugeMetrics.decrementRegisteredPasskeys();
+        @DisplayName("Redis 예외 발생 시 마지막으로 읽은 값 유지")
+        void exceptionKeepsPreviousValue() {
+            given(tokenStore.countActiveSessions())
+                    .willReturn(2L)
+                    .willThrow(new RuntimeException("Redis 연결 실패"));
 
-            assertThat(registry.get("auth_registered_passkeys").gauge().value()).isEqualTo(0.0);
+            assertThat(gauge("auth_active_sessions")).isEqualTo(2.0);
+            assertThat(gauge("auth_active_sessions")).isEqualTo(2.0);
         }
     }
 
-    // ─── syncActiveSessions ───────────────────────────────────────────────────────
+    // ─── 이벤트 반영 ───────────────────────────────────────────────────────────────
 
     @Nested
-    @DisplayName("syncActiveSessions()")
-    class SyncActiveSessions {
-
-        @Test
-        @DisplayName("Redis keys 3개 반환 시 activeSessions=3")
-        void syncWithThreeKeys() {
-            given(stringRedisTemplate.keys(anyString()))
-                    .willReturn(Set.of("session:1:a", "session:2:b", "session:3:c"));
-
-            gaugeMetrics.syncActiveSessions();
-
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(3.0);
-        }
+    @DisplayName("이벤트 반영")
+    class Events {
 
         @Test
-        @DisplayName("Redis keys null 반환 시 activeSessions=0")
-        void syncWithNullKeys() {
-            given(stringRedisTemplate.keys(anyString())).willReturn(null);
+        @DisplayName("트랜잭션 밖에서는 즉시 공유 카운터를 증감한다")
+        void updatesImmediatelyWithoutTransaction() {
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
 
-            gaugeMetrics.syncActiveSessions();
+            gaugeMetrics.incrementRegisteredPasskeys();
+            gaugeMetrics.decrementTwoFactorEnabledUsers();
 
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(0.0);
+            verify(valueOperations).increment(AuthGaugeMetrics.REGISTERED_PASSKEYS_KEY);
+            verify(valueOperations).decrement(AuthGaugeMetrics.TWO_FACTOR_USERS_KEY);
         }
 
         @Test
-        @DisplayName("Redis 예외 발생 시 기존 값 유지")
-        void exceptionKeepsPreviousValue() {
-            gaugeMetrics.incrementActiveSessions();
-            gaugeMetrics.incrementActiveSessions();
+        @DisplayName("트랜잭션 안에서는 커밋 후에만 반영한다")
+        void updatesAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
 
-            given(stringRedisTemplate.keys(anyString()))
-                    .willThrow(new RuntimeException("Redis 연결 실패"));
+            gaugeMetrics.incrementTwoFactorEnabledUsers();
+            verifyNoInteractions(stringRedisTemplate);
 
-            gaugeMetrics.syncActiveSessions();
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
 
-            assertThat(registry.get("auth_active_sessions").gauge().value()).isEqualTo(2.0);
+            verify(valueOperations).increment(AuthGaugeMetrics.TWO_FACTOR_USERS_KEY);
         }
-    }
-
-    // ─── syncRegisteredPasskeys ───────────────────────────────────────────────────
-
-    @Nested
-    @DisplayName("syncRegisteredPasskeys()")
-    class SyncRegisteredPasskeys {
 
         @Test
-        @DisplayName("userPasskeyRepository.count()=5 반환 시 registeredPasskeys=5")
-        void syncWithFivePasskeys() {
-            given(userPasskeyRepository.count()).willReturn(5L);
+        @DisplayName("계정 잠금 시 잠금 만료 시각을 score로 기록하고, 해제 시 제거한다")
+        void lockAndUnlock() {
+            given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
 
-            gaugeMetrics.syncRegisteredPasskeys();
+            gaugeMetrics.recordAccountLocked(7L, LocalDateTime.now().plusMinutes(30));
+            gaugeMetrics.recordAccountUnlocked(7L);
 
-            assertThat(registry.get("auth_registered_passkeys").gauge().value()).isEqualTo(5.0);
+            verify(zSetOperations).add(eq(AuthGaugeMetrics.LOCKED_ACCOUNTS_KEY), eq("7"), anyDouble());
+            verify(zSetOperations).remove(AuthGaugeMetrics.LOCKED_ACCOUNTS_KEY, "7");
         }
 
         @Test
-        @DisplayName("예외 발생 시 기존 값 유지")
-        void exceptionKeepsPreviousValue() {
-            gaugeMetrics.incrementRegisteredPasskeys();
-            gaugeMetrics.incrementRegisteredPasskeys();
-
-            given(userPasskeyRepository.count())
-                    .willThrow(new RuntimeException("DB 연결 실패"));
+        @DisplayName("Redis 반영 실패는 호출자에게 전파되지 않는다")
+        void failureIsSwallowed() {
+            given(stringRedisTemplate.opsForValue()).willThrow(new RuntimeException("Redis 연결 실패"));
 
-            gaugeMetrics.syncRegisteredPasskeys();
-
-            assertThat(registry.get("auth_registered_passkeys").gauge().value()).isEqualTo(2.0);
+            gaugeMetrics.decrementRegisteredPasskeys();
         }
     }
 
-    // ─── refreshLockedAccountsCount ───────────────────────────────────────────────
+    // ─── 보정 ─────────────────────────────────────────────────────────────────────
 
     @Nested
-    @DisplayName("refreshLockedAccountsCount()")
-    class RefreshLockedAccountsCount {
+    @DisplayName("reconcile()")
+    class Reconcile {
 
         @Test
-        @DisplayName("countLockedAccounts() 반환값으로 lockedAccounts 게이지 설정")
-        void refreshWithCount() {
-            given(userSignInInfoRepository.countLockedAccounts(org.mockito.ArgumentMatchers.any(LocalDateTime.class)))
-                    .willReturn(3L);
+        @DisplayName("리더가 되면 세션 인덱스, 카운터, 잠금 ZSET을 실제 값으로 다시 만든다")
+        @SuppressWarnings("unchecked")
+        void leaderRebuildsAll() {
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(valueOperations.setIfAbsent(eq(AuthGaugeMetrics.RECONCILE_LEADER_KEY), anyString(), any(Duration.class)))
+                    .willReturn(true);
+            given(userPasskeyRepository.count()).willReturn(5L);
+            given(userTwoFactorRepository.countByEnabled(true)).willReturn(7L);
+            given(userSignInInfoRepository.findLockedAccounts(any(LocalDateTime.class)))
+                    .willReturn(List.<Object[]>of(new Object[]{3L, LocalDateTime.now().plusMinutes(10)}));
 
-            gaugeMetrics.refreshLockedAccountsCount();
+            gaugeMetrics.reconcile();
 
-            assertThat(registry.get("auth_locked_accounts").gauge().value()).isEqualTo(3.0);
+            verify(tokenStore).rebuildSessionIndex();
+            verify(valueOperations).set(AuthGaugeMetrics.REGISTERED_PASSKEYS_KEY, "5");
+            verify(valueOperations).set(AuthGaugeMetrics.TWO_FACTOR_USERS_KEY, "7");
+            verify(zSetOperations).add(eq("metrics:gauge:locked-accounts:rebuild"),
+                    argThat((Set<ZSetOperations.TypedTuple<String>> tuples) -> tuples.size() == 1
+                            && "3".equals(tuples.iterator().next().getValue())));
+            verify(stringRedisTemplate).rename("metrics:gauge:locked-accounts:rebuild", AuthGaugeMetrics.LOCKED_ACCOUNTS_KEY);
         }
 
         @Test
-        @DisplayName("예외 발생 시 기존 값 유지")
-        void exceptionKeepsPreviousValue() {
-            given(userSignInInfoRepository.countLockedAccounts(org.mockito.ArgumentMatchers.any(LocalDateTime.class)))
-                    .willReturn(2L);
-            gaugeMetrics.refreshLockedAccountsCount();
+        @DisplayName("리더가 아니면 아무 집계도 하지 않는다")
+        void followerSkips() {
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(AuthGaugeMetrics.RECONCILE_LEADER_KEY), anyString(), any(Duration.class)))
+                    .willReturn(false);
 
-            given(userSignInInfoRepository.countLockedAccounts(org.mockito.ArgumentMatchers.any(LocalDateTime.class)))
-                    .willThrow(new RuntimeException("DB 오류"));
-            gaugeMetrics.refreshLockedAccountsCount();
+            gaugeMetrics.reconcile();
 
-            assertThat(registry.get("auth_locked_accounts").gauge().value()).isEqualTo(2.0);
+            verifyNoInteractions(tokenStore, userPasskeyRepository, userTwoFactorRepository, userSignInInfoRepository);
         }
-    }
-
-    // ─── refresh2faEnabledUsersCount ──────────────────────────────────────────────
-
-    @Nested
-    @DisplayName("refresh2faEnabledUsersCount()")
-    class Refresh2faEnabledUsersCount {
 
         @Test
-        @DisplayName("countByEnabled(true) 반환값으로 2faEnabledUsers 게이지 설정")
-        void refreshWithCount() {
+        @DisplayName("한 항목이 실패해도 나머지 항목은 계속 보정한다")
+        void stepFailureDoesNotStopOthers() {
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(AuthGaugeMetrics.RECONCILE_LEADER_KEY), anyString(), any(Duration.class)))
+                    .willReturn(true);
+            given(tokenStore.rebuildSessionIndex()).willThrow(new RuntimeException("SCAN 실패"));
+            given(userPasskeyRepository.count()).willReturn(5L);
             given(userTwoFactorRepository.countByEnabled(true)).willReturn(7L);
+            given(userSignInInfoRepository.findLockedAccounts(any(LocalDateTime.class))).willReturn(List.of());
 
-            gaugeMetrics.refresh2faEnabledUsersCount();
-
-            assertThat(registry.get("auth_2fa_enabled_users").gauge().value()).isEqualTo(7.0);
-        }
-
-        @Test
-        @DisplayName("예외 발생 시 기존 값 유지")
-        void exceptionKeepsPreviousValue() {
-            given(userTwoFactorRepository.countByEnabled(true)).willReturn(4L);
-            gaugeMetrics.refresh2faEnabledUsersCount();
-
-            given(userTwoFactorRepository.countByEnabled(true))
-                    .willThrow(new RuntimeException("DB 오류"));
-            gaugeMetrics.refresh2faEnabledUsersCount();
+            gaugeMetrics.reconcile();
 
-            assertThat(registry.get("auth_2fa_enabled_users").gauge().value()).isEqualTo(4.0);
+            verify(valueOperations).set(AuthGaugeMetrics.REGISTERED_PASSKEYS_KEY, "5");
+            verify(stringRedisTemplate).delete(AuthGaugeMetrics.LOCKED_ACCOUNTS_KEY);
+            verify(stringRedisTemplate, never()).rename(anyString(), anyString());
         }
     }
 }
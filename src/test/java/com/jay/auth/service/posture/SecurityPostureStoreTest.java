@@ -0,0 +1,250 @@
+package com.jay.auth.service.posture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jay.auth.domain.entity.LoginHistory;
+import com.jay.auth.domain.enums.ChannelCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SecurityPostureStore 테스트")
+class SecurityPostureStoreTest {
+
+    private static final String KEY = "security:posture:1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ObjectMapper objectMapper;
+    private SecurityPostureStore store;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        store = new SecurityPostureStore(stringRedisTemplate, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void givenFields(Map<Object, Object> fields) {
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(KEY)).willReturn(fields);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Find {
+
+        @Test
+        @DisplayName("저장된 필드로 스냅샷을 복원한다")
+        void shouldRestorePosture() throws Exception {
+            // given
+            LocalDateTime passwordUpdatedAt = LocalDateTime.of(2026, 9, 1, 10, 0);
+            SecurityPosture.RecentLogin login = new SecurityPosture.RecentLogin(false, ChannelCode.EMAIL,
+                    "INVALID_PASSWORD", "10.0.0.1", "Seoul", "Chrome", "macOS", passwordUpdatedAt);
+            Map<Object, Object> fields = new HashMap<>();
+            fields.put(SecurityPostureStore.TWO_FACTOR_ENABLED, "1");
+            fields.put(SecurityPostureStore.BACKUP_CODES_REMAINING, "6");
+            fields.put(SecurityPostureStore.HAS_PASSWORD, "1");
+            fields.put(SecurityPostureStore.PASSWORD_UPDATED_AT, passwordUpdatedAt.toString());
+            fields.put(SecurityPostureStore.RECOVERY_EMAIL_SET, "0");
+            fields.put(SecurityPostureStore.SOCIAL_LINK_COUNT, "2");
+            fields.put(SecurityPostureStore.PASSKEY_COUNT, "1");
+            fields.put(SecurityPostureStore.RECENT_LOGINS, objectMapper.writeValueAsString(List.of(login)));
+            givenFields(fields);
+
+            // when
+            Optional<SecurityPosture> posture = store.find(1L);
+
+            // then
+            assertThat(posture).contains(new SecurityPosture(true, 6, true, passwordUpdatedAt,
+                    false, 2, 1, List.of(login)));
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없거나 stale 표시만 있으면 비어 있다")
+        void shouldBeEmptyWhenMissingOrStale() {
+            // given
+            givenFields(Map.of(SecurityPostureStore.STALE, "1"));
+
+            // when & then
+            assertThat(store.find(1L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("읽을 수 없는 스냅샷은 지워 재구성되게 한다")
+        void shouldDeleteMalformedPosture() {
+            // given
+            givenFields(Map.of(SecurityPostureStore.BACKUP_CODES_REMAINING, "not-a-number"));
+
+            // when
+            Optional<SecurityPosture> posture = store.find(1L);
+
+            // then
+            assertThat(posture).isEmpty();
+            verify(stringRedisTemplate).delete(KEY);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 비어 있는 결과를 반환한다")
+        void shouldBeEmptyOnRedisFailure() {
+            // given
+            given(stringRedisTemplate.opsForHash()).willThrow(new RuntimeException("Redis 연결 실패"));
+
+            // when & then
+            assertThat(store.find(1L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("재구성 저장")
+    class Save {
+
+        @Test
+        @DisplayName("TTL과 함께 모든 필드를 조건부 스크립트로 저장한다")
+        void shouldSaveAllFields() {
+            // given
+            SecurityPosture posture = new SecurityPosture(false, 0, true, LocalDateTime.of(2026, 9, 1, 10, 0),
+                    true, 1, 0, List.of());
+
+            // when
+            store.save(1L, posture);
+
+            // then
+            ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), args.capture());
+            assertThat(args.getValue()).containsSubsequence(SecurityPostureStore.PASSWORD_UPDATED_AT, "2026-09-01T10:00")
+                    .containsSubsequence(SecurityPostureStore.SOCIAL_LINK_COUNT, "1")
+                    .containsSubsequence(SecurityPostureStore.RECENT_LOGINS, "[]");
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 반영")
+    class Events {
+
+        @Test
+        @DisplayName("트랜잭션 밖에서는 바로 필드를 갱신한다")
+        void shouldApplyImmediatelyWithoutTransaction() {
+            // when
+            store.recordTwoFactor(1L, true, 8);
+
+            // then
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), anyString(),
+                    eq(SecurityPostureStore.TWO_FACTOR_ENABLED), eq("1"),
+                    eq(SecurityPostureStore.BACKUP_CODES_REMAINING), eq("8"));
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 커밋 후에만 반영한다")
+        void shouldApplyAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            store.adjustPasskeyCount(1L, -1);
+            verifyNoInteractions(stringRedisTemplate);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), anyString(),
+                    eq(SecurityPostureStore.PASSKEY_COUNT), eq("-1"));
+        }
+
+        @Test
+        @DisplayName("로그인 이력은 최근 목록 JSON으로 추가한다")
+        void shouldPushRecentLogin() {
+            // given
+            LoginHistory history = LoginHistory.builder()
+                    .userId(1L)
+                    .channelCode(ChannelCode.GOOGLE)
+                    .ipAddress("10.0.0.1")
+                    .isSuccess(true)
+                    .build();
+
+            // when
+            store.recordLogin(history);
+
+            // then
+            ArgumentCaptor<String> login = ArgumentCaptor.forClass(String.class);
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), anyString(),
+                    login.capture(), eq(String.valueOf(SecurityPosture.RECENT_LOGIN_LIMIT)));
+            assertThat(login.getValue()).contains("\"channelCode\":\"GOOGLE\"").contains("\"success\":true");
+        }
+
+        @Test
+        @DisplayName("사용자를 특정하지 못한 로그인 실패는 무시한다")
+        void shouldIgnoreLoginWithoutUser() {
+            // when
+            store.recordLogin(LoginHistory.builder().channelCode(ChannelCode.EMAIL).isSuccess(false).build());
+
+            // then
+            verifyNoInteractions(stringRedisTemplate);
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 스냅샷을 지워 다음 조회가 재구성하게 한다")
+        void shouldDeletePostureOnFailure() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any()))
+                    .willThrow(new RuntimeException("Redis 연결 실패"));
+
+            // when
+            store.recordRecoveryEmail(1L, true);
+
+            // then
+            verify(stringRedisTemplate).delete(KEY);
+        }
+
+        @Test
+        @DisplayName("변경일 없는 비밀번호 변경은 비밀번호 보유 여부만 갱신한다")
+        void shouldSkipMissingPasswordUpdatedAt() {
+            // when
+            store.recordPasswordChanged(1L, null);
+
+            // then
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), anyString(),
+                    eq(SecurityPostureStore.HAS_PASSWORD), eq("1"));
+            verify(stringRedisTemplate, never()).delete(anyString());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.jay.auth.service.risk;
+
+import com.jay.auth.service.IpAccessService;
+import com.jay.auth.service.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialStuffingDetectorTest {
+
+    @Mock
+    private IpAccessService ipAccessService;
+
+    @Mock
+    private AuthMetrics authMetrics;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private SimpleMeterRegistry registry;
+    private CredentialStuffingDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        detector = new CredentialStuffingDetector(ipAccessService, authMetrics, registry, new LocalStuffingWindow(),
+                now::get);
+    }
+
+    @Nested
+    @DisplayName("IP 단위 탐지")
+    class IpDetection {
+
+        @Test
+        @DisplayName("한 IP에서 여러 계정으로 실패가 집중되면 자동 차단해야 한다")
+        void blocksIpTargetingManyAccounts() {
+            // given
+            String ip = "203.0.113.7";
+
+            // when
+            for (int i = 0; i < 40; i++) {
+                detector.recordAttempt("user" + i + "@test.com", ip, false);
+            }
+
+            // then
+            verify(ipAccessService, times(1)).autoBlock(eq(ip), anyString());
+            verify(authMetrics).recordCredentialStuffingDetected("ip");
+        }
+
+        @Test
+        @DisplayName("단일 계정에 대한 반복 실패는 스터핑으로 보지 않아야 한다")
+        void doesNotBlockSingleAccountRetries() {
+            // given
+            String ip = "203.0.113.7";
+
+            // when
+            for (int i = 0; i < 40; i++) {
+                detector.recordAttempt("victim@test.com", ip, false);
+            }
+
+            // then
+            verify(ipAccessService, never()).autoBlock(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("윈도우가 지난 실패는 집계에서 제외되어야 한다")
+        void expiredFailuresAreNotCounted() {
+            // given
+            String ip = "203.0.113.7";
+            for (int i = 0; i < 20; i++) {
+                detector.recordAttempt("user" + i + "@test.com", ip, false);
+            }
+
+            // when
+            now.addAndGet(6 * 60_000L);
+            for (int i = 20; i < 40; i++) {
+                detector.recordAttempt("user" + i + "@test.com", ip, false);
+            }
+
+            // then
+            verify(ipAccessService, never()).autoBlock(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("차단 처리 실패는 전파되지 않아야 한다")
+        void swallowsBlockFailure() {
+            // given
+            willThrow(new RuntimeException("db down")).given(ipAccessService).autoBlock(anyString(), anyString());
+
+            // when & then
+            assertThatCode(() -> {
+                for (int i = 0; i < 40; i++) {
+                    detector.recordAttempt("user" + i + "@test.com", "203.0.113.7", false);
+                }
+            }).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("전역 공격 신호")
+    class AttackSignal {
+
+        @Test
+        @DisplayName("분산된 IP에서 다수 계정 실패가 몰리면 공격 중 신호가 켜져야 한다")
+        void raisesSignalForDistributedAttack() {
+            // when
+            for (int i = 0; i < 300; i++) {
+                detector.recordAttempt("user" + i + "@test.com", "198.51." + (i % 50) + "." + i % 200, false);
+            }
+
+            // then
+            assertThat(detector.isUnderAttack()).isTrue();
+            assertThat(registry.get("auth_credential_stuffing_under_attack").gauge().value()).isEqualTo(1.0);
+            verify(ipAccessService, never()).autoBlock(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("실패율이 낮아지면 공격 중 신호가 해제되어야 한다")
+        void clearsSignalWhenFailureRatioDrops() {
+            // given
+            for (int i = 0; i < 300; i++) {
+                detector.recordAttempt("user" + i + "@test.com", "198.51." + (i % 50) + "." + i % 200, false);
+            }
+            assertThat(detector.isUnderAttack()).isTrue();
+
+            // when
+            for (int i = 0; i < 1000; i++) {
+                detector.recordAttempt("member" + i + "@test.com", "192.0.2." + (i % 200), true);
+            }
+
+            // then
+            assertThat(detector.isUnderAttack()).isFalse();
+        }
+
+        @Test
+        @DisplayName("정상 트래픽에서는 공격 중 신호가 꺼져 있어야 한다")
+        void noSignalForNormalTraffic() {
+            // when
+            for (int i = 0; i < 500; i++) {
+                detector.recordAttempt("user" + i + "@test.com", "192.0.2." + (i % 200), i % 10 != 0);
+            }
+
+            // then
+            assertThat(detector.isUnderAttack()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("공유 집계가 실패하면 인스턴스 로컬 집계로 계속 탐지해야 한다")
+    void fallsBackToLocalWindowWhenSharedWindowFails() {
+        // given
+        StuffingWindow failing = mock(StuffingWindow.class);
+        given(failing.recordSourceFailure(anyString(), anyLong(), anyLong(), anyLong()))
+                .willThrow(new IllegalStateException("redis down"));
+        detector = new CredentialStuffingDetector(ipAccessService, authMetrics, registry, failing, now::get);
+
+        // when
+        for (int i = 0; i < 40; i++) {
+            detector.recordAttempt("user" + i + "@test.com", "203.0.113.7", false);
+        }
+
+        // then
+        verify(ipAccessService, times(1)).autoBlock(eq("203.0.113.7"), anyString());
+    }
+
+    @Test
+    @DisplayName("서브넷은 IPv4 /24, IPv6 앞 4개 그룹으로 묶여야 한다")
+    void subnetOfGroupsAddresses() {
+        assertThat(CredentialStuffingDetector.subnetOf("203.0.113.7")).isEqualTo("203.0.113.0/24");
+        assertThat(CredentialStuffingDetector.subnetOf("2001:db8:1:2:3:4:5:6")).isEqualTo("2001:db8:1:2::/64");
+    }
+}
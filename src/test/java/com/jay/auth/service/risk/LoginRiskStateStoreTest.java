@@ -0,0 +1,116 @@
+package com.jay.auth.service.risk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginRiskStateStore 테스트")
+class LoginRiskStateStoreTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String KEY = "risk:state:7";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LoginRiskStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LoginRiskStateStore(redisTemplate, objectMapper);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    private String stateWithLocations(String... locations) throws Exception {
+        LoginRiskState state = new LoginRiskState();
+        for (String location : locations) {
+            state.getLocations().put(location, 1L);
+        }
+        return objectMapper.writeValueAsString(state);
+    }
+
+    @Nested
+    @DisplayName("갱신")
+    class Update {
+
+        @Test
+        @DisplayName("상태가 없으면 loader 결과를 키가 여전히 없을 때만 저장한다")
+        void shouldStoreLoadedStateWhenAbsent() {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq(""), anyString(), anyString()))
+                    .willReturn(1L);
+            LoginRiskState loaded = new LoginRiskState();
+            AtomicInteger mutations = new AtomicInteger();
+
+            // when
+            LoginRiskState result = store.update(USER_ID, state -> mutations.incrementAndGet(), id -> loaded);
+
+            // then
+            assertThat(result).isSameAs(loaded);
+            assertThat(mutations).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("다른 노드가 먼저 저장했으면 최신 값을 다시 읽어 mutation을 재적용한다")
+        void shouldRetryOnConcurrentWrite() throws Exception {
+            // given
+            String first = stateWithLocations("Seoul");
+            String second = stateWithLocations("Seoul", "Busan");
+            given(valueOperations.get(KEY)).willReturn(first, second);
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq(first), anyString(), anyString()))
+                    .willReturn(0L);
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq(second), anyString(), anyString()))
+                    .willReturn(1L);
+
+            // when
+            LoginRiskState result = store.update(USER_ID,
+                    state -> state.getLocations().put("Tokyo", 2L), id -> new LoginRiskState());
+
+            // then
+            Map<String, Long> locations = result.getLocations();
+            assertThat(locations).containsOnlyKeys("Seoul", "Busan", "Tokyo");
+            then(redisTemplate).should(times(2))
+                    .execute(any(RedisScript.class), eq(List.of(KEY)), anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("충돌이 계속되면 예외를 던진다")
+        void shouldGiveUpAfterRepeatedConflicts() throws Exception {
+            // given
+            given(valueOperations.get(KEY)).willReturn(stateWithLocations("Seoul"));
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), anyString(), anyString(), anyString()))
+                    .willReturn(0L);
+
+            // when & then
+            assertThatThrownBy(() -> store.update(USER_ID, state -> { }, id -> new LoginRiskState()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.jay.auth.service.risk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jay.auth.domain.entity.LoginHistory;
+import com.jay.auth.domain.enums.ChannelCode;
+import com.jay.auth.dto.response.SuspiciousActivityResponse.SuspiciousEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRiskStateTest {
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class Record {
+
+        @Test
+        @DisplayName("순서가 뒤섞인 이벤트를 증분 반영해도 재구성 결과와 같은 이벤트를 탐지해야 한다")
+        void incrementalMatchesReplay() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            List<LoginHistory> histories = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                histories.add(createLoginHistory(false, "10.0.0.1", "Seoul", now.minusHours(i)));
+            }
+            histories.add(createLoginHistory(true, "1.1.1.1", "Seoul", now.minusHours(1)));
+            histories.add(createLoginHistory(true, "2.2.2.2", "Busan", now.minusHours(2)));
+            histories.add(createLoginHistory(true, "3.3.3.3", "New York", now.minusHours(3)));
+
+            LoginRiskState incremental = new LoginRiskState();
+            histories.forEach(incremental::record);
+
+            // when
+            List<String> incrementalTypes = types(incremental.detectEvents(now));
+            List<String> replayTypes = types(LoginRiskState.replay(histories).detectEvents(now));
+
+            // then
+            assertThat(incrementalTypes).containsExactlyInAnyOrderElementsOf(replayTypes);
+            assertThat(incrementalTypes).contains("BRUTE_FORCE", "MULTIPLE_LOCATIONS");
+        }
+
+        @Test
+        @DisplayName("분석 기간이 지난 실패 기록은 제거되어야 한다")
+        void pruneRemovesExpiredFailures() {
+            // given
+            LoginRiskState state = new LoginRiskState();
+            for (int i = 0; i < 6; i++) {
+                state.record(createLoginHistory(false, "10.0.0.1", "Seoul", LocalDateTime.now().minusDays(10).plusMinutes(i)));
+            }
+
+            // when
+            List<SuspiciousEvent> events = state.detectEvents(LocalDateTime.now());
+
+            // then
+            assertThat(events).isEmpty();
+            assertThat(state.getFailuresByIp()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("추적하는 IP 수는 상한을 넘지 않아야 한다")
+        void trackedIpsAreBounded() {
+            // given
+            LoginRiskState state = new LoginRiskState();
+
+            // when
+            for (int i = 0; i < 100; i++) {
+                state.record(createLoginHistory(false, "10.0.0." + i, "Seoul", LocalDateTime.now().minusMinutes(100 - i)));
+            }
+
+            // then
+            assertThat(state.getFailuresByIp()).hasSizeLessThanOrEqualTo(32);
+            assertThat(state.getFailuresByIp()).containsKey("10.0.0.99");
+        }
+
+        @Test
+        @DisplayName("IP를 40개 바꿔 가며 실패해도 IP 추적 상한과 무관하게 무차별 대입으로 탐지해야 한다")
+        void detectsFailuresRotatedAcrossIps() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            LoginRiskState state = new LoginRiskState();
+
+            // when
+            for (int i = 0; i < 40; i++) {
+                state.record(createLoginHistory(false, "10.0.1." + i, "Seoul", now.minusMinutes(40 - i)));
+            }
+
+            // then
+            List<SuspiciousEvent> events = state.detectEvents(now);
+            assertThat(state.getFailuresByIp()).hasSizeLessThanOrEqualTo(32);
+            assertThat(events).filteredOn(event -> "BRUTE_FORCE".equals(event.getType()))
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getDescription()).contains("40회");
+                        assertThat(event.getIpAddress()).isEqualTo("10.0.1.39");
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("직렬화")
+    class Serialization {
+
+        @Test
+        @DisplayName("JSON 왕복 후에도 동일한 이벤트를 탐지해야 한다")
+        void jsonRoundTrip() throws Exception {
+            // given
+            ObjectMapper objectMapper = new ObjectMapper();
+            LocalDateTime now = LocalDateTime.now();
+            LoginRiskState state = new LoginRiskState();
+            for (int i = 0; i < 6; i++) {
+                state.record(createLoginHistory(true, "1.1.1.1", "Seoul", now.minusMinutes(6 - i)));
+            }
+
+            // when
+            LoginRiskState restored = objectMapper.readValue(objectMapper.writeValueAsString(state), LoginRiskState.class);
+
+            // then
+            assertThat(types(restored.detectEvents(now))).containsExactlyInAnyOrderElementsOf(types(state.detectEvents(now)));
+            assertThat(types(restored.detectEvents(now))).contains("RAPID_LOGIN");
+        }
+    }
+
+    private List<String> types(List<SuspiciousEvent> events) {
+        return events.stream().map(SuspiciousEvent::getType).toList();
+    }
+
+    private LoginHistory createLoginHistory(boolean isSuccess, String ipAddress, String location,
+                                            LocalDateTime createdAt) {
+        LoginHistory history = LoginHistory.builder()
+                .userId(1L)
+                .channelCode(ChannelCode.EMAIL)
+                .ipAddress(ipAddress)
+                .browser("Chrome")
+                .os("macOS")
+                .deviceType("Desktop")
+                .location(location)
+                .isSuccess(isSuccess)
+                .build();
+        try {
+            java.lang.reflect.Field field = findField(history.getClass(), "createdAt");
+            field.setAccessible(true);
+            field.set(history, createdAt);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return history;
+    }
+
+    private java.lang.reflect.Field findField(Class<?> clazz, String fieldName) {
+        Class<?> current = clazz;
+        while (current != null) {
+            try {
+                return current.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                current = current.getSuperclass();
+            }
+        }
+        throw new RuntimeException("Field not found: " + fieldName);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jay.auth.service.risk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStuffingWindow 테스트")
+class RedisStuffingWindowTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisStuffingWindow window;
+
+    @BeforeEach
+    void setUp() {
+        window = new RedisStuffingWindow(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("출처 실패는 윈도우 버킷 5개의 CMS 해시와 계정 HLL 키로 한 번에 집계해야 한다")
+    @SuppressWarnings("unchecked")
+    void recordsSourceFailureOverWindowKeys() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(31L, 12L));
+
+        // when
+        StuffingWindow.SourceCount count = window.recordSourceFailure("ip:203.0.113.7", 42L, 100L, 5);
+
+        // then
+        assertThat(count).isEqualTo(new StuffingWindow.SourceCount(31, 12));
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).containsExactly(
+                "stuffing:cms:96", "stuffing:cms:97", "stuffing:cms:98", "stuffing:cms:99", "stuffing:cms:100",
+                "stuffing:acct:ip:203.0.113.7:96", "stuffing:acct:ip:203.0.113.7:97",
+                "stuffing:acct:ip:203.0.113.7:98", "stuffing:acct:ip:203.0.113.7:99",
+                "stuffing:acct:ip:203.0.113.7:100");
+        // TTL, 추적 임계치, 계정 해시, CMS 행 4개
+        assertThat(args.getValue()).hasSize(7);
+        assertThat(args.getValue()[1]).isEqualTo("5");
+    }
+
+    @Test
+    @DisplayName("전체 시도는 윈도우 합계를 돌려줘야 한다")
+    void recordsAttempt() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(250L, 180L));
+
+        // when
+        StuffingWindow.WindowCount count = window.recordAttempt(false, 42L, 100L);
+
+        // then
+        assertThat(count).isEqualTo(new StuffingWindow.WindowCount(250, 180));
+    }
+}
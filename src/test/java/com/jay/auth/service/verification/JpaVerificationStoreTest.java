@@ -0,0 +1,168 @@
+package com.jay.auth.service.verification;
+
+import com.jay.auth.domain.entity.EmailVerification;
+import com.jay.auth.domain.entity.PhoneVerification;
+import com.jay.auth.domain.enums.VerificationType;
+import com.jay.auth.repository.EmailVerificationRepository;
+import com.jay.auth.repository.PhoneVerificationRepository;
+import com.jay.auth.service.verification.VerificationStore.VerifyResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JpaVerificationStoreTest {
+
+    @InjectMocks
+    private JpaVerificationStore store;
+
+    @Mock
+    private EmailVerificationRepository emailVerificationRepository;
+    @Mock
+    private PhoneVerificationRepository phoneVerificationRepository;
+
+    private static final VerificationTarget TARGET = VerificationTarget.email(VerificationType.SIGNUP, "enc-email");
+
+    @Nested
+    @DisplayName("발급 (issue)")
+    class Issue {
+
+        @Test
+        @DisplayName("이메일 대상은 기존 요청을 지우고 새 레코드를 저장해야 한다")
+        void replacesEmailVerification() {
+            // given
+            given(emailVerificationRepository.save(any(EmailVerification.class))).willAnswer(invocation -> {
+                EmailVerification v = invocation.getArgument(0);
+                ReflectionTestUtils.setField(v, "tokenId", "token-1");
+                return v;
+            });
+
+            // when
+            String tokenId = store.issue(TARGET, "123456", Duration.ofMinutes(10));
+
+            // then
+            assertThat(tokenId).isEqualTo("token-1");
+            verify(emailVerificationRepository).deleteByEmailAndType("enc-email", VerificationType.SIGNUP);
+        }
+
+        @Test
+        @DisplayName("휴대폰 대상은 암호화된 번호와 함께 저장해야 한다")
+        void storesPhoneVerification() {
+            // given
+            ArgumentCaptor<PhoneVerification> captor = ArgumentCaptor.forClass(PhoneVerification.class);
+            given(phoneVerificationRepository.save(captor.capture())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            store.issue(VerificationTarget.phone("enc-phone-lower", "enc-phone"), "123456", Duration.ofMinutes(3));
+
+            // then
+            verify(phoneVerificationRepository).deleteByPhoneLowerEnc("enc-phone-lower");
+            assertThat(captor.getValue().getPhoneEnc()).isEqualTo("enc-phone");
+        }
+    }
+
+    @Nested
+    @DisplayName("확인 (verify)")
+    class Verify {
+
+        @Test
+        @DisplayName("코드가 일치하면 인증 완료로 표시해야 한다")
+        void verified() {
+            // given
+            EmailVerification verification = emailVerification(10);
+            givenPending(verification);
+
+            // when
+            VerifyResult result = store.verify(TARGET, "123456");
+
+            // then
+            assertThat(result).isEqualTo(VerifyResult.verified("token-1"));
+            assertThat(verification.getIsVerified()).isTrue();
+        }
+
+        @Test
+        @DisplayName("코드가 다르면 MISMATCH여야 한다")
+        void mismatch() {
+            // given
+            givenPending(emailVerification(10));
+
+            // when & then
+            assertThat(store.verify(TARGET, "654321").status()).isEqualTo(VerifyResult.Status.MISMATCH);
+        }
+
+        @Test
+        @DisplayName("만료되었으면 EXPIRED여야 한다")
+        void expired() {
+            // given
+            givenPending(emailVerification(-1));
+
+            // when & then
+            assertThat(store.verify(TARGET, "123456").status()).isEqualTo(VerifyResult.Status.EXPIRED);
+        }
+
+        @Test
+        @DisplayName("미인증 요청이 없으면 NOT_FOUND여야 한다")
+        void notFound() {
+            // given
+            given(emailVerificationRepository.findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse(
+                    "enc-email", VerificationType.SIGNUP)).willReturn(Optional.empty());
+
+            // when & then
+            assertThat(store.verify(TARGET, "123456").status()).isEqualTo(VerifyResult.Status.NOT_FOUND);
+        }
+
+        private void givenPending(EmailVerification verification) {
+            given(emailVerificationRepository.findByEmailLowerEncAndVerificationTypeAndIsVerifiedFalse(
+                    "enc-email", VerificationType.SIGNUP)).willReturn(Optional.of(verification));
+        }
+    }
+
+    @Test
+    @DisplayName("tokenId 조회는 이메일에 없으면 휴대폰 인증에서 찾아야 한다")
+    void findByTokenIdFallsBackToPhone() {
+        // given
+        PhoneVerification verification = PhoneVerification.builder()
+                .phoneEnc("enc-phone")
+                .phoneLowerEnc("enc-phone-lower")
+                .verificationCode("123456")
+                .expiresAt(LocalDateTime.now().plusMinutes(3))
+                .build();
+        ReflectionTestUtils.setField(verification, "tokenId", "token-1");
+        given(emailVerificationRepository.findByTokenId("token-1")).willReturn(Optional.empty());
+        given(phoneVerificationRepository.findByTokenId("token-1")).willReturn(Optional.of(verification));
+
+        // when
+        Optional<VerificationToken> token = store.findByTokenId("token-1");
+
+        // then
+        assertThat(token).get()
+                .extracting(VerificationToken::channel)
+                .isEqualTo(VerificationTarget.Channel.PHONE);
+    }
+
+    private EmailVerification emailVerification(int expiresInMinutes) {
+        EmailVerification verification = EmailVerification.builder()
+                .emailLowerEnc("enc-email")
+                .verificationCode("123456")
+                .verificationType(VerificationType.SIGNUP)
+                .expiresAt(LocalDateTime.now().plusMinutes(expiresInMinutes))
+                .build();
+        ReflectionTestUtils.setField(verification, "tokenId", "token-1");
+        return verification;
+    }
+}
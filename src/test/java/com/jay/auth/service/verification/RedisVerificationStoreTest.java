@@ -0,0 +1,187 @@
+package com.jay.auth.service.verification;
+
+import com.jay.auth.domain.enums.VerificationType;
+import com.jay.auth.service.EncryptionService;
+import com.jay.auth.service.verification.VerificationStore.VerifyResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisVerificationStoreTest {
+
+    @InjectMocks
+    private RedisVerificationStore store;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private EncryptionService encryptionService;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    private static final VerificationTarget TARGET = VerificationTarget.email(VerificationType.SIGNUP, "enc-email");
+    private static final String KEY = "verification:email:SIGNUP:enc-email";
+
+    @Nested
+    @DisplayName("발급 (issue)")
+    class Issue {
+
+        @Test
+        @DisplayName("본 키와 tokenId 보조 키를 같은 TTL로 저장하고 코드는 해시로 저장해야 한다")
+        @SuppressWarnings("unchecked")
+        void storesHashedCodeWithTtl() {
+            // given
+            given(encryptionService.hashVerificationCode(KEY, "123456")).willReturn("code-hash");
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+
+            // when
+            String tokenId = store.issue(TARGET, "123456", Duration.ofMinutes(10));
+
+            // then
+            verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(),
+                    eq(tokenId), eq("EMAIL"), eq("SIGNUP"), eq("enc-email"), eq("code-hash"),
+                    any(), eq("600000"));
+            assertThat(keys.getValue()).containsExactly(KEY, "verification:token:" + tokenId);
+        }
+
+        @Test
+        @DisplayName("휴대폰 대상은 유형 없이 키를 만들어야 한다")
+        @SuppressWarnings("unchecked")
+        void phoneKeyHasNoType() {
+            // given
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+
+            // when
+            store.issue(VerificationTarget.phone("enc-phone", "phone-enc"), "123456", Duration.ofMinutes(3));
+
+            // then
+            verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(),
+                    any(), eq("PHONE"), eq(""), eq("enc-phone"), any(), any(), eq("180000"));
+            assertThat(keys.getValue().get(0)).isEqualTo("verification:phone:enc-phone");
+        }
+    }
+
+    @Nested
+    @DisplayName("확인 (verify)")
+    class Verify {
+
+        @Test
+        @DisplayName("스크립트가 VERIFIED를 반환하면 tokenId와 함께 성공해야 한다")
+        void verified() {
+            // given
+            givenVerifyScriptResult("VERIFIED:token-1");
+
+            // when
+            VerifyResult result = store.verify(TARGET, "123456");
+
+            // then
+            assertThat(result).isEqualTo(VerifyResult.verified("token-1"));
+        }
+
+        @Test
+        @DisplayName("스크립트 결과 상태를 그대로 반환해야 한다")
+        void mapsFailureStatus() {
+            // given
+            givenVerifyScriptResult("TOO_MANY_ATTEMPTS");
+
+            // when & then
+            assertThat(store.verify(TARGET, "123456").status()).isEqualTo(VerifyResult.Status.TOO_MANY_ATTEMPTS);
+        }
+
+        @Test
+        @DisplayName("스크립트 결과가 없으면 NOT_FOUND여야 한다")
+        void nullResultIsNotFound() {
+            // given
+            givenVerifyScriptResult(null);
+
+            // when & then
+            assertThat(store.verify(TARGET, "123456").status()).isEqualTo(VerifyResult.Status.NOT_FOUND);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void givenVerifyScriptResult(String result) {
+            given(encryptionService.hashVerificationCode(KEY, "123456")).willReturn("code-hash");
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)),
+                    eq("code-hash"), any(), eq(String.valueOf(RedisVerificationStore.MAX_ATTEMPTS))))
+                    .willReturn(result);
+        }
+    }
+
+    @Nested
+    @DisplayName("tokenId 조회")
+    class FindByTokenId {
+
+        @Test
+        @DisplayName("보조 키가 가리키는 본 키의 상태를 반환해야 한다")
+        void returnsToken() {
+            // given
+            givenTokenKey("token-1");
+            given(hashOperations.entries(KEY)).willReturn(Map.of(
+                    "tokenId", "token-1", "channel", "EMAIL", "type", "SIGNUP", "subject", "enc-email",
+                    "verified", "1", "expiresAt", String.valueOf(System.currentTimeMillis() + 60_000)));
+
+            // when
+            Optional<VerificationToken> token = store.findByTokenId("token-1");
+
+            // then
+            assertThat(token).get().satisfies(t -> {
+                assertThat(TARGET.matches(t)).isTrue();
+                assertThat(t.isUsable()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("같은 대상으로 재발급되어 tokenId가 바뀌었으면 빈 값을 반환해야 한다")
+        void replacedTokenIsEmpty() {
+            // given
+            givenTokenKey("token-1");
+            given(hashOperations.entries(KEY)).willReturn(Map.of("tokenId", "token-2"));
+
+            // when & then
+            assertThat(store.findByTokenId("token-1")).isEmpty();
+        }
+
+        private void givenTokenKey(String tokenId) {
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get("verification:token:" + tokenId)).willReturn(KEY);
+            given(stringRedisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        }
+    }
+
+    @Test
+    @DisplayName("대상 삭제 시 본 키와 tokenId 보조 키를 함께 지워야 한다")
+    void deleteRemovesBothKeys() {
+        // given
+        given(stringRedisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get(KEY, "tokenId")).willReturn("token-1");
+
+        // when
+        store.delete(TARGET);
+
+        // then
+        verify(stringRedisTemplate).delete(List.of(KEY, "verification:token:token-1"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.jay.auth.util;
+
+import com.jay.auth.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BreachedPasswordIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path indexFile;
+
+    @BeforeEach
+    void setUp() throws IOException, URISyntaxException {
+        Path fixture = Path.of(getClass().getResource("/breached-passwords/sample.txt").toURI());
+        indexFile = tempDir.resolve("breached.bin");
+        BreachedPasswordIndexGenerator.generate(fixture, indexFile);
+    }
+
+    @Test
+    @DisplayName("생성기는 빈 줄과 중복을 제외하고 인덱스를 만들어야 한다")
+    void generatorDeduplicates() {
+        // when
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(indexFile);
+
+        // then
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.size()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("코퍼스에 있는 평문 비밀번호를 찾아야 한다")
+    void containsPlainEntries() {
+        // given
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(indexFile);
+
+        // when & then
+        assertThat(index.contains("Password1!")).isTrue();
+        assertThat(index.contains("Seoul#1234")).isTrue();
+        assertThat(index.contains("password1!")).isFalse();
+        assertThat(index.contains("Unique#Passphrase-9731")).isFalse();
+    }
+
+    @Test
+    @DisplayName("HIBP 형식 SHA-1 줄도 같은 비밀번호로 조회되어야 한다")
+    void containsSha1HexEntries() {
+        // given
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(indexFile);
+
+        // when & then
+        assertThat(index.contains("Hunter2@2024")).isTrue();
+    }
+
+    @Test
+    @DisplayName("많은 항목에서도 모든 항목을 찾아야 한다")
+    void largeCorpus() throws IOException {
+        // given
+        List<String> passwords = IntStream.range(0, 20_000)
+                .mapToObj(i -> "Breached#" + i)
+                .toList();
+        Path input = tempDir.resolve("large.txt");
+        Files.write(input, passwords);
+        Path output = tempDir.resolve("large.bin");
+        BreachedPasswordIndexGenerator.generate(input, output);
+
+        // when
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(output);
+
+        // then
+        assertThat(passwords).allMatch(index::contains);
+        assertThat(index.contains("Breached#20000")).isFalse();
+    }
+
+    @Test
+    @DisplayName("레코드가 여러 세그먼트에 나뉘어 매핑되어도 모든 항목을 찾아야 한다")
+    void multiSegmentLookup() throws IOException {
+        // given: 같은 16비트 prefix를 가진 해시 200건이 여러 세그먼트에 걸치도록 구성
+        List<String> sharedPrefix = IntStream.range(0, 200)
+                .mapToObj(i -> String.format("ABCD%012X", i * 7_919L) + "0".repeat(24))
+                .toList();
+        List<String> passwords = IntStream.range(0, 5_000)
+                .mapToObj(i -> "Breached#" + i)
+                .toList();
+        Path input = tempDir.resolve("segmented.txt");
+        Files.write(input, Stream.concat(sharedPrefix.stream(), passwords.stream()).toList());
+        Path output = tempDir.resolve("segmented.bin");
+        BreachedPasswordIndexGenerator.generate(input, output);
+
+        for (int segmentShift : new int[]{0, 3, 6}) {
+            // when: 세그먼트당 1, 8, 64건
+            BreachedPasswordIndex index = new BreachedPasswordIndex(output, segmentShift);
+
+            // then
+            assertThat(index.size()).isEqualTo(5_200);
+            assertThat(passwords).allMatch(index::contains);
+            assertThat(sharedPrefix).allMatch(hex -> contains(index, hex));
+            assertThat(contains(index, "ABCD" + "F".repeat(36))).isFalse();
+            assertThat(index.contains("Breached#5000")).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("경로가 설정되지 않으면 빈 인덱스로 동작해야 한다")
+    void emptyWhenNotConfigured() {
+        // when
+        BreachedPasswordIndex index = new BreachedPasswordIndex(new AppProperties());
+
+        // then
+        assertThat(index.isLoaded()).isFalse();
+        assertThat(index.contains("Password1!")).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 다른 파일은 거부해야 한다")
+    void rejectsInvalidFile() throws IOException {
+        // given
+        Path invalid = tempDir.resolve("invalid.bin");
+        Files.write(invalid, new byte[BreachedPasswordIndex.RECORDS_OFFSET]);
+
+        // when & then
+        assertThatThrownBy(() -> BreachedPasswordIndex.open(invalid))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 평문 없이 SHA-1 16진수로 조회 (테스트용)
+     */
+    private static boolean contains(BreachedPasswordIndex index, String sha1Hex) {
+        return index.containsFingerprint(BreachedPasswordIndex.fingerprintOfHex(sha1Hex));
+    }
+}
@@ -0,0 +1,155 @@
+package com.jay.auth.util;
+
+import com.jay.auth.config.AppProperties;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * {@link EncryptionUtil} 처리량 비교 (호출마다 Cipher/Mac 생성하던 이전 구현 → 스레드별 엔진 재사용)
+ * - 이전 구현은 {@link Legacy}에 그대로 옮겨 두고 같은 키/입력으로 측정한다
+ * - 단일 스레드, 워밍업 후 측정 라운드의 중앙값(ns/op)을 출력한다
+ * - decryptAll은 커서 페이지 크기(20건) 1묶음을 1 op로 센다
+ *
+ * 사용: ./gradlew encryptionBenchmark
+ */
+public final class EncryptionBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-32-character-secret-k!";
+    private static final int BATCH_SIZE = 20;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 7;
+    private static final int OPS_PER_ROUND = 50_000;
+
+    private static volatile Object sink;
+
+    private EncryptionBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getEncryption().setSecretKey(SECRET_KEY);
+        EncryptionUtil current = new EncryptionUtil(appProperties);
+        current.init();
+        Legacy legacy = new Legacy(SECRET_KEY);
+
+        List<String> plainTexts = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            plainTexts.add("user" + i + "@example.com");
+        }
+        List<String> encrypted = current.encryptAll(plainTexts);
+        // 형식이 같은지 확인: 이전 구현이 새 암호문을 그대로 복호화해야 한다
+        if (!legacy.decrypt(encrypted.get(0)).equals(plainTexts.get(0))) {
+            throw new IllegalStateException("Ciphertext format changed");
+        }
+
+        System.out.printf("%-14s %14s %14s %8s%n", "operation", "legacy ns/op", "current ns/op", "speedup");
+        compare("encrypt",
+                i -> sink = legacy.encrypt(plainTexts.get(i % BATCH_SIZE)),
+                i -> sink = current.encrypt(plainTexts.get(i % BATCH_SIZE)), 1);
+        compare("encryptLower",
+                i -> sink = legacy.encryptLower(plainTexts.get(i % BATCH_SIZE)),
+                i -> sink = current.encryptLower(plainTexts.get(i % BATCH_SIZE)), 1);
+        compare("decryptAll/20",
+                i -> {
+                    List<String> result = new ArrayList<>(BATCH_SIZE);
+                    for (String text : encrypted) {
+                        result.add(legacy.decrypt(text));
+                    }
+                    sink = result;
+                },
+                i -> sink = current.decryptAll(encrypted), BATCH_SIZE);
+    }
+
+    private static void compare(String name, IntConsumer legacy, IntConsumer current, int opsDivisor) {
+        double legacyNanos = measure(legacy, OPS_PER_ROUND / opsDivisor);
+        double currentNanos = measure(current, OPS_PER_ROUND / opsDivisor);
+        System.out.printf("%-14s %14.0f %14.0f %7.2fx%n", name, legacyNanos, currentNanos, legacyNanos / currentNanos);
+    }
+
+    private static double measure(IntConsumer operation, int ops) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(operation, ops);
+        }
+        double[] rounds = new double[MEASURED_ROUNDS];
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            rounds[round] = (double) run(operation, ops) / ops;
+        }
+        Arrays.sort(rounds);
+        return rounds[MEASURED_ROUNDS / 2];
+    }
+
+    private static long run(IntConsumer operation, int ops) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            operation.accept(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * 엔진 재사용 이전의 EncryptionUtil 구현 (비교 기준)
+     */
+    private static final class Legacy {
+
+        private final SecretKeySpec secretKey;
+
+        Legacy(String key) {
+            this.secretKey = new SecretKeySpec(key.substring(0, 32).getBytes(StandardCharsets.UTF_8), "AES");
+        }
+
+        String encrypt(String plainText) {
+            try {
+                byte[] iv = new byte[12];
+                new SecureRandom().nextBytes(iv);
+
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+                byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+                byte[] combined = new byte[iv.length + encryptedBytes.length];
+                System.arraycopy(iv, 0, combined, 0, iv.length);
+                System.arraycopy(encryptedBytes, 0, combined, iv.length, encryptedBytes.length);
+                return Base64.getEncoder().encodeToString(combined);
+            } catch (Exception e) {
+                throw new RuntimeException("Encryption failed", e);
+            }
+        }
+
+        String decrypt(String encryptedText) {
+            try {
+                byte[] combined = Base64.getDecoder().decode(encryptedText);
+                byte[] iv = new byte[12];
+                byte[] encryptedBytes = new byte[combined.length - 12];
+                System.arraycopy(combined, 0, iv, 0, iv.length);
+                System.arraycopy(combined, iv.length, encryptedBytes, 0, encryptedBytes.length);
+
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+                return new String(cipher.doFinal(encryptedBytes), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                throw new RuntimeException("Decryption failed", e);
+            }
+        }
+
+        String encryptLower(String plainText) {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(secretKey);
+                byte[] hash = mac.doFinal(plainText.toLowerCase().getBytes(StandardCharsets.UTF_8));
+                return Base64.getEncoder().encodeToString(hash);
+            } catch (Exception e) {
+                throw new RuntimeException("HMAC encryption failed", e);
+            }
+        }
+    }
+}
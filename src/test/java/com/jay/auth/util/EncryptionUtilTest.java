@@ -3,9 +3,25 @@ package com.jay.auth.util;
 import com.jay.auth.config.AppProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class EncryptionUtilTest {
 
@@ -98,4 +114,157 @@ class EncryptionUtilTest {
         // then
         assertThat(decrypted).isEqualTo(korean);
     }
+
+    @Test
+    @DisplayName("일괄 암호화/복호화는 입력 순서를 유지하고 null은 null로 반환해야 한다")
+    void encryptAllAndDecryptAll() {
+        // given
+        List<String> plainTexts = Arrays.asList("a@test.com", null, "홍길동", "");
+
+        // when
+        List<String> encrypted = encryptionUtil.encryptAll(plainTexts);
+        List<String> decrypted = encryptionUtil.decryptAll(encrypted);
+
+        // then
+        assertThat(encrypted).hasSize(4);
+        assertThat(encrypted.get(1)).isNull();
+        assertThat(encrypted.get(3)).isNull();
+        assertThat(decrypted).containsExactly("a@test.com", null, "홍길동", null);
+    }
+
+    @Test
+    @DisplayName("기존 방식(IV + 암호문)으로 암호화된 값도 복호화되어야 한다")
+    void decryptLegacyFormat() throws Exception {
+        // given
+        byte[] iv = new byte[12];
+        new SecureRandom().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE,
+                new SecretKeySpec("test-32-character-secret-key!!!!".getBytes(StandardCharsets.UTF_8), "AES"),
+                new GCMParameterSpec(128, iv));
+        byte[] encryptedBytes = cipher.doFinal("legacy@test.com".getBytes(StandardCharsets.UTF_8));
+        byte[] combined = new byte[iv.length + encryptedBytes.length];
+        System.arraycopy(iv, 0, combined, 0, iv.length);
+        System.arraycopy(encryptedBytes, 0, combined, iv.length, encryptedBytes.length);
+
+        // when
+        String decrypted = encryptionUtil.decrypt(Base64.getEncoder().encodeToString(combined));
+
+        // then
+        assertThat(decrypted).isEqualTo("legacy@test.com");
+    }
+
+    @Test
+    @DisplayName("변조된 암호문 복호화 실패 후에도 같은 스레드에서 정상 복호화되어야 한다")
+    void decryptAfterTamperedInput() {
+        // given
+        String encrypted = encryptionUtil.encrypt("test@example.com");
+        byte[] tampered = Base64.getDecoder().decode(encrypted);
+        tampered[tampered.length - 1] ^= 1;
+
+        // when & then
+        assertThatThrownBy(() -> encryptionUtil.decrypt(Base64.getEncoder().encodeToString(tampered)))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(encryptionUtil.decrypt(encrypted)).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 사용해도 결과가 섞이지 않아야 한다")
+    void concurrentUse() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            String text = "user" + i + "@test.com";
+            futures.add(executor.submit(() ->
+                    text.equals(encryptionUtil.decrypt(encryptionUtil.encrypt(text)))
+                            && encryptionUtil.encryptLower(text).equals(encryptionUtil.encryptLower(text.toUpperCase()))));
+        }
+
+        // then
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get()).isTrue();
+        }
+        executor.shutdown();
+    }
+
+    @Nested
+    @DisplayName("버전별 키 교체")
+    class KeyRotation {
+
+        private EncryptionUtil rotatedUtil;
+
+        @BeforeEach
+        void setUp() {
+            AppProperties appProperties = new AppProperties();
+            AppProperties.Encryption encryption = new AppProperties.Encryption();
+            encryption.setSecretKey("test-32-character-secret-key!!!!");
+            encryption.setKeys(Map.of("k1", "rotated-key-material-at-least-32-chars!!"));
+            encryption.setActiveKeyId("k1");
+            appProperties.setEncryption(encryption);
+
+            rotatedUtil = new EncryptionUtil(appProperties);
+            rotatedUtil.init();
+        }
+
+        @Test
+        @DisplayName("활성 키 ID가 암호문 접두사로 붙어야 한다")
+        void encryptPrefixesActiveKeyId() {
+            // when
+            String encrypted = rotatedUtil.encrypt("test@example.com");
+
+            // then
+            assertThat(encrypted).startsWith("k1:");
+            assertThat(rotatedUtil.decrypt(encrypted)).isEqualTo("test@example.com");
+            assertThat(rotatedUtil.isEncryptedWithActiveKey(encrypted)).isTrue();
+        }
+
+        @Test
+        @DisplayName("이전 키로 암호화된 값은 복호화되고 재암호화 대상이어야 한다")
+        void legacyCiphertextIsReadableAndReencrypted() {
+            // given
+            String legacy = encryptionUtil.encrypt("test@example.com");
+
+            // when
+            String reencrypted = rotatedUtil.reencrypt(legacy);
+
+            // then
+            assertThat(rotatedUtil.decrypt(legacy)).isEqualTo("test@example.com");
+            assertThat(rotatedUtil.isEncryptedWithActiveKey(legacy)).isFalse();
+            assertThat(reencrypted).startsWith("k1:");
+            assertThat(rotatedUtil.decrypt(reencrypted)).isEqualTo("test@example.com");
+            assertThat(rotatedUtil.reencrypt(reencrypted)).isSameAs(reencrypted);
+        }
+
+        @Test
+        @DisplayName("검색용 HMAC 값은 키 교체 후에도 동일해야 한다")
+        void blindIndexIsStableAcrossRotation() {
+            assertThat(rotatedUtil.encryptLower("Test@Example.com"))
+                    .isEqualTo(encryptionUtil.encryptLower("test@example.com"));
+        }
+
+        @Test
+        @DisplayName("알 수 없는 키 ID의 암호문은 복호화에 실패해야 한다")
+        void unknownKeyIdFails() {
+            assertThatThrownBy(() -> rotatedUtil.decrypt("k9:AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"))
+                    .isInstanceOf(RuntimeException.class);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 활성 키 ID를 설정하면 초기화에 실패해야 한다")
+        void missingActiveKeyFailsInit() {
+            // given
+            AppProperties appProperties = new AppProperties();
+            AppProperties.Encryption encryption = new AppProperties.Encryption();
+            encryption.setSecretKey("test-32-character-secret-key!!!!");
+            encryption.setActiveKeyId("k2");
+            appProperties.setEncryption(encryption);
+
+            // when & then
+            assertThatThrownBy(() -> new EncryptionUtil(appProperties).init())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
 }
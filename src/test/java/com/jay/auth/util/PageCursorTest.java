@@ -0,0 +1,61 @@
+package com.jay.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PageCursor 테스트")
+class PageCursorTest {
+
+    @Nested
+    @DisplayName("인코딩/디코딩")
+    class EncodeDecode {
+
+        @Test
+        @DisplayName("인코딩한 커서를 디코딩하면 원래 값이 복원되어야 한다")
+        void roundTrip() {
+            // given
+            PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 1, 15, 10, 30, 15, 123_456_000), 42L);
+
+            // when
+            PageCursor decoded = PageCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("인코딩된 커서는 URL에 안전한 문자만 포함해야 한다")
+        void encodedIsUrlSafe() {
+            // given
+            PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 1, 15, 10, 30), Long.MAX_VALUE);
+
+            // when
+            String encoded = cursor.encode();
+
+            // then
+            assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        }
+
+        @Test
+        @DisplayName("null 또는 빈 커서는 첫 페이지(null)로 해석되어야 한다")
+        void blankMeansFirstPage() {
+            assertThat(PageCursor.decode(null)).isNull();
+            assertThat(PageCursor.decode("  ")).isNull();
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 커서는 IllegalArgumentException이 발생해야 한다")
+        void invalidCursorThrows() {
+            assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> PageCursor.decode("%%%"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
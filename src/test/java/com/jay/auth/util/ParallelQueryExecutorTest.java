@@ -0,0 +1,256 @@
+package com.jay.auth.util;
+
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ParallelQueryExecutorTest {
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry registry;
+    private ParallelQueryExecutor queryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queryExecutor != null) {
+            queryExecutor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("독립적인 조회를 동시에 실행하고 join 이후 결과를 돌려줘야 한다")
+    void runsQueriesConcurrently() {
+        // given
+        queryExecutor = create(2, 4, 5000);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // when
+        Supplier<String> first;
+        Supplier<String> second;
+        try (ParallelQueryExecutor.Scope scope = queryExecutor.open("test")) {
+            // 순차 실행이면 서로를 기다리다 마감 시간을 넘긴다
+            first = scope.fork(() -> {
+                bothStarted.countDown();
+                await(bothStarted);
+                return "first";
+            });
+            second = scope.fork(() -> {
+                bothStarted.countDown();
+                await(bothStarted);
+                return "second";
+            });
+            scope.join();
+        }
+
+        // then
+        assertThat(bothStarted.getCount()).isZero();
+        assertThat(first.get()).isEqualTo("first");
+        assertThat(second.get()).isEqualTo("second");
+        assertThat(registry.get("query_fan_out_duration_seconds").tag("operation", "test").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업마다 읽기 전용 트랜잭션을 따로 열어야 한다")
+    void runsEachQueryInReadOnlyTransaction() {
+        // given
+        queryExecutor = create(2, 4, 5000);
+
+        // when
+        try (ParallelQueryExecutor.Scope scope = queryExecutor.open("test")) {
+            scope.fork(() -> 1L);
+            scope.fork(() -> 2L);
+            scope.join();
+        }
+
+        // then
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).allMatch(TransactionDefinition::isReadOnly);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("한 작업이 실패하면 나머지를 취소하고 원래 예외를 던져야 한다")
+    void cancelsSiblingsOnFailure() throws Exception {
+        // given
+        queryExecutor = create(2, 4, 5000);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch slowInterrupted = new CountDownLatch(1);
+
+        // when & then
+        try (ParallelQueryExecutor.Scope scope = queryExecutor.open("test")) {
+            scope.fork(() -> {
+                slowStarted.countDown();
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    slowInterrupted.countDown();
+                }
+                return "slow";
+            });
+            assertThat(slowStarted.await(1, TimeUnit.SECONDS)).isTrue();
+            scope.fork(() -> {
+                throw new IllegalArgumentException("user not found");
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("user not found");
+        }
+        assertThat(slowInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘기면 작업을 취소하고 과부하 예외를 던져야 한다")
+    void cancelsAfterDeadline() throws Exception {
+        // given
+        queryExecutor = create(1, 4, 50);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // when & then
+        try (ParallelQueryExecutor.Scope scope = queryExecutor.open("test")) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "late";
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(ServiceOverloadedException.class)
+                    .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfterSeconds()).isEqualTo(1));
+        }
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.get("query_fan_out_timeout_total").tag("reason", "timeout").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 호출 스레드에서 바로 실행해야 한다")
+    void runsInlineWhenQueueIsFull() throws Exception {
+        // given
+        queryExecutor = create(1, 1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        String caller = Thread.currentThread().getName();
+
+        // when
+        Supplier<String> inline;
+        try (ParallelQueryExecutor.Scope scope = queryExecutor.open("test")) {
+            scope.fork(() -> {
+                started.countDown();
+                await(release);
+                return "running";
+            });
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            scope.fork(() -> "queued");
+            inline = scope.fork(() -> Thread.currentThread().getName());
+            release.countDown();
+            scope.join();
+        }
+
+        // then
+        assertThat(inline.get()).isEqualTo(caller);
+        assertThat(registry.get("query_fan_out_inline_total").tag("operation", "test").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("인라인 실행 중 다른 작업이 실패해도 호출 스레드를 인터럽트하지 않아야 한다")
+    void doesNotInterruptCallerRunningInline() throws Exception {
+        // given
+        queryExecutor = create(1, 1, 5000);
+        CountDownLatch inlineStarted = new CountDownLatch(1);
+        CountDownLatch siblingFailed = new CountDownLatch(1);
+        AtomicBoolean inlineInterrupted = new AtomicBoolean();
+
+        // when
+        try (ParallelQueryExecutor.Scope scope = queryExecutor.open("test")) {
+            scope.fork(() -> {
+                await(inlineStarted);
+                siblingFailed.countDown();
+                throw new IllegalArgumentException("user not found");
+            });
+            scope.fork(() -> "queued");
+            scope.fork(() -> {
+                inlineStarted.countDown();
+                await(siblingFailed);
+                try {
+                    // 실패한 작업이 나머지를 취소할 시간을 준다
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    inlineInterrupted.set(true);
+                }
+                return "inline";
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("user not found");
+        }
+
+        // then
+        assertThat(inlineInterrupted).isFalse();
+        assertThat(Thread.interrupted()).isFalse();
+        assertThat(registry.get("query_fan_out_inline_total").tag("operation", "test").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("join 전에는 결과를 읽을 수 없어야 한다")
+    void rejectsResultBeforeJoin() {
+        // given
+        queryExecutor = create(1, 4, 5000);
+
+        // when & then
+        try (ParallelQueryExecutor.Scope scope = queryExecutor.open("test")) {
+            Supplier<String> result = scope.fork(() -> "value");
+
+            assertThatThrownBy(result::get).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private ParallelQueryExecutor create(int threads, int queueCapacity, long deadlineMillis) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getQueryFanOut().setThreads(threads);
+        appProperties.getQueryFanOut().setQueueCapacity(queueCapacity);
+        appProperties.getQueryFanOut().setDeadlineMillis(deadlineMillis);
+        registry = new SimpleMeterRegistry();
+        return new ParallelQueryExecutor(appProperties, transactionManager, registry);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.jay.auth.util;
+
+import com.jay.auth.config.AppProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordEncoderCalibratorTest {
+
+    @Nested
+    @DisplayName("bcrypt 비용 보정")
+    class BcryptCalibration {
+
+        @Test
+        @DisplayName("목표 지연을 넘지 않는 가장 큰 strength를 골라야 한다")
+        void picksStrengthWithinTarget() {
+            // given: strength 10에서 60ms
+            // when
+            int strength = PasswordEncoderCalibrator.calibrateBcryptStrength(250, 10, 14, cost -> 60);
+
+            // then: 11=120ms, 12=240ms, 13=480ms
+            assertThat(strength).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("빠른 노드에서도 최대 strength를 넘지 않아야 한다")
+        void capsAtMaxStrength() {
+            assertThat(PasswordEncoderCalibrator.calibrateBcryptStrength(250, 10, 14, cost -> 1)).isEqualTo(14);
+        }
+
+        @Test
+        @DisplayName("느린 노드에서도 최소 strength 아래로 내려가지 않아야 한다")
+        void keepsMinStrength() {
+            assertThat(PasswordEncoderCalibrator.calibrateBcryptStrength(250, 10, 14, cost -> 400)).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("argon2 iterations는 반복당 비용으로 목표 지연에 맞춰야 한다")
+    void calibratesArgon2Iterations() {
+        // given: 2회 반복에 50ms -> 반복당 25ms
+        // when
+        int iterations = PasswordEncoderCalibrator.calibrateArgon2Iterations(250, 2, 10, cost -> 50);
+
+        // then
+        assertThat(iterations).isEqualTo(10);
+        assertThat(PasswordEncoderCalibrator.calibrateArgon2Iterations(250, 2, 10, cost -> 200)).isEqualTo(2);
+    }
+
+    @Nested
+    @DisplayName("위임 인코더")
+    class Delegating {
+
+        private final PasswordEncoder encoder = PasswordEncoderCalibrator.create(settings(5));
+
+        @Test
+        @DisplayName("새 해시는 알고리즘 id 접두사를 가져야 한다")
+        void encodesWithIdPrefix() {
+            // when
+            String encoded = encoder.encode("Test@1234");
+
+            // then
+            assertThat(encoded).startsWith("{bcrypt}$2a$05$");
+            assertThat(encoder.matches("Test@1234", encoded)).isTrue();
+            assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+        }
+
+        @Test
+        @DisplayName("접두사 없는 기존 bcrypt 해시도 검증되고 재해싱 대상이어야 한다")
+        void matchesLegacyHash() {
+            // given
+            String legacy = new BCryptPasswordEncoder(4).encode("Test@1234");
+
+            // when & then
+            assertThat(encoder.matches("Test@1234", legacy)).isTrue();
+            assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        }
+
+        @Test
+        @DisplayName("현재 설정보다 낮은 strength의 해시는 재해싱 대상이어야 한다")
+        void upgradesWeakerHash() {
+            // given
+            String weaker = PasswordEncoderCalibrator.create(settings(4)).encode("Test@1234");
+
+            // when & then
+            assertThat(encoder.matches("Test@1234", weaker)).isTrue();
+            assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        }
+    }
+
+    private static AppProperties.PasswordHashing settings(int bcryptStrength) {
+        AppProperties.PasswordHashing settings = new AppProperties.PasswordHashing();
+        settings.setCalibrate(false);
+        settings.setBcryptMinStrength(bcryptStrength);
+        return settings;
+    }
+}
@@ -0,0 +1,130 @@
+package com.jay.auth.util;
+
+import com.jay.auth.config.AppProperties;
+import com.jay.auth.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry registry;
+    private PasswordHashingExecutor hashingExecutor;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        if (hashingExecutor != null) {
+            hashingExecutor.destroy();
+        }
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("작업 결과를 호출 스레드에 반환해야 한다")
+    void returnsResult() {
+        // given
+        hashingExecutor = create(2, 4, 1000);
+
+        // when
+        String result = hashingExecutor.execute("encode", () -> "hashed");
+
+        // then
+        assertThat(result).isEqualTo("hashed");
+        assertThat(registry.get("password_hashing_duration_seconds").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 런타임 예외는 그대로 전파되어야 한다")
+    void propagatesRuntimeException() {
+        // given
+        hashingExecutor = create(1, 1, 1000);
+
+        // when & then
+        assertThatThrownBy(() -> hashingExecutor.execute("matches", () -> {
+            throw new IllegalArgumentException("invalid hash");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid hash");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 과부하 예외로 거절해야 한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        // given
+        hashingExecutor = create(1, 1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> hashingExecutor.execute("encode", () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> hashingExecutor.execute("encode", () -> "queued"));
+        waitForQueueDepth(1);
+
+        // when & then
+        assertThatThrownBy(() -> hashingExecutor.execute("encode", () -> "rejected"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(registry.get("password_hashing_rejected_total").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 과부하 예외로 거절해야 한다")
+    void rejectsWhenWaitExceeded() {
+        // given
+        hashingExecutor = create(1, 4, 50);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when & then
+        assertThatThrownBy(() -> hashingExecutor.execute("matches", () -> {
+            await(release);
+            return true;
+        })).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(registry.get("password_hashing_rejected_total").tag("reason", "timeout").counter().count())
+                .isEqualTo(1.0);
+        release.countDown();
+    }
+
+    private PasswordHashingExecutor create(int threads, int queueCapacity, long maxWaitMillis) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getPasswordHashing().setThreads(threads);
+        appProperties.getPasswordHashing().setQueueCapacity(queueCapacity);
+        appProperties.getPasswordHashing().setMaxWaitMillis(maxWaitMillis);
+        registry = new SimpleMeterRegistry();
+        return new PasswordHashingExecutor(appProperties, registry);
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (registry.get("password_hashing_queue_depth").gauge().value() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
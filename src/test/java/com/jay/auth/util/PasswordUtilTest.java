@@ -1,7 +1,10 @@
 package com.jay.auth.util;
 
+import com.jay.auth.config.AppProperties;
 import com.jay.auth.dto.response.PasswordAnalysisResponse;
 import com.jay.auth.dto.response.PasswordAnalysisResponse.CheckItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,11 +17,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class PasswordUtilTest {
 
+    private PasswordHashingExecutor passwordHashingExecutor;
     private PasswordUtil passwordUtil;
 
     @BeforeEach
     void setUp() {
-        passwordUtil = new PasswordUtil(new BCryptPasswordEncoder());
+        passwordHashingExecutor = new PasswordHashingExecutor(new AppProperties(), new SimpleMeterRegistry());
+        passwordUtil = new PasswordUtil(new BCryptPasswordEncoder(), passwordHashingExecutor,
+                new BreachedPasswordIndex(new AppProperties()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.destroy();
     }
 
     @Test
@@ -276,6 +287,13 @@ class PasswordUtilTest {
                     .findFirst().orElseThrow();
             assertThat(commonCheck.isPassed()).isFalse();
         }
+
+        @Test
+        @DisplayName("유출 인덱스가 없어도 내장 흔한 비밀번호는 유출로 판단해야 한다")
+        void isBreachedWithBuiltInList() {
+            assertThat(passwordUtil.isBreached("Password123")).isTrue();
+            assertThat(passwordUtil.isBreached("Unique#Passphrase-9731")).isFalse();
+        }
     }
 
     @Nested
@@ -0,0 +1,98 @@
+package com.jay.auth.util;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PooledJavaMailSenderTest {
+
+    private final AtomicInteger connects = new AtomicInteger();
+    private Transport transport;
+    private PooledJavaMailSender sender;
+
+    @BeforeEach
+    void setUp() {
+        transport = mock(Transport.class);
+        sender = new PooledJavaMailSender(2, 60_000) {
+            @Override
+            protected Transport connectTransport() {
+                connects.incrementAndGet();
+                return transport;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.destroy();
+    }
+
+    @Test
+    @DisplayName("발송이 끝난 연결은 풀에 돌려놓고 다음 발송에 재사용해야 한다")
+    void reusesConnection() throws MessagingException {
+        // when
+        sender.send(createMessage());
+        sender.send(createMessage());
+
+        // then
+        assertThat(connects.get()).isEqualTo(1);
+        assertThat(sender.idleConnections()).isEqualTo(1);
+        verify(transport, times(2)).sendMessage(any(MimeMessage.class), any(Address[].class));
+    }
+
+    @Test
+    @DisplayName("발송 중 연결이 끊기면 연결을 버리고 다음 발송은 새로 연결해야 한다")
+    void discardsBrokenConnection() throws MessagingException {
+        // given
+        willThrow(new MessagingException("connection reset"))
+                .given(transport).sendMessage(any(MimeMessage.class), any(Address[].class));
+        given(transport.isConnected()).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> sender.send(createMessage())).isInstanceOf(MailSendException.class);
+        assertThat(sender.idleConnections()).isZero();
+        verify(transport).close();
+    }
+
+    @Test
+    @DisplayName("종료 시 보관 중인 연결을 모두 닫아야 한다")
+    void closesIdleConnectionsOnDestroy() throws MessagingException {
+        // given
+        sender.send(createMessage());
+
+        // when
+        sender.destroy();
+
+        // then
+        assertThat(sender.idleConnections()).isZero();
+        verify(transport).close();
+    }
+
+    private MimeMessage createMessage() throws MessagingException {
+        MimeMessage message = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom("noreply@authly.com");
+        helper.setTo("user@test.com");
+        helper.setSubject("테스트");
+        helper.setText("본문");
+        return message;
+    }
+}
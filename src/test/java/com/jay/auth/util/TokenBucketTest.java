@@ -0,0 +1,77 @@
+package com.jay.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    @DisplayName("버킷 크기만큼 즉시 사용할 수 있고 그 이후에는 거절해야 한다")
+    void allowsBurstThenRejects() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 3, now::get);
+
+        // when & then
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 한도만큼 충전되어야 한다")
+    void refillsOverTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 2, now::get);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+
+        // when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+
+        // then
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 다음 충전까지 남은 시간을 알려야 한다")
+    void reportsWaitTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(4, 1, now::get);
+        bucket.tryAcquire();
+
+        // when & then
+        assertThat(bucket.nanosUntilAvailable()).isBetween(249_999_999L, 250_000_001L);
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버킷 크기 이상 쌓이지 않아야 한다")
+    void capsAtCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        // then
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("한도가 0 이하이면 생성할 수 없어야 한다")
+    void rejectsInvalidRate() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}